@@ -0,0 +1,56 @@
+package org.todayreading.collectingworker.common.fs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일 내용을 원자적으로 교체하는 유틸리티입니다.
+ *
+ * <p>같은 디렉터리의 임시 파일에 먼저 쓰고 디스크에 동기화({@code force})한 뒤
+ * {@code ATOMIC_MOVE}로 교체하므로, 쓰는 도중 프로세스가 종료되어도
+ * 대상 파일은 이전 내용 또는 새 내용 중 하나로 온전히 남습니다.</p>
+ *
+ * <p>CSV 체크포인트/매니페스트와 네이버 체크포인트/쿼터 장부/워터마크 등
+ * 재시작 후 이어 쓰는 상태 파일은 모두 이 유틸리티로 저장합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public final class AtomicFileWriter {
+
+  /** 임시 파일 확장자입니다. */
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private AtomicFileWriter() {
+  }
+
+  /**
+   * 대상 파일의 내용을 원자적으로 교체합니다(상위 디렉터리가 없으면 생성).
+   *
+   * @param path    대상 파일 경로
+   * @param content 새 내용
+   * @throws IOException 쓰기/교체 실패 시
+   */
+  public static void write(Path path, byte[] content) throws IOException {
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+
+    Path temp = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer buffer = ByteBuffer.wrap(content);
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+}
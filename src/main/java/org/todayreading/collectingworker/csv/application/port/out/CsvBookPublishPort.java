@@ -1,21 +1,98 @@
 package org.todayreading.collectingworker.csv.application.port.out;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * CSV 원본 데이터를 외부 시스템(Kafka 등)으로 발행하기 위한 출력 포트입니다.
  *
- * <p>이 포트는 CSV 한 라인의 <b>원본 문자열</b>을 그대로 전달받아
+ * <p>이 포트는 CSV 한 라인의 <b>원본 문자열(또는 UTF-8 원본 바이트)</b>을 그대로 전달받아
  * 메시지 브로커 등으로 전송하는 역할만 정의합니다.
  * 실제 전송 방식(Kafka, 파일, 기타)은 인프라스트럭처 어댑터에서 구현합니다.
  *
+ * <p>발행은 비동기로 처리될 수 있으므로, 각 메서드는 외부 시스템의 수신 확인(ack)
+ * 시점에 완료되는 {@link CompletableFuture}를 반환합니다. 전송 실패는 예외로 완료되며,
+ * 호출자는 이 결과를 기준으로 발행 성공/실패를 집계해야 합니다.</p>
+ *
  * @author 박성준
  * @since 1.0.0
  */
 public interface CsvBookPublishPort {
 
   /**
-   * CSV 한 라인의 원본 문자열을 외부 시스템으로 발행합니다.
+   * CSV 한 라인의 원본 문자열을 외부 시스템으로 발행합니다(키 없음).
+   *
+   * @param rawLine CSV 원본 라인 문자열(헤더/빈 라인은 제외된 상태여야 함)
+   * @return 수신 확인 시 정상 완료, 전송 실패 시 예외로 완료되는 Future
+   */
+  default CompletableFuture<Void> publish(String rawLine) {
+    return publish(null, rawLine);
+  }
+
+  /**
+   * CSV 한 라인의 원본 문자열을 레코드 키와 함께 외부 시스템으로 발행합니다.
+   *
+   * <p>같은 키의 라인은 같은 파티션으로 전송되어, 컨슈머가 파티션을 넘나들며 병합할 필요가 없습니다.</p>
    *
+   * @param key     레코드 키(예: ISBN, 없으면 null)
    * @param rawLine CSV 원본 라인 문자열(헤더/빈 라인은 제외된 상태여야 함)
+   * @return 수신 확인 시 정상 완료, 전송 실패 시 예외로 완료되는 Future
+   */
+  CompletableFuture<Void> publish(String key, String rawLine);
+
+  /**
+   * CSV 한 라인의 UTF-8 원본 바이트를 디코딩 없이 외부 시스템으로 발행합니다(raw-bytes 모드, 키 없음).
+   *
+   * @param rawLine CSV 원본 라인 바이트(헤더/빈 라인은 제외된 상태여야 함)
+   * @return 수신 확인 시 정상 완료, 전송 실패 시 예외로 완료되는 Future
+   */
+  default CompletableFuture<Void> publish(byte[] rawLine) {
+    return publish(null, rawLine);
+  }
+
+  /**
+   * CSV 한 라인의 UTF-8 원본 바이트를 레코드 키와 함께 디코딩 없이 발행합니다(raw-bytes 모드).
+   *
+   * <p>전달된 배열의 소유권은 구현체로 넘어가며, 호출자는 이후 배열을 수정하지 않아야 합니다.</p>
+   *
+   * @param key     레코드 키(예: ISBN, 없으면 null)
+   * @param rawLine CSV 원본 라인 바이트(헤더/빈 라인은 제외된 상태여야 함)
+   * @return 수신 확인 시 정상 완료, 전송 실패 시 예외로 완료되는 Future
+   */
+  CompletableFuture<Void> publish(String key, byte[] rawLine);
+
+  /**
+   * CSV 한 라인을 여러 라인을 묶은 메시지(envelope)에 담아 발행합니다(envelope 모드).
+   *
+   * <p>구현체는 같은 파일의 라인을 모아 하나의 메시지로 전송하고, 파일과 라인 범위를 메시지 헤더에 남깁니다.
+   * 반환한 Future는 이 라인이 담긴 메시지가 수신 확인되면 완료되므로, 호출자는 라인 단위 발행과 같은 방식으로
+   * 성공/실패를 집계할 수 있습니다.</p>
+   *
+   * @param filePath   라인을 읽은 파일 경로(출처 헤더용)
+   * @param lineNumber 파일 내 라인 번호(출처 헤더용)
+   * @param key        레코드 키(없으면 null, 같은 파티션으로 갈 라인끼리만 묶는 데 사용)
+   * @param rawLine    CSV 원본 라인 UTF-8 바이트(소유권이 구현체로 넘어감)
+   * @return 라인이 담긴 메시지의 수신 확인 시 정상 완료, 전송 실패 시 예외로 완료되는 Future
+   */
+  CompletableFuture<Void> publishEnveloped(Path filePath, int lineNumber, String key,
+      byte[] rawLine);
+
+  /**
+   * CSV 한 라인을 변환한 JSON 객체를 발행합니다(JSON 변환 단계 사용 시).
+   *
+   * <p>원본 라인과 구분되도록 변환 결과 전용 대상(토픽 등)으로 전송합니다.</p>
+   *
+   * @param key  레코드 키(예: ISBN, 없으면 null)
+   * @param json 변환된 JSON 객체 UTF-8 바이트(소유권이 구현체로 넘어감)
+   * @return 수신 확인 시 정상 완료, 전송 실패 시 예외로 완료되는 Future
+   */
+  CompletableFuture<Void> publishJson(String key, byte[] json);
+
+  /**
+   * 모으는 중인 라인이 있으면 기다리지 않고 즉시 전송합니다.
+   *
+   * <p>읽기가 끝난 뒤 ack를 기다리기 전에 호출합니다. 기본 구현은 아무것도 하지 않습니다.</p>
    */
-  void publish(String rawLine);
+  default void flush() {
+  }
 }
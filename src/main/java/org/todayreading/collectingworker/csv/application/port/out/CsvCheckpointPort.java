@@ -0,0 +1,60 @@
+package org.todayreading.collectingworker.csv.application.port.out;
+
+import java.util.List;
+
+/**
+ * CSV 전송 진행 상황(파일별 체크포인트)을 영속화하기 위한 출력 포트입니다.
+ *
+ * <p>워커가 전송 도중 재시작되더라도 이미 ack를 받은 구간을 다시 발행하지 않도록,
+ * 파일별로 "처음부터 연속으로 ack를 받은 마지막 위치"를 저장합니다.
+ * 저장 매체(로컬 파일, 외부 저장소 등)는 인프라스트럭처 어댑터에서 구현합니다.</p>
+ *
+ * <p>구현체는 {@link #save(List)}가 중간에 실패하더라도 이전에 저장된 내용이 깨지지 않도록
+ * 원자적으로 교체해야 합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public interface CsvCheckpointPort {
+
+  /**
+   * 저장된 체크포인트 목록을 조회합니다.
+   *
+   * @return 파일별 체크포인트 목록(저장된 내용이 없으면 빈 목록)
+   */
+  List<CsvFileCheckpoint> load();
+
+  /**
+   * 체크포인트 목록 전체를 저장합니다(기존 내용 교체).
+   *
+   * @param checkpoints 파일별 체크포인트 목록
+   */
+  void save(List<CsvFileCheckpoint> checkpoints);
+
+  /**
+   * 저장된 체크포인트를 삭제합니다.
+   *
+   * <p>전송이 실패 없이 끝나 다음 실행이 처음부터 시작해야 할 때 사용합니다.</p>
+   */
+  void clear();
+
+  /**
+   * 단일 CSV 파일의 체크포인트입니다.
+   *
+   * @param filePath             파일 절대 경로
+   * @param fileSize             체크포인트 기록 당시 파일 크기(바이트, 파일 변경 감지용)
+   * @param lastModifiedMillis   체크포인트 기록 당시 파일 수정 시각(epoch millis, 파일 변경 감지용)
+   * @param offset               처음부터 연속으로 처리(ack/스킵)된 마지막 레코드가 끝난 바이트 위치
+   * @param lineNumber           {@code offset} 직전 레코드의 라인 번호(없으면 0)
+   * @param completed            파일 전체가 처리되었으면 true
+   */
+  record CsvFileCheckpoint(
+      String filePath,
+      long fileSize,
+      long lastModifiedMillis,
+      long offset,
+      int lineNumber,
+      boolean completed
+  ) {
+  }
+}
@@ -1,7 +1,10 @@
 package org.todayreading.collectingworker.csv.application.port.out;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * CSV 입력(파일 또는 디렉터리)을 읽어 파일 단위 이벤트로 전달하는 출력 포트입니다.
@@ -12,12 +15,35 @@ import java.util.Objects;
  * <p>이 포트의 핵심 계약:</p>
  * <ul>
  *   <li>구현체는 처리 대상 파일마다 {@link CsvFileReadListener#onFileStart(Path)}를 먼저 호출해야 합니다.</li>
- *   <li>파일의 각 라인을 읽을 때마다 {@link CsvFileReadListener#onLine(Path, int, String)}을 호출해야 합니다.</li>
+ *   <li>파일의 각 라인을 읽을 때마다 {@link CsvFileReadListener#onLine(Path, int, byte[], int, int, long)}
+ *       (또는 {@link CsvFileReadListener#onLine(Path, int, String)})을 호출해야 합니다.</li>
  *   <li>파일 처리가 끝나면(0라인 파일 포함) {@link CsvFileReadListener#onFileEnd(Path)}를 반드시 호출해야 합니다.</li>
  * </ul>
  *
+ * <p>여기서 "라인"은 CSV 레코드 단위입니다. 따옴표로 감싼 필드 안의 개행은 레코드를 나누지 않으므로,
+ * 한 라인 문자열에 개행 문자가 포함될 수 있습니다.</p>
+ *
  * <p>라인 번호는 파일 내에서 1부터 시작해야 하며, 파일이 바뀌면 다시 1부터 시작해야 합니다.</p>
  *
+ * <p>구현체는 여러 파일을 동시에 읽을 수 있습니다(병렬 디렉터리 모드).
+ * 이 경우에도 파일 하나에 대한 이벤트 순서는 유지되지만, 서로 다른 파일의 이벤트는
+ * 여러 스레드에서 섞여 호출되므로 리스너는 스레드 안전하게 구현해야 합니다.</p>
+ *
+ * <p>재시작 지원: 구현체는 파일을 읽기 전에 {@link CsvFileReadListener#resumePoint(Path)}를 조회하여,
+ * 완료된 파일은 {@link CsvFileReadListener#onFileSkipped(Path)}만 호출하고 건너뛰며,
+ * 진행 중이던 파일은 반환된 바이트 위치부터(라인 번호를 이어서) 읽습니다.
+ * 바이트 구간을 읽는 구현체는 구간마다 {@code onRangeStart}/{@code onRangeEnd}를 호출하고,
+ * 라인마다 그 레코드가 끝난 다음 바이트 위치를 함께 전달해야 합니다.</p>
+ *
+ * <p>읽기 작업은 호출자가 넘긴 {@link Executor}에서만 실행해야 합니다. 호출자는 작업의 실행 범위
+ * ({@code CollectJobScope})를 넘기므로, 동시에 읽는 작업 수는 그 범위의 허용량이 제한하고
+ * 작업이 취소되면 읽기 스레드도 함께 인터럽트됩니다.</p>
+ *
+ * <p>구현체는 큰 파일 하나를 레코드 경계에 맞춘 구간으로 나누어 동시에 읽을 수도 있습니다(청크 모드).
+ * 이 경우 {@code onFileStart}는 해당 파일의 모든 {@code onLine}보다 먼저, {@code onFileEnd}는
+ * 모든 {@code onLine}이 끝난 뒤 한 번만 호출되지만, 같은 파일의 {@code onLine}은 여러 스레드에서
+ * 라인 번호 순서와 무관하게 호출될 수 있습니다. 라인 번호는 여전히 파일 전체 기준입니다.</p>
+ *
  * @author 박성준
  * @since 1.0.0
  */
@@ -26,10 +52,11 @@ public interface CsvFileReadPort {
   /**
    * 주어진 경로(파일 또는 디렉터리)의 CSV 파일들을 읽어, 파일 단위 이벤트로 전달합니다.
    *
-   * @param inputPath CSV 파일 또는 CSV 파일들이 있는 디렉터리 경로
-   * @param listener  파일 단위 이벤트 리스너
+   * @param inputPath    CSV 파일 또는 CSV 파일들이 있는 디렉터리 경로
+   * @param listener     파일 단위 이벤트 리스너
+   * @param readExecutor 읽기 작업을 실행할 Executor(동시 실행 수 제한과 취소 시 인터럽트 담당)
    */
-  void read(Path inputPath, CsvFileReadListener listener);
+  void read(Path inputPath, CsvFileReadListener listener, Executor readExecutor);
 
   /**
    * CSV 파일 읽기 이벤트 리스너입니다.
@@ -38,6 +65,65 @@ public interface CsvFileReadPort {
    */
   interface CsvFileReadListener {
 
+    /**
+     * 파일을 어디서부터 읽을지 조회합니다.
+     *
+     * <p>기본 구현은 항상 파일 처음부터 읽도록 {@link ResumePoint#START}를 반환합니다.</p>
+     *
+     * @param filePath 읽을 파일 경로
+     * @return 읽기 시작 위치(완료된 파일이면 {@link ResumePoint#completed()}가 true)
+     */
+    default ResumePoint resumePoint(Path filePath) {
+      return ResumePoint.START;
+    }
+
+    /**
+     * 이전 실행에서 이미 완료되어 읽지 않고 건너뛴 파일에 대해 호출됩니다.
+     *
+     * <p>이 경우 {@code onFileStart}/{@code onFileEnd}는 호출되지 않습니다.</p>
+     *
+     * @param filePath 건너뛴 파일 경로
+     */
+    default void onFileSkipped(Path filePath) {
+    }
+
+    /**
+     * 파일의 한 바이트 구간 읽기를 시작할 때 호출됩니다(해당 구간의 모든 {@code onLine}보다 먼저).
+     *
+     * @param filePath        읽고 있는 파일 경로
+     * @param startOffset     구간 시작 위치(포함, 레코드 시작 위치)
+     * @param endOffset       구간 끝 위치(제외)
+     * @param firstLineNumber 구간 첫 레코드의 라인 번호
+     */
+    default void onRangeStart(Path filePath, long startOffset, long endOffset, int firstLineNumber) {
+    }
+
+    /**
+     * 파일의 한 바이트 구간을 끝까지 정상적으로 읽었을 때 호출됩니다.
+     *
+     * <p>읽기 도중 실패한 구간에 대해서는 호출되지 않습니다.</p>
+     *
+     * @param filePath    읽고 있는 파일 경로
+     * @param startOffset 구간 시작 위치({@code onRangeStart}에 전달한 값)
+     */
+    default void onRangeEnd(Path filePath, long startOffset) {
+    }
+
+    /**
+     * 읽을 파일의 헤더(첫 레코드)를 전달합니다.
+     *
+     * <p>컬럼 구성을 헤더 기준으로 해석하는 리스너를 위해, 읽기 시작 위치와 무관하게
+     * (이어 읽기로 헤더를 다시 읽지 않는 경우에도) 파일마다 {@code onFileStart}보다 먼저 한 번 호출됩니다.
+     * 빈 파일이면 호출되지 않습니다. 버퍼는 호출 이후 재사용될 수 있습니다.</p>
+     *
+     * @param filePath 읽을 파일 경로
+     * @param buffer   헤더가 들어 있는 버퍼(UTF-8 BOM, 종료 개행 제외)
+     * @param offset   헤더 시작 위치
+     * @param length   헤더 길이
+     */
+    default void onHeader(Path filePath, byte[] buffer, int offset, int length) {
+    }
+
     /**
      * 파일 읽기를 시작할 때 호출됩니다.
      *
@@ -52,10 +138,32 @@ public interface CsvFileReadPort {
      *
      * @param filePath   현재 읽고 있는 파일 경로
      * @param lineNumber 현재 파일 내 라인 번호(1부터 시작)
-     * @param line       CSV 원본 라인 문자열(개행 제외)
+     * @param line       CSV 원본 레코드 문자열(종료 개행 제외, 따옴표 필드 안의 개행은 포함될 수 있음)
      */
     void onLine(Path filePath, int lineNumber, String line);
 
+    /**
+     * 파일에서 한 라인을 읽을 때마다 UTF-8 원본 바이트 구간으로 호출됩니다.
+     *
+     * <p>바이트 기반으로 읽는 구현체는 디코딩하지 않고 이 메서드를 호출합니다.
+     * 기본 구현은 UTF-8로 디코딩하여 {@link #onLine(Path, int, String)}에 위임하므로,
+     * 바이트를 그대로 다루려는 리스너만 재정의하면 됩니다.</p>
+     *
+     * <p>{@code buffer}는 호출이 끝나면 다음 라인으로 덮어쓰일 수 있으므로,
+     * 값을 보관하려면 호출 안에서 복사해야 합니다.</p>
+     *
+     * @param filePath   현재 읽고 있는 파일 경로
+     * @param lineNumber 현재 파일 내 라인 번호(1부터 시작)
+     * @param buffer     라인 바이트가 들어 있는 버퍼(호출 이후 재사용됨)
+     * @param offset     라인 시작 위치
+     * @param length     라인 길이(종료 개행 제외)
+     * @param endOffset  이 레코드(종료 개행 포함)가 끝난 다음 파일 내 바이트 위치(재시작 위치로 사용)
+     */
+    default void onLine(Path filePath, int lineNumber, byte[] buffer, int offset, int length,
+        long endOffset) {
+      onLine(filePath, lineNumber, new String(buffer, offset, length, UTF_8));
+    }
+
     /**
      * 파일 읽기가 종료될 때 호출됩니다.
      *
@@ -66,6 +174,31 @@ public interface CsvFileReadPort {
     void onFileEnd(Path filePath);
   }
 
+  /**
+   * 파일 읽기 시작 위치를 표현하는 값 객체입니다.
+   *
+   * <p>{@code offset}은 곧 이번 실행에서 읽지 않고 건너뛰는 바이트 수이기도 합니다.</p>
+   *
+   * @param offset     읽기 시작 바이트 위치(레코드 시작 위치여야 함, 완료된 파일이면 파일 크기)
+   * @param lineNumber {@code offset}에서 시작하는 레코드의 라인 번호
+   * @param completed  이전 실행에서 파일 전체가 처리되어 건너뛰어야 하면 true
+   */
+  record ResumePoint(long offset, int lineNumber, boolean completed) {
+
+    /** 파일 처음부터 읽는 시작 위치입니다. */
+    public static final ResumePoint START = new ResumePoint(0, 1, false);
+
+    /**
+     * 이미 완료되어 건너뛰어야 하는 파일의 시작 위치를 만듭니다.
+     *
+     * @param fileSize 파일 크기(바이트)
+     * @return 파일 끝을 가리키는 완료 상태의 시작 위치
+     */
+    public static ResumePoint completedAt(long fileSize) {
+      return new ResumePoint(fileSize, 1, true);
+    }
+  }
+
   /**
    * {@link CsvFileReadListener}의 빈(no-op) 구현을 제공하는 어댑터 클래스입니다.
    *
@@ -0,0 +1,97 @@
+package org.todayreading.collectingworker.csv.application.port.out;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 증분 전송을 위한 CSV 파일 매니페스트(이전 실행에서 전송 완료한 파일 목록)를 다루는 출력 포트입니다.
+ *
+ * <p>매니페스트는 파일별로 전송 완료 당시의 크기, 수정 시각, 내용 지문(fingerprint), 레코드 수를 담습니다.
+ * 다음 실행은 이 정보로 파일이 그대로인지, 뒤에 행이 추가되기만 했는지, 내용이 바뀌었는지 판단합니다.
+ * 저장 매체와 지문 계산 방식은 인프라스트럭처 어댑터에서 구현합니다.</p>
+ *
+ * <p>구현체는 {@link #save(List)}가 중간에 실패하더라도 이전에 저장된 내용이 깨지지 않도록
+ * 원자적으로 교체해야 합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public interface CsvManifestPort {
+
+  /**
+   * 저장된 매니페스트를 조회합니다.
+   *
+   * @return 파일별 매니페스트 항목(저장된 내용이 없으면 빈 목록)
+   */
+  List<CsvManifestEntry> load();
+
+  /**
+   * 매니페스트 전체를 저장합니다(기존 내용 교체).
+   *
+   * @param entries 파일별 매니페스트 항목
+   */
+  void save(List<CsvManifestEntry> entries);
+
+  /**
+   * 파일 앞부분 {@code length} 바이트의 내용 지문을 계산합니다.
+   *
+   * <p>파일이 커졌을 때 이전 길이만큼을 다시 계산해 저장된 지문과 비교하면,
+   * 기존 내용은 그대로이고 뒤에만 추가되었는지 확인할 수 있습니다.</p>
+   *
+   * @param file   대상 파일
+   * @param length 지문을 계산할 앞부분 길이(바이트, 파일 크기 이하)
+   * @return 내용 지문
+   */
+  CsvFileFingerprint fingerprint(Path file, long length);
+
+  /**
+   * 파일 앞부분의 내용 지문입니다.
+   *
+   * @param length          지문을 계산한 길이(바이트)
+   * @param headCrc         앞쪽 구간의 CRC32C
+   * @param tailCrc         {@code length} 직전 구간의 CRC32C
+   * @param endsWithNewline {@code length} 직전 바이트가 개행({@code \n})이면 true
+   */
+  record CsvFileFingerprint(
+      long length,
+      long headCrc,
+      long tailCrc,
+      boolean endsWithNewline
+  ) {
+  }
+
+  /**
+   * 단일 CSV 파일의 매니페스트 항목입니다.
+   *
+   * @param filePath           파일 절대 경로
+   * @param fileSize           전송을 마친 읽기 끝 위치(바이트, 읽을 당시 파일 크기)
+   * @param lastModifiedMillis 읽기 전에 조회한 파일 수정 시각(epoch millis)
+   * @param headCrc            앞쪽 구간의 CRC32C
+   * @param tailCrc            파일 끝 구간의 CRC32C
+   * @param endsWithNewline    파일이 개행으로 끝났으면 true(뒤에 추가된 행만 이어 읽을 수 있는 조건)
+   * @param lineCount          전송 완료 당시 파일의 레코드(라인) 수
+   */
+  record CsvManifestEntry(
+      String filePath,
+      long fileSize,
+      long lastModifiedMillis,
+      long headCrc,
+      long tailCrc,
+      boolean endsWithNewline,
+      int lineCount
+  ) {
+
+    /**
+     * 파일 앞부분의 지문이 이 항목과 같은 내용인지 비교합니다.
+     *
+     * @param fingerprint {@link #fileSize()} 길이만큼 계산한 지문
+     * @return 같은 내용이면 true
+     */
+    public boolean matches(CsvFileFingerprint fingerprint) {
+      return fingerprint.length() == fileSize
+          && fingerprint.headCrc() == headCrc
+          && fingerprint.tailCrc() == tailCrc
+          && fingerprint.endsWithNewline() == endsWithNewline;
+    }
+  }
+}
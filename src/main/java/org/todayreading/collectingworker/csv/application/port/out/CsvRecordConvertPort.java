@@ -0,0 +1,44 @@
+package org.todayreading.collectingworker.csv.application.port.out;
+
+import java.nio.file.Path;
+
+/**
+ * CSV 라인을 컬럼명/값 구조의 메시지(JSON 등)로 변환하는 출력 포트입니다.
+ *
+ * <p>CSV 원본 라인만 발행하면 모든 컨슈머가 각자 라인을 다시 파싱해야 하므로,
+ * 발행 전에 파일 헤더 기준으로 한 번 변환해 두기 위한 선택적 변환 단계입니다.
+ * 변환 형식과 구현 방식(라이브러리 등)은 인프라스트럭처 어댑터에서 결정합니다.</p>
+ *
+ * <p>호출 순서: 파일마다 {@link #registerHeader}를 먼저 호출한 뒤 그 파일의 라인을 {@link #convert}합니다.
+ * 여러 파일을 병렬로 읽는 경우 여러 스레드에서 동시에 호출되므로, 구현체는 스레드 안전해야 합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public interface CsvRecordConvertPort {
+
+  /**
+   * 파일 헤더로 그 파일의 변환 스키마를 만들어 등록합니다.
+   *
+   * @param filePath 파일 경로
+   * @param buffer   헤더가 들어 있는 버퍼(UTF-8 BOM, 종료 개행 제외)
+   * @param offset   헤더 시작 위치
+   * @param length   헤더 길이
+   */
+  void registerHeader(Path filePath, byte[] buffer, int offset, int length);
+
+  /**
+   * CSV 한 라인을 등록된 스키마로 변환합니다.
+   *
+   * <p>버퍼는 호출이 끝난 뒤 재사용될 수 있으므로, 구현체는 반환 전에 변환을 마쳐야 합니다.</p>
+   *
+   * @param filePath 파일 경로
+   * @param buffer   라인이 들어 있는 버퍼
+   * @param offset   라인 시작 위치
+   * @param length   라인 길이(개행 제외)
+   * @return 변환된 메시지(UTF-8 바이트)
+   * @throws IllegalStateException 파일 헤더가 등록되지 않은 경우
+   * @throws java.io.UncheckedIOException 라인을 파싱할 수 없는 경우
+   */
+  byte[] convert(Path filePath, byte[] buffer, int offset, int length);
+}
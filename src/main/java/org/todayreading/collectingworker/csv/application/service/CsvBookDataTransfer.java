@@ -5,8 +5,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.todayreading.collectingworker.csv.application.port.out.CsvBookPublishPort;
+import org.todayreading.collectingworker.csv.application.port.out.CsvCheckpointPort;
 import org.todayreading.collectingworker.csv.application.port.out.CsvFileReadPort;
+import org.todayreading.collectingworker.csv.application.port.out.CsvManifestPort;
+import org.todayreading.collectingworker.csv.application.port.out.CsvRecordConvertPort;
 import org.todayreading.collectingworker.csv.application.service.command.CsvTransferCommand;
+import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProperties;
+import org.todayreading.collectingworker.job.application.CollectJob;
+import org.todayreading.collectingworker.job.application.CollectJobCancelledException;
+import org.todayreading.collectingworker.job.application.CollectJobScope;
 
 /**
  * CSV 입력(파일/디렉터리)을 읽어 라인 발행을 오케스트레이션하는 애플리케이션 서비스입니다.
@@ -15,9 +22,24 @@ import org.todayreading.collectingworker.csv.application.service.command.CsvTran
  * <ul>
  *   <li>CSV 읽기: {@link CsvFileReadPort}가 담당(인프라 구현)</li>
  *   <li>라인 발행: {@link CsvBookPublishPort}가 담당(인프라 구현)</li>
+ *   <li>JSON 변환(선택): {@link CsvRecordConvertPort}가 담당(인프라 구현)</li>
  *   <li>스킵/집계/파일별 요약: {@link CsvTransferListener}가 담당(정책/처리)</li>
  * </ul>
  *
+ * <p>발행은 비동기이므로, 파일 읽기가 끝난 뒤 ack를 기다리는 라인이 모두 완료될 때까지 대기한 다음
+ * 실제 ack/실패 라인 수로 전체 요약을 출력합니다.</p>
+ *
+ * <p>체크포인트가 활성화되어 있으면 이전 실행의 체크포인트부터 이어서 읽고(완료된 파일은 건너뜀),
+ * 실행 중에는 ack 진행 위치를 주기적으로 저장합니다. 읽기/전송 실패 없이 끝나면 체크포인트를
+ * 삭제하여 다음 실행이 처음부터 시작하도록 하고, 실패가 있으면 마지막 진행 위치를 남겨 둡니다.</p>
+ *
+ * <p>매니페스트가 활성화되어 있으면 이전 실행 이후 변경되지 않은 파일은 건너뛰고,
+ * 뒤에 행이 추가되기만 한 파일은 추가된 부분만 발행합니다. 읽기가 끝까지 성공하면
+ * 실패 라인이 없는 파일로 매니페스트를 갱신합니다.</p>
+ *
+ * <p>전송 진행 상황은 {@link CollectJob}에 파일 단위로 기록합니다. 작업에 취소가 요청되면 읽기를 멈추고
+ * 이미 보낸 라인의 ack를 기다린 뒤 체크포인트에 마지막 진행 위치를 남기므로, 다음 실행이 그 위치부터 이어서 읽습니다.</p>
+ *
  * @author 박성준
  * @since 1.0.0
  */
@@ -26,12 +48,27 @@ import org.todayreading.collectingworker.csv.application.service.command.CsvTran
 @RequiredArgsConstructor
 public class CsvBookDataTransfer {
 
+  /** CSV 읽기 작업 실행 범위의 가상 스레드 이름 접두사입니다. */
+  private static final String READER_SCOPE_NAME = "csv-reader-";
+
   /** CSV 원본 라인을 외부(Kafka 등)로 발행하는 출력 포트입니다. */
   private final CsvBookPublishPort csvBookPublishPort;
 
   /** CSV 파일/디렉터리를 읽어 파일 단위 이벤트로 전달하는 출력 포트입니다. */
   private final CsvFileReadPort csvFileReadPort;
 
+  /** 파일별 전송 진행 위치(체크포인트)를 저장하는 출력 포트입니다. */
+  private final CsvCheckpointPort csvCheckpointPort;
+
+  /** 증분 전송용 파일 매니페스트를 저장하는 출력 포트입니다. */
+  private final CsvManifestPort csvManifestPort;
+
+  /** CSV 라인을 헤더 기준 JSON 객체로 변환하는 출력 포트입니다. */
+  private final CsvRecordConvertPort csvRecordConvertPort;
+
+  /** CSV 전송 설정(발행 모드, in-flight 상한, 체크포인트 등)입니다. */
+  private final CsvBookProperties csvBookProperties;
+
   /**
    * CSV 전송을 실행합니다.
    *
@@ -39,14 +76,22 @@ public class CsvBookDataTransfer {
    * <ol>
    *   <li>입력 경로를 커맨드에서 조회</li>
    *   <li>통계 누적 객체({@link TransferStats}) 생성</li>
-   *   <li>이벤트 리스너({@link CsvTransferListener}) 생성</li>
-   *   <li>{@link CsvFileReadPort}를 통해 파일을 읽고, 이벤트를 리스너로 전달</li>
+   *   <li>체크포인트 추적기({@link CsvCheckpointTracker}) 시작(활성화된 경우)</li>
+   *   <li>매니페스트 추적기({@link CsvManifestTracker}) 로드(활성화된 경우)</li>
+   *   <li>라인 발행 방식({@link CsvPublishStrategy}) 선택과 이벤트 리스너({@link CsvTransferListener}) 생성</li>
+   *   <li>작업의 실행 범위({@link CollectJobScope})를 열고, 그 안에서 {@link CsvFileReadPort}를 통해
+   *       파일을 읽어 이벤트를 리스너로 전달(취소 시 읽기 스레드도 인터럽트)</li>
+   *   <li>ack 대기 중인 라인이 모두 완료될 때까지 대기</li>
+   *   <li>체크포인트 삭제(전체 성공) 또는 마지막 진행 위치 저장(실패/취소 포함)</li>
+   *   <li>매니페스트 갱신(읽기 성공 시)</li>
    *   <li>처리 종료 후 전체 요약 로그 출력</li>
    * </ol>
    *
    * @param command CSV 전송 입력 커맨드(파일 또는 디렉터리 경로)
+   * @param job     진행 상황을 기록하고 취소 요청을 확인할 작업
+   * @throws CollectJobCancelledException 작업이 취소되어 읽기를 멈춘 경우
    */
-  public void transfer(CsvTransferCommand command) {
+  public void transfer(CsvTransferCommand command, CollectJob job) {
     // 유스케이스 입력(파일/디렉터리 경로)
     Path inputPath = command.inputPath();
 
@@ -56,22 +101,153 @@ public class CsvBookDataTransfer {
     // 파일별/전체 통계 누적 객체
     TransferStats stats = new TransferStats();
 
+    // ack를 기다리는 라인 수/바이트 수 상한(배압)
+    CsvBookProperties.KafkaProperties kafka = csvBookProperties.kafka();
+    InFlightLimiter inFlightLimiter = new InFlightLimiter(
+        kafka.maxInFlightRecords(), kafka.maxInFlightBytes().toBytes());
+
+    // 파일별 ack 진행 위치 추적기(체크포인트 비활성화 시 null)
+    CsvCheckpointTracker checkpointTracker = startCheckpointTracker();
+
+    // 변경 없는 파일/추가된 부분 판정용 매니페스트(비활성화 시 null)
+    CsvManifestTracker manifestTracker = csvBookProperties.manifest().enabled()
+        ? CsvManifestTracker.load(csvManifestPort)
+        : null;
+
+    // 헤더의 키 컬럼 값을 레코드 키로 사용(키 컬럼 미설정 시 null → 키 없이 발행)
+    String keyColumn = kafka.keyColumn();
+    CsvRecordKeyExtractor keyExtractor = keyColumn == null || keyColumn.isBlank()
+        ? null
+        : new CsvRecordKeyExtractor(keyColumn);
+
     // 파일 이벤트(onFileStart/onLine/onFileEnd)를 받아 스킵/발행/집계를 처리하는 리스너
-    CsvTransferListener listener = new CsvTransferListener(csvBookPublishPort, stats);
+    CsvTransferListener listener = new CsvTransferListener(publishStrategy(), stats,
+        inFlightLimiter,
+        new CsvTransferListener.Options(checkpointTracker, manifestTracker, keyExtractor), job);
 
     // 실제 파일 읽기/디렉터리 순회는 포트 구현체(인프라)가 수행하고,
     // 읽기 과정에서 발생하는 이벤트를 listener로 전달합니다.
-    try {
-      csvFileReadPort.read(inputPath, listener);
+    // 읽기 작업은 작업의 실행 범위에서 실행하므로, 취소되면 대기 중인 읽기 스레드도 인터럽트되고
+    // 범위를 닫을 때 남은 읽기 작업이 모두 끝난 뒤에 ack 대기로 넘어갑니다.
+    RuntimeException failure = null;
+    int parallelism = Math.max(1, csvBookProperties.reader().parallelism());
+    try (CollectJobScope readers = job.openScope(READER_SCOPE_NAME, parallelism)) {
+      csvFileReadPort.read(inputPath, listener, readers);
+    } catch (CollectJobCancelledException e) {
+      log.warn("CSV 전송이 취소되었습니다. 보낸 라인의 ack를 기다린 뒤 멈춥니다. inputPath={}", inputPath);
+      failure = e;
     } catch (Exception e) {
-      log.error("CSV 파일 읽기 중 오류 발생. inputPath={}", inputPath, e);
-      throw new CsvTransferException("CSV 전송 실패: " + inputPath, e);
+      if (job.isCancelRequested()) {
+        // 취소 인터럽트로 읽기가 멈춘 경우(채널 닫힘, 배압 대기 중단 등)도 실패가 아닌 취소로 기록합니다.
+        log.warn("CSV 전송이 취소되었습니다. 보낸 라인의 ack를 기다린 뒤 멈춥니다. inputPath={}", inputPath);
+        failure = new CollectJobCancelledException("CSV 전송이 취소되었습니다: " + inputPath);
+        failure.addSuppressed(e);
+      } else {
+        log.error("CSV 파일 읽기 중 오류 발생. inputPath={}", inputPath, e);
+        failure = new CsvTransferException("CSV 전송 실패: " + inputPath, e);
+      }
+    }
+
+    // 읽기가 끝나도(실패했더라도) 전송은 진행 중일 수 있으므로, 모든 라인의 ack/실패를 기다린 뒤
+    // 체크포인트에 마지막 진행 위치를 반영합니다.
+    boolean drained = false;
+    try {
+      // envelope 모드에서 모으는 중인 라인은 linger를 기다리지 않고 바로 보냅니다.
+      csvBookPublishPort.flush();
+      awaitInFlight(inputPath, inFlightLimiter);
+      drained = true;
+    } finally {
+      finishCheckpoint(checkpointTracker, drained && failure == null && stats.failedLines() == 0);
+    }
+
+    if (failure != null) {
+      throw failure;
+    }
+
+    // 읽기가 중간에 실패하면 어느 파일까지 끝까지 읽었는지 알 수 없으므로, 성공한 경우에만 갱신합니다.
+    if (manifestTracker != null) {
+      manifestTracker.save();
     }
 
     // 전체 합계 요약 로그(전체 1회)
     logOverallSummary(inputPath, stats);
   }
 
+  /**
+   * 설정에 맞는 라인 발행 방식을 고릅니다.
+   *
+   * <p>우선순위는 JSON 변환 단계, envelope, raw-bytes, 문자열 순입니다.
+   * JSON 변환 단계를 켜면 원본 라인 대신 변환한 JSON 객체를 발행하므로 envelope 설정은 사용하지 않습니다.</p>
+   *
+   * @return 라인 발행 방식
+   */
+  private CsvPublishStrategy publishStrategy() {
+    CsvBookProperties.KafkaProperties kafka = csvBookProperties.kafka();
+    if (csvBookProperties.json().enabled()) {
+      if (kafka.envelope().enabled()) {
+        log.warn("CSV JSON 변환 단계가 활성화되어 envelope 설정은 사용하지 않습니다.");
+      }
+      return CsvPublishStrategy.json(csvBookPublishPort, csvRecordConvertPort);
+    }
+    if (kafka.envelope().enabled()) {
+      return CsvPublishStrategy.envelope(csvBookPublishPort);
+    }
+    if (kafka.rawBytes()) {
+      return CsvPublishStrategy.bytes(csvBookPublishPort);
+    }
+    return CsvPublishStrategy.string(csvBookPublishPort);
+  }
+
+  /**
+   * 체크포인트가 활성화되어 있으면 저장된 체크포인트를 불러와 추적기를 시작합니다.
+   *
+   * @return 체크포인트 추적기(비활성화 시 null)
+   */
+  private CsvCheckpointTracker startCheckpointTracker() {
+    CsvBookProperties.CheckpointProperties checkpoint = csvBookProperties.checkpoint();
+    if (!checkpoint.enabled()) {
+      return null;
+    }
+    return CsvCheckpointTracker.start(csvCheckpointPort, checkpoint.flushInterval());
+  }
+
+  /**
+   * 체크포인트 추적을 마칩니다.
+   *
+   * @param succeeded 읽기/전송이 실패 없이 끝났으면 true(체크포인트 삭제),
+   *                  아니면 false(마지막 진행 위치 저장)
+   */
+  private void finishCheckpoint(CsvCheckpointTracker checkpointTracker, boolean succeeded) {
+    if (checkpointTracker == null) {
+      return;
+    }
+    if (succeeded) {
+      checkpointTracker.clear();
+      return;
+    }
+    checkpointTracker.close();
+    log.warn("CSV 전송이 완료되지 않아 체크포인트를 남깁니다. 다음 실행은 마지막 ack 위치부터 이어서 읽습니다.");
+  }
+
+  /**
+   * ack를 기다리는 라인이 모두 완료될 때까지 대기합니다.
+   *
+   * <p>대기 시간은 프로듀서의 {@code delivery.timeout.ms}로 제한됩니다
+   * (그 시간이 지나면 전송은 실패로 완료됨).</p>
+   */
+  private void awaitInFlight(Path inputPath, InFlightLimiter inFlightLimiter) {
+    int inFlight = inFlightLimiter.inFlightRecords();
+    if (inFlight > 0) {
+      log.info("CSV 읽기 완료. 전송 ack 대기 중. inputPath={}, inFlightLines={}", inputPath, inFlight);
+    }
+    try {
+      inFlightLimiter.awaitDrained();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CsvTransferException("CSV 전송 ack 대기 중 인터럽트: " + inputPath, e);
+    }
+  }
+
   /**
    * 실행 전체에 대한 요약 로그를 출력합니다.
    *
@@ -80,12 +256,14 @@ public class CsvBookDataTransfer {
    */
   private void logOverallSummary(Path inputPath, TransferStats stats) {
     log.info(
-        "CSV 전송 완료. inputPath={}, fileCount={}, totalLines={}, skippedLines={}, publishedLines={}, failedLines={}",
+        "CSV 전송 완료. inputPath={}, fileCount={}, skippedFiles={}, skippedBytes={}, totalLines={}, skippedLines={}, ackedLines={}, failedLines={}",
         inputPath,
         stats.fileCount(),
+        stats.skippedFiles(),
+        stats.skippedBytes(),
         stats.totalLines(),
         stats.skippedLines(),
-        stats.publishedLines(),
+        stats.ackedLines(),
         stats.failedLines()
     );
   }
@@ -0,0 +1,454 @@
+package org.todayreading.collectingworker.csv.application.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.todayreading.collectingworker.csv.application.port.out.CsvCheckpointPort;
+import org.todayreading.collectingworker.csv.application.port.out.CsvCheckpointPort.CsvFileCheckpoint;
+import org.todayreading.collectingworker.csv.application.port.out.CsvFileReadPort.ResumePoint;
+
+/**
+ * CSV 전송 중 파일별 ack 진행 위치(워터마크)를 추적하고 주기적으로 체크포인트로 저장하는 객체입니다.
+ *
+ * <p>발행은 비동기이고 청크 모드에서는 여러 구간이 동시에 진행되므로, ack는 순서와 무관하게 도착합니다.
+ * 그래서 구간(range)마다 발행 순서대로 레코드 끝 위치를 링 버퍼에 기록해 두고,
+ * 앞에서부터 연속으로 ack(또는 스킵)된 레코드까지만 워터마크를 전진시킵니다.
+ * 파일 체크포인트는 파일 앞쪽 구간부터 이어지는 워터마크입니다.</p>
+ *
+ * <p>전송에 실패한 레코드가 있으면 그 구간의 워터마크는 실패 직전에서 멈추므로,
+ * 재시작 시 실패한 레코드부터 다시 읽습니다(at-least-once).
+ * 워터마크 뒤쪽에서 이미 ack된 레코드는 재시작 시 중복 발행될 수 있습니다.</p>
+ *
+ * <p>체크포인트 저장은 전용 스케줄러 스레드에서 {@code flushInterval}마다 수행하여,
+ * Kafka 프로듀서 콜백 스레드에서 파일 I/O가 일어나지 않도록 합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+final class CsvCheckpointTracker implements AutoCloseable {
+
+  /** 체크포인트 저장 스레드 이름 접두사입니다. */
+  private static final String FLUSH_THREAD_PREFIX = "csv-checkpoint-";
+
+  /** 체크포인트를 영속화하는 출력 포트입니다. */
+  private final CsvCheckpointPort checkpointPort;
+
+  /** 체크포인트 저장 주기입니다. */
+  private final Duration flushInterval;
+
+  /** 이전 실행에서 저장된 체크포인트(파일 절대 경로 기준)입니다. */
+  private final Map<String, CsvFileCheckpoint> previous;
+
+  /** 이번 실행에서 읽는 파일별 진행 상황입니다. */
+  private final Map<Path, FileProgress> files = new ConcurrentHashMap<>();
+
+  private ScheduledExecutorService scheduler;
+
+  private CsvCheckpointTracker(CsvCheckpointPort checkpointPort, Duration flushInterval,
+      Map<String, CsvFileCheckpoint> previous) {
+    this.checkpointPort = checkpointPort;
+    this.flushInterval = flushInterval;
+    this.previous = previous;
+  }
+
+  /**
+   * 저장된 체크포인트를 불러와 추적기를 생성하고 주기적 저장을 시작합니다.
+   *
+   * @param checkpointPort 체크포인트 출력 포트
+   * @param flushInterval  저장 주기
+   * @return 추적기
+   */
+  static CsvCheckpointTracker start(CsvCheckpointPort checkpointPort, Duration flushInterval) {
+    Map<String, CsvFileCheckpoint> previous = new HashMap<>();
+    for (CsvFileCheckpoint checkpoint : checkpointPort.load()) {
+      previous.put(checkpoint.filePath(), checkpoint);
+    }
+    if (!previous.isEmpty()) {
+      log.info("CSV 체크포인트 로드. fileCount={}", previous.size());
+    }
+
+    CsvCheckpointTracker tracker = new CsvCheckpointTracker(checkpointPort, flushInterval, previous);
+    tracker.scheduler = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory(FLUSH_THREAD_PREFIX));
+    long intervalMillis = Math.max(1, flushInterval.toMillis());
+    tracker.scheduler.scheduleWithFixedDelay(
+        tracker::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    return tracker;
+  }
+
+  /**
+   * 파일의 읽기 시작 위치를 결정합니다.
+   *
+   * <p>저장된 체크포인트가 있고 파일 크기/수정 시각이 그대로일 때만 이어서 읽습니다.
+   * 체크포인트가 없거나 파일이 바뀌었으면 {@code fallback}(예: 매니페스트 기준 시작 위치)을 따르며,
+   * 어느 쪽이든 결정된 위치를 워터마크의 출발점으로 기록합니다.</p>
+   *
+   * @param file     읽을 파일
+   * @param fallback 체크포인트를 사용할 수 없을 때의 시작 위치 공급자
+   * @return 읽기 시작 위치
+   */
+  ResumePoint resumePoint(Path file, Supplier<ResumePoint> fallback) {
+    FileProgress progress = progressOf(file);
+    CsvFileCheckpoint checkpoint = previous.get(progress.key);
+
+    if (checkpoint != null
+        && (checkpoint.fileSize() != progress.fileSize
+        || checkpoint.lastModifiedMillis() != progress.lastModifiedMillis
+        || checkpoint.offset() > progress.fileSize)) {
+      log.warn("CSV 파일이 체크포인트 이후 변경되어 체크포인트를 사용하지 않습니다. file={}", file);
+      checkpoint = null;
+    }
+
+    if (checkpoint == null) {
+      ResumePoint resumePoint = fallback.get();
+      progress.resumeFrom(resumePoint.offset(), resumePoint.lineNumber() - 1,
+          resumePoint.completed());
+      return resumePoint;
+    }
+
+    if (checkpoint.completed()) {
+      progress.resumeFrom(checkpoint.fileSize(), checkpoint.lineNumber(), true);
+      return ResumePoint.completedAt(checkpoint.fileSize());
+    }
+
+    progress.resumeFrom(checkpoint.offset(), checkpoint.lineNumber(), false);
+    log.info("CSV 파일 체크포인트부터 이어서 읽습니다. file={}, offset={}, lineNumber={}",
+        file, checkpoint.offset(), checkpoint.lineNumber());
+    return new ResumePoint(checkpoint.offset(), checkpoint.lineNumber() + 1, false);
+  }
+
+  /**
+   * 파일의 한 바이트 구간 읽기 시작을 기록합니다.
+   *
+   * @param file            파일 경로
+   * @param startOffset     구간 시작 위치
+   * @param endOffset       구간 끝 위치
+   * @param firstLineNumber 구간 첫 레코드 라인 번호
+   */
+  void startRange(Path file, long startOffset, long endOffset, int firstLineNumber) {
+    progressOf(file).ranges.put(
+        startOffset, new RangeProgress(startOffset, endOffset, firstLineNumber - 1));
+  }
+
+  /**
+   * 파일의 한 바이트 구간을 끝까지 읽었음을 기록합니다.
+   *
+   * @param file        파일 경로
+   * @param startOffset 구간 시작 위치
+   */
+  void finishRange(Path file, long startOffset) {
+    RangeProgress range = progressOf(file).ranges.get(startOffset);
+    if (range != null) {
+      range.finishRead();
+    }
+  }
+
+  /**
+   * 레코드가 속한 구간의 진행 상황을 조회합니다.
+   *
+   * @param file      파일 경로
+   * @param endOffset 레코드가 끝난 다음 바이트 위치
+   * @return 레코드가 속한 구간(구간 정보가 없으면 null)
+   */
+  RangeProgress rangeOf(Path file, long endOffset) {
+    Map.Entry<Long, RangeProgress> entry = progressOf(file).ranges.lowerEntry(endOffset);
+    return entry == null ? null : entry.getValue();
+  }
+
+  /**
+   * 현재 워터마크를 체크포인트로 저장합니다.
+   */
+  synchronized void flush() {
+    List<CsvFileCheckpoint> checkpoints = new ArrayList<>();
+    Set<String> tracked = new HashSet<>();
+    for (FileProgress progress : files.values()) {
+      checkpoints.add(progress.snapshot());
+      tracked.add(progress.key);
+    }
+    for (CsvFileCheckpoint checkpoint : previous.values()) {
+      if (!tracked.contains(checkpoint.filePath())) {
+        // 이번 실행에서 아직 손대지 않은 파일은 이전 체크포인트를 그대로 유지합니다.
+        checkpoints.add(checkpoint);
+      }
+    }
+    checkpointPort.save(checkpoints);
+  }
+
+  /**
+   * 주기적 저장을 멈추고 저장된 체크포인트를 삭제합니다(전송이 실패 없이 끝난 경우).
+   */
+  void clear() {
+    stopScheduler();
+    checkpointPort.clear();
+  }
+
+  /**
+   * 주기적 저장을 멈추고 마지막 워터마크를 저장합니다.
+   */
+  @Override
+  public void close() {
+    stopScheduler();
+    flush();
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      // 주기 저장 실패가 전송을 중단시키지 않도록 로그만 남기고 다음 주기에 다시 시도합니다.
+      log.warn("CSV 체크포인트 저장 실패.", e);
+    }
+  }
+
+  private void stopScheduler() {
+    // 진행 중인 저장이 인터럽트로 중단되지 않도록 shutdown()으로 다음 주기만 취소합니다.
+    scheduler.shutdown();
+    try {
+      scheduler.awaitTermination(flushInterval.toMillis() + 1000, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private FileProgress progressOf(Path file) {
+    return files.computeIfAbsent(file, FileProgress::of);
+  }
+
+  /**
+   * 단일 파일의 진행 상황입니다.
+   */
+  private static final class FileProgress {
+
+    /** 체크포인트 키(파일 절대 경로)입니다. */
+    final String key;
+    final long fileSize;
+    final long lastModifiedMillis;
+
+    /** 구간 시작 위치별 진행 상황입니다(파일 앞쪽 구간부터 정렬). */
+    final ConcurrentNavigableMap<Long, RangeProgress> ranges = new ConcurrentSkipListMap<>();
+
+    /** 이번 실행의 읽기 시작 위치(이전 체크포인트)입니다. */
+    volatile long resumeOffset;
+    volatile int resumeLineNumber;
+    volatile boolean skipped;
+
+    private FileProgress(String key, long fileSize, long lastModifiedMillis) {
+      this.key = key;
+      this.fileSize = fileSize;
+      this.lastModifiedMillis = lastModifiedMillis;
+    }
+
+    static FileProgress of(Path file) {
+      try {
+        return new FileProgress(file.toAbsolutePath().normalize().toString(),
+            Files.size(file), Files.getLastModifiedTime(file).toMillis());
+      } catch (IOException e) {
+        throw new UncheckedIOException("CSV 파일 속성 조회 실패: " + file, e);
+      }
+    }
+
+    void resumeFrom(long offset, int lineNumber, boolean completed) {
+      this.resumeOffset = offset;
+      this.resumeLineNumber = lineNumber;
+      this.skipped = completed;
+    }
+
+    /**
+     * 파일 앞쪽부터 이어지는 구간 워터마크로 체크포인트를 만듭니다.
+     */
+    CsvFileCheckpoint snapshot() {
+      if (skipped) {
+        return new CsvFileCheckpoint(key, fileSize, lastModifiedMillis, fileSize,
+            resumeLineNumber, true);
+      }
+
+      long offset = resumeOffset;
+      int lineNumber = resumeLineNumber;
+      boolean allComplete = !ranges.isEmpty();
+      for (RangeProgress range : ranges.values()) {
+        if (range.startOffset != offset) {
+          // 앞 구간이 아직 시작되지 않았으면 그 뒤 구간의 진행은 체크포인트에 반영할 수 없습니다.
+          allComplete = false;
+          break;
+        }
+        Watermark mark = range.mark();
+        offset = mark.offset();
+        lineNumber = mark.lineNumber();
+        if (!mark.complete()) {
+          allComplete = false;
+          break;
+        }
+      }
+      boolean completed = allComplete && offset == fileSize;
+      return new CsvFileCheckpoint(key, fileSize, lastModifiedMillis, offset, lineNumber, completed);
+    }
+  }
+
+  /**
+   * 파일의 한 바이트 구간에서 연속으로 처리된 위치(워터마크)를 추적합니다.
+   *
+   * <p>발행한 레코드의 끝 위치/라인 번호를 발행 순서(sequence)대로 링 버퍼에 기록하고,
+   * 앞에서부터 완료된 레코드만큼 워터마크를 전진시킵니다. 링 버퍼 크기는 ack 대기 레코드 수에
+   * 비례하며, in-flight 상한({@link InFlightLimiter})에 의해 간접적으로 제한됩니다.</p>
+   *
+   * <p>전송 실패가 발생하면 구간을 "막힘" 상태로 바꾸고 새 레코드는 더 이상 추적하지 않습니다.
+   * 워터마크는 실패한 레코드 직전까지만 전진하며, 실패 이전에 발행된 레코드의 ack는 계속 반영합니다.</p>
+   */
+  static final class RangeProgress {
+
+    /** 막힘 상태이거나 추적하지 않는 레코드의 sequence입니다. */
+    static final long UNTRACKED = -1;
+
+    private final long startOffset;
+    private final long endOffset;
+
+    private long[] ends = new long[64];
+    private int[] lineNumbers = new int[64];
+    private boolean[] done = new boolean[64];
+    private long head;
+    private long tail;
+
+    /** 가장 앞선 실패 레코드의 sequence입니다(실패가 없으면 {@link Long#MAX_VALUE}). */
+    private long failedSequence = Long.MAX_VALUE;
+
+    private long ackedOffset;
+    private int ackedLineNumber;
+    private boolean readFinished;
+
+    RangeProgress(long startOffset, long endOffset, int lineNumberBefore) {
+      this.startOffset = startOffset;
+      this.endOffset = endOffset;
+      this.ackedOffset = startOffset;
+      this.ackedLineNumber = lineNumberBefore;
+    }
+
+    /**
+     * 발행할 레코드를 기록하고 sequence를 반환합니다.
+     *
+     * @param recordEnd  레코드가 끝난 다음 바이트 위치
+     * @param lineNumber 레코드 라인 번호
+     * @return sequence(막힘 상태면 {@link #UNTRACKED})
+     */
+    synchronized long begin(long recordEnd, int lineNumber) {
+      if (isBlocked()) {
+        return UNTRACKED;
+      }
+      if (tail - head == ends.length) {
+        grow();
+      }
+      int slot = slotOf(tail);
+      ends[slot] = recordEnd;
+      lineNumbers[slot] = lineNumber;
+      done[slot] = false;
+      return tail++;
+    }
+
+    /**
+     * 발행하지 않고 처리한(스킵) 레코드를 기록합니다.
+     *
+     * @param recordEnd  레코드가 끝난 다음 바이트 위치
+     * @param lineNumber 레코드 라인 번호
+     */
+    synchronized void skip(long recordEnd, int lineNumber) {
+      if (isBlocked()) {
+        return;
+      }
+      if (head == tail) {
+        ackedOffset = recordEnd;
+        ackedLineNumber = lineNumber;
+        return;
+      }
+      complete(begin(recordEnd, lineNumber), true);
+    }
+
+    /**
+     * 레코드 발행 완료를 기록합니다.
+     *
+     * @param sequence {@link #begin}이 반환한 sequence
+     * @param acked    ack를 받았으면 true, 실패면 false
+     */
+    synchronized void complete(long sequence, boolean acked) {
+      if (sequence == UNTRACKED || sequence < head) {
+        return;
+      }
+      if (!acked) {
+        failedSequence = Math.min(failedSequence, sequence);
+        return;
+      }
+      done[slotOf(sequence)] = true;
+      while (head < tail && head < failedSequence && done[slotOf(head)]) {
+        int slot = slotOf(head);
+        ackedOffset = ends[slot];
+        ackedLineNumber = lineNumbers[slot];
+        head++;
+      }
+    }
+
+    synchronized void finishRead() {
+      readFinished = true;
+    }
+
+    /**
+     * 현재 워터마크를 반환합니다.
+     *
+     * @return 워터마크(구간을 끝까지 읽고 모두 처리했으면 구간 끝 위치)
+     */
+    synchronized Watermark mark() {
+      boolean complete = readFinished && !isBlocked() && head == tail;
+      return new Watermark(complete ? endOffset : ackedOffset, ackedLineNumber, complete);
+    }
+
+    private boolean isBlocked() {
+      return failedSequence != Long.MAX_VALUE;
+    }
+
+    private int slotOf(long sequence) {
+      return (int) (sequence % ends.length);
+    }
+
+    private void grow() {
+      int size = ends.length;
+      long[] grownEnds = new long[size * 2];
+      int[] grownLines = new int[size * 2];
+      boolean[] grownDone = new boolean[size * 2];
+      for (long seq = head; seq < tail; seq++) {
+        int from = (int) (seq % size);
+        int to = (int) (seq % (size * 2));
+        grownEnds[to] = ends[from];
+        grownLines[to] = lineNumbers[from];
+        grownDone[to] = done[from];
+      }
+      ends = grownEnds;
+      lineNumbers = grownLines;
+      done = grownDone;
+    }
+  }
+
+  /**
+   * 구간 워터마크 값 객체입니다.
+   *
+   * @param offset     연속으로 처리된 마지막 레코드가 끝난 바이트 위치
+   * @param lineNumber 그 레코드의 라인 번호
+   * @param complete   구간 전체가 처리되었으면 true
+   */
+  record Watermark(long offset, int lineNumber, boolean complete) {
+  }
+}
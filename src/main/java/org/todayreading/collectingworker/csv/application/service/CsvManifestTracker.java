@@ -0,0 +1,188 @@
+package org.todayreading.collectingworker.csv.application.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.todayreading.collectingworker.csv.application.port.out.CsvFileReadPort.ResumePoint;
+import org.todayreading.collectingworker.csv.application.port.out.CsvManifestPort;
+import org.todayreading.collectingworker.csv.application.port.out.CsvManifestPort.CsvFileFingerprint;
+import org.todayreading.collectingworker.csv.application.port.out.CsvManifestPort.CsvManifestEntry;
+
+/**
+ * 이전 실행의 매니페스트와 현재 파일을 비교해 파일별 읽기 시작 위치를 정하고,
+ * 이번 실행에서 전송을 마친 파일로 매니페스트를 갱신하는 객체입니다.
+ *
+ * <p>파일 판정 기준:</p>
+ * <ul>
+ *   <li>변경 없음: 크기/수정 시각이 같고 내용 지문이 같음 → 파일 전체를 건너뜀</li>
+ *   <li>뒤에 추가됨: 크기가 커졌고 이전 길이만큼의 지문이 같으며 이전 내용이 개행으로 끝남
+ *       → 이전 끝 위치부터 추가된 레코드만 읽음(라인 번호는 이전 레코드 수 다음부터)</li>
+ *   <li>그 외(신규/축소/내용 변경): 처음부터 다시 읽음</li>
+ * </ul>
+ *
+ * <p>매니페스트 항목은 파일을 끝까지 읽고 모든 라인이 ack된 경우에만 갱신합니다.
+ * 전송 실패가 있었던 파일은 이전 항목을 그대로 두므로, 다음 실행에서 같은 구간을 다시 발행합니다
+ * (at-least-once). 지문 계산(파일 I/O)은 Kafka 콜백 스레드가 아니라 {@link #save()}를 호출하는
+ * 전송 스레드에서 수행합니다.</p>
+ *
+ * <p>항목의 크기와 지문은 저장 시점의 파일 크기가 아니라 이번 실행에서 실제로 읽은 끝 위치까지를 기준으로
+ * 합니다. 읽기를 마친 뒤 저장하기 전에 파일에 추가된 레코드는 발행하지 않았으므로, 다음 실행에서
+ * 뒤에 추가된 부분으로 읽습니다. 수정 시각은 읽기 전에 조회한 값을 사용합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+final class CsvManifestTracker {
+
+  /** 매니페스트를 조회/저장하고 내용 지문을 계산하는 출력 포트입니다. */
+  private final CsvManifestPort manifestPort;
+
+  /** 이전 실행에서 저장된 매니페스트(파일 절대 경로 기준)입니다. */
+  private final Map<String, CsvManifestEntry> previous;
+
+  /** 이번 실행에서 매니페스트로 읽기 시작 위치를 정한 파일의 크기/수정 시각입니다. */
+  private final Map<Path, FileState> files = new ConcurrentHashMap<>();
+
+  /** 이번 실행에서 읽은 파일의 읽기 끝 위치(구간 끝 위치 중 최댓값)입니다. */
+  private final Map<Path, Long> readEnds = new ConcurrentHashMap<>();
+
+  /** 이번 실행에서 전송을 마친 파일의 레코드 수입니다. */
+  private final Map<Path, Integer> completed = new ConcurrentHashMap<>();
+
+  private CsvManifestTracker(CsvManifestPort manifestPort, Map<String, CsvManifestEntry> previous) {
+    this.manifestPort = manifestPort;
+    this.previous = previous;
+  }
+
+  /**
+   * 저장된 매니페스트를 불러와 추적기를 생성합니다.
+   *
+   * @param manifestPort 매니페스트 출력 포트
+   * @return 추적기
+   */
+  static CsvManifestTracker load(CsvManifestPort manifestPort) {
+    Map<String, CsvManifestEntry> previous = new HashMap<>();
+    for (CsvManifestEntry entry : manifestPort.load()) {
+      previous.put(entry.filePath(), entry);
+    }
+    if (!previous.isEmpty()) {
+      log.info("CSV 매니페스트 로드. fileCount={}", previous.size());
+    }
+    return new CsvManifestTracker(manifestPort, previous);
+  }
+
+  /**
+   * 매니페스트 기준으로 파일의 읽기 시작 위치를 결정합니다.
+   *
+   * @param file 읽을 파일
+   * @return 읽기 시작 위치(변경 없으면 완료 상태, 뒤에 추가되었으면 이전 끝 위치)
+   */
+  ResumePoint resumePoint(Path file) {
+    FileState state = FileState.of(file);
+    files.put(file, state);
+
+    CsvManifestEntry entry = previous.get(state.key);
+    if (entry == null || state.size < entry.fileSize()) {
+      return ResumePoint.START;
+    }
+
+    CsvFileFingerprint fingerprint = manifestPort.fingerprint(file, entry.fileSize());
+    if (!entry.matches(fingerprint)) {
+      log.info("CSV 파일 내용이 매니페스트와 달라 처음부터 읽습니다. file={}", file);
+      return ResumePoint.START;
+    }
+
+    if (state.size == entry.fileSize()) {
+      if (state.lastModifiedMillis != entry.lastModifiedMillis()) {
+        // 크기가 같아도 수정 시각이 바뀌었으면 지문 구간 밖(파일 중간)이 바뀌었을 수 있습니다.
+        log.info("CSV 파일 수정 시각이 매니페스트와 달라 처음부터 읽습니다. file={}", file);
+        return ResumePoint.START;
+      }
+      return ResumePoint.completedAt(state.size);
+    }
+
+    if (!entry.endsWithNewline()) {
+      // 마지막 레코드가 개행 없이 끝났었다면 추가된 바이트가 그 레코드에 이어 붙었을 수 있습니다.
+      log.info("CSV 파일이 개행 없이 끝난 뒤 내용이 추가되어 처음부터 읽습니다. file={}", file);
+      return ResumePoint.START;
+    }
+
+    log.info("CSV 파일에 추가된 부분만 읽습니다. file={}, offset={}, appendedBytes={}",
+        file, entry.fileSize(), state.size - entry.fileSize());
+    return new ResumePoint(entry.fileSize(), entry.lineCount() + 1, false);
+  }
+
+  /**
+   * 파일의 한 바이트 구간을 읽기 시작했음을 기록합니다.
+   *
+   * <p>구간 끝 위치 중 최댓값을 이 파일의 읽기 끝 위치로 사용합니다. 체크포인트로 이어 읽는 파일처럼
+   * 읽기 시작 위치를 매니페스트로 정하지 않은 파일은 이때 수정 시각을 조회합니다.</p>
+   *
+   * @param file      파일 경로
+   * @param endOffset 구간 끝 위치(제외)
+   */
+  void rangeStarted(Path file, long endOffset) {
+    files.computeIfAbsent(file, FileState::of);
+    readEnds.merge(file, endOffset, Math::max);
+  }
+
+  /**
+   * 파일을 끝까지 읽고 모든 라인이 ack되었음을 기록합니다.
+   *
+   * @param file      파일 경로
+   * @param lineCount 파일의 레코드(라인) 수
+   */
+  void fileCompleted(Path file, int lineCount) {
+    completed.merge(file, lineCount, Math::max);
+  }
+
+  /**
+   * 이번 실행에서 전송을 마친 파일로 매니페스트를 갱신하여 저장합니다.
+   *
+   * <p>변경이 없어 건너뛴 파일과 이번 실행에서 완료하지 못한 파일은 이전 항목을 유지하고,
+   * 더 이상 존재하지 않는 파일의 항목은 제거합니다.</p>
+   */
+  void save() {
+    Map<String, CsvManifestEntry> entries = new HashMap<>();
+    for (CsvManifestEntry entry : previous.values()) {
+      if (Files.exists(Path.of(entry.filePath()))) {
+        entries.put(entry.filePath(), entry);
+      }
+    }
+
+    for (Map.Entry<Path, Integer> done : completed.entrySet()) {
+      FileState state = files.computeIfAbsent(done.getKey(), FileState::of);
+      // 저장 시점의 크기가 아니라 읽은 끝 위치까지만 완료로 기록합니다(이후 추가분은 다음 실행에서 읽음).
+      long size = readEnds.getOrDefault(done.getKey(), state.size);
+      CsvFileFingerprint fingerprint = manifestPort.fingerprint(done.getKey(), size);
+      entries.put(state.key, new CsvManifestEntry(state.key, size,
+          state.lastModifiedMillis, fingerprint.headCrc(), fingerprint.tailCrc(),
+          fingerprint.endsWithNewline(), done.getValue()));
+    }
+
+    manifestPort.save(new ArrayList<>(entries.values()));
+    log.info("CSV 매니페스트 저장. fileCount={}, updatedFiles={}", entries.size(), completed.size());
+  }
+
+  /**
+   * 읽기 시작 위치를 정한 시점(또는 첫 구간을 읽기 시작한 시점)의 파일 속성입니다.
+   */
+  private record FileState(String key, long size, long lastModifiedMillis) {
+
+    static FileState of(Path file) {
+      try {
+        return new FileState(file.toAbsolutePath().normalize().toString(),
+            Files.size(file), Files.getLastModifiedTime(file).toMillis());
+      } catch (IOException e) {
+        throw new UncheckedIOException("CSV 파일 속성 조회 실패: " + file, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package org.todayreading.collectingworker.csv.application.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import org.todayreading.collectingworker.csv.application.port.out.CsvBookPublishPort;
+import org.todayreading.collectingworker.csv.application.port.out.CsvRecordConvertPort;
+
+/**
+ * CSV 라인 하나를 어떤 형태로 발행할지 정하는 발행 방식입니다.
+ *
+ * <p>{@link CsvBookDataTransfer}가 설정에 맞는 방식을 하나 골라 {@link CsvTransferListener}에 넘기며,
+ * 리스너는 스킵/배압/집계만 처리하고 발행 형태는 이 객체에 위임합니다.</p>
+ * <ul>
+ *   <li>{@link #string(CsvBookPublishPort)}: 라인을 문자열로 디코딩해 발행(기본)</li>
+ *   <li>{@link #bytes(CsvBookPublishPort)}: UTF-8 원본 바이트 그대로 발행
+ *   ({@code csv.book.kafka.raw-bytes})</li>
+ *   <li>{@link #envelope(CsvBookPublishPort)}: 여러 라인을 묶은 메시지로 발행
+ *   ({@code csv.book.kafka.envelope.enabled})</li>
+ *   <li>{@link #json(CsvBookPublishPort, CsvRecordConvertPort)}: 헤더 기준 JSON 객체로 변환해 발행
+ *   ({@code csv.book.json.enabled})</li>
+ * </ul>
+ *
+ * <p>바이트 구간 라인의 {@code publish}는 반환하기 전에 버퍼 사용을 마칩니다(복사 또는 변환).
+ * 리더가 호출 이후 버퍼를 재사용하기 때문입니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+interface CsvPublishStrategy {
+
+  /**
+   * 바이트 구간 라인을 문자열로 디코딩해 처리하는 방식인지 여부입니다.
+   *
+   * <p>true이면 리스너는 공백 판단과 키 추출도 디코딩한 문자열 기준으로 수행합니다.</p>
+   *
+   * @return 문자열 발행 방식이면 true
+   */
+  default boolean decodesLines() {
+    return false;
+  }
+
+  /**
+   * 파일 헤더를 받습니다(변환 스키마 등록 등). 기본 구현은 아무것도 하지 않습니다.
+   *
+   * @param filePath 파일 경로
+   * @param buffer   헤더가 들어 있는 버퍼
+   * @param offset   헤더 시작 위치
+   * @param length   헤더 길이
+   */
+  default void registerHeader(Path filePath, byte[] buffer, int offset, int length) {
+  }
+
+  /**
+   * 바이트 구간으로 읽은 라인을 발행합니다.
+   *
+   * @param filePath   파일 경로
+   * @param lineNumber 파일 내 라인 번호
+   * @param key        레코드 키(없으면 null)
+   * @param buffer     라인이 들어 있는 버퍼(호출 이후 재사용됨)
+   * @param offset     라인 시작 위치
+   * @param length     라인 길이(개행 제외)
+   * @return 수신 확인 시 정상 완료, 전송 실패 시 예외로 완료되는 Future
+   */
+  CompletableFuture<Void> publish(Path filePath, int lineNumber, String key, byte[] buffer,
+      int offset, int length);
+
+  /**
+   * 문자열로 읽은 라인을 발행합니다.
+   *
+   * @param filePath   파일 경로
+   * @param lineNumber 파일 내 라인 번호
+   * @param key        레코드 키(없으면 null)
+   * @param line       CSV 원본 라인
+   * @return 수신 확인 시 정상 완료, 전송 실패 시 예외로 완료되는 Future
+   */
+  default CompletableFuture<Void> publish(Path filePath, int lineNumber, String key, String line) {
+    byte[] bytes = line.getBytes(UTF_8);
+    return publish(filePath, lineNumber, key, bytes, 0, bytes.length);
+  }
+
+  /**
+   * 라인을 문자열로 디코딩해 발행하는 방식을 반환합니다.
+   *
+   * @param publishPort 발행 포트
+   * @return 문자열 발행 방식
+   */
+  static CsvPublishStrategy string(CsvBookPublishPort publishPort) {
+    return new CsvPublishStrategy() {
+      @Override
+      public boolean decodesLines() {
+        return true;
+      }
+
+      @Override
+      public CompletableFuture<Void> publish(Path filePath, int lineNumber, String key,
+          byte[] buffer, int offset, int length) {
+        return publishPort.publish(key, new String(buffer, offset, length, UTF_8));
+      }
+
+      @Override
+      public CompletableFuture<Void> publish(Path filePath, int lineNumber, String key,
+          String line) {
+        return publishPort.publish(key, line);
+      }
+    };
+  }
+
+  /**
+   * 라인을 UTF-8 원본 바이트 그대로 발행하는 방식을 반환합니다.
+   *
+   * @param publishPort 발행 포트
+   * @return 바이트 발행 방식
+   */
+  static CsvPublishStrategy bytes(CsvBookPublishPort publishPort) {
+    return (filePath, lineNumber, key, buffer, offset, length) ->
+        publishPort.publish(key, Arrays.copyOfRange(buffer, offset, offset + length));
+  }
+
+  /**
+   * 라인을 여러 라인을 묶은 메시지(envelope)에 담아 발행하는 방식을 반환합니다.
+   *
+   * @param publishPort 발행 포트
+   * @return envelope 발행 방식
+   */
+  static CsvPublishStrategy envelope(CsvBookPublishPort publishPort) {
+    return (filePath, lineNumber, key, buffer, offset, length) ->
+        publishPort.publishEnveloped(filePath, lineNumber, key,
+            Arrays.copyOfRange(buffer, offset, offset + length));
+  }
+
+  /**
+   * 라인을 파일 헤더 기준 JSON 객체로 변환해 발행하는 방식을 반환합니다.
+   *
+   * <p>변환은 버퍼에서 바로 수행하므로 원본 라인을 복사하지 않으며, 변환 실패는 발행 실패로 집계됩니다.</p>
+   *
+   * @param publishPort     발행 포트
+   * @param recordConverter JSON 변환 포트
+   * @return JSON 발행 방식
+   */
+  static CsvPublishStrategy json(CsvBookPublishPort publishPort,
+      CsvRecordConvertPort recordConverter) {
+    return new CsvPublishStrategy() {
+      @Override
+      public void registerHeader(Path filePath, byte[] buffer, int offset, int length) {
+        recordConverter.registerHeader(filePath, buffer, offset, length);
+      }
+
+      @Override
+      public CompletableFuture<Void> publish(Path filePath, int lineNumber, String key,
+          byte[] buffer, int offset, int length) {
+        return publishPort.publishJson(key,
+            recordConverter.convert(filePath, buffer, offset, length));
+      }
+    };
+  }
+}
@@ -0,0 +1,246 @@
+package org.todayreading.collectingworker.csv.application.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CSV 라인에서 Kafka 레코드 키로 사용할 컬럼 값을 추출하는 객체입니다.
+ *
+ * <p>키 컬럼은 이름({@code csv.book.kafka.key-column})으로 지정하고, 컬럼 위치는 파일마다
+ * 헤더({@code onHeader})에서 찾습니다. 파일마다 컬럼 순서가 달라도 같은 이름의 컬럼을 키로 사용합니다.</p>
+ *
+ * <p>라인 전체를 필드 목록으로 파싱하지 않고, 앞에서부터 구분자만 세며 한 번 훑어
+ * 키 컬럼의 시작/끝 위치만 찾습니다. 키 컬럼 뒤의 필드는 보지 않으며,
+ * 값은 키 필드만 디코딩(따옴표 필드의 {@code ""} 이스케이프 해제 포함)하여 만듭니다.</p>
+ *
+ * <p>따옴표 규칙은 RFC 4180을 따르되 리더와 같이 관대하게 처리합니다.
+ * 필드 시작의 {@code "}만 따옴표 필드를 열고, 닫는 따옴표 뒤의 문자는 같은 필드로 이어 봅니다.</p>
+ *
+ * <p>헤더에 키 컬럼이 없는 파일, 키 컬럼이 비어 있거나 없는 라인은 키 없이(null) 발행됩니다.
+ * 컬럼 위치는 {@link ConcurrentHashMap}에 보관하므로 여러 읽기 스레드에서 동시에 사용해도 안전합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+final class CsvRecordKeyExtractor {
+
+  private static final char QUOTE = '"';
+  private static final char COMMA = ',';
+
+  /** 헤더에 키 컬럼이 없는 파일의 컬럼 위치입니다. */
+  private static final int NO_COLUMN = -1;
+
+  /** 키로 사용할 헤더 컬럼명입니다. */
+  private final String keyColumn;
+
+  /** 파일별 키 컬럼 위치(0부터 시작)입니다. */
+  private final Map<Path, Integer> columnIndexByFile = new ConcurrentHashMap<>();
+
+  /**
+   * 추출기를 생성합니다.
+   *
+   * @param keyColumn 키로 사용할 헤더 컬럼명
+   */
+  CsvRecordKeyExtractor(String keyColumn) {
+    this.keyColumn = keyColumn.strip();
+  }
+
+  /**
+   * 파일 헤더에서 키 컬럼 위치를 찾아 등록합니다.
+   *
+   * <p>컬럼명은 앞뒤 공백을 제거하고 대소문자를 구분하지 않고 비교합니다.</p>
+   *
+   * @param filePath 파일 경로
+   * @param buffer   헤더가 들어 있는 버퍼
+   * @param offset   헤더 시작 위치
+   * @param length   헤더 길이
+   */
+  void registerHeader(Path filePath, byte[] buffer, int offset, int length) {
+    String header = new String(buffer, offset, length, UTF_8);
+
+    int index = NO_COLUMN;
+    for (int i = 0; ; i++) {
+      String column = fieldOf(header, i);
+      if (column == null) {
+        break;
+      }
+      if (column.strip().equalsIgnoreCase(keyColumn)) {
+        index = i;
+        break;
+      }
+    }
+
+    columnIndexByFile.put(filePath, index);
+    if (index == NO_COLUMN) {
+      log.warn("CSV 헤더에 키 컬럼이 없어 키 없이 발행합니다. filePath={}, keyColumn={}",
+          filePath, keyColumn);
+    } else if (log.isDebugEnabled()) {
+      log.debug("CSV 키 컬럼 위치 확인. filePath={}, keyColumn={}, index={}",
+          filePath, keyColumn, index);
+    }
+  }
+
+  /**
+   * 문자열 라인에서 키를 추출합니다.
+   *
+   * @param filePath 파일 경로
+   * @param line     CSV 원본 라인
+   * @return 키(키 컬럼이 없거나 비어 있으면 null)
+   */
+  String keyOf(Path filePath, String line) {
+    int index = columnIndexOf(filePath);
+    if (index == NO_COLUMN || line == null) {
+      return null;
+    }
+    return emptyToNull(fieldOf(line, index));
+  }
+
+  /**
+   * UTF-8 바이트 라인에서 키를 추출합니다(raw-bytes 모드).
+   *
+   * <p>라인 전체를 디코딩하지 않고 키 필드의 바이트만 디코딩합니다.</p>
+   *
+   * @param filePath 파일 경로
+   * @param buffer   라인이 들어 있는 버퍼
+   * @param offset   라인 시작 위치
+   * @param length   라인 길이
+   * @return 키(키 컬럼이 없거나 비어 있으면 null)
+   */
+  String keyOf(Path filePath, byte[] buffer, int offset, int length) {
+    int index = columnIndexOf(filePath);
+    if (index == NO_COLUMN) {
+      return null;
+    }
+
+    int end = offset + length;
+    int i = offset;
+    for (int field = 0; field < index; field++) {
+      i = skipField(buffer, i, end);
+      if (i >= end) {
+        // 구분자 없이 라인이 끝나 키 컬럼까지 도달하지 못했습니다.
+        return null;
+      }
+      i++;
+    }
+
+    if (i < end && buffer[i] == QUOTE) {
+      return emptyToNull(unquote(new String(buffer, i, skipField(buffer, i, end) - i, UTF_8)));
+    }
+    int fieldEnd = i;
+    while (fieldEnd < end && buffer[fieldEnd] != COMMA) {
+      fieldEnd++;
+    }
+    return emptyToNull(new String(buffer, i, fieldEnd - i, UTF_8));
+  }
+
+  private int columnIndexOf(Path filePath) {
+    return columnIndexByFile.getOrDefault(filePath, NO_COLUMN);
+  }
+
+  /**
+   * {@code from}에서 시작하는 필드를 건너뛰고, 필드를 끝내는 구분자 위치(없으면 {@code end})를 반환합니다.
+   */
+  private static int skipField(byte[] buffer, int from, int end) {
+    int i = from;
+    if (i < end && buffer[i] == QUOTE) {
+      i++;
+      while (i < end) {
+        if (buffer[i++] == QUOTE) {
+          if (i < end && buffer[i] == QUOTE) {
+            i++;
+            continue;
+          }
+          break;
+        }
+      }
+    }
+    while (i < end && buffer[i] != COMMA) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * 문자열 라인의 {@code index}번째 필드 원문을 반환합니다(따옴표 필드는 이스케이프 해제).
+   *
+   * @return 필드 값(필드 수가 부족하면 null)
+   */
+  private static String fieldOf(String line, int index) {
+    int end = line.length();
+    int i = 0;
+    for (int field = 0; field < index; field++) {
+      i = skipField(line, i, end);
+      if (i >= end) {
+        return null;
+      }
+      i++;
+    }
+
+    int fieldEnd = skipField(line, i, end);
+    String field = line.substring(i, fieldEnd);
+    return i < end && line.charAt(i) == QUOTE ? unquote(field) : field;
+  }
+
+  private static int skipField(String line, int from, int end) {
+    int i = from;
+    if (i < end && line.charAt(i) == QUOTE) {
+      i++;
+      while (i < end) {
+        if (line.charAt(i++) == QUOTE) {
+          if (i < end && line.charAt(i) == QUOTE) {
+            i++;
+            continue;
+          }
+          break;
+        }
+      }
+    }
+    while (i < end && line.charAt(i) != COMMA) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * 따옴표 필드 원문에서 감싼 따옴표를 벗기고 {@code ""}를 {@code "}로 되돌립니다.
+   *
+   * <p>닫는 따옴표 뒤에 이어진 문자는 관대하게 값 뒤에 붙입니다.</p>
+   */
+  private static String unquote(String field) {
+    int close = 1;
+    StringBuilder value = null;
+    while (close < field.length()) {
+      int quote = field.indexOf(QUOTE, close);
+      if (quote < 0) {
+        // 닫는 따옴표가 없으면 나머지를 값으로 봅니다.
+        return value == null ? field.substring(1) : value.append(field, close, field.length())
+            .toString();
+      }
+      if (quote + 1 < field.length() && field.charAt(quote + 1) == QUOTE) {
+        if (value == null) {
+          value = new StringBuilder(field.length());
+        }
+        value.append(field, close, quote + 1);
+        close = quote + 2;
+        continue;
+      }
+      String head = field.substring(close, quote);
+      String rest = field.substring(quote + 1);
+      return value == null ? head + rest : value.append(head).append(rest).toString();
+    }
+    return value == null ? "" : value.toString();
+  }
+
+  private static String emptyToNull(String value) {
+    if (value == null) {
+      return null;
+    }
+    String key = value.strip();
+    return key.isEmpty() ? null : key;
+  }
+}
@@ -1,9 +1,17 @@
 package org.todayreading.collectingworker.csv.application.service;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
-import org.todayreading.collectingworker.csv.application.port.out.CsvBookPublishPort;
 import org.todayreading.collectingworker.csv.application.port.out.CsvFileReadPort.CsvFileReadListenerAdapter;
+import org.todayreading.collectingworker.csv.application.port.out.CsvFileReadPort.ResumePoint;
+import org.todayreading.collectingworker.csv.application.service.CsvCheckpointTracker.RangeProgress;
+import org.todayreading.collectingworker.job.application.CollectJob;
 
 /**
  * {@link org.todayreading.collectingworker.csv.application.port.out.CsvFileReadPort}가 발생시키는
@@ -13,16 +21,34 @@ import org.todayreading.collectingworker.csv.application.port.out.CsvFileReadPor
  * <p>처리 기준:</p>
  * <ul>
  *   <li>헤더: {@code lineNumber == 1} (포트가 파일별 라인 번호를 1부터 시작한다는 계약 전제)</li>
- *   <li>공백: {@code line == null || line.isBlank()}</li>
+ *   <li>공백: 문자열 발행 방식은 {@link String#isBlank()}, 그 밖의 방식은 ASCII 공백 문자만 검사
+ *   (UTF-8 멀티바이트 문자는 항상 공백이 아닌 것으로 봄)</li>
  * </ul>
  *
+ * <p>발행 형태(문자열, 원본 바이트, envelope, JSON)는 {@link CsvBookDataTransfer}가 고른
+ * {@link CsvPublishStrategy}에 위임하고, 리스너는 어떤 방식이든 같은 순서로 처리합니다:
+ * 취소 확인 → 스킵 판단 → 레코드 키 추출 → 배압 허용량 획득 → 발행 → 완료 콜백에서 집계.
+ * 선택 기능(체크포인트, 매니페스트, 레코드 키)은 {@link Options}로 받으며, 사용하지 않는 기능은 null입니다.</p>
+ *
  * <p>통계 의미:</p>
  * <ul>
- *   <li>publishedLines: {@code publish()} 호출이 예외 없이 끝난 라인 수</li>
- *   <li>failedLines: {@code publish()} 호출 중 예외가 발생한 라인 수</li>
+ *   <li>ackedLines: 발행 Future가 정상 완료(브로커 ack)된 라인 수</li>
+ *   <li>failedLines: 발행(변환 포함) 호출 예외 또는 Future가 예외로 완료된 라인 수</li>
  * </ul>
  *
- * <p>주의: Kafka 전송이 비동기인 경우, 실제 전송 실패는 KafkaTemplate 콜백/로그에서 확인해야 합니다.</p>
+ * <p>배압: 발행 전에 {@link InFlightLimiter}에서 허용량을 얻고 완료 콜백에서 반환하므로,
+ * ack를 기다리는 라인이 상한에 도달하면 읽기 스레드가 대기합니다.
+ * 완료 콜백은 체크포인트 구간에 ack를 반영하고, 파일의 작업 진행 상황({@link CollectJob.Unit})에
+ * ack/실패를 기록하며, 파일의 마지막 ack가 도착하면 파일 요약 로그를 출력하고 매니페스트에 완료를 기록합니다.
+ * 레코드 끝 위치는 바이트 구간 이벤트에만 포함되므로, 문자열 이벤트만 발생시키는 리더에서는 체크포인트가 전진하지 않습니다.</p>
+ *
+ * <p>취소: 파일 시작과 라인마다 작업의 취소 요청을 확인하고, 취소되었으면 예외로 읽기를 멈춥니다
+ * (이미 보낸 라인의 ack는 그대로 집계).</p>
+ *
+ * <p>스레드 안전성: 이 리스너는 발행 방식, {@link TransferStats}, {@link InFlightLimiter},
+ * {@link Options}의 추적기들, 파일별 작업 진행 상황 맵 외에 가변 상태를 가지지 않으므로,
+ * 여러 파일을 병렬로 읽는 경우 하나의 인스턴스를 여러 읽기 스레드와
+ * 전송 콜백 스레드가 동시에 호출해도 안전합니다.</p>
  *
  * @author 박성준
  * @since 1.0.0
@@ -30,21 +56,125 @@ import org.todayreading.collectingworker.csv.application.port.out.CsvFileReadPor
 @Slf4j
 final class CsvTransferListener extends CsvFileReadListenerAdapter {
 
-  /** CSV 원본 라인을 외부(Kafka 등)로 발행하는 출력 포트입니다. */
-  private final CsvBookPublishPort publishPort;
+  /** 라인을 발행하는 방식(문자열, 원본 바이트, envelope, JSON)입니다. */
+  private final CsvPublishStrategy publishStrategy;
 
   /** 파일별/전체 통계를 누적하는 상태 객체입니다. */
   private final TransferStats stats;
 
+  /** ack 대기 라인 수/바이트 수 상한을 적용하는 배압 장치입니다. */
+  private final InFlightLimiter inFlightLimiter;
+
+  /** 파일별 ack 워터마크 추적기입니다(체크포인트 비활성화 시 null). */
+  private final CsvCheckpointTracker checkpointTracker;
+
+  /** 증분 전송용 매니페스트 추적기입니다(매니페스트 비활성화 시 null). */
+  private final CsvManifestTracker manifestTracker;
+
+  /** 라인에서 레코드 키를 추출하는 객체입니다(키 컬럼 미설정 시 null). */
+  private final CsvRecordKeyExtractor keyExtractor;
+
+  /** 진행 상황을 기록하고 취소 요청을 확인할 작업입니다. */
+  private final CollectJob job;
+
+  /** 읽는 중인 파일의 작업 진행 상황입니다. */
+  private final Map<Path, CollectJob.Unit> jobUnits = new ConcurrentHashMap<>();
+
   /**
    * 리스너를 생성합니다.
    *
-   * @param publishPort 라인 발행을 수행할 출력 포트
-   * @param stats       통계를 누적할 상태 객체
+   * @param publishStrategy 라인 발행 방식
+   * @param stats           통계를 누적할 상태 객체
+   * @param inFlightLimiter ack 대기 상한을 적용할 배압 장치
+   * @param options         선택 기능(체크포인트, 매니페스트, 레코드 키)
+   * @param job             진행 상황을 기록하고 취소 요청을 확인할 작업
    */
-  CsvTransferListener(CsvBookPublishPort publishPort, TransferStats stats) {
-    this.publishPort = publishPort;
+  CsvTransferListener(CsvPublishStrategy publishStrategy, TransferStats stats,
+      InFlightLimiter inFlightLimiter, Options options, CollectJob job) {
+    this.publishStrategy = publishStrategy;
     this.stats = stats;
+    this.inFlightLimiter = inFlightLimiter;
+    this.checkpointTracker = options.checkpointTracker();
+    this.manifestTracker = options.manifestTracker();
+    this.keyExtractor = options.keyExtractor();
+    this.job = job;
+  }
+
+  /**
+   * 리스너의 선택 기능입니다. 사용하지 않는 기능은 null입니다.
+   *
+   * @param checkpointTracker 파일별 ack 워터마크 추적기(체크포인트 비활성화 시 null)
+   * @param manifestTracker   증분 전송용 매니페스트 추적기(매니페스트 비활성화 시 null)
+   * @param keyExtractor      라인에서 레코드 키를 추출하는 객체(키 컬럼 미설정 시 null)
+   */
+  record Options(
+      CsvCheckpointTracker checkpointTracker,
+      CsvManifestTracker manifestTracker,
+      CsvRecordKeyExtractor keyExtractor
+  ) {
+  }
+
+  /**
+   * 파일 읽기 시작 위치를 체크포인트, 매니페스트 순으로 조회해 반환합니다.
+   *
+   * <p>진행 중이던 전송의 체크포인트가 있으면 그 위치를 우선하고, 없으면 매니페스트 기준
+   * (변경 없음/뒤에 추가됨)으로 정합니다. 읽지 않는 앞부분 바이트 수는 skippedBytes로 집계합니다.</p>
+   *
+   * @param filePath 읽을 파일 경로
+   * @return 읽기 시작 위치(둘 다 비활성화 시 파일 처음)
+   */
+  @Override
+  public ResumePoint resumePoint(Path filePath) {
+    ResumePoint resumePoint = checkpointTracker == null
+        ? manifestResumePoint(filePath)
+        : checkpointTracker.resumePoint(filePath, () -> manifestResumePoint(filePath));
+    stats.addSkippedBytes(resumePoint.offset());
+    return resumePoint;
+  }
+
+  /**
+   * 이전 실행에서 완료되었거나 변경되지 않아 건너뛴 파일을 집계합니다.
+   *
+   * @param filePath 건너뛴 파일 경로
+   */
+  @Override
+  public void onFileSkipped(Path filePath) {
+    stats.incrementSkippedFiles();
+    log.info("CSV 파일 건너뜀(이전 실행에서 처리 완료). filePath={}", filePath);
+  }
+
+  /**
+   * 파일 헤더에서 레코드 키 컬럼 위치를 찾고 JSON 변환 스키마를 등록합니다.
+   */
+  @Override
+  public void onHeader(Path filePath, byte[] buffer, int offset, int length) {
+    if (keyExtractor != null) {
+      keyExtractor.registerHeader(filePath, buffer, offset, length);
+    }
+    publishStrategy.registerHeader(filePath, buffer, offset, length);
+  }
+
+  /**
+   * 바이트 구간 읽기 시작을 체크포인트 추적기와 매니페스트 추적기(읽기 끝 위치)에 기록합니다.
+   */
+  @Override
+  public void onRangeStart(Path filePath, long startOffset, long endOffset, int firstLineNumber) {
+    if (checkpointTracker != null) {
+      checkpointTracker.startRange(filePath, startOffset, endOffset, firstLineNumber);
+    }
+    if (manifestTracker != null) {
+      manifestTracker.rangeStarted(filePath, endOffset);
+    }
+  }
+
+  /**
+   * 바이트 구간 읽기 완료를 체크포인트 추적기에 기록합니다.
+   */
+  @Override
+  public void onRangeEnd(Path filePath, long startOffset) {
+    if (checkpointTracker != null) {
+      checkpointTracker.finishRange(filePath, startOffset);
+    }
   }
 
   /**
@@ -57,6 +187,9 @@ final class CsvTransferListener extends CsvFileReadListenerAdapter {
    */
   @Override
   public void onFileStart(Path filePath) {
+    job.throwIfCancelled();
+    jobUnits.put(filePath, job.startUnit(filePath.getFileName().toString()));
+
     // 빈 파일(0라인)도 fileCount/요약에 포함되도록 등록합니다.
     stats.ensureFile(filePath);
 
@@ -73,46 +206,220 @@ final class CsvTransferListener extends CsvFileReadListenerAdapter {
    * <ol>
    *   <li>파일별 totalLines 갱신(최대 lineNumber)</li>
    *   <li>헤더/공백 라인 스킵 → skippedLines 증가</li>
-   *   <li>정상 라인 발행 → 성공 시 publishedLines, 실패 시 failedLines 증가</li>
+   *   <li>정상 라인 발행 → ack 시 ackedLines, 실패 시 failedLines 증가(비동기)</li>
    * </ol>
    *
+   * <p>문자열 이벤트에는 바이트 크기 정보가 없으므로, 배압 계산에는 문자 수를 근사값으로 사용합니다.</p>
+   *
    * @param filePath   현재 파일 경로
    * @param lineNumber 파일 내 라인 번호(1부터 시작)
    * @param line       CSV 원본 라인(개행 제외)
    */
   @Override
   public void onLine(Path filePath, int lineNumber, String line) {
-    // "최대 lineNumber"를 totalLines로 사용합니다.
+    checkCancelled(filePath);
+    onDecodedLine(filePath, lineNumber, line, line == null ? 0 : line.length(), null, 0);
+  }
+
+  /**
+   * 파일에서 한 라인을 바이트 구간으로 읽을 때마다 호출되는 이벤트입니다.
+   *
+   * <p>문자열 발행 방식이면 문자열로 디코딩하여 {@link #onLine(Path, int, String)}과
+   * 동일하게 처리하고, 그 밖의 방식은 버퍼에서 바로 스킵 판단/키 추출을 한 뒤 발행 방식에 버퍼를 넘깁니다
+   * (발행 방식이 반환 전에 복사 또는 변환을 마침).</p>
+   *
+   * @param filePath   현재 파일 경로
+   * @param lineNumber 파일 내 라인 번호(1부터 시작)
+   * @param buffer     라인이 들어 있는 버퍼(호출 이후 재사용됨)
+   * @param offset     라인 시작 위치
+   * @param length     라인 길이(개행 제외)
+   * @param endOffset  레코드가 끝난 다음 파일 내 바이트 위치
+   */
+  @Override
+  public void onLine(Path filePath, int lineNumber, byte[] buffer, int offset, int length,
+      long endOffset) {
+    checkCancelled(filePath);
+    RangeProgress range =
+        checkpointTracker == null ? null : checkpointTracker.rangeOf(filePath, endOffset);
+
+    if (publishStrategy.decodesLines()) {
+      onDecodedLine(filePath, lineNumber, new String(buffer, offset, length, UTF_8), length,
+          range, endOffset);
+      return;
+    }
+
     stats.updateTotalLines(filePath, lineNumber);
 
-    // 헤더(1행) 또는 공백 라인은 발행하지 않습니다.
-    if (isHeaderOrBlank(lineNumber, line)) {
+    if (lineNumber == 1 || isBlank(buffer, offset, length)) {
       stats.incrementSkipped(filePath);
+      if (range != null) {
+        range.skip(endOffset, lineNumber);
+      }
       return;
     }
 
-    // 라인 발행 실패가 전체 실행을 중단시키지 않도록 예외를 흡수합니다.
-    if (publishSafely(filePath, lineNumber, line)) {
-      stats.incrementPublished(filePath);
-    } else {
-      stats.incrementFailed(filePath);
-    }
+    String key =
+        keyExtractor == null ? null : keyExtractor.keyOf(filePath, buffer, offset, length);
+    // 발행 함수는 onLine 안에서 동기로 호출되므로(버퍼 재사용 전), 복사/변환 실패도 발행 실패로 집계됩니다.
+    publishTracked(filePath, lineNumber, length, range, endOffset,
+        () -> publishStrategy.publish(filePath, lineNumber, key, buffer, offset, length));
   }
 
   /**
    * 파일 읽기 종료 이벤트입니다.
    *
-   * <p>파일 단위 요약 로그를 1줄로 출력합니다.</p>
+   * <p>읽기 종료를 기록하고, ack 대기 라인이 남아 있지 않으면 바로 파일 요약 로그를 출력합니다.
+   * 남아 있으면 마지막 완료 콜백에서 출력합니다.</p>
    *
    * @param filePath 읽기 종료한 파일 경로
    */
   @Override
   public void onFileEnd(Path filePath) {
+    if (stats.markReadFinished(filePath)) {
+      finishFile(filePath);
+    }
+  }
+
+  /**
+   * 문자열로 디코딩된 라인에 스킵 정책을 적용하고 발행합니다.
+   *
+   * @param filePath   현재 파일 경로
+   * @param lineNumber 파일 내 라인 번호
+   * @param line       CSV 원본 라인
+   * @param size       배압 계산에 사용할 라인 크기
+   * @param range      레코드가 속한 체크포인트 구간(추적하지 않으면 null)
+   * @param endOffset  레코드가 끝난 다음 파일 내 바이트 위치
+   */
+  private void onDecodedLine(Path filePath, int lineNumber, String line, int size,
+      RangeProgress range, long endOffset) {
+    // "최대 lineNumber"를 totalLines로 사용합니다.
+    stats.updateTotalLines(filePath, lineNumber);
+
+    // 헤더(1행) 또는 공백 라인은 발행하지 않습니다.
+    if (isHeaderOrBlank(lineNumber, line)) {
+      stats.incrementSkipped(filePath);
+      if (range != null) {
+        range.skip(endOffset, lineNumber);
+      }
+      return;
+    }
+
+    String key = keyExtractor == null ? null : keyExtractor.keyOf(filePath, line);
+    publishTracked(filePath, lineNumber, size, range, endOffset,
+        () -> publishStrategy.publish(filePath, lineNumber, key, line));
+  }
+
+  /**
+   * 배압 허용량을 얻은 뒤 라인을 발행하고, 완료 콜백에서 ack/실패를 집계합니다.
+   *
+   * <p>라인 발행 실패가 전체 실행을 중단시키지 않도록 {@code publish()} 호출 예외도
+   * 실패한 Future로 바꿔 같은 경로로 집계합니다.</p>
+   *
+   * @param filePath   파일 경로
+   * @param lineNumber 라인 번호(로그용)
+   * @param size       배압 계산에 사용할 라인 크기
+   * @param range      레코드가 속한 체크포인트 구간(추적하지 않으면 null)
+   * @param endOffset  레코드가 끝난 다음 파일 내 바이트 위치
+   * @param send       실제 발행을 수행하는 함수
+   */
+  private void publishTracked(Path filePath, int lineNumber, int size, RangeProgress range,
+      long endOffset, Supplier<CompletableFuture<Void>> send) {
+    acquireInFlight(size);
+    stats.beginPublish(filePath);
+    long sequence = range == null ? RangeProgress.UNTRACKED : range.begin(endOffset, lineNumber);
+
+    CompletableFuture<Void> future;
+    try {
+      future = send.get();
+    } catch (Exception e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+
+    CollectJob.Unit unit = jobUnits.get(filePath);
+    future.whenComplete((ignored, ex) -> {
+      try {
+        if (range != null) {
+          range.complete(sequence, ex == null);
+        }
+        if (ex != null) {
+          log.warn("CSV 라인 발행 실패. filePath={}, lineNumber={}", filePath, lineNumber, ex);
+        }
+        if (unit != null) {
+          if (ex == null) {
+            unit.addItems(1);
+          } else {
+            unit.recordError(ex);
+          }
+        }
+        if (stats.completePublish(filePath, ex == null)) {
+          finishFile(filePath);
+        }
+      } finally {
+        // 집계/워터마크 반영 후에 허용량을 반환해야, 드레인 대기 이후 읽는 통계가 완전합니다.
+        inFlightLimiter.release(size);
+      }
+    });
+  }
+
+  /**
+   * 배압 허용량을 얻을 때까지 대기합니다.
+   *
+   * <p>병렬 읽기 중 다른 작업의 실패로 읽기 스레드가 인터럽트되면
+   * 대기를 중단하고 예외로 읽기를 끝냅니다.</p>
+   */
+  private void acquireInFlight(int size) {
+    try {
+      inFlightLimiter.acquire(size);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CsvTransferException("CSV 발행 대기 중 인터럽트되었습니다.", e);
+    }
+  }
+
+  /**
+   * 작업에 취소가 요청되었으면 파일의 작업 진행 상황을 끝내지 않은 것으로 정리하고 예외로 읽기를 멈춥니다.
+   *
+   * <p>라인마다 호출되므로 취소 요청이 없으면 volatile 읽기 한 번으로 끝납니다.</p>
+   */
+  private void checkCancelled(Path filePath) {
+    if (!job.isCancelRequested()) {
+      return;
+    }
+    CollectJob.Unit unit = jobUnits.remove(filePath);
+    if (unit != null) {
+      unit.abandon();
+    }
+    job.throwIfCancelled();
+  }
+
+  private ResumePoint manifestResumePoint(Path filePath) {
+    return manifestTracker == null ? ResumePoint.START : manifestTracker.resumePoint(filePath);
+  }
+
+  /**
+   * 파일 읽기와 ack 대기가 모두 끝난 시점의 처리입니다.
+   *
+   * <p>파일 요약 로그를 출력하고, 실패 라인이 없으면 매니페스트에 전송 완료를 기록합니다.</p>
+   *
+   * @param filePath 처리를 마친 파일 경로
+   */
+  private void finishFile(Path filePath) {
     FileStats s = stats.get(filePath);
     log.info(
-        "CSV 파일 요약. filePath={}, totalLines={}, skippedLines={}, publishedLines={}, failedLines={}",
-        filePath, s.totalLines, s.skippedLines, s.publishedLines, s.failedLines
+        "CSV 파일 요약. filePath={}, totalLines={}, skippedLines={}, ackedLines={}, failedLines={}",
+        filePath, s.totalLines.get(), s.skippedLines.get(), s.ackedLines.get(),
+        s.failedLines.get()
     );
+
+    if (manifestTracker != null && s.failedLines.get() == 0) {
+      manifestTracker.fileCompleted(filePath, s.totalLines.get());
+    }
+
+    // 취소로 읽기를 멈춘 파일은 이미 정리했으므로 끝까지 읽은 파일만 완료로 기록합니다.
+    CollectJob.Unit unit = jobUnits.remove(filePath);
+    if (unit != null) {
+      unit.complete();
+    }
   }
 
   /**
@@ -127,20 +434,17 @@ final class CsvTransferListener extends CsvFileReadListenerAdapter {
   }
 
   /**
-   * 라인을 발행하되, 예외는 잡아서 경고 로그만 남기고 실패로 처리합니다.
+   * 바이트 구간이 ASCII 공백 문자로만 이루어졌는지 판단합니다.
    *
-   * @param filePath   파일 경로(로그용)
-   * @param lineNumber 라인 번호(로그용)
-   * @param line       발행할 CSV 원본 라인
-   * @return 성공이면 true, 예외 발생이면 false
+   * <p>{@link Character#isWhitespace(int)} 기준의 ASCII 공백(0x09~0x0D, 0x1C~0x20)만 검사합니다.</p>
    */
-  private boolean publishSafely(Path filePath, int lineNumber, String line) {
-    try {
-      publishPort.publish(line);
-      return true;
-    } catch (Exception e) {
-      log.warn("CSV 라인 발행 실패. filePath={}, lineNumber={}", filePath, lineNumber, e);
-      return false;
+  private static boolean isBlank(byte[] buffer, int offset, int length) {
+    for (int i = offset, end = offset + length; i < end; i++) {
+      int b = buffer[i];
+      if (b != ' ' && (b < 0x09 || b > 0x0D) && (b < 0x1C || b > 0x1F)) {
+        return false;
+      }
     }
+    return true;
   }
 }
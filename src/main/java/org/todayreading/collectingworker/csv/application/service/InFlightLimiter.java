@@ -0,0 +1,87 @@
+package org.todayreading.collectingworker.csv.application.service;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * ack를 기다리는(in-flight) 발행 레코드 수와 바이트 수를 제한하는 배압(backpressure) 장치입니다.
+ *
+ * <p>읽기 스레드는 발행 전에 {@link #acquire(int)}로 허용량을 얻고,
+ * 전송이 ack 또는 실패로 완료되면 콜백에서 {@link #release(int)}로 반환합니다.
+ * 허용량이 바닥나면 읽기 스레드가 대기하므로, 리더가 프로듀서 버퍼를 가득 채우는 대신
+ * 브로커 처리 속도에 맞춰 느려집니다.</p>
+ *
+ * <p>바이트 허용량보다 큰 레코드는 허용량 전체만큼만 차지하도록 잘라서 계산하므로,
+ * 단일 대형 레코드 때문에 영원히 대기하는 일은 없습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+final class InFlightLimiter {
+
+  private final int maxRecords;
+  private final int maxBytes;
+  private final Semaphore records;
+  private final Semaphore bytes;
+
+  /**
+   * 제한기를 생성합니다.
+   *
+   * @param maxRecords 최대 in-flight 레코드 수(1 이상)
+   * @param maxBytes   최대 in-flight 바이트 수(1 이상, int 범위로 제한)
+   */
+  InFlightLimiter(int maxRecords, long maxBytes) {
+    this.maxRecords = Math.max(1, maxRecords);
+    this.maxBytes = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxBytes));
+    this.records = new Semaphore(this.maxRecords);
+    this.bytes = new Semaphore(this.maxBytes);
+  }
+
+  /**
+   * 레코드 1건과 {@code size} 바이트만큼의 허용량을 얻을 때까지 대기합니다.
+   *
+   * @param size 레코드 크기(바이트)
+   * @throws InterruptedException 대기 중 인터럽트된 경우
+   */
+  void acquire(int size) throws InterruptedException {
+    records.acquire();
+    try {
+      bytes.acquire(permitsOf(size));
+    } catch (InterruptedException e) {
+      records.release();
+      throw e;
+    }
+  }
+
+  /**
+   * {@link #acquire(int)}로 얻은 허용량을 반환합니다.
+   *
+   * @param size acquire 때 사용한 레코드 크기(바이트)
+   */
+  void release(int size) {
+    bytes.release(permitsOf(size));
+    records.release();
+  }
+
+  /**
+   * in-flight 레코드가 모두 완료(ack/실패)될 때까지 대기합니다.
+   *
+   * @throws InterruptedException 대기 중 인터럽트된 경우
+   */
+  void awaitDrained() throws InterruptedException {
+    records.acquire(maxRecords);
+    records.release(maxRecords);
+  }
+
+  /**
+   * 현재 in-flight 레코드 수를 반환합니다(로그용 근사값).
+   *
+   * @return in-flight 레코드 수
+   */
+  int inFlightRecords() {
+    return maxRecords - records.availablePermits();
+  }
+
+  private int permitsOf(int size) {
+    return Math.max(0, Math.min(size, maxBytes));
+  }
+}
@@ -1,8 +1,10 @@
 package org.todayreading.collectingworker.csv.application.service;
 
 import java.nio.file.Path;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * CSV 전송 실행 중 파일별 통계를 누적하는 상태 객체입니다.
@@ -11,8 +13,9 @@ import java.util.Map;
  *
  * <p>설계 포인트:</p>
  * <ul>
- *   <li>{@link LinkedHashMap}을 사용하여 파일이 등록된 순서를 유지합니다.
- *       (파일별 요약 로그 출력 시 일관된 순서를 확보)</li>
+ *   <li>여러 파일을 병렬로 읽는 경우에도 안전하도록 {@link ConcurrentHashMap}과
+ *       원자적 카운터({@link AtomicInteger})로 집계합니다.
+ *       (파일별 요약 로그는 각 파일의 onFileEnd 시점에 출력되므로 맵의 순서는 사용하지 않습니다.)</li>
  *   <li>빈 파일(0라인)도 집계에 포함시키기 위해 {@link #ensureFile(Path)}를 제공합니다.</li>
  * </ul>
  *
@@ -27,7 +30,13 @@ final class TransferStats {
    * <p>키: 처리 중인 CSV 파일 경로</p>
    * <p>값: 해당 파일의 집계 정보</p>
    */
-  private final Map<Path, FileStats> statsByFile = new LinkedHashMap<>();
+  private final Map<Path, FileStats> statsByFile = new ConcurrentHashMap<>();
+
+  /** 이전 실행에서 처리가 끝나 이번 실행에서 건너뛴 파일 수입니다. */
+  private final AtomicInteger skippedFiles = new AtomicInteger();
+
+  /** 이전 실행에서 처리되어 이번 실행에서 읽지 않은 바이트 수입니다(건너뛴 파일/이어 읽은 앞부분). */
+  private final AtomicLong skippedBytes = new AtomicLong();
 
   /**
    * 파일 통계가 없으면 생성하여 등록합니다.
@@ -64,8 +73,7 @@ final class TransferStats {
    * @param lineNumber 현재 라인 번호(1부터 시작)
    */
   void updateTotalLines(Path filePath, int lineNumber) {
-    FileStats s = get(filePath);
-    s.totalLines = Math.max(s.totalLines, lineNumber);
+    get(filePath).totalLines.accumulateAndGet(lineNumber, Math::max);
   }
 
   /**
@@ -76,30 +84,81 @@ final class TransferStats {
    * @param filePath 처리 중인 파일 경로
    */
   void incrementSkipped(Path filePath) {
-    get(filePath).skippedLines++;
+    get(filePath).skippedLines.incrementAndGet();
   }
 
   /**
-   * 파일별 발행 성공 라인 수를 1 증가시킵니다.
+   * 파일의 발행 1건이 시작되었음을 기록합니다(ack 대기 라인 수 증가).
    *
-   * <p>주의: publish() 호출이 예외 없이 끝난 기준이며,
-   * Kafka 비동기 전송 실패는 별도 콜백 로그에서 확인해야 합니다.</p>
+   * @param filePath 처리 중인 파일 경로
+   */
+  void beginPublish(Path filePath) {
+    get(filePath).pendingLines.incrementAndGet();
+  }
+
+  /**
+   * 파일의 발행 1건이 ack 또는 실패로 완료되었음을 기록합니다.
    *
    * @param filePath 처리 중인 파일 경로
+   * @param acked    ack를 받았으면 true, 전송 실패면 false
+   * @return 파일 읽기가 이미 끝났고 이 완료로 ack 대기 라인이 없어졌으면 true
    */
-  void incrementPublished(Path filePath) {
-    get(filePath).publishedLines++;
+  boolean completePublish(Path filePath, boolean acked) {
+    FileStats s = get(filePath);
+    if (acked) {
+      s.ackedLines.incrementAndGet();
+    } else {
+      s.failedLines.incrementAndGet();
+    }
+    return s.pendingLines.decrementAndGet() == 0;
   }
 
   /**
-   * 파일별 발행 실패 라인 수를 1 증가시킵니다.
+   * 파일 읽기가 끝났음을 기록합니다.
    *
-   * <p>publish() 호출 중 예외가 발생한 경우에만 증가합니다.</p>
+   * <p>{@link FileStats#pendingLines}는 "읽기 진행 중" 몫 1로 시작하므로,
+   * 읽기 종료 시 이 몫을 반환합니다. 읽기 종료와 마지막 ack 중 늦게 일어난 쪽이
+   * 0을 만들게 되어, 별도 락 없이 파일 완료 시점을 정확히 한 번 판단할 수 있습니다.</p>
    *
-   * @param filePath 처리 중인 파일 경로
+   * @param filePath 읽기를 마친 파일 경로
+   * @return ack 대기 라인이 남아 있지 않으면 true
+   */
+  boolean markReadFinished(Path filePath) {
+    return get(filePath).pendingLines.decrementAndGet() == 0;
+  }
+
+  /**
+   * 이전 실행에서 처리가 끝나 건너뛴 파일 수를 1 증가시킵니다.
    */
-  void incrementFailed(Path filePath) {
-    get(filePath).failedLines++;
+  void incrementSkippedFiles() {
+    skippedFiles.incrementAndGet();
+  }
+
+  /**
+   * 건너뛴 파일 수를 반환합니다.
+   *
+   * @return 건너뛴 파일 수(fileCount에는 포함되지 않음)
+   */
+  int skippedFiles() {
+    return skippedFiles.get();
+  }
+
+  /**
+   * 이전 실행에서 처리되어 읽지 않은 바이트 수를 누적합니다.
+   *
+   * @param bytes 읽지 않은 바이트 수
+   */
+  void addSkippedBytes(long bytes) {
+    skippedBytes.addAndGet(bytes);
+  }
+
+  /**
+   * 읽지 않고 건너뛴 바이트 수를 반환합니다.
+   *
+   * @return 건너뛴 파일 전체와 이어 읽은 파일의 앞부분 바이트 수 합
+   */
+  long skippedBytes() {
+    return skippedBytes.get();
   }
 
   /**
@@ -117,7 +176,7 @@ final class TransferStats {
    * @return 총 라인 수
    */
   long totalLines() {
-    return statsByFile.values().stream().mapToLong(s -> s.totalLines).sum();
+    return statsByFile.values().stream().mapToLong(s -> s.totalLines.get()).sum();
   }
 
   /**
@@ -126,25 +185,25 @@ final class TransferStats {
    * @return 스킵된 라인 수 총합
    */
   long skippedLines() {
-    return statsByFile.values().stream().mapToLong(s -> s.skippedLines).sum();
+    return statsByFile.values().stream().mapToLong(s -> s.skippedLines.get()).sum();
   }
 
   /**
-   * 발행 성공 라인 수 총합을 반환합니다.
+   * 브로커 ack를 받은 라인 수 총합을 반환합니다.
    *
-   * @return 발행 성공 라인 수 총합
+   * @return ack 라인 수 총합
    */
-  long publishedLines() {
-    return statsByFile.values().stream().mapToLong(s -> s.publishedLines).sum();
+  long ackedLines() {
+    return statsByFile.values().stream().mapToLong(s -> s.ackedLines.get()).sum();
   }
 
   /**
-   * 발행 실패 라인 수 총합을 반환합니다.
+   * 발행(전송) 실패 라인 수 총합을 반환합니다.
    *
    * @return 발행 실패 라인 수 총합
    */
   long failedLines() {
-    return statsByFile.values().stream().mapToLong(s -> s.failedLines).sum();
+    return statsByFile.values().stream().mapToLong(s -> s.failedLines.get()).sum();
   }
 }
 
@@ -155,24 +214,30 @@ final class TransferStats {
  * <ul>
  *   <li>{@link #totalLines}: 파일에서 관측된 최대 라인 번호(= 읽은 라인 수)</li>
  *   <li>{@link #skippedLines}: 스킵된 라인 수(헤더/공백 등)</li>
- *   <li>{@link #publishedLines}: publish() 호출이 성공(예외 없음)한 라인 수</li>
- *   <li>{@link #failedLines}: publish() 호출 중 예외가 발생한 라인 수</li>
+ *   <li>{@link #ackedLines}: 브로커 수신 확인(ack)을 받은 라인 수</li>
+ *   <li>{@link #failedLines}: publish() 호출 예외 또는 비동기 전송 실패로 끝난 라인 수</li>
+ *   <li>{@link #pendingLines}: ack 대기 라인 수 + 읽기 진행 중 몫(1)</li>
  * </ul>
  *
+ * <p>한 파일을 여러 스레드가 나눠 처리할 수 있으므로 모든 값은 원자적 카운터로 보관합니다.</p>
+ *
  * @author 박성준
  * @since 1.0.0
  */
 final class FileStats {
 
   /** 파일에서 관측된 총 라인 수(최대 라인 번호). */
-  int totalLines;
+  final AtomicInteger totalLines = new AtomicInteger();
 
   /** 헤더/공백 등 스킵된 라인 수. */
-  int skippedLines;
+  final AtomicInteger skippedLines = new AtomicInteger();
+
+  /** 브로커 ack를 받은 라인 수. */
+  final AtomicInteger ackedLines = new AtomicInteger();
 
-  /** publish() 호출이 예외 없이 완료된 라인 수. */
-  int publishedLines;
+  /** 전송이 실패로 끝난 라인 수. */
+  final AtomicInteger failedLines = new AtomicInteger();
 
-  /** publish() 호출 중 예외가 발생한 라인 수. */
-  int failedLines;
+  /** ack 대기 라인 수에 읽기 진행 중 몫 1을 더한 값(0이 되면 파일 처리 완료). */
+  final AtomicInteger pendingLines = new AtomicInteger(1);
 }
@@ -1,7 +1,12 @@
 package org.todayreading.collectingworker.csv.infrastructure.config;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -14,15 +19,54 @@ import org.springframework.validation.annotation.Validated;
  * csv:
  *   book:
  *     file-path: ${CSV_BOOK_FILE_PATH}
+ *     reader:
+ *       parallelism: 1
+ *       chunk-size: 256MB
  *     kafka:
  *       topic: csv-book.raw
+ *       key-column: ${CSV_BOOK_KEY_COLUMN:}
+ *       raw-bytes: false
+ *       max-in-flight-records: 10000
+ *       max-in-flight-bytes: 16MB
+ *       envelope:
+ *         enabled: false
+ *         format: length-prefixed
+ *         max-lines: 500
+ *         max-bytes: 512KB
+ *         linger: 50ms
+ *         compression-type: lz4
+ *     checkpoint:
+ *       enabled: false
+ *       path: ./data/csv-checkpoint.json
+ *       flush-interval: 5s
+ *     manifest:
+ *       enabled: false
+ *       path: ./data/csv-manifest.json
+ *     json:
+ *       enabled: false
+ *       topic: csv-book.json
+ *       columns: ${CSV_BOOK_JSON_COLUMNS:}
  * </pre>
  *
  * 위와 같은 설정을 기준으로 다음 컴포넌트에 매핑됩니다.
  * <ul>
  *   <li>{@link #filePath()} 는 {@code csv.book.file-path} 설정을 매핑합니다.</li>
+ *   <li>{@link #reader()}의 {@link ReaderProperties#parallelism() parallelism()} 는
+ *       {@code csv.book.reader.parallelism} 설정을 매핑합니다.</li>
  *   <li>{@link #kafka()}의 {@link KafkaProperties#topic() topic()} 는
  *       {@code csv.book.kafka.topic} 설정을 매핑합니다.</li>
+ *   <li>{@link #kafka()}의 {@link KafkaProperties#keyColumn() keyColumn()} 는
+ *       {@code csv.book.kafka.key-column} 설정을 매핑합니다.</li>
+ *   <li>{@link #kafka()}의 {@link KafkaProperties#rawBytes() rawBytes()} 는
+ *       {@code csv.book.kafka.raw-bytes} 설정을 매핑합니다.</li>
+ *   <li>{@link #kafka()}의 {@link KafkaProperties#maxInFlightRecords() maxInFlightRecords()},
+ *       {@link KafkaProperties#maxInFlightBytes() maxInFlightBytes()} 는
+ *       {@code csv.book.kafka.max-in-flight-*} 설정을 매핑합니다.</li>
+ *   <li>{@link #kafka()}의 {@link KafkaProperties#envelope() envelope()} 는
+ *       {@code csv.book.kafka.envelope.*} 설정을 매핑합니다.</li>
+ *   <li>{@link #checkpoint()} 는 {@code csv.book.checkpoint.*} 설정을 매핑합니다.</li>
+ *   <li>{@link #manifest()} 는 {@code csv.book.manifest.*} 설정을 매핑합니다.</li>
+ *   <li>{@link #json()} 는 {@code csv.book.json.*} 설정을 매핑합니다.</li>
  * </ul>
  *
  * <p>이 레코드는 불변(immutable) 설정 객체로 사용되며,
@@ -47,14 +91,78 @@ public record CsvBookProperties(
     @NotBlank
     String filePath,
 
+    /*
+     * CSV 파일 읽기 방식 설정입니다.
+     *
+     * <p>{@code csv.book.reader.*} 하위 설정을 매핑하며,
+     * 생략하면 기본값(순차 읽기)으로 동작합니다.</p>
+     */
+    @DefaultValue
+    ReaderProperties reader,
+
     /*
      * CSV Book 전용 Kafka 설정입니다.
      *
      * <p>{@code csv.book.kafka.*} 하위 설정을 매핑합니다.</p>
      */
-    KafkaProperties kafka
+    KafkaProperties kafka,
+
+    /*
+     * 재시작 시 이어서 읽기 위한 체크포인트 설정입니다.
+     *
+     * <p>{@code csv.book.checkpoint.*} 하위 설정을 매핑하며,
+     * 생략하면 체크포인트를 사용하지 않습니다.</p>
+     */
+    @DefaultValue
+    CheckpointProperties checkpoint,
+
+    /*
+     * 변경된 파일/추가된 부분만 전송하기 위한 매니페스트 설정입니다.
+     *
+     * <p>{@code csv.book.manifest.*} 하위 설정을 매핑하며,
+     * 생략하면 매니페스트를 사용하지 않고 매번 모든 파일을 전송합니다.</p>
+     */
+    @DefaultValue
+    ManifestProperties manifest,
+
+    /*
+     * CSV 라인을 헤더 기준 JSON 객체로 변환해 발행하는 변환 단계 설정입니다.
+     *
+     * <p>{@code csv.book.json.*} 하위 설정을 매핑하며,
+     * 생략하면 변환 없이 원본 라인을 발행합니다.</p>
+     */
+    @DefaultValue
+    JsonProperties json
 ) {
 
+  /**
+   * CSV 파일 읽기 방식 설정을 담는 중첩 프로퍼티 레코드입니다.
+   *
+   * <p>application.yml의 {@code csv.book.reader.*}에 매핑됩니다.</p>
+   */
+  public record ReaderProperties(
+
+      /*
+       * 디렉터리 모드에서 동시에 읽을 파일 수(워커 수)입니다.
+       *
+       * <p>1 이하이면 기존처럼 파일명 순서대로 한 파일씩 순차 처리합니다.</p>
+       */
+      @DefaultValue("1")
+      int parallelism,
+
+      /*
+       * 청크 모드의 목표 청크 크기입니다.
+       *
+       * <p>병렬도가 2 이상일 때 이 크기보다 큰 파일은 레코드 경계에 맞춘
+       * 바이트 구간으로 나누어 여러 워커가 나눠 읽습니다. 예: {@code 256MB}</p>
+       *
+       * <p>청크 경계를 정하려고 파일 전체를 한 번 순차 스캔하므로, 나뉜 파일은 두 번 읽힙니다.</p>
+       */
+      @DefaultValue("256MB")
+      DataSize chunkSize
+  ) {
+  }
+
   /**
    * CSV Book 전용 Kafka 설정을 담는 중첩 프로퍼티 레코드입니다.
    *
@@ -68,7 +176,224 @@ public record CsvBookProperties(
        * <p>예: {@code csv-book.raw}</p>
        */
       @NotBlank
-      String topic
+      String topic,
+
+      /*
+       * Kafka 레코드 키로 사용할 CSV 헤더 컬럼명입니다.
+       *
+       * <p>설정하면 파일마다 헤더에서 이 컬럼의 위치를 찾아, 라인의 해당 컬럼 값(예: ISBN)을
+       * 키로 전송합니다. 같은 도서의 라인이 같은 파티션으로 모입니다.
+       * 비워 두면 기존처럼 키 없이 전송합니다. 예: {@code ISBN}</p>
+       *
+       * <p>envelope 모드에서는 라인을 키의 파티션별로 묶어 그 파티션으로 보내지만,
+       * envelope 레코드 자체에는 키가 없습니다(파티션 배치만 유지).</p>
+       */
+      String keyColumn,
+
+      /*
+       * raw-bytes 모드 사용 여부입니다.
+       *
+       * <p>true이면 CSV 라인을 문자열로 디코딩하지 않고 UTF-8 원본 바이트 그대로
+       * {@code ByteArraySerializer}로 전송합니다(문자셋 왕복 변환 없음).
+       * 입력이 유효한 UTF-8이라면 토픽에 기록되는 바이트는 문자열 모드와 동일합니다.</p>
+       */
+      @DefaultValue("false")
+      boolean rawBytes,
+
+      /*
+       * ack를 기다리는(in-flight) 최대 레코드 수입니다.
+       *
+       * <p>이 수에 도달하면 읽기 스레드는 앞선 전송이 ack/실패로 완료될 때까지 대기합니다.</p>
+       */
+      @DefaultValue("10000")
+      @Positive
+      int maxInFlightRecords,
+
+      /*
+       * ack를 기다리는(in-flight) 레코드 값의 최대 누적 크기입니다.
+       *
+       * <p>프로듀서 {@code buffer.memory}(기본 32MB)보다 작게 두어, 버퍼가 가득 차
+       * {@code send()}가 {@code max.block.ms}까지 막히기 전에 리더 쪽에서 먼저 속도를 늦춥니다.</p>
+       */
+      @DefaultValue("16MB")
+      DataSize maxInFlightBytes,
+
+      /*
+       * 여러 라인을 하나의 Kafka 메시지로 묶어 전송하는 envelope 모드 설정입니다.
+       *
+       * <p>{@code csv.book.kafka.envelope.*} 하위 설정을 매핑하며,
+       * 생략하면 기존처럼 라인마다 레코드 하나를 전송합니다.</p>
+       */
+      @DefaultValue
+      EnvelopeProperties envelope
+  ) {
+  }
+
+  /**
+   * envelope 모드 설정을 담는 중첩 프로퍼티 레코드입니다.
+   *
+   * <p>application.yml의 {@code csv.book.kafka.envelope.*}에 매핑됩니다.</p>
+   */
+  public record EnvelopeProperties(
+
+      /*
+       * envelope 모드 사용 여부입니다.
+       *
+       * <p>true이면 같은 파일(키 컬럼을 쓰면 같은 파티션)의 라인을 모아 하나의 메시지로 전송하고,
+       * 파일명과 라인 범위를 헤더에 담습니다.</p>
+       */
+      @DefaultValue("false")
+      boolean enabled,
+
+      /*
+       * envelope 메시지 본문 형식입니다.
+       *
+       * <p>{@code length-prefixed}: 라인마다 4바이트 길이(big-endian) + UTF-8 바이트,
+       * {@code ndjson}: 라인마다 JSON 문자열 한 줄</p>
+       */
+      @DefaultValue("length-prefixed")
+      EnvelopeFormat format,
+
+      /*
+       * 메시지 하나에 담을 최대 라인 수입니다.
+       */
+      @DefaultValue("500")
+      @Positive
+      int maxLines,
+
+      /*
+       * 메시지 하나에 담을 라인 바이트 합의 상한(압축 전)입니다.
+       *
+       * <p>프로듀서 {@code max.request.size}(기본 1MB)보다 작게 둡니다. 예: {@code 512KB}</p>
+       */
+      @DefaultValue("512KB")
+      DataSize maxBytes,
+
+      /*
+       * 라인이 더 모이지 않을 때 미완성 envelope를 보내기까지 기다리는 시간입니다.
+       */
+      @DefaultValue("50ms")
+      Duration linger,
+
+      /*
+       * envelope 전송 프로듀서의 {@code compression.type}입니다. 예: {@code lz4}, {@code zstd}
+       */
+      @DefaultValue("lz4")
+      @NotBlank
+      String compressionType
+  ) {
+  }
+
+  /**
+   * envelope 메시지 본문 형식입니다.
+   */
+  public enum EnvelopeFormat {
+
+    /** 라인마다 4바이트 길이(big-endian)를 앞에 붙인 UTF-8 바이트를 이어 붙입니다. */
+    LENGTH_PREFIXED,
+
+    /** 라인마다 JSON 문자열로 이스케이프하여 개행으로 구분합니다. */
+    NDJSON
+  }
+
+  /**
+   * 체크포인트 설정을 담는 중첩 프로퍼티 레코드입니다.
+   *
+   * <p>application.yml의 {@code csv.book.checkpoint.*}에 매핑됩니다.</p>
+   */
+  public record CheckpointProperties(
+
+      /*
+       * 체크포인트 사용 여부입니다.
+       *
+       * <p>true이면 파일별 마지막 ack 위치를 로컬 디스크에 저장하고,
+       * 재시작 시 그 위치부터 이어서 읽으며 완료된 파일은 건너뜁니다.</p>
+       */
+      @DefaultValue("false")
+      boolean enabled,
+
+      /*
+       * 체크포인트 파일 경로입니다.
+       *
+       * <p>상대 경로는 작업 디렉터리 기준이며, 상위 디렉터리가 없으면 저장할 때 만듭니다.
+       * 예: {@code /data/csv/csv-checkpoint.json}</p>
+       */
+      @DefaultValue("./data/csv-checkpoint.json")
+      @NotBlank
+      String path,
+
+      /*
+       * 체크포인트 저장 주기입니다.
+       *
+       * <p>재시작 시 최대 이 시간 동안 ack된 라인이 다시 발행될 수 있습니다. 예: {@code 5s}</p>
+       */
+      @DefaultValue("5s")
+      Duration flushInterval
+  ) {
+  }
+
+  /**
+   * 증분 전송용 매니페스트 설정을 담는 중첩 프로퍼티 레코드입니다.
+   *
+   * <p>application.yml의 {@code csv.book.manifest.*}에 매핑됩니다.</p>
+   */
+  public record ManifestProperties(
+
+      /*
+       * 매니페스트 사용 여부입니다.
+       *
+       * <p>true이면 전송을 마친 파일의 크기/수정 시각/내용 지문을 저장해 두고,
+       * 다음 실행에서 변경되지 않은 파일은 건너뛰며 뒤에 행이 추가된 파일은 추가된 부분만 전송합니다.</p>
+       */
+      @DefaultValue("false")
+      boolean enabled,
+
+      /*
+       * 매니페스트 파일 경로입니다.
+       *
+       * <p>예: {@code /data/csv/csv-manifest.json}</p>
+       */
+      @DefaultValue("./data/csv-manifest.json")
+      @NotBlank
+      String path
+  ) {
+  }
+
+  /**
+   * CSV → JSON 변환 단계 설정을 담는 중첩 프로퍼티 레코드입니다.
+   *
+   * <p>application.yml의 {@code csv.book.json.*}에 매핑됩니다.</p>
+   */
+  public record JsonProperties(
+
+      /*
+       * JSON 변환 단계 사용 여부입니다.
+       *
+       * <p>true이면 파일마다 헤더로 CSV 스키마를 만들고, 라인을 컬럼명/값 JSON 객체로 변환해
+       * {@link #topic()}으로 발행합니다. 이때 원본 라인 토픽과 envelope 모드는 사용하지 않습니다.</p>
+       */
+      @DefaultValue("false")
+      boolean enabled,
+
+      /*
+       * 변환한 JSON 객체를 전송할 Kafka 토픽명입니다.
+       *
+       * <p>예: {@code csv-book.json}</p>
+       */
+      @DefaultValue("csv-book.json")
+      @NotBlank
+      String topic,
+
+      /*
+       * JSON 객체에 담을 컬럼 목록(프로젝션)입니다.
+       *
+       * <p>항목은 {@code 컬럼명} 또는 {@code 컬럼명:타입} 형식이며, 타입은
+       * {@code string}(기본), {@code long}, {@code double}, {@code boolean} 중 하나입니다.
+       * 컬럼명은 헤더와 대소문자 구분 없이 비교하고, 비워 두면 모든 컬럼을 문자열로 담습니다.
+       * 예: {@code ISBN_THIRTEEN_NO, TITLE_NM, PRC_VALUE:long}</p>
+       */
+      @DefaultValue
+      List<String> columns
   ) {
   }
 }
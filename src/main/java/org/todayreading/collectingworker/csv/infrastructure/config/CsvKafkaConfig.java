@@ -4,7 +4,9 @@ import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,6 +25,13 @@ import org.springframework.kafka.core.ProducerFactory;
  * value 직렬화에 {@link StringSerializer}를 사용하며,
  * CSV 관련 어댑터에서 raw 문자열 전송용으로 사용됩니다.</p>
  *
+ * <p>{@code csvBookBytesKafkaTemplate} 빈은 value 직렬화에 {@link ByteArraySerializer}를 사용하며,
+ * raw-bytes 모드({@code csv.book.kafka.raw-bytes=true})에서 파일의 UTF-8 바이트를
+ * 문자열 디코딩/인코딩 없이 그대로 전송하는 용도로 사용됩니다.</p>
+ *
+ * <p>{@code csvBookEnvelopeKafkaTemplate} 빈은 envelope 모드에서 여러 라인을 묶은 메시지를 전송하며,
+ * {@code csv.book.kafka.envelope.compression-type}으로 프로듀서 압축을 켭니다.</p>
+ *
  * @author 박성준
  * @since 1.0.0
  */
@@ -33,6 +42,9 @@ public class CsvKafkaConfig {
   /** spring.kafka.* 설정을 캡슐화한 프로퍼티입니다. */
   private final KafkaProperties properties;
 
+  /** csv.book.* 설정(envelope 압축 방식 등)을 바인딩한 프로퍼티입니다. */
+  private final CsvBookProperties csvBookProperties;
+
   /**
    * CSV 라인 전송용 StringSerializer 기반 {@link ProducerFactory}입니다.
    *
@@ -64,4 +76,64 @@ public class CsvKafkaConfig {
       ProducerFactory<String, String> csvBookProducerFactory) {
     return new KafkaTemplate<>(csvBookProducerFactory);
   }
+
+  /**
+   * CSV 라인 바이트 전송용 ByteArraySerializer 기반 {@link ProducerFactory}입니다.
+   *
+   * <p>key는 {@link StringSerializer}, value는 {@link ByteArraySerializer}를 사용하여
+   * 전달받은 바이트 배열을 복사/변환 없이 그대로 레코드 값으로 사용합니다.</p>
+   *
+   * @return CSV raw 바이트 전송에 사용할 프로듀서 팩토리
+   */
+  @Bean
+  public ProducerFactory<String, byte[]> csvBookBytesProducerFactory() {
+    Map<String, Object> props = new HashMap<>(properties.buildProducerProperties());
+    props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+    return new DefaultKafkaProducerFactory<>(props);
+  }
+
+  /**
+   * CSV 원문 라인 바이트를 전송하기 위한 {@link KafkaTemplate}입니다.
+   *
+   * @param csvBookBytesProducerFactory CSV 전용 ByteArraySerializer 기반 ProducerFactory
+   * @return CSV raw 바이트 전송용 KafkaTemplate 빈 ({@code csvBookBytesKafkaTemplate})
+   */
+  @Bean
+  public KafkaTemplate<String, byte[]> csvBookBytesKafkaTemplate(
+      @Qualifier("csvBookBytesProducerFactory")
+      ProducerFactory<String, byte[]> csvBookBytesProducerFactory) {
+    return new KafkaTemplate<>(csvBookBytesProducerFactory);
+  }
+
+  /**
+   * CSV envelope 전송용 ByteArraySerializer 기반 {@link ProducerFactory}입니다.
+   *
+   * <p>라인 바이트 전송용 팩토리와 같은 직렬화 설정에 {@code compression.type}을 더해,
+   * 여러 라인을 묶은 큰 메시지를 압축하여 전송합니다.</p>
+   *
+   * @return CSV envelope 전송에 사용할 프로듀서 팩토리
+   */
+  @Bean
+  public ProducerFactory<String, byte[]> csvBookEnvelopeProducerFactory() {
+    Map<String, Object> props = new HashMap<>(properties.buildProducerProperties());
+    props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+    props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG,
+        csvBookProperties.kafka().envelope().compressionType());
+    return new DefaultKafkaProducerFactory<>(props);
+  }
+
+  /**
+   * CSV envelope 메시지를 전송하기 위한 {@link KafkaTemplate}입니다.
+   *
+   * @param csvBookEnvelopeProducerFactory CSV envelope 전용 ProducerFactory(압축 설정 포함)
+   * @return CSV envelope 전송용 KafkaTemplate 빈 ({@code csvBookEnvelopeKafkaTemplate})
+   */
+  @Bean
+  public KafkaTemplate<String, byte[]> csvBookEnvelopeKafkaTemplate(
+      @Qualifier("csvBookEnvelopeProducerFactory")
+      ProducerFactory<String, byte[]> csvBookEnvelopeProducerFactory) {
+    return new KafkaTemplate<>(csvBookEnvelopeProducerFactory);
+  }
 }
@@ -0,0 +1,105 @@
+package org.todayreading.collectingworker.csv.infrastructure.fs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.common.fs.AtomicFileWriter;
+import org.todayreading.collectingworker.csv.application.port.out.CsvCheckpointPort;
+import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProperties;
+
+/**
+ * CSV 전송 체크포인트를 로컬 디스크의 JSON 파일로 저장하는 어댑터입니다.
+ *
+ * <p>{@link CsvCheckpointPort}의 구현체로서 {@code csv.book.checkpoint.path}에
+ * 파일별 체크포인트 목록을 저장합니다.</p>
+ *
+ * <p>저장은 {@link AtomicFileWriter}로 임시 파일에 쓴 뒤 원자적으로 교체하므로,
+ * 저장 도중 프로세스가 종료되어도 체크포인트 파일은 이전 내용 또는 새 내용 중 하나로 온전히 남습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CsvCheckpointFileStore implements CsvCheckpointPort {
+
+  /** csv.book.* 설정 값(체크포인트 경로 등)을 바인딩한 프로퍼티입니다. */
+  private final CsvBookProperties properties;
+
+  /** 체크포인트 JSON 직렬화에 사용할 ObjectMapper입니다. */
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 체크포인트 파일을 읽습니다.
+   *
+   * @return 파일별 체크포인트 목록(파일이 없으면 빈 목록)
+   */
+  @Override
+  public List<CsvFileCheckpoint> load() {
+    Path path = checkpointPath();
+    if (Files.notExists(path)) {
+      return List.of();
+    }
+
+    try {
+      CheckpointDocument document = objectMapper.readValue(path.toFile(), CheckpointDocument.class);
+      return document.files() == null ? List.of() : document.files();
+    } catch (IOException e) {
+      throw new UncheckedIOException("CSV 체크포인트 읽기 실패: " + path, e);
+    }
+  }
+
+  /**
+   * 체크포인트 목록을 임시 파일에 쓴 뒤 원자적으로 교체합니다.
+   *
+   * @param checkpoints 파일별 체크포인트 목록
+   */
+  @Override
+  public void save(List<CsvFileCheckpoint> checkpoints) {
+    Path path = checkpointPath();
+    try {
+      AtomicFileWriter.write(path,
+          objectMapper.writeValueAsBytes(new CheckpointDocument(checkpoints)));
+    } catch (IOException e) {
+      throw new UncheckedIOException("CSV 체크포인트 저장 실패: " + path, e);
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("CSV 체크포인트 저장. path={}, fileCount={}", path, checkpoints.size());
+    }
+  }
+
+  /**
+   * 체크포인트 파일을 삭제합니다.
+   */
+  @Override
+  public void clear() {
+    Path path = checkpointPath();
+    try {
+      if (Files.deleteIfExists(path)) {
+        log.info("CSV 체크포인트 삭제. path={}", path);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("CSV 체크포인트 삭제 실패: " + path, e);
+    }
+  }
+
+  private Path checkpointPath() {
+    return Path.of(properties.checkpoint().path());
+  }
+
+  /**
+   * 체크포인트 파일의 JSON 문서 구조입니다.
+   *
+   * @param files 파일별 체크포인트 목록
+   */
+  record CheckpointDocument(List<CsvFileCheckpoint> files) {
+  }
+}
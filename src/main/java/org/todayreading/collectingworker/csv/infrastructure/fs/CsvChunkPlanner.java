@@ -0,0 +1,163 @@
+package org.todayreading.collectingworker.csv.infrastructure.fs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 큰 CSV 파일 하나를 레코드 경계에 맞춘 바이트 구간(청크)들로 나누는 유틸리티입니다.
+ *
+ * <p>파일을 메모리 매핑(window 단위)으로 한 번 순차 스캔하면서 다음을 계산합니다.</p>
+ * <ul>
+ *   <li>레코드 경계: {@link CsvRecordScanner}로 RFC 4180 따옴표 규칙을 적용하여,
+ *       따옴표 필드 안의 개행은 레코드 경계로 보지 않습니다.</li>
+ *   <li>청크 경계: 이전 청크 시작으로부터 목표 크기({@code chunkSize})를 지난 뒤 처음 끝나는 레코드의 다음 위치</li>
+ *   <li>시작 라인 번호: 청크 시작 위치 이전까지의 레코드 수 + 1
+ *       ({@link CsvRecordReader}가 매기는 레코드 번호와 같은 기준)</li>
+ * </ul>
+ *
+ * <p>파일 시작 위치부터 나누는 경우 UTF-8 BOM은 {@link CsvRecordReader}와 같은 규칙({@link Utf8Bom})으로
+ * 건너뛰므로, BOM 바로 뒤의 따옴표 필드도 리더와 같은 상태로 해석됩니다.</p>
+ *
+ * <p>따옴표 상태와 라인 번호는 파일 앞부분을 모두 보지 않고는 알 수 없으므로,
+ * 스캔 자체는 순차로 수행하고 실제 디코딩/발행은 청크별로 병렬 처리하는 구조입니다.
+ * 임의 위치를 샘플링해 경계를 정하면 그 위치가 따옴표 안인지 판단할 수 없고 라인 번호도 셀 수 없어
+ * 이 방식을 유지합니다.</p>
+ *
+ * <p>비용: 계획 단계가 파일 전체를 한 번 읽으므로 청크 모드의 큰 파일은 디스크에서 두 번 읽힙니다
+ * (계획 스캔 + 청크 읽기). 스캔은 디코딩 없는 바이트 비교라 디코딩/발행보다 훨씬 빠르고,
+ * 파일이 페이지 캐시에 들어가는 크기라면 두 번째 읽기는 캐시에서 처리됩니다.
+ * 페이지 캐시보다 큰 파일을 느린 디스크에서 읽는 환경이라면 청크 모드를 끄는 편이 나을 수 있습니다
+ * ({@code csv.book.reader.parallelism=1}).</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+final class CsvChunkPlanner {
+
+  /** 한 번에 메모리 매핑할 구간 크기(바이트)입니다. */
+  private static final long MAP_WINDOW_BYTES = 64L * 1024 * 1024;
+
+  /** 매핑된 구간에서 바이트를 꺼내 올 때 사용할 복사 버퍼 크기입니다. */
+  private static final int SCAN_BUFFER_BYTES = 64 * 1024;
+
+  private CsvChunkPlanner() {
+    // 인스턴스화 방지
+  }
+
+  /**
+   * 파일을 레코드 경계에 맞춘 청크 목록으로 나눕니다.
+   *
+   * <p>청크들은 파일 전체를 빈틈없이 순서대로 덮으며, 각 청크는 레코드 시작 위치에서 시작합니다.
+   * 경계를 찾지 못하면(예: 마지막 구간 전체가 따옴표 안) 해당 청크가 파일 끝까지 확장됩니다.</p>
+   *
+   * @param file 나눌 CSV 파일
+   * @param chunkSize 목표 청크 크기(바이트, 1 이상)
+   * @return 청크 목록(빈 파일이면 빈 목록)
+   */
+  static List<CsvChunk> plan(Path file, long chunkSize) {
+    return plan(file, 0, 1, chunkSize);
+  }
+
+  /**
+   * 파일의 {@code startOffset} 이후 구간을 레코드 경계에 맞춘 청크 목록으로 나눕니다.
+   *
+   * <p>체크포인트에서 이어 읽을 때처럼 파일 중간(레코드 시작 위치)부터 나눌 때 사용합니다.
+   * 라인 번호는 {@code firstLineNumber}부터 이어서 매깁니다.</p>
+   *
+   * @param file 나눌 CSV 파일
+   * @param startOffset 나누기 시작할 위치(레코드 시작 위치)
+   * @param firstLineNumber {@code startOffset}에서 시작하는 레코드의 라인 번호
+   * @param chunkSize 목표 청크 크기(바이트, 1 이상)
+   * @return 청크 목록(남은 구간이 없으면 빈 목록)
+   */
+  static List<CsvChunk> plan(Path file, long startOffset, int firstLineNumber, long chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+    }
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return scan(channel, startOffset, firstLineNumber, channel.size(), chunkSize);
+    } catch (IOException e) {
+      throw new UncheckedIOException("CSV 청크 분할 실패: " + file, e);
+    }
+  }
+
+  private static List<CsvChunk> scan(FileChannel channel, long startOffset, int firstLineNumber,
+      long fileSize, long chunkSize) throws IOException {
+    List<CsvChunk> chunks = new ArrayList<>();
+    if (fileSize <= startOffset) {
+      return chunks;
+    }
+
+    byte[] scanBuffer = new byte[SCAN_BUFFER_BYTES];
+    CsvRecordScanner scanner = new CsvRecordScanner();
+    long recordCount = firstLineNumber - 1;
+
+    long chunkStart = startOffset;
+    long chunkFirstLine = firstLineNumber;
+    long nextTarget = startOffset + chunkSize;
+    boolean checkBom = startOffset == 0;
+
+    for (long windowStart = startOffset; windowStart < fileSize;
+        windowStart += MAP_WINDOW_BYTES) {
+      long windowSize = Math.min(MAP_WINDOW_BYTES, fileSize - windowStart);
+      MappedByteBuffer window = channel.map(MapMode.READ_ONLY, windowStart, windowSize);
+
+      long position = windowStart;
+      while (window.hasRemaining()) {
+        int n = Math.min(scanBuffer.length, window.remaining());
+        window.get(scanBuffer, 0, n);
+
+        int from = 0;
+        if (checkBom) {
+          // 리더와 같은 규칙으로 BOM을 건너뛰어야 첫 필드의 따옴표 상태가 어긋나지 않습니다.
+          checkBom = false;
+          from = Utf8Bom.skipLength(scanBuffer, 0, n);
+        }
+        int recordEnd;
+        while ((recordEnd = scanner.findRecordEnd(scanBuffer, from, n)) >= 0) {
+          recordCount++;
+          from = recordEnd + 1;
+
+          long recordStart = position + from;
+          if (recordStart >= nextTarget && recordStart < fileSize) {
+            chunks.add(new CsvChunk(chunkStart, recordStart, toLineNumber(chunkFirstLine)));
+            chunkStart = recordStart;
+            chunkFirstLine = recordCount + 1;
+            nextTarget = recordStart + chunkSize;
+          }
+        }
+        position += n;
+      }
+    }
+
+    chunks.add(new CsvChunk(chunkStart, fileSize, toLineNumber(chunkFirstLine)));
+    return chunks;
+  }
+
+  private static int toLineNumber(long lineNumber) {
+    return Math.toIntExact(lineNumber);
+  }
+
+  /**
+   * 파일 내 바이트 구간 [{@code startOffset}, {@code endOffset}) 과
+   * 그 구간의 첫 라인 번호를 표현하는 값 객체입니다.
+   *
+   * @param startOffset 청크 시작 위치(포함, 레코드 시작 위치)
+   * @param endOffset 청크 끝 위치(제외)
+   * @param firstLineNumber 청크 첫 레코드의 파일 내 라인(레코드) 번호(1부터 시작)
+   */
+  record CsvChunk(long startOffset, long endOffset, int firstLineNumber) {
+
+    long length() {
+      return endOffset - startOffset;
+    }
+  }
+}
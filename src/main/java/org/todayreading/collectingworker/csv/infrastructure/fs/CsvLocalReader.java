@@ -1,19 +1,33 @@
 package org.todayreading.collectingworker.csv.infrastructure.fs;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
-
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.todayreading.collectingworker.csv.application.port.out.CsvFileReadPort;
+import org.todayreading.collectingworker.csv.application.port.out.CsvFileReadPort.ResumePoint;
+import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProperties;
+import org.todayreading.collectingworker.csv.infrastructure.fs.CsvChunkPlanner.CsvChunk;
 
 /**
  * 로컬(파일시스템)에서 CSV 파일(또는 디렉터리)을 읽어 파일 단위 이벤트로 전달하는 어댑터입니다.
@@ -24,17 +38,41 @@ import org.todayreading.collectingworker.csv.application.port.out.CsvFileReadPor
  *   <li>디렉터리면: 디렉터리 내 {@code *.csv} 파일을 정렬 후 순회하며 위 이벤트 시퀀스를 반복</li>
  * </ul>
  *
+ * <p>읽기 작업은 호출자가 넘긴 Executor(작업의 실행 범위)의 가상 스레드에서 실행하므로,
+ * 동시에 읽는 작업 수는 그 범위의 허용량이 제한하고 작업이 취소되면 읽기 스레드도 함께 인터럽트됩니다.</p>
+ *
+ * <p>{@code csv.book.reader.parallelism}이 2 이상이면 디렉터리 모드에서 여러 파일을 동시에 읽습니다.
+ * 이때 파일은 크기가 큰 순서대로 워커에 배정되어(LPT 스케줄링) 워커들의 종료 시점이 비슷해지도록 합니다.
+ * 파일 하나의 이벤트 순서는 그대로 보장되지만, 서로 다른 파일의 이벤트는 여러 스레드에서 섞여 호출됩니다.</p>
+ *
+ * <p>같은 모드에서 {@code csv.book.reader.chunk-size}보다 큰 파일은 {@link CsvChunkPlanner}로
+ * 레코드 경계에 맞춘 바이트 구간(청크)으로 나누어 여러 워커가 나눠 읽습니다(청크 모드).
+ * 청크 모드 파일의 {@code onLine}은 여러 스레드에서 라인 번호 순서와 무관하게 호출되지만,
+ * 라인 번호 자체는 파일 전체 기준으로 정확하게 매겨집니다.</p>
+ *
+ * <p>레코드 경계는 {@link CsvRecordReader}가 RFC 4180 규칙(따옴표 필드 안의 개행 허용)으로
+ * 바이트 상태에서 찾으며, 전달하는 "라인"은 개행 단위가 아닌 CSV 레코드 단위입니다.</p>
+ *
  * <p>빈 파일(0라인)이라도 {@code onFileStart}와 {@code onFileEnd}는 반드시 호출합니다.</p>
  *
+ * <p>파일을 읽기 전에 리스너의 {@code resumePoint}를 조회하여, 완료된 파일은 {@code onFileSkipped}만
+ * 호출하고 건너뛰며, 진행 중이던 파일은 해당 바이트 위치로 바로 이동해(앞부분을 읽지 않고) 이어서 읽습니다.
+ * 파일(또는 청크) 구간마다 {@code onRangeStart}/{@code onRangeEnd}를 호출하고,
+ * 레코드마다 레코드가 끝난 다음 바이트 위치를 함께 전달합니다.</p>
+ *
  * @author 박성준
  * @since 1.0.0
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class CsvLocalReader implements CsvFileReadPort {
 
-  /** 파일을 라인 단위로 읽을 때 사용할 버퍼 크기(문자 단위)입니다. */
-  private static final int DEFAULT_BUFFER_SIZE = 16_000;
+  /** 헤더 읽기용 초기 버퍼 크기입니다(헤더가 더 길면 버퍼가 자동으로 커짐). */
+  private static final int HEADER_BUFFER_BYTES = 4 * 1024;
+
+  /** csv.book.* 설정 값(읽기 병렬도 등)을 바인딩한 프로퍼티입니다. */
+  private final CsvBookProperties properties;
 
   /**
    * 입력 경로(파일/디렉터리)를 읽어 파일 단위 이벤트로 전달합니다.
@@ -47,41 +85,284 @@ public class CsvLocalReader implements CsvFileReadPort {
    *
    * @param inputPath CSV 파일 또는 CSV 파일들이 있는 디렉터리 경로
    * @param listener 파일 단위 이벤트 리스너
+   * @param readExecutor 읽기 작업을 실행할 Executor(작업의 실행 범위)
    */
   @Override
-  public void read(Path inputPath, CsvFileReadListener listener) {
+  public void read(Path inputPath, CsvFileReadListener listener, Executor readExecutor) {
     Objects.requireNonNull(inputPath, "inputPath must not be null");
     Objects.requireNonNull(listener, "listener must not be null");
+    Objects.requireNonNull(readExecutor, "readExecutor must not be null");
 
     if (Files.notExists(inputPath)) {
       throw new IllegalStateException("CSV 입력 경로가 존재하지 않습니다. inputPath=" + inputPath);
     }
 
     if (Files.isDirectory(inputPath)) {
-      readDirectory(inputPath, listener);
+      readDirectory(inputPath, listener, readExecutor);
       return;
     }
 
-    readSingleFile(inputPath, listener);
+    validateRegularFile(inputPath);
+    readFiles(List.of(inputPath), listener, readExecutor);
   }
 
   /**
-   * 디렉터리 내 {@code *.csv} 파일을 정렬된 순서로 읽어 이벤트로 전달합니다.
+   * 디렉터리 내 {@code *.csv} 파일을 읽어 이벤트로 전달합니다.
    *
    * @param dir 디렉터리 경로
    * @param listener 파일 단위 이벤트 리스너
+   * @param readExecutor 읽기 작업을 실행할 Executor
    */
-  private void readDirectory(Path dir, CsvFileReadListener listener) {
+  private void readDirectory(Path dir, CsvFileReadListener listener, Executor readExecutor) {
     List<Path> csvFiles = listCsvFiles(dir);
-    log.info("CSV 디렉터리 읽기 시작. dir={}, csvFileCount={}", dir, csvFiles.size());
+    log.info("CSV 디렉터리 읽기 시작. dir={}, csvFileCount={}, parallelism={}",
+        dir, csvFiles.size(), properties.reader().parallelism());
 
     if (csvFiles.isEmpty()) {
       log.warn("CSV 디렉터리에 .csv 파일이 없습니다. dir={}", dir);
       return;
     }
 
-    for (Path file : csvFiles) {
-      readSingleFile(file, listener);
+    readFiles(csvFiles, listener, readExecutor);
+  }
+
+  /**
+   * 파일 목록을 읽기 모드에 맞게 처리합니다.
+   *
+   * <p>먼저 {@link #resolveReads(List, CsvFileReadListener)}로 파일별 읽기 시작 위치를 정한 뒤,
+   * 병렬도가 1 이하이거나 청크 크기 이하의 파일 1개만 읽는 경우에는
+   * 전달된 순서대로 하나의 읽기 작업에서 순차 처리하고, 그렇지 않으면
+   * {@link #readInParallel(List, CsvFileReadListener, Executor)}로 위임합니다.
+   * 순차 처리도 {@code readExecutor}에서 실행하므로 작업 취소 시 같은 방식으로 인터럽트됩니다.</p>
+   *
+   * @param files 읽을 파일 목록
+   * @param listener 파일 단위 이벤트 리스너
+   * @param readExecutor 읽기 작업을 실행할 Executor
+   */
+  private void readFiles(List<Path> files, CsvFileReadListener listener,
+      Executor readExecutor) {
+    List<FileRead> reads = resolveReads(files, listener);
+    if (reads.isEmpty()) {
+      return;
+    }
+
+    int parallelism = properties.reader().parallelism();
+    boolean singleSmallFile = reads.size() == 1 && reads.get(0).remaining() <= chunkSizeBytes();
+
+    if (parallelism <= 1 || singleSmallFile) {
+      FutureTask<Void> sequential = new FutureTask<>(() -> {
+        for (FileRead read : reads) {
+          readSingleFile(read, listener);
+        }
+        return null;
+      });
+      readExecutor.execute(sequential);
+      try {
+        awaitResult(sequential);
+      } finally {
+        // 대기 중 인터럽트로 빠져나온 경우에도 읽기 작업이 남지 않도록 중단합니다(끝난 작업이면 무시됨).
+        sequential.cancel(true);
+      }
+      return;
+    }
+
+    readInParallel(reads, listener, readExecutor);
+  }
+
+  /**
+   * 파일별 읽기 시작 위치를 리스너에 조회하여 실제로 읽을 목록을 만듭니다.
+   *
+   * <p>이미 완료된 파일은 {@code onFileSkipped}를 호출하고 목록에서 제외하며,
+   * 읽을 파일은 헤더를 먼저 {@code onHeader}로 전달합니다.</p>
+   *
+   * @param files 읽을 파일 목록
+   * @param listener 파일 단위 이벤트 리스너
+   * @return 읽을 파일과 시작 위치 목록(입력 순서 유지)
+   */
+  private List<FileRead> resolveReads(List<Path> files, CsvFileReadListener listener) {
+    List<FileRead> reads = new ArrayList<>(files.size());
+    for (Path file : files) {
+      validateRegularFile(file);
+
+      ResumePoint resumePoint = listener.resumePoint(file);
+      if (resumePoint.completed()) {
+        listener.onFileSkipped(file);
+        continue;
+      }
+
+      long size = sizeOf(file);
+      if (resumePoint.offset() < 0 || resumePoint.offset() > size) {
+        throw new IllegalStateException("CSV 읽기 시작 위치가 파일 범위를 벗어났습니다. filePath="
+            + file + ", offset=" + resumePoint.offset() + ", size=" + size);
+      }
+      readHeader(file, size, listener);
+      reads.add(new FileRead(file, resumePoint.offset(), resumePoint.lineNumber(), size));
+    }
+    return reads;
+  }
+
+  /**
+   * 파일의 첫 레코드(헤더)만 읽어 {@code onHeader}로 전달합니다.
+   *
+   * <p>이어 읽기나 청크 읽기에서는 헤더가 포함된 구간을 읽지 않을 수 있으므로,
+   * 본문 읽기 전에 파일마다 한 번 따로 읽습니다.</p>
+   *
+   * @param file 읽을 파일 경로
+   * @param size 파일 크기
+   * @param listener 파일 단위 이벤트 리스너
+   */
+  private void readHeader(Path file, long size, CsvFileReadListener listener) {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      new CsvRecordReader(channel, 0, size, 1, HEADER_BUFFER_BYTES).read(
+          (lineNumber, buffer, offset, length, recordEnd) ->
+              listener.onHeader(file, buffer, offset, length), 1);
+    } catch (IOException e) {
+      throw new UncheckedIOException("CSV 파일 헤더 읽기 실패: " + file, e);
+    }
+  }
+
+  /**
+   * 여러 CSV 파일(또는 큰 파일의 청크)을 {@code readExecutor}에서 동시에 읽습니다.
+   *
+   * <p>{@code readExecutor}(작업의 실행 범위)는 읽기 작업마다 가상 스레드를 하나씩 만들고, 동시에 읽는 작업 수를
+   * 공정(fair) 세마포어 허용량({@code parallelism})으로 제한합니다. 허용량은 대체로 배정한 순서대로 돌아가므로
+   * 아래 배정 순서가 유지되며, 허용량이나 발행 흐름 제어를 기다리는 작업은 가상 스레드만 멈춥니다.</p>
+   *
+   * <p>작업 배정 순서:</p>
+   * <ol>
+   *   <li>청크 크기를 넘는 큰 파일은 {@link CsvChunkPlanner}로 청크 분할 계획을 먼저 시작합니다.</li>
+   *   <li>나머지 파일은 크기 내림차순으로 파일 단위 작업을 배정합니다(LPT 스케줄링).</li>
+   *   <li>청크 분할이 끝난 파일부터 청크 단위 작업을 배정합니다.</li>
+   * </ol>
+   *
+   * <p>한 작업이라도 실패하면 나머지 작업을 인터럽트로 취소하고 첫 번째 예외를 그대로 전파합니다.
+   * (순차 모드에서 첫 실패 시 전체 전송이 중단되는 것과 같은 의미를 유지합니다.)</p>
+   *
+   * @param reads 읽을 파일과 시작 위치 목록
+   * @param listener 파일 단위 이벤트 리스너(스레드 안전해야 함)
+   * @param readExecutor 읽기 작업을 실행할 Executor
+   */
+  private void readInParallel(List<FileRead> reads, CsvFileReadListener listener,
+      Executor readExecutor) {
+    List<FileRead> ordered = sortByRemainingDescending(reads);
+    long chunkSize = chunkSizeBytes();
+
+    CompletionService<Void> completionService = new ExecutorCompletionService<>(readExecutor);
+    List<Future<?>> tasks = new ArrayList<>();
+    List<ChunkRead> chunkReads = new ArrayList<>();
+
+    try {
+      Map<Path, Future<List<CsvChunk>>> chunkPlans = new LinkedHashMap<>();
+      for (FileRead read : ordered) {
+        if (read.remaining() > chunkSize) {
+          FutureTask<List<CsvChunk>> plan = new FutureTask<>(() -> CsvChunkPlanner.plan(
+              read.file(), read.startOffset(), read.firstLineNumber(), chunkSize));
+          readExecutor.execute(plan);
+          tasks.add(plan);
+          chunkPlans.put(read.file(), plan);
+        }
+      }
+
+      for (FileRead read : ordered) {
+        if (!chunkPlans.containsKey(read.file())) {
+          tasks.add(completionService.submit(() -> {
+            readSingleFile(read, listener);
+            return null;
+          }));
+        }
+      }
+
+      int submitted = tasks.size() - chunkPlans.size();
+      for (Map.Entry<Path, Future<List<CsvChunk>>> plan : chunkPlans.entrySet()) {
+        List<CsvChunk> chunks = awaitResult(plan.getValue());
+        submitted += submitChunks(plan.getKey(), chunks, listener, completionService, tasks,
+            chunkReads);
+      }
+
+      for (int i = 0; i < submitted; i++) {
+        awaitNextTask(completionService);
+      }
+    } finally {
+      // 정상 종료 시에는 모두 끝난 작업이라 무시되고, 실패 시에는 남은 읽기 작업을 인터럽트로 중단합니다.
+      tasks.forEach(task -> task.cancel(true));
+      // 시작 전에 취소된 청크 작업은 readChunk를 실행하지 않으므로, 여기서 끝난 것으로 세어
+      // 청크로 나눈 파일도 onFileEnd가 호출되게 합니다(이미 시작한 청크는 스스로 셈).
+      chunkReads.forEach(chunkRead -> {
+        if (chunkRead.claim()) {
+          chunkRead.release(listener);
+        }
+      });
+    }
+  }
+
+  /**
+   * 한 파일의 청크 읽기 작업들을 배정합니다.
+   *
+   * <p>{@code onFileStart}는 청크 작업 배정 전에 한 번 호출하고,
+   * {@code onFileEnd}는 마지막으로 끝난 청크 작업에서 한 번 호출합니다. 실패로 남은 작업을 취소하면
+   * 시작하지 못한 청크는 {@link #readInParallel}이 끝난 것으로 세므로, 이 경우에도 한 번 호출됩니다.</p>
+   *
+   * @param file 청크로 나눈 파일
+   * @param chunks 레코드 경계에 맞춘 청크 목록
+   * @param listener 파일 단위 이벤트 리스너
+   * @param completionService 읽기 작업을 배정할 서비스
+   * @param tasks 실패 시 중단할 작업 목록(배정한 작업을 추가)
+   * @param chunkReads 실패 시 시작하지 못한 청크를 끝난 것으로 셀 청크 목록(배정한 청크를 추가)
+   * @return 배정한 작업 수
+   */
+  private int submitChunks(Path file, List<CsvChunk> chunks, CsvFileReadListener listener,
+      CompletionService<Void> completionService, List<Future<?>> tasks,
+      List<ChunkRead> chunkReads) {
+    log.info("CSV 파일 청크 읽기 시작. file={}, chunkCount={}", file, chunks.size());
+    listener.onFileStart(file);
+
+    AtomicInteger remainingChunks = new AtomicInteger(chunks.size());
+    for (CsvChunk chunk : chunks) {
+      ChunkRead chunkRead = new ChunkRead(file, chunk, remainingChunks);
+      chunkReads.add(chunkRead);
+      tasks.add(completionService.submit(() -> {
+        if (chunkRead.claim()) {
+          readChunk(chunkRead, listener);
+        }
+        return null;
+      }));
+    }
+    return chunks.size();
+  }
+
+  /**
+   * 완료된 읽기 작업 하나를 기다리고, 실패했다면 원인 예외를 다시 던집니다.
+   *
+   * @param completionService 읽기 작업의 완료 순서를 제공하는 서비스
+   */
+  private void awaitNextTask(CompletionService<Void> completionService) {
+    try {
+      awaitResult(completionService.take());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("CSV 병렬 읽기 대기 중 인터럽트가 발생했습니다.", e);
+    }
+  }
+
+  /**
+   * 작업 결과를 기다리고, 실패했다면 원인 예외를 다시 던집니다.
+   *
+   * @param future 기다릴 작업
+   * @param <T> 작업 결과 타입
+   * @return 작업 결과
+   */
+  private <T> T awaitResult(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("CSV 병렬 읽기 대기 중 인터럽트가 발생했습니다.", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("CSV 병렬 읽기 실패", cause);
     }
   }
 
@@ -106,29 +387,57 @@ public class CsvLocalReader implements CsvFileReadPort {
   }
 
   /**
-   * 단일 파일을 UTF-8로 라인 단위 읽어 {@code onFileStart -> onLine* -> onFileEnd}를 호출합니다.
+   * 읽을 목록을 남은 크기 내림차순으로 정렬합니다(크기가 같으면 파일명 순).
    *
-   * <p>빈 파일(0라인)이라도 {@code onFileStart}와 {@code onFileEnd}는 반드시 호출합니다.</p>
+   * <p>이어 읽는 파일은 전체 크기가 아니라 실제로 읽을 남은 구간 크기를 기준으로 배정합니다.</p>
    *
-   * @param file 읽을 파일 경로
-   * @param listener 파일 단위 이벤트 리스너
+   * @param reads 정렬할 읽기 목록
+   * @return 남은 크기 내림차순으로 정렬된 읽기 목록
    */
-  private void readSingleFile(Path file, CsvFileReadListener listener) {
-    validateRegularFile(file);
-
-    log.info("CSV 파일 읽기 시작. file={}", file);
-    listener.onFileStart(file);
+  private List<FileRead> sortByRemainingDescending(List<FileRead> reads) {
+    return reads.stream()
+        .sorted(Comparator.comparingLong(FileRead::remaining).reversed()
+            .thenComparing(read -> read.file().getFileName().toString()))
+        .toList();
+  }
 
-    try (BufferedReader br =
-        new BufferedReader(Files.newBufferedReader(file, UTF_8), DEFAULT_BUFFER_SIZE)) {
+  /**
+   * 파일 크기(바이트)를 조회합니다.
+   *
+   * @param file 파일 경로
+   * @return 파일 크기(바이트)
+   */
+  private long sizeOf(Path file) {
+    try {
+      return Files.size(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException("CSV 파일 크기 조회 실패: " + file, e);
+    }
+  }
 
-      String line;
-      int lineNumber = 0;
+  /**
+   * 단일 파일을 RFC 4180 레코드 단위로 읽어 {@code onFileStart -> onLine* -> onFileEnd}를 호출합니다.
+   *
+   * <p>빈 파일(0라인)이라도 {@code onFileStart}와 {@code onFileEnd}는 반드시 호출합니다.
+   * 이어 읽는 경우 시작 위치로 바로 이동하여 남은 구간만 읽습니다.</p>
+   *
+   * @param read 읽을 파일과 시작 위치
+   * @param listener 파일 단위 이벤트 리스너
+   */
+  private void readSingleFile(FileRead read, CsvFileReadListener listener) {
+    Path file = read.file();
+    if (read.startOffset() > 0) {
+      log.info("CSV 파일 이어 읽기 시작. file={}, offset={}, lineNumber={}",
+          file, read.startOffset(), read.firstLineNumber());
+    } else {
+      log.info("CSV 파일 읽기 시작. file={}", file);
+    }
+    listener.onFileStart(file);
 
-      while ((line = br.readLine()) != null) {
-        lineNumber++;
-        listener.onLine(file, lineNumber, line);
-      }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      listener.onRangeStart(file, read.startOffset(), read.size(), read.firstLineNumber());
+      readRecords(file, channel, read.startOffset(), read.size(), read.firstLineNumber(), listener);
+      listener.onRangeEnd(file, read.startOffset());
     } catch (IOException e) {
       throw new UncheckedIOException("CSV 파일 읽기 실패: " + file, e);
     } finally {
@@ -137,6 +446,65 @@ public class CsvLocalReader implements CsvFileReadPort {
     }
   }
 
+  /**
+   * 파일의 한 청크(바이트 구간)를 RFC 4180 레코드 단위로 읽어 {@code onLine}을 호출합니다.
+   *
+   * <p>청크는 레코드 시작 위치에서 시작하므로 멀티바이트 문자나 따옴표 필드가 잘리지 않으며,
+   * 라인 번호는 {@link CsvChunk#firstLineNumber()}부터 이어서 매깁니다.
+   * 이 파일의 마지막 청크 작업이 끝나면(실패 포함) {@code onFileEnd}를 호출합니다.</p>
+   *
+   * @param chunkRead 읽을 파일과 바이트 구간
+   * @param listener 파일 단위 이벤트 리스너
+   */
+  private void readChunk(ChunkRead chunkRead, CsvFileReadListener listener) {
+    Path file = chunkRead.file();
+    CsvChunk chunk = chunkRead.chunk();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      listener.onRangeStart(file, chunk.startOffset(), chunk.endOffset(), chunk.firstLineNumber());
+      readRecords(file, channel, chunk.startOffset(), chunk.endOffset(), chunk.firstLineNumber(),
+          listener);
+      listener.onRangeEnd(file, chunk.startOffset());
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "CSV 파일 청크 읽기 실패: " + file + " [" + chunk.startOffset() + ", " + chunk.endOffset() + ")", e);
+    } finally {
+      chunkRead.release(listener);
+    }
+  }
+
+  /**
+   * 파일의 바이트 구간을 {@link CsvRecordReader}로 읽어 레코드마다 {@code onLine}을 호출합니다.
+   *
+   * <p>레코드는 디코딩하지 않은 바이트 구간 그대로
+   * {@link CsvFileReadListener#onLine(Path, int, byte[], int, int, long)}로 전달합니다.
+   * 문자열이 필요한 리스너는 포트의 기본 구현에서 레코드 단위로 UTF-8 디코딩됩니다.</p>
+   *
+   * @param file 읽을 파일 경로
+   * @param channel 읽을 파일 채널
+   * @param startOffset 구간 시작 위치(포함)
+   * @param endOffset 구간 끝 위치(제외)
+   * @param firstLineNumber 구간 첫 레코드의 라인 번호
+   * @param listener 파일 단위 이벤트 리스너
+   * @throws IOException 파일 읽기 실패 시
+   */
+  private void readRecords(Path file, FileChannel channel, long startOffset, long endOffset,
+      int firstLineNumber, CsvFileReadListener listener) throws IOException {
+    CsvRecordReader reader = new CsvRecordReader(
+        channel, startOffset, endOffset, firstLineNumber, CsvRecordReader.DEFAULT_BUFFER_BYTES);
+
+    reader.readAll((lineNumber, buffer, offset, length, recordEnd) ->
+        listener.onLine(file, lineNumber, buffer, offset, length, recordEnd));
+  }
+
+  /**
+   * 청크 읽기에 사용할 목표 청크 크기(바이트)를 반환합니다.
+   *
+   * @return 목표 청크 크기(바이트)
+   */
+  private long chunkSizeBytes() {
+    return properties.reader().chunkSize().toBytes();
+  }
+
   /**
    * 입력 경로가 "존재하는 일반 파일"인지 검증합니다.
    *
@@ -150,4 +518,58 @@ public class CsvLocalReader implements CsvFileReadPort {
       throw new IllegalStateException("CSV 입력 경로가 파일이 아닙니다. filePath=" + file);
     }
   }
+
+  /**
+   * 파일 하나를 어디서부터 읽을지 표현하는 값 객체입니다.
+   *
+   * @param file 읽을 파일 경로
+   * @param startOffset 읽기 시작 위치(레코드 시작 위치)
+   * @param firstLineNumber 시작 위치 레코드의 라인 번호
+   * @param size 파일 크기(읽기 끝 위치)
+   */
+  private record FileRead(Path file, long startOffset, int firstLineNumber, long size) {
+
+    long remaining() {
+      return size - startOffset;
+    }
+  }
+
+  /**
+   * 청크 읽기 작업 하나입니다.
+   *
+   * <p>청크는 읽기 작업과 실패 시 정리 중 먼저 {@link #claim()}한 쪽이 한 번만 끝난 것으로 셉니다.
+   * 취소와 작업 시작이 겹쳐도 파일의 남은 청크 수가 두 번 줄거나 줄지 않는 일이 없습니다.</p>
+   *
+   * @param file 청크로 나눈 파일
+   * @param chunk 읽을 바이트 구간
+   * @param remainingChunks 아직 끝나지 않은 이 파일의 청크 수
+   * @param claimed 읽기 작업 또는 정리가 이 청크를 맡았는지 여부
+   */
+  private record ChunkRead(Path file, CsvChunk chunk, AtomicInteger remainingChunks,
+      AtomicBoolean claimed) {
+
+    ChunkRead(Path file, CsvChunk chunk, AtomicInteger remainingChunks) {
+      this(file, chunk, remainingChunks, new AtomicBoolean());
+    }
+
+    /**
+     * 이 청크를 맡습니다.
+     *
+     * @return 처음 맡았으면 true
+     */
+    boolean claim() {
+      return claimed.compareAndSet(false, true);
+    }
+
+    /**
+     * 청크를 끝난 것으로 세고, 파일의 마지막 청크였으면 {@code onFileEnd}를 호출합니다.
+     *
+     * @param listener 파일 단위 이벤트 리스너
+     */
+    void release(CsvFileReadListener listener) {
+      if (remainingChunks.decrementAndGet() == 0) {
+        listener.onFileEnd(file);
+      }
+    }
+  }
 }
@@ -0,0 +1,141 @@
+package org.todayreading.collectingworker.csv.infrastructure.fs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32C;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.common.fs.AtomicFileWriter;
+import org.todayreading.collectingworker.csv.application.port.out.CsvManifestPort;
+import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProperties;
+
+/**
+ * CSV 파일 매니페스트를 로컬 디스크의 JSON 파일로 저장하고, 파일 내용 지문을 계산하는 어댑터입니다.
+ *
+ * <p>{@link CsvManifestPort}의 구현체로서 {@code csv.book.manifest.path}에 파일별 항목을 저장합니다.
+ * 저장은 {@link AtomicFileWriter}로 원자적으로 교체합니다.</p>
+ *
+ * <p>내용 지문은 파일 전체를 읽지 않도록 앞쪽 {@value #FINGERPRINT_WINDOW}바이트와
+ * 지정 길이 직전 {@value #FINGERPRINT_WINDOW}바이트의 CRC32C로 계산합니다.
+ * 수 GB 파일이라도 지문 계산 비용은 파일 크기와 무관하게 일정합니다.
+ * (크기/수정 시각 비교와 함께 사용하며, 두 구간 밖의 변경까지 잡아내는 완전한 해시는 아닙니다.)</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CsvManifestFileStore implements CsvManifestPort {
+
+  /** 지문 계산에 사용하는 앞/뒤 구간 크기(바이트)입니다. */
+  static final int FINGERPRINT_WINDOW = 64 * 1024;
+
+  /** csv.book.* 설정 값(매니페스트 경로 등)을 바인딩한 프로퍼티입니다. */
+  private final CsvBookProperties properties;
+
+  /** 매니페스트 JSON 직렬화에 사용할 ObjectMapper입니다. */
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 매니페스트 파일을 읽습니다.
+   *
+   * @return 파일별 매니페스트 항목(파일이 없으면 빈 목록)
+   */
+  @Override
+  public List<CsvManifestEntry> load() {
+    Path path = manifestPath();
+    if (Files.notExists(path)) {
+      return List.of();
+    }
+
+    try {
+      ManifestDocument document = objectMapper.readValue(path.toFile(), ManifestDocument.class);
+      return document.files() == null ? List.of() : document.files();
+    } catch (IOException e) {
+      throw new UncheckedIOException("CSV 매니페스트 읽기 실패: " + path, e);
+    }
+  }
+
+  /**
+   * 매니페스트를 임시 파일에 쓴 뒤 원자적으로 교체합니다.
+   *
+   * @param entries 파일별 매니페스트 항목
+   */
+  @Override
+  public void save(List<CsvManifestEntry> entries) {
+    Path path = manifestPath();
+    try {
+      AtomicFileWriter.write(path, objectMapper.writeValueAsBytes(new ManifestDocument(entries)));
+    } catch (IOException e) {
+      throw new UncheckedIOException("CSV 매니페스트 저장 실패: " + path, e);
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("CSV 매니페스트 저장. path={}, fileCount={}", path, entries.size());
+    }
+  }
+
+  /**
+   * 파일 앞부분 {@code length} 바이트의 내용 지문을 계산합니다.
+   *
+   * @param file   대상 파일
+   * @param length 지문을 계산할 앞부분 길이(바이트, 파일 크기 이하)
+   * @return 앞/뒤 구간 CRC32C와 개행 종료 여부
+   */
+  @Override
+  public CsvFileFingerprint fingerprint(Path file, long length) {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocate(FINGERPRINT_WINDOW);
+
+      long headCrc = crcOf(channel, 0, Math.min(length, FINGERPRINT_WINDOW), buffer);
+      long tailStart = Math.max(0, length - FINGERPRINT_WINDOW);
+      long tailCrc = crcOf(channel, tailStart, length - tailStart, buffer);
+
+      // crcOf()가 버퍼를 flip하지 않고 돌려주므로, 마지막으로 읽은 바이트가 length 직전 바이트입니다.
+      boolean endsWithNewline = length > 0 && buffer.get(buffer.position() - 1) == '\n';
+      return new CsvFileFingerprint(length, headCrc, tailCrc, endsWithNewline);
+    } catch (IOException e) {
+      throw new UncheckedIOException("CSV 파일 지문 계산 실패: " + file, e);
+    }
+  }
+
+  /**
+   * 파일의 {@code [position, position + length)} 구간 CRC32C를 계산합니다.
+   *
+   * @return CRC32C 값(구간 바이트는 {@code buffer}의 0..position에 남음)
+   */
+  private static long crcOf(FileChannel channel, long position, long length, ByteBuffer buffer)
+      throws IOException {
+    buffer.clear().limit((int) length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("지문 계산 중 파일이 줄어들었습니다. position=" + position
+            + ", length=" + length);
+      }
+    }
+    CRC32C crc = new CRC32C();
+    crc.update(buffer.array(), 0, buffer.position());
+    return crc.getValue();
+  }
+
+  private Path manifestPath() {
+    return Path.of(properties.manifest().path());
+  }
+
+  /**
+   * 매니페스트 파일의 JSON 문서 구조입니다.
+   *
+   * @param files 파일별 매니페스트 항목
+   */
+  record ManifestDocument(List<CsvManifestEntry> files) {
+  }
+}
@@ -0,0 +1,188 @@
+package org.todayreading.collectingworker.csv.infrastructure.fs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 파일의 바이트 구간을 재사용 버퍼로 스트리밍하며 RFC 4180 레코드 단위로 잘라 전달하는 리더입니다.
+ *
+ * <p>{@code BufferedReader.readLine()}과의 차이:</p>
+ * <ul>
+ *   <li>따옴표 필드 안의 개행을 레코드 경계로 보지 않습니다({@link CsvRecordScanner}).</li>
+ *   <li>디코딩 전 바이트 상태로 경계를 찾으므로 문자 단위 할당이 없고,
+ *       레코드는 버퍼 안의 (offset, length) 구간으로 전달됩니다.</li>
+ *   <li>하나의 버퍼를 계속 재사용하며, 버퍼보다 긴 레코드를 만났을 때만 버퍼를 키웁니다.</li>
+ * </ul>
+ *
+ * <p>전달되는 레코드에는 종료 개행({@code \n}, {@code \r\n})이 포함되지 않습니다.
+ * 파일 시작 위치에서 읽는 경우 UTF-8 BOM은 건너뜁니다({@link Utf8Bom}, {@link CsvChunkPlanner}와 같은 규칙).
+ * 인스턴스는 스레드 안전하지 않으므로 읽기 작업(파일/청크)마다 새로 생성합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+final class CsvRecordReader {
+
+  /** 기본 읽기 버퍼 크기(바이트)입니다. */
+  static final int DEFAULT_BUFFER_BYTES = 64 * 1024;
+
+  /**
+   * 레코드 하나의 최대 크기(바이트)입니다.
+   *
+   * <p>닫히지 않은 따옴표처럼 손상된 입력이 파일 끝까지 한 레코드로 읽히며
+   * 메모리를 모두 사용하는 것을 막기 위한 안전장치입니다.</p>
+   */
+  static final int MAX_RECORD_BYTES = 16 * 1024 * 1024;
+
+  private static final byte CR = '\r';
+
+  private final FileChannel channel;
+  private final long startOffset;
+  private final long endOffset;
+  private final int firstRecordNumber;
+  private final CsvRecordScanner scanner = new CsvRecordScanner();
+
+  private byte[] buffer;
+
+  /**
+   * 리더를 생성합니다.
+   *
+   * @param channel 읽을 파일 채널(위치 지정 읽기만 사용하므로 여러 리더가 공유해도 됨)
+   * @param startOffset 읽기 시작 위치(포함, 레코드 시작 위치여야 함)
+   * @param endOffset 읽기 끝 위치(제외)
+   * @param firstRecordNumber 구간 첫 레코드의 파일 내 번호(1부터 시작)
+   * @param bufferSize 초기 버퍼 크기(바이트)
+   */
+  CsvRecordReader(FileChannel channel, long startOffset, long endOffset, int firstRecordNumber,
+      int bufferSize) {
+    this.channel = channel;
+    this.startOffset = startOffset;
+    this.endOffset = endOffset;
+    this.firstRecordNumber = firstRecordNumber;
+    this.buffer = new byte[bufferSize];
+  }
+
+  /**
+   * 구간 끝까지 레코드를 읽어 핸들러로 전달합니다.
+   *
+   * <p>핸들러에 전달되는 버퍼는 호출이 끝나면 다른 레코드로 덮어쓰일 수 있으므로,
+   * 핸들러는 필요한 경우 호출 안에서 값을 복사/디코딩해야 합니다.</p>
+   *
+   * @param handler 레코드 핸들러
+   * @return 전달한 레코드 수
+   * @throws IOException 파일 읽기 실패 시
+   */
+  int readAll(RecordHandler handler) throws IOException {
+    return read(handler, Integer.MAX_VALUE);
+  }
+
+  /**
+   * 구간 앞에서부터 최대 {@code maxRecords}개의 레코드를 읽어 핸들러로 전달합니다.
+   *
+   * <p>헤더처럼 파일 앞부분의 레코드만 필요할 때 구간 끝까지 읽지 않고 멈추기 위해 사용합니다.</p>
+   *
+   * @param handler 레코드 핸들러
+   * @param maxRecords 전달할 최대 레코드 수
+   * @return 전달한 레코드 수
+   * @throws IOException 파일 읽기 실패 시
+   */
+  int read(RecordHandler handler, int maxRecords) throws IOException {
+    long filePosition = startOffset;
+    int recordStart = 0;
+    int scanPosition = 0;
+    int limit = 0;
+    int recordCount = 0;
+    boolean checkBom = startOffset == 0;
+
+    while (true) {
+      int recordEnd = scanner.findRecordEnd(buffer, scanPosition, limit);
+      if (recordEnd >= 0) {
+        // 버퍼 시작 위치의 파일 오프셋은 (filePosition - limit)입니다.
+        handler.onRecord(firstRecordNumber + recordCount, buffer, recordStart,
+            trimCarriageReturn(recordStart, recordEnd), filePosition - limit + recordEnd + 1);
+        recordCount++;
+        if (recordCount == maxRecords) {
+          return recordCount;
+        }
+        recordStart = recordEnd + 1;
+        scanPosition = recordStart;
+        continue;
+      }
+
+      scanPosition = limit;
+      if (filePosition >= endOffset) {
+        break;
+      }
+
+      if (recordStart > 0) {
+        // 아직 끝나지 않은 레코드를 버퍼 앞으로 당겨 재사용 공간을 확보합니다.
+        System.arraycopy(buffer, recordStart, buffer, 0, limit - recordStart);
+        limit -= recordStart;
+        scanPosition -= recordStart;
+        recordStart = 0;
+      }
+      if (limit == buffer.length) {
+        growBuffer();
+      }
+
+      int toRead = (int) Math.min(buffer.length - limit, endOffset - filePosition);
+      int n = channel.read(ByteBuffer.wrap(buffer, limit, toRead), filePosition);
+      if (n < 0) {
+        break;
+      }
+      filePosition += n;
+      limit += n;
+
+      if (checkBom && limit >= Utf8Bom.LENGTH) {
+        checkBom = false;
+        recordStart = Utf8Bom.skipLength(buffer, 0, limit);
+        scanPosition = recordStart;
+      }
+    }
+
+    if (recordStart < limit) {
+      // 마지막 레코드가 개행 없이 끝난 경우
+      handler.onRecord(firstRecordNumber + recordCount, buffer, recordStart,
+          trimCarriageReturn(recordStart, limit), filePosition);
+      recordCount++;
+    }
+    return recordCount;
+  }
+
+  private int trimCarriageReturn(int recordStart, int recordEnd) {
+    int length = recordEnd - recordStart;
+    if (length > 0 && buffer[recordEnd - 1] == CR) {
+      length--;
+    }
+    return length;
+  }
+
+  private void growBuffer() {
+    if (buffer.length >= MAX_RECORD_BYTES) {
+      throw new IllegalStateException(
+          "CSV 레코드가 최대 크기를 초과했습니다(닫히지 않은 따옴표 의심). maxRecordBytes=" + MAX_RECORD_BYTES);
+    }
+    byte[] grown = new byte[Math.min(buffer.length * 2, MAX_RECORD_BYTES)];
+    System.arraycopy(buffer, 0, grown, 0, buffer.length);
+    buffer = grown;
+  }
+
+  /**
+   * 레코드 단위 콜백입니다.
+   */
+  @FunctionalInterface
+  interface RecordHandler {
+
+    /**
+     * 레코드 하나를 전달받습니다.
+     *
+     * @param recordNumber 파일 내 레코드 번호(1부터 시작)
+     * @param buffer 레코드가 들어 있는 버퍼(호출 이후 재사용됨)
+     * @param offset 레코드 시작 위치
+     * @param length 레코드 길이(종료 개행 제외)
+     * @param endOffset 레코드(종료 개행 포함)가 끝난 다음 파일 내 바이트 위치
+     */
+    void onRecord(int recordNumber, byte[] buffer, int offset, int length, long endOffset);
+  }
+}
@@ -0,0 +1,116 @@
+package org.todayreading.collectingworker.csv.infrastructure.fs;
+
+/**
+ * RFC 4180 규칙으로 CSV 레코드 경계(레코드를 끝내는 개행 위치)를 찾는 바이트 단위 상태 머신입니다.
+ *
+ * <p>UTF-8에서 {@code "}, {@code ,}, {@code \n}은 모두 1바이트 ASCII이고 멀티바이트 문자의
+ * 구성 바이트와 겹치지 않으므로, 디코딩 없이 바이트만 보고 경계를 판단할 수 있습니다.</p>
+ *
+ * <p>상태 전이 규칙:</p>
+ * <ul>
+ *   <li>필드 시작에서 만난 {@code "}만 따옴표 필드를 엽니다.
+ *       따옴표 없는 필드 중간의 {@code "}는 일반 문자로 취급합니다.</li>
+ *   <li>따옴표 필드 안에서는 {@code ""}가 이스케이프된 따옴표이며, 개행도 필드 값의 일부입니다.</li>
+ *   <li>따옴표 필드 밖의 {@code \n}만 레코드를 끝냅니다({@code \r\n}의 {@code \r}은 호출자가 제거).</li>
+ *   <li>닫는 따옴표 뒤에 구분자/개행이 아닌 문자가 오면 관대하게 따옴표 없는 필드로 이어서 처리합니다.</li>
+ * </ul>
+ *
+ * <p>상태는 호출 간에 유지되므로, 버퍼를 여러 번 나눠 채우는 스트리밍 읽기에서도
+ * 레코드 중간에서 스캔을 이어갈 수 있습니다. 인스턴스는 스레드 안전하지 않습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+final class CsvRecordScanner {
+
+  private static final byte QUOTE = '"';
+  private static final byte COMMA = ',';
+  private static final byte LF = '\n';
+  private static final byte CR = '\r';
+
+  /** 필드 시작 위치입니다(레코드 시작 포함). */
+  private static final int FIELD_START = 0;
+
+  /** 따옴표 없는 필드 내부입니다. */
+  private static final int UNQUOTED = 1;
+
+  /** 따옴표 필드 내부입니다. */
+  private static final int QUOTED = 2;
+
+  /** 따옴표 필드 안에서 {@code "}를 만난 직후입니다(닫힘 또는 이스케이프). */
+  private static final int QUOTE_IN_QUOTED = 3;
+
+  private int state = FIELD_START;
+
+  /**
+   * {@code [from, to)} 구간에서 현재 레코드를 끝내는 {@code \n}의 위치를 찾습니다.
+   *
+   * <p>경계를 찾으면 상태를 레코드 시작으로 되돌리고 그 위치를 반환합니다.
+   * 찾지 못하면 구간 끝까지의 상태를 기억한 채 {@code -1}을 반환하므로,
+   * 다음 호출은 이어지는 바이트부터 전달하면 됩니다.</p>
+   *
+   * @param buf 스캔할 바이트 버퍼
+   * @param from 스캔 시작 위치(포함)
+   * @param to 스캔 끝 위치(제외)
+   * @return 레코드를 끝내는 {@code \n}의 위치, 없으면 -1
+   */
+  int findRecordEnd(byte[] buf, int from, int to) {
+    int s = state;
+    int i = from;
+    while (i < to) {
+      byte b = buf[i++];
+      if (s == QUOTED) {
+        // 따옴표 필드 안에서는 닫는 따옴표 후보만 찾으면 되므로 짧은 루프로 건너뜁니다.
+        while (b != QUOTE && i < to) {
+          b = buf[i++];
+        }
+        if (b == QUOTE) {
+          s = QUOTE_IN_QUOTED;
+        }
+        continue;
+      }
+
+      if (b == LF) {
+        state = FIELD_START;
+        return i - 1;
+      }
+
+      if (s == UNQUOTED) {
+        // 따옴표 없는 필드에서는 구분자/개행만 의미가 있습니다.
+        while (b != COMMA && b != LF && i < to) {
+          b = buf[i++];
+        }
+        if (b == COMMA) {
+          s = FIELD_START;
+        } else if (b == LF) {
+          state = FIELD_START;
+          return i - 1;
+        }
+      } else if (s == FIELD_START) {
+        if (b == QUOTE) {
+          s = QUOTED;
+        } else if (b != COMMA) {
+          s = UNQUOTED;
+        }
+      } else {
+        // QUOTE_IN_QUOTED: 이스케이프("")면 따옴표 필드로 돌아가고, 구분자면 필드가 닫힙니다.
+        if (b == QUOTE) {
+          s = QUOTED;
+        } else if (b == COMMA) {
+          s = FIELD_START;
+        } else if (b != CR) {
+          s = UNQUOTED;
+        }
+      }
+    }
+    state = s;
+    return -1;
+  }
+
+  /**
+   * 레코드 시작 상태로 되돌립니다.
+   */
+  void reset() {
+    state = FIELD_START;
+  }
+}
@@ -0,0 +1,44 @@
+package org.todayreading.collectingworker.csv.infrastructure.fs;
+
+/**
+ * 파일 시작의 UTF-8 BOM({@code EF BB BF}) 판별을 모아 둔 유틸리티입니다.
+ *
+ * <p>{@link CsvRecordReader}와 {@link CsvChunkPlanner}가 같은 규칙으로 BOM을 건너뛰어야
+ * 청크 경계와 레코드 번호가 통째로 읽을 때와 일치하므로, 판별 로직을 한 곳에 둡니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+final class Utf8Bom {
+
+  /** BOM 길이(바이트)입니다. */
+  static final int LENGTH = 3;
+
+  private static final byte[] BYTES = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+  private Utf8Bom() {
+    // 인스턴스화 방지
+  }
+
+  /**
+   * 버퍼의 {@code [offset, limit)} 구간이 BOM으로 시작하면 BOM 길이를, 아니면 0을 반환합니다.
+   *
+   * <p>파일 시작 위치(오프셋 0)를 담은 버퍼에만 사용해야 합니다.</p>
+   *
+   * @param buffer 파일 앞부분이 들어 있는 버퍼
+   * @param offset 파일 시작 위치에 해당하는 버퍼 위치
+   * @param limit 유효한 바이트의 끝 위치(제외)
+   * @return 건너뛸 바이트 수(BOM이면 {@link #LENGTH}, 아니면 0)
+   */
+  static int skipLength(byte[] buffer, int offset, int limit) {
+    if (limit - offset < LENGTH) {
+      return 0;
+    }
+    for (int i = 0; i < LENGTH; i++) {
+      if (buffer[offset + i] != BYTES[i]) {
+        return 0;
+      }
+    }
+    return LENGTH;
+  }
+}
@@ -0,0 +1,393 @@
+package org.todayreading.collectingworker.csv.infrastructure.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.csv.application.port.out.CsvRecordConvertPort;
+import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProperties;
+
+/**
+ * CSV 라인을 컬럼명/값 JSON 객체로 변환하는 어댑터입니다.
+ *
+ * <p>{@link CsvRecordConvertPort}의 구현체로서, 파일마다 헤더로 컬럼 위치별 출력 정보를 한 번 만들고
+ * 그 파일의 모든 라인에 재사용합니다. 프로젝션({@code csv.book.json.columns})에 포함된 컬럼만
+ * 지정한 타입으로 씁니다.</p>
+ *
+ * <p>변환은 트리/맵 객체나 라인마다의 CSV 파서를 만들지 않고, 버퍼의 RFC 4180 필드를 바로 잘라
+ * JSON 생성기에 쓰는 스트리밍 방식입니다. 필드 분리 규칙은 헤더와 라인이 같습니다
+ * (쉼표 구분, 큰따옴표로 감싼 필드 안의 {@code ""}는 따옴표 하나, 공백은 그대로 유지).
+ * JSON 생성기와 출력 버퍼는 풀에 두고 변환마다 빌려 씁니다. 읽기 작업은 가상 스레드로 실행되어
+ * 스레드별로 두면 작업마다 새로 만들게 되므로, 풀에는 동시에 변환한 작업 수만큼만 만들어집니다.
+ * 필드명은 미리 인코딩한 {@link SerializedString}을 사용합니다.</p>
+ *
+ * <p>타입 변환 규칙: 빈 값(문자열 타입 포함)과 지정한 타입으로 해석할 수 없는 값은 JSON {@code null}로 씁니다.
+ * 헤더보다 필드가 많은 라인의 뒤쪽 필드는 무시하고, 필드가 적은 라인은 없는 컬럼을 쓰지 않습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class CsvJsonRecordConverter implements CsvRecordConvertPort {
+
+  /** 프로젝션 항목의 컬럼명/타입 구분자입니다. */
+  private static final char TYPE_SEPARATOR = ':';
+
+  private static final byte COMMA = ',';
+  private static final byte QUOTE = '"';
+
+  /** JSON 출력에 사용하는 팩토리입니다. */
+  private final JsonFactory jsonFactory;
+
+  /** 설정한 프로젝션입니다(비어 있으면 모든 컬럼을 문자열로 씀). */
+  private final List<ProjectedColumn> projection;
+
+  /** 파일별 컬럼 위치별 출력 정보입니다(출력하지 않는 컬럼은 null). */
+  private final Map<Path, Output[]> outputsByFile = new ConcurrentHashMap<>();
+
+  /** 변환마다 빌려 쓰는 JSON 생성기/출력 버퍼 풀입니다. */
+  private final Queue<RowWriter> rowWriters = new ConcurrentLinkedQueue<>();
+
+  /**
+   * 변환기를 생성합니다.
+   *
+   * @param properties   csv.book.* 설정(프로젝션 컬럼 등)
+   * @param objectMapper JSON 출력 팩토리를 얻을 ObjectMapper
+   */
+  public CsvJsonRecordConverter(CsvBookProperties properties, ObjectMapper objectMapper) {
+    this.jsonFactory = objectMapper.getFactory();
+    this.projection = parseProjection(properties.json().columns());
+  }
+
+  /**
+   * 파일 헤더로 컬럼 위치별 출력 정보를 만들어 등록합니다.
+   *
+   * <p>헤더에 없는 프로젝션 컬럼은 경고 로그를 남기고 그 파일의 출력에서 제외합니다.</p>
+   */
+  @Override
+  public void registerHeader(Path filePath, byte[] buffer, int offset, int length) {
+    List<String> header = new ArrayList<>();
+    try {
+      new CsvFields(length).forEach(buffer, offset, length, Integer.MAX_VALUE,
+          (column, bytes, start, size) -> header.add(new String(bytes, start, size, UTF_8)));
+    } catch (IOException e) {
+      throw new UncheckedIOException("CSV 헤더 파싱 실패: " + filePath, e);
+    }
+
+    Output[] outputs = new Output[header.size()];
+    if (projection.isEmpty()) {
+      for (int i = 0; i < outputs.length; i++) {
+        outputs[i] = new Output(new SerializedString(header.get(i).strip()), ValueType.STRING);
+      }
+    } else {
+      List<String> missing = new ArrayList<>();
+      for (ProjectedColumn column : projection) {
+        int index = indexOf(header, column.name());
+        if (index < 0) {
+          missing.add(column.name());
+          continue;
+        }
+        outputs[index] = new Output(new SerializedString(column.name()), column.type());
+      }
+      if (!missing.isEmpty()) {
+        log.warn("CSV 헤더에 없는 JSON 변환 컬럼은 제외합니다. filePath={}, columns={}",
+            filePath, missing);
+      }
+    }
+
+    outputsByFile.put(filePath, outputs);
+    if (log.isDebugEnabled()) {
+      log.debug("CSV JSON 변환 스키마 등록. filePath={}, columnCount={}", filePath, outputs.length);
+    }
+  }
+
+  /**
+   * CSV 한 라인을 JSON 객체 바이트로 변환합니다.
+   */
+  @Override
+  public byte[] convert(Path filePath, byte[] buffer, int offset, int length) {
+    Output[] outputs = outputsByFile.get(filePath);
+    if (outputs == null) {
+      throw new IllegalStateException("CSV 헤더가 등록되지 않은 파일입니다: " + filePath);
+    }
+
+    RowWriter writer = rowWriters.poll();
+    if (writer == null) {
+      writer = newRowWriter();
+    }
+    byte[] json;
+    try {
+      json = writer.write(buffer, offset, length, outputs);
+    } catch (IOException e) {
+      // 중간까지 쓴 객체가 남은 생성기는 재사용할 수 없으므로 풀에 돌려놓지 않고 버립니다.
+      throw new UncheckedIOException("CSV 라인 JSON 변환 실패: " + filePath, e);
+    }
+    rowWriters.offer(writer);
+    return json;
+  }
+
+  private RowWriter newRowWriter() {
+    ByteArrayBuilder out = new ByteArrayBuilder();
+    try {
+      JsonGenerator generator = jsonFactory.createGenerator(out);
+      // 라인마다 루트 객체 하나를 쓰고 바이트를 떼어 내므로 루트 값 구분자는 쓰지 않습니다.
+      generator.setRootValueSeparator(null);
+      return new RowWriter(generator, out);
+    } catch (IOException e) {
+      throw new UncheckedIOException("JSON 생성기 생성 실패", e);
+    }
+  }
+
+  private static int indexOf(List<String> header, String column) {
+    for (int i = 0; i < header.size(); i++) {
+      if (header.get(i).strip().equalsIgnoreCase(column)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * {@code 컬럼명[:타입]} 형식의 프로젝션 설정을 해석합니다.
+   *
+   * @throws IllegalArgumentException 알 수 없는 타입이 지정된 경우
+   */
+  private static List<ProjectedColumn> parseProjection(List<String> columns) {
+    List<ProjectedColumn> parsed = new ArrayList<>();
+    for (String column : columns) {
+      if (column == null || column.isBlank()) {
+        continue;
+      }
+      int separator = column.lastIndexOf(TYPE_SEPARATOR);
+      String name = separator < 0 ? column.strip() : column.substring(0, separator).strip();
+      ValueType type = separator < 0
+          ? ValueType.STRING
+          : ValueType.of(column.substring(separator + 1).strip());
+      parsed.add(new ProjectedColumn(name, type));
+    }
+    return List.copyOf(parsed);
+  }
+
+  /**
+   * JSON 값 타입입니다.
+   */
+  enum ValueType {
+    STRING,
+    LONG,
+    DOUBLE,
+    BOOLEAN;
+
+    static ValueType of(String name) {
+      try {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException(
+            "csv.book.json.columns의 타입은 string, long, double, boolean 중 하나여야 합니다: " + name, e);
+      }
+    }
+  }
+
+  /**
+   * 프로젝션 설정 항목입니다.
+   *
+   * @param name 컬럼명(JSON 필드명으로도 사용)
+   * @param type JSON 값 타입
+   */
+  record ProjectedColumn(String name, ValueType type) {
+  }
+
+  /**
+   * 출력할 컬럼의 JSON 필드명과 타입입니다.
+   */
+  private record Output(SerializableString fieldName, ValueType type) {
+  }
+
+  /**
+   * 바이트 구간에서 잘라 낸 필드 하나를 받는 콜백입니다.
+   */
+  @FunctionalInterface
+  private interface FieldHandler {
+
+    /**
+     * 필드 하나를 받습니다.
+     *
+     * @param column 필드의 컬럼 위치(0부터)
+     * @param buffer 필드 값이 들어 있는 버퍼(따옴표를 벗긴 값, 호출 이후 재사용됨)
+     * @param offset 값 시작 위치
+     * @param length 값 길이
+     */
+    void field(int column, byte[] buffer, int offset, int length) throws IOException;
+  }
+
+  /**
+   * CSV 레코드 하나를 RFC 4180 필드로 나누는 분리기입니다. 따옴표 필드를 풀어 쓸 버퍼를 재사용합니다.
+   */
+  private static final class CsvFields {
+
+    private byte[] unquoted;
+
+    CsvFields(int initialCapacity) {
+      this.unquoted = new byte[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * 레코드의 앞쪽 {@code maxColumns}개 필드를 순서대로 콜백에 넘깁니다.
+     *
+     * @throws IOException 따옴표 필드가 닫히지 않았거나 닫는 따옴표 뒤에 구분자가 아닌 문자가 있는 경우
+     */
+    void forEach(byte[] buffer, int offset, int length, int maxColumns, FieldHandler handler)
+        throws IOException {
+      if (unquoted.length < length) {
+        unquoted = new byte[Math.max(length, unquoted.length * 2)];
+      }
+      int end = offset + length;
+      int position = offset;
+      for (int column = 0; column < maxColumns; column++) {
+        if (position < end && buffer[position] == QUOTE) {
+          position = unquote(buffer, position + 1, end, column, handler);
+        } else {
+          int start = position;
+          while (position < end && buffer[position] != COMMA) {
+            position++;
+          }
+          handler.field(column, buffer, start, position - start);
+        }
+        if (position >= end) {
+          return;
+        }
+        position++; // 구분자(쉼표)
+      }
+    }
+
+    /**
+     * 여는 따옴표 다음부터 필드를 풀어 콜백에 넘기고, 필드 뒤 위치(구분자 또는 끝)를 반환합니다.
+     */
+    private int unquote(byte[] buffer, int position, int end, int column, FieldHandler handler)
+        throws IOException {
+      int size = 0;
+      while (true) {
+        if (position >= end) {
+          throw new IOException("CSV 필드의 따옴표가 닫히지 않았습니다. column=" + column);
+        }
+        byte b = buffer[position++];
+        if (b != QUOTE) {
+          unquoted[size++] = b;
+        } else if (position < end && buffer[position] == QUOTE) {
+          unquoted[size++] = QUOTE;
+          position++;
+        } else {
+          break;
+        }
+      }
+      if (position < end && buffer[position] != COMMA) {
+        throw new IOException("CSV 필드의 닫는 따옴표 뒤에 구분자가 없습니다. column=" + column);
+      }
+      handler.field(column, unquoted, 0, size);
+      return position;
+    }
+  }
+
+  /**
+   * 변환 하나가 빌려 쓰는 JSON 생성기와 출력 버퍼, 필드 분리기입니다.
+   */
+  private static final class RowWriter implements FieldHandler {
+
+    private final JsonGenerator generator;
+    private final ByteArrayBuilder out;
+    private final CsvFields fields = new CsvFields(256);
+
+    /** 지금 쓰고 있는 파일의 컬럼 위치별 출력 정보입니다. */
+    private Output[] outputs;
+
+    RowWriter(JsonGenerator generator, ByteArrayBuilder out) {
+      this.generator = generator;
+      this.out = out;
+    }
+
+    /**
+     * 버퍼의 CSV 레코드 하나를 JSON 객체로 씁니다.
+     */
+    byte[] write(byte[] buffer, int offset, int length, Output[] outputs) throws IOException {
+      this.outputs = outputs;
+      generator.writeStartObject();
+      fields.forEach(buffer, offset, length, outputs.length, this);
+      generator.writeEndObject();
+      generator.flush();
+
+      byte[] json = out.toByteArray();
+      out.reset();
+      return json;
+    }
+
+    @Override
+    public void field(int column, byte[] buffer, int offset, int length) throws IOException {
+      Output output = outputs[column];
+      if (output != null) {
+        generator.writeFieldName(output.fieldName());
+        writeValue(buffer, offset, length, output.type());
+      }
+    }
+
+    private void writeValue(byte[] bytes, int offset, int length, ValueType type)
+        throws IOException {
+      if (length == 0) {
+        generator.writeNull();
+        return;
+      }
+      String text = new String(bytes, offset, length, UTF_8);
+      if (type == ValueType.STRING) {
+        generator.writeString(text);
+        return;
+      }
+
+      String value = text.strip();
+      switch (type) {
+        case LONG -> {
+          try {
+            generator.writeNumber(Long.parseLong(value));
+          } catch (NumberFormatException e) {
+            generator.writeNull();
+          }
+        }
+        case DOUBLE -> {
+          try {
+            double number = Double.parseDouble(value);
+            if (Double.isFinite(number)) {
+              generator.writeNumber(number);
+            } else {
+              generator.writeNull();
+            }
+          } catch (NumberFormatException e) {
+            generator.writeNull();
+          }
+        }
+        default -> {
+          if ("true".equalsIgnoreCase(value)) {
+            generator.writeBoolean(true);
+          } else if ("false".equalsIgnoreCase(value)) {
+            generator.writeBoolean(false);
+          } else {
+            generator.writeNull();
+          }
+        }
+      }
+    }
+  }
+}
@@ -1,9 +1,15 @@
 package org.todayreading.collectingworker.csv.infrastructure.kafka;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 import org.todayreading.collectingworker.csv.application.port.out.CsvBookPublishPort;
 import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProperties;
@@ -18,9 +24,19 @@ import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProper
  *
  * <p>전송에 사용할 Kafka 토픽 이름은
  * {@link CsvBookProperties}의 {@code csv.book.kafka.topic} 설정에서 주입됩니다.
- * 현재 구현은 Kafka 메시지 키를 사용하지 않고
- * {@code send(topic, value)} 형태로 전송합니다.
- * 파티셔닝 정책이나 메시지 키 기반 로직이 필요해지면 이후 확장할 수 있습니다.</p>
+ * 호출자가 레코드 키(예: {@code csv.book.kafka.key-column} 컬럼 값)를 넘기면
+ * {@code send(topic, key, value)}로 전송하여 같은 키의 라인이 같은 파티션에 모이도록 하고,
+ * 키가 없으면(null) 기존처럼 키 없이 전송합니다.</p>
+ *
+ * <p>raw-bytes 모드에서는 {@link #publish(byte[])}로 전달된 UTF-8 바이트를
+ * {@code csvBookBytesKafkaTemplate}(ByteArraySerializer)으로 그대로 전송합니다.</p>
+ *
+ * <p>envelope 모드({@code csv.book.kafka.envelope.enabled=true})에서는 {@link #publishEnveloped}로 받은
+ * 라인을 {@link CsvEnvelopeBatcher}가 묶어 압축이 설정된 {@code csvBookEnvelopeKafkaTemplate}으로
+ * 전송합니다. 라인 단위 레코드 오버헤드(브로커/컨슈머)를 줄이기 위한 모드입니다.</p>
+ *
+ * <p>JSON 변환 단계({@code csv.book.json.enabled=true})에서는 {@link #publishJson}으로 받은
+ * JSON 객체 바이트를 {@code csvBookBytesKafkaTemplate}으로 {@code csv.book.json.topic}에 전송합니다.</p>
  *
  * @author 박성준
  * @since 1.0.0
@@ -46,18 +62,43 @@ public class CsvBookKafkaAdapter implements CsvBookPublishPort {
    */
   private final KafkaTemplate<String, String> kafkaTemplate;
 
+  /**
+   * CSV 원본 라인 바이트를 전송하기 위한 KafkaTemplate입니다.
+   *
+   * <p>설정 클래스에서 정의한 {@code csvBookBytesKafkaTemplate} 빈이 주입되며,
+   * value 직렬화에 {@code ByteArraySerializer}를 사용합니다.</p>
+   */
+  private final KafkaTemplate<String, byte[]> bytesKafkaTemplate;
+
+  /** 라인을 envelope로 묶어 전송하는 배처입니다(envelope 모드가 아니면 null). */
+  private final CsvEnvelopeBatcher envelopeBatcher;
+
   /**
    * {@link CsvBookKafkaAdapter} 인스턴스를 생성합니다.
    *
-   * @param properties    CSV 관련 설정 프로퍼티
-   * @param kafkaTemplate CSV 원본 라인 전송에 사용할 KafkaTemplate
+   * @param properties         CSV 관련 설정 프로퍼티
+   * @param kafkaTemplate      CSV 원본 라인 전송에 사용할 KafkaTemplate
+   * @param bytesKafkaTemplate CSV 원본 라인 바이트 전송에 사용할 KafkaTemplate
+   * @param envelopeKafkaTemplate envelope 전송에 사용할 KafkaTemplate(압축 설정 포함)
    */
   public CsvBookKafkaAdapter(
       CsvBookProperties properties,
-      @Qualifier("csvBookKafkaTemplate") KafkaTemplate<String, String> kafkaTemplate
+      @Qualifier("csvBookKafkaTemplate") KafkaTemplate<String, String> kafkaTemplate,
+      @Qualifier("csvBookBytesKafkaTemplate") KafkaTemplate<String, byte[]> bytesKafkaTemplate,
+      @Qualifier("csvBookEnvelopeKafkaTemplate") KafkaTemplate<String, byte[]> envelopeKafkaTemplate
   ) {
     this.properties = properties;
     this.kafkaTemplate = kafkaTemplate;
+    this.bytesKafkaTemplate = bytesKafkaTemplate;
+
+    CsvBookProperties.KafkaProperties kafka = properties.kafka();
+    this.envelopeBatcher = kafka.envelope().enabled()
+        ? new CsvEnvelopeBatcher(envelopeKafkaTemplate, kafka.topic(), kafka.envelope())
+        : null;
+    if (envelopeBatcher != null && kafka.keyColumn() != null && !kafka.keyColumn().isBlank()) {
+      log.info("CSV envelope 모드에서는 key-column 값으로 파티션만 맞추고 레코드 키는 붙이지 않습니다. "
+          + "keyColumn={}", kafka.keyColumn());
+    }
   }
 
   /**
@@ -66,20 +107,23 @@ public class CsvBookKafkaAdapter implements CsvBookPublishPort {
    * <p>전송 정책:</p>
    * <ul>
    *   <li>전송할 문자열이 {@code null}이거나 공백만 포함하는 경우
-   *       전송하지 않고 경고 로그를 남깁니다.</li>
+   *       전송하지 않고 경고 로그를 남긴 뒤 실패한 Future를 반환합니다.</li>
    *   <li>토픽 이름은 {@link CsvBookProperties}의
    *       {@code csv.book.kafka.topic} 설정에서 조회합니다.</li>
    *   <li>정상 라인은 {@link KafkaTemplate}을 통해 비동기 전송하며,
-   *       성공/실패 여부는 콜백 로그로만 기록합니다.</li>
+   *       브로커 수신 확인(ack) 시점에 반환한 Future가 완료됩니다.</li>
    * </ul>
    *
+   * @param key     Kafka 레코드 키(없으면 null)
    * @param rawLine CSV 원본 라인 문자열(개행 문자를 제외한 한 줄)
+   * @return 브로커 ack 시 정상 완료, 전송 실패 시 예외로 완료되는 Future
    */
   @Override
-  public void publish(String rawLine) {
+  public CompletableFuture<Void> publish(String key, String rawLine) {
     if (rawLine == null || rawLine.isBlank()) {
       log.warn("null 또는 공백 CSV 라인은 Kafka로 전송하지 않습니다.");
-      return;
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("rawLine must not be blank"));
     }
 
     // 샘플 1건만 출력(형식 확인용)
@@ -91,19 +135,125 @@ public class CsvBookKafkaAdapter implements CsvBookPublishPort {
     // application.yml의 csv.book.kafka.topic 설정에서 토픽 이름을 조회합니다.
     String topic = properties.kafka().topic();
 
-    kafkaTemplate.send(topic, rawLine)
-        .whenComplete((result, ex) -> {
-          if (ex != null) {
-            log.warn("CSV 라인 Kafka 전송 실패.", ex);
-          } else if (log.isDebugEnabled()) {
-            log.debug(
-                "CSV 라인 Kafka 전송 성공. topic={}, partition={}, offset={}",
-                result.getRecordMetadata().topic(),
-                result.getRecordMetadata().partition(),
-                result.getRecordMetadata().offset()
-            );
-          }
-        });
+    return toAck(kafkaTemplate.send(topic, key, rawLine));
+  }
+
+  /**
+   * CSV 한 라인의 UTF-8 원본 바이트를 Kafka 토픽으로 전송합니다(raw-bytes 모드).
+   *
+   * <p>문자열 디코딩/인코딩 없이 전달된 배열을 그대로 레코드 값으로 사용합니다.
+   * 빈 배열은 전송하지 않으며, 샘플 로그가 필요한 최초 1건만 문자열로 디코딩합니다.</p>
+   *
+   * @param key     Kafka 레코드 키(없으면 null)
+   * @param rawLine CSV 원본 라인 바이트(개행 문자 제외)
+   * @return 브로커 ack 시 정상 완료, 전송 실패 시 예외로 완료되는 Future
+   */
+  @Override
+  public CompletableFuture<Void> publish(String key, byte[] rawLine) {
+    if (rawLine == null || rawLine.length == 0) {
+      log.warn("null 또는 빈 CSV 라인 바이트는 Kafka로 전송하지 않습니다.");
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("rawLine must not be empty"));
+    }
+
+    // 샘플 1건만 출력(형식 확인용)
+    if (SAMPLE_LOGGED.compareAndSet(false, true)) {
+      String sample = abbreviate(new String(rawLine, UTF_8), SAMPLE_MAX_LEN);
+      log.info("CSV 샘플 1건(payload, raw bytes). bytes={}, sample={}", rawLine.length, sample);
+    }
+
+    return toAck(bytesKafkaTemplate.send(properties.kafka().topic(), key, rawLine));
+  }
+
+  /**
+   * CSV 한 라인을 envelope에 담아 전송합니다(envelope 모드).
+   *
+   * <p>라인은 {@link CsvEnvelopeBatcher}가 라인 수/바이트 상한 또는 linger 시간 기준으로 묶어 전송하며,
+   * 반환한 Future는 그 envelope가 ack되면 완료됩니다.</p>
+   *
+   * @param filePath   라인을 읽은 파일 경로(출처 헤더용)
+   * @param lineNumber 파일 내 라인 번호(출처 헤더용)
+   * @param key        레코드 키(없으면 null)
+   * @param rawLine    CSV 원본 라인 UTF-8 바이트
+   * @return envelope ack 시 정상 완료, 전송 실패 시 예외로 완료되는 Future
+   */
+  @Override
+  public CompletableFuture<Void> publishEnveloped(Path filePath, int lineNumber, String key,
+      byte[] rawLine) {
+    if (envelopeBatcher == null) {
+      return CompletableFuture.failedFuture(new IllegalStateException(
+          "envelope 모드가 비활성화되어 있습니다(csv.book.kafka.envelope.enabled=false)."));
+    }
+    if (rawLine == null || rawLine.length == 0) {
+      log.warn("null 또는 빈 CSV 라인 바이트는 Kafka로 전송하지 않습니다.");
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("rawLine must not be empty"));
+    }
+    return envelopeBatcher.add(filePath, lineNumber, key, rawLine);
+  }
+
+  /**
+   * CSV 한 라인을 변환한 JSON 객체를 JSON 전용 토픽으로 전송합니다.
+   *
+   * @param key  Kafka 레코드 키(없으면 null)
+   * @param json JSON 객체 UTF-8 바이트
+   * @return 브로커 ack 시 정상 완료, 전송 실패 시 예외로 완료되는 Future
+   */
+  @Override
+  public CompletableFuture<Void> publishJson(String key, byte[] json) {
+    if (json == null || json.length == 0) {
+      log.warn("null 또는 빈 JSON 메시지는 Kafka로 전송하지 않습니다.");
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("json must not be empty"));
+    }
+
+    // 샘플 1건만 출력(형식 확인용)
+    if (SAMPLE_LOGGED.compareAndSet(false, true)) {
+      String sample = abbreviate(new String(json, UTF_8), SAMPLE_MAX_LEN);
+      log.info("CSV 샘플 1건(payload, json). bytes={}, sample={}", json.length, sample);
+    }
+
+    return toAck(bytesKafkaTemplate.send(properties.json().topic(), key, json));
+  }
+
+  /**
+   * 모으는 중인 envelope를 즉시 전송합니다.
+   */
+  @Override
+  public void flush() {
+    if (envelopeBatcher != null) {
+      envelopeBatcher.flush();
+    }
+  }
+
+  /**
+   * 애플리케이션 종료 시 남은 envelope를 전송하고 linger 스레드를 멈춥니다.
+   */
+  @PreDestroy
+  public void close() {
+    if (envelopeBatcher != null) {
+      envelopeBatcher.close();
+    }
+  }
+
+  /**
+   * 전송 결과 Future를 ack 신호용 Future로 변환합니다.
+   *
+   * <p>실패 로그는 파일/라인 문맥을 아는 호출자(리스너)가 남기므로,
+   * 여기서는 성공 시 debug 로그만 출력합니다.</p>
+   */
+  private static CompletableFuture<Void> toAck(
+      CompletableFuture<? extends SendResult<String, ?>> future) {
+    return future.thenAccept(result -> {
+      if (log.isDebugEnabled()) {
+        log.debug(
+            "CSV 라인 Kafka 전송 성공. topic={}, partition={}, offset={}",
+            result.getRecordMetadata().topic(),
+            result.getRecordMetadata().partition(),
+            result.getRecordMetadata().offset()
+        );
+      }
+    });
   }
 
   private static String abbreviate(String s, int maxLen) {
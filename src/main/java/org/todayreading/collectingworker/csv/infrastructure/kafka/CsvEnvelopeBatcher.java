@@ -0,0 +1,339 @@
+package org.todayreading.collectingworker.csv.infrastructure.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProperties.EnvelopeFormat;
+import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProperties.EnvelopeProperties;
+
+/**
+ * CSV 라인을 모아 하나의 Kafka 메시지(envelope)로 전송하는 배처입니다.
+ *
+ * <p>라인은 (파일, 대상 파티션) 단위로 모읍니다. 키가 있는 라인은 기본 파티셔너와 같은 방식
+ * ({@code murmur2(key) % partitionCount})으로 파티션을 계산해 같은 파티션으로 갈 라인끼리만 묶고,
+ * 메시지는 그 파티션을 지정해 전송합니다. 키가 없는 라인은 파티션을 지정하지 않습니다.</p>
+ *
+ * <p>envelope 레코드에는 키를 붙이지 않습니다. 한 envelope에 여러 키의 라인이 담기므로 대표 키가 없고,
+ * 라인 키 하나를 붙이면 로그 컴팩션이 같은 키의 다른 envelope를 지울 수 있기 때문입니다.
+ * 따라서 {@code key-column}을 설정해도 보장되는 것은 같은 키의 라인이 같은 파티션으로 간다는 것뿐이며,
+ * 컨슈머는 라인 키가 필요하면 본문의 라인에서 다시 읽어야 합니다.</p>
+ *
+ * <p>envelope는 다음 중 하나가 되면 전송합니다.</p>
+ * <ul>
+ *   <li>라인 수가 {@code max-lines}에 도달</li>
+ *   <li>다음 라인을 더하면 본문이 {@code max-bytes}를 넘음(열린 envelope를 먼저 전송)</li>
+ *   <li>라인을 담은 본문이 {@code max-bytes} 이상이 됨({@code max-bytes}보다 큰 라인은 기다리지 않고
+ *       단독으로 바로 전송)</li>
+ *   <li>첫 라인을 담은 뒤 {@code linger}가 지남(전용 스케줄러 스레드가 주기적으로 확인)</li>
+ *   <li>{@link #flush()} 호출</li>
+ * </ul>
+ *
+ * <p>메시지 헤더에는 파일명, 첫/마지막 라인 번호, 라인 수, 본문 형식을 담습니다.
+ * 청크 모드에서는 한 파일의 라인이 여러 스레드에서 섞여 들어오므로, 라인 범위는 연속 구간이 아니라
+ * 담긴 라인 번호의 최소/최대값입니다.</p>
+ *
+ * <p>라인마다 반환하는 Future는 그 라인이 담긴 envelope의 전송 결과를 공유합니다.
+ * 열린 envelope는 {@link ConcurrentHashMap#compute}로만 갱신/분리하므로
+ * 여러 읽기 스레드와 스케줄러 스레드가 동시에 사용해도 안전합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+final class CsvEnvelopeBatcher implements AutoCloseable {
+
+  /** 라인을 읽은 파일명 헤더입니다. */
+  static final String HEADER_FILE = "csv-file";
+
+  /** envelope에 담긴 가장 작은 라인 번호 헤더입니다. */
+  static final String HEADER_FIRST_LINE = "csv-first-line";
+
+  /** envelope에 담긴 가장 큰 라인 번호 헤더입니다. */
+  static final String HEADER_LAST_LINE = "csv-last-line";
+
+  /** envelope에 담긴 라인 수 헤더입니다. */
+  static final String HEADER_LINE_COUNT = "csv-line-count";
+
+  /** envelope 본문 형식 헤더입니다({@code length-prefixed} 또는 {@code ndjson}). */
+  static final String HEADER_FORMAT = "csv-envelope-format";
+
+  /** linger 확인 스레드 이름 접두사입니다. */
+  private static final String LINGER_THREAD_PREFIX = "csv-envelope-";
+
+  /** 키가 없어 파티션을 지정하지 않는 envelope의 파티션 값입니다. */
+  private static final int NO_PARTITION = -1;
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+  private final String topic;
+  private final EnvelopeFormat format;
+  private final int maxLines;
+  private final long maxBytes;
+  private final long lingerNanos;
+
+  /** 아직 전송하지 않은 envelope입니다. */
+  private final Map<BatchKey, Envelope> open = new ConcurrentHashMap<>();
+
+  private final ScheduledExecutorService lingerScheduler;
+
+  /** 토픽 파티션 수입니다(처음 키 있는 라인을 받을 때 조회, 0이면 미조회). */
+  private volatile int partitionCount;
+
+  /**
+   * 배처를 생성하고 linger 확인을 시작합니다.
+   *
+   * @param kafkaTemplate envelope 전송에 사용할 KafkaTemplate(압축 설정 포함)
+   * @param topic         전송할 토픽
+   * @param properties    envelope 설정
+   */
+  CsvEnvelopeBatcher(KafkaTemplate<String, byte[]> kafkaTemplate, String topic,
+      EnvelopeProperties properties) {
+    this.kafkaTemplate = kafkaTemplate;
+    this.topic = topic;
+    this.format = properties.format();
+    this.maxLines = properties.maxLines();
+    this.maxBytes = properties.maxBytes().toBytes();
+    this.lingerNanos = properties.linger().toNanos();
+
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(LINGER_THREAD_PREFIX);
+    threadFactory.setDaemon(true);
+    this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    long intervalMillis = Math.max(1, properties.linger().toMillis());
+    lingerScheduler.scheduleWithFixedDelay(
+        this::sendExpired, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 라인을 envelope에 담습니다.
+   *
+   * @param filePath   라인을 읽은 파일 경로
+   * @param lineNumber 파일 내 라인 번호
+   * @param key        레코드 키(없으면 null)
+   * @param rawLine    CSV 원본 라인 UTF-8 바이트
+   * @return 라인이 담긴 envelope의 전송 결과
+   */
+  CompletableFuture<Void> add(Path filePath, int lineNumber, String key, byte[] rawLine) {
+    BatchKey batchKey = new BatchKey(filePath, key == null ? NO_PARTITION : partitionOf(key));
+
+    // 새 라인이 들어가지 않아 먼저 보낼 envelope와, 새 라인으로 가득 차 바로 보낼 envelope
+    Envelope[] ready = new Envelope[2];
+    Envelope[] joined = new Envelope[1];
+    open.compute(batchKey, (k, current) -> {
+      Envelope envelope = current;
+      if (envelope != null && envelope.size() + rawLine.length > maxBytes) {
+        ready[0] = envelope;
+        envelope = null;
+      }
+      if (envelope == null) {
+        envelope = new Envelope(k, format);
+      }
+      envelope.add(lineNumber, rawLine);
+      joined[0] = envelope;
+      if (envelope.lineCount >= maxLines || envelope.size() >= maxBytes) {
+        ready[1] = envelope;
+        return null;
+      }
+      return envelope;
+    });
+
+    for (Envelope envelope : ready) {
+      if (envelope != null) {
+        send(envelope);
+      }
+    }
+    return joined[0].future;
+  }
+
+  /**
+   * 열린 envelope를 모두 즉시 전송합니다.
+   */
+  void flush() {
+    detachAndSend(true);
+  }
+
+  /**
+   * linger 확인을 멈추고 남은 envelope를 전송합니다.
+   */
+  @Override
+  public void close() {
+    lingerScheduler.shutdown();
+    flush();
+  }
+
+  private void sendExpired() {
+    try {
+      detachAndSend(false);
+    } catch (RuntimeException e) {
+      // 스케줄러 스레드가 예외로 멈추지 않도록 로그만 남기고 다음 주기에 다시 시도합니다.
+      log.warn("CSV envelope linger 전송 실패.", e);
+    }
+  }
+
+  private void detachAndSend(boolean all) {
+    long now = System.nanoTime();
+    List<Envelope> due = new ArrayList<>();
+    for (BatchKey key : open.keySet()) {
+      open.computeIfPresent(key, (k, envelope) -> {
+        if (all || now - envelope.createdNanos >= lingerNanos) {
+          due.add(envelope);
+          return null;
+        }
+        return envelope;
+      });
+    }
+    due.forEach(this::send);
+  }
+
+  private void send(Envelope envelope) {
+    RecordHeaders headers = new RecordHeaders();
+    headers.add(HEADER_FILE, envelope.key.file().getFileName().toString().getBytes(UTF_8));
+    headers.add(HEADER_FIRST_LINE, Integer.toString(envelope.firstLine).getBytes(UTF_8));
+    headers.add(HEADER_LAST_LINE, Integer.toString(envelope.lastLine).getBytes(UTF_8));
+    headers.add(HEADER_LINE_COUNT, Integer.toString(envelope.lineCount).getBytes(UTF_8));
+    headers.add(HEADER_FORMAT, formatName(format).getBytes(UTF_8));
+
+    Integer partition = envelope.key.partition() == NO_PARTITION ? null : envelope.key.partition();
+    ProducerRecord<String, byte[]> record =
+        new ProducerRecord<>(topic, partition, null, envelope.body.toByteArray(), headers);
+
+    try {
+      kafkaTemplate.send(record).whenComplete((result, ex) -> {
+        if (ex != null) {
+          envelope.future.completeExceptionally(ex);
+          return;
+        }
+        if (log.isDebugEnabled()) {
+          log.debug("CSV envelope Kafka 전송 성공. file={}, lines=[{}, {}], lineCount={}, partition={}, offset={}",
+              envelope.key.file(), envelope.firstLine, envelope.lastLine, envelope.lineCount,
+              result.getRecordMetadata().partition(), result.getRecordMetadata().offset());
+        }
+        envelope.future.complete(null);
+      });
+    } catch (RuntimeException e) {
+      envelope.future.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * 기본 파티셔너(키 해시)와 같은 규칙으로 키의 파티션을 계산합니다.
+   */
+  private int partitionOf(String key) {
+    int count = partitionCount;
+    if (count == 0) {
+      count = kafkaTemplate.partitionsFor(topic).size();
+      partitionCount = count;
+    }
+    return Utils.toPositive(Utils.murmur2(key.getBytes(UTF_8))) % count;
+  }
+
+  private static String formatName(EnvelopeFormat format) {
+    return format == EnvelopeFormat.NDJSON ? "ndjson" : "length-prefixed";
+  }
+
+  /**
+   * envelope를 모으는 단위(파일, 대상 파티션)입니다.
+   */
+  private record BatchKey(Path file, int partition) {
+  }
+
+  /**
+   * 전송 전까지 라인을 모으는 envelope입니다.
+   *
+   * <p>{@link ConcurrentHashMap#compute} 안에서만 수정하고, 맵에서 분리된 뒤에만 전송하므로
+   * 별도 동기화가 필요하지 않습니다.</p>
+   */
+  private static final class Envelope {
+
+    final BatchKey key;
+    final EnvelopeFormat format;
+    final long createdNanos = System.nanoTime();
+    final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    int lineCount;
+    int firstLine = Integer.MAX_VALUE;
+    int lastLine;
+
+    Envelope(BatchKey key, EnvelopeFormat format) {
+      this.key = key;
+      this.format = format;
+    }
+
+    int size() {
+      return body.size();
+    }
+
+    void add(int lineNumber, byte[] line) {
+      if (format == EnvelopeFormat.NDJSON) {
+        writeJsonString(line);
+      } else {
+        writeLengthPrefixed(line);
+      }
+      lineCount++;
+      firstLine = Math.min(firstLine, lineNumber);
+      lastLine = Math.max(lastLine, lineNumber);
+    }
+
+    private void writeLengthPrefixed(byte[] line) {
+      int length = line.length;
+      body.write(length >>> 24);
+      body.write(length >>> 16);
+      body.write(length >>> 8);
+      body.write(length);
+      body.write(line, 0, length);
+    }
+
+    /**
+     * 라인을 JSON 문자열 한 줄로 씁니다.
+     *
+     * <p>UTF-8 멀티바이트 문자는 그대로 두고, 따옴표/역슬래시/제어 문자만 이스케이프합니다.</p>
+     */
+    private void writeJsonString(byte[] line) {
+      body.write('"');
+      for (byte b : line) {
+        int c = b & 0xFF;
+        switch (c) {
+          case '"' -> writeEscape('"');
+          case '\\' -> writeEscape('\\');
+          case '\n' -> writeEscape('n');
+          case '\r' -> writeEscape('r');
+          case '\t' -> writeEscape('t');
+          default -> {
+            if (c < 0x20) {
+              body.write('\\');
+              body.write('u');
+              body.write('0');
+              body.write('0');
+              body.write(HEX[c >>> 4]);
+              body.write(HEX[c & 0xF]);
+            } else {
+              body.write(c);
+            }
+          }
+        }
+      }
+      body.write('"');
+      body.write('\n');
+    }
+
+    private void writeEscape(char c) {
+      body.write('\\');
+      body.write(c);
+    }
+  }
+}
@@ -13,11 +13,16 @@ import org.springframework.stereotype.Component;
 import org.todayreading.collectingworker.csv.application.service.CsvBookDataTransfer;
 import org.todayreading.collectingworker.csv.application.service.command.CsvTransferCommand;
 import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProperties;
+import org.todayreading.collectingworker.job.application.CollectJob;
+import org.todayreading.collectingworker.job.application.CollectJobRegistry;
 
 /**
  * 애플리케이션 부팅 직후 CSV 전송 유스케이스를 자동 실행하는 Startup Runner입니다.
  *
- * <p>{@code csv.book.runner.enabled=true}일 때만 실행됩니다.</p>
+ * <p>{@code csv.book.runner.enabled=true}일 때만 실행됩니다.
+ * 전송은 {@link CollectJobRegistry}에 {@value #CSV_TRANSFER_JOB} 작업으로 등록해 실행하므로,
+ * 실행 중 {@code /internal/jobs}에서 진행 상황을 조회하거나 취소할 수 있습니다.
+ * 전송이 실패하면 작업에 실패를 기록한 뒤 예외를 다시 던져 애플리케이션 시작을 실패시킵니다(취소는 실패로 보지 않음).</p>
  *
  * @author 박성준
  * @since 1.0.0
@@ -28,8 +33,12 @@ import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProper
 @ConditionalOnProperty(prefix = "csv.book.runner", name = "enabled", havingValue = "true")
 public class CsvBookStartupRunner implements ApplicationRunner {
 
+  /** CSV 전송 작업 종류입니다. */
+  public static final String CSV_TRANSFER_JOB = "csv-transfer";
+
   private final CsvBookDataTransfer csvBookDataTransfer;
   private final CsvBookProperties csvBookProperties;
+  private final CollectJobRegistry collectJobRegistry;
 
   @Override
   public void run(ApplicationArguments args) {
@@ -42,7 +51,10 @@ public class CsvBookStartupRunner implements ApplicationRunner {
 
     logInputSummary(inputPath);
 
-    csvBookDataTransfer.transfer(new CsvTransferCommand(inputPath));
+    CollectJob job = collectJobRegistry.register(CSV_TRANSFER_JOB);
+    log.info("CSV 전송 작업 등록. jobId={}", job.id());
+    collectJobRegistry.runOrThrow(job,
+        registered -> csvBookDataTransfer.transfer(new CsvTransferCommand(inputPath), registered));
   }
 
   private void logInputSummary(Path inputPath) {
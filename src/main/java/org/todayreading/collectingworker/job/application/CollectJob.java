@@ -0,0 +1,375 @@
+package org.todayreading.collectingworker.job.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 수집 작업(네이버 풀스캔/증분 수집, CSV 전송) 한 번의 진행 상황과 취소 요청을 담는 객체입니다.
+ *
+ * <p>작업은 단위(unit) 작업으로 나뉩니다(네이버는 검색어, CSV는 파일). 수집 서비스는 단위마다
+ * {@link #startUnit(String)}으로 받은 {@link Unit}에 발행한 아이템 수와 완료/실패를 기록하고,
+ * 작업 전체의 아이템 수/오류 수/초당 아이템 수는 {@link #snapshot()}이 계산합니다.
+ * 진행 중인 단위만 목록으로 남기고 끝난 단위는 개수만 세므로, 단위가 수만 개여도 메모리가 늘지 않습니다.</p>
+ *
+ * <p>취소는 협조적입니다. {@link CollectJobRegistry#cancel(String)}이 취소 요청을 표시하면
+ * 수집 서비스가 조회/읽기 루프에서 {@link #isCancelRequested()} 또는 {@link #throwIfCancelled()}로 확인해 멈춥니다.
+ * 이미 보낸 발행의 ack는 기다리므로 체크포인트에는 마지막으로 ack를 받은 위치가 남습니다.
+ * 작업이 {@link #openScope(String, int)}로 연 실행 범위의 가상 스레드는 취소 요청과 함께 인터럽트되므로,
+ * 응답이나 허용량을 기다리던 하위 작업도 다음 확인 지점을 기다리지 않고 바로 멈춥니다.</p>
+ *
+ * <p>레지스트리에 등록하지 않은 작업({@link #untracked(String)})도 같은 방식으로 기록할 수 있어,
+ * 수집 서비스를 직접 호출하는 곳에서도 같은 메서드를 사용합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public final class CollectJob {
+
+  /** 최근 오류 메시지를 남겨 두는 최대 개수입니다. */
+  private static final int MAX_RECENT_ERRORS = 20;
+
+  /**
+   * 작업 상태입니다.
+   */
+  public enum Status {
+    /** 실행 대기 중입니다. */
+    QUEUED,
+    /** 실행 중입니다. */
+    RUNNING,
+    /** 끝까지 실행했습니다(단위 작업의 일부 실패는 오류 수로 집계). */
+    SUCCEEDED,
+    /** 실행 조건이 맞지 않아(쿼터 소진, 중복 실행 등) 실행하지 않았습니다. */
+    SKIPPED,
+    /** 예외로 중단되었습니다. */
+    FAILED,
+    /** 취소 요청으로 중단되었습니다. */
+    CANCELLED
+  }
+
+  private final String id;
+  private final String type;
+  private final Instant createdAt;
+
+  private volatile Status status = Status.QUEUED;
+  private volatile Instant startedAt;
+  private volatile Instant finishedAt;
+  private volatile boolean cancelRequested;
+
+  /** 작업 결과를 설명하는 메시지입니다(건너뛴 이유, 실패 원인 등). */
+  private volatile String message;
+
+  private final LongAdder items = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final AtomicInteger startedUnits = new AtomicInteger();
+  private final AtomicInteger completedUnits = new AtomicInteger();
+  private final AtomicInteger failedUnits = new AtomicInteger();
+
+  /** 진행 중인 단위 작업입니다(끝나면 제거). */
+  private final Map<Unit, Boolean> activeUnits = new ConcurrentHashMap<>();
+
+  /** 열려 있는 실행 범위입니다(취소 요청 시 함께 취소). */
+  private final Set<CollectJobScope> openScopes = ConcurrentHashMap.newKeySet();
+
+  /** 최근 오류 메시지입니다(오래된 것부터 버림). */
+  private final Deque<String> recentErrors = new ArrayDeque<>();
+
+  CollectJob(String id, String type) {
+    this.id = id;
+    this.type = type;
+    this.createdAt = Instant.now();
+  }
+
+  /**
+   * 레지스트리에 등록하지 않는 작업을 생성합니다(수집 서비스를 직접 호출하는 경우).
+   *
+   * @param type 작업 종류
+   * @return 실행 중 상태의 작업
+   */
+  public static CollectJob untracked(String type) {
+    CollectJob job = new CollectJob(UUID.randomUUID().toString(), type);
+    job.markRunning();
+    return job;
+  }
+
+  public String id() {
+    return id;
+  }
+
+  public String type() {
+    return type;
+  }
+
+  public Status status() {
+    return status;
+  }
+
+  /**
+   * 취소 요청을 받았는지 반환합니다. 조회/읽기 루프에서 다음 단위를 시작하기 전에 확인합니다.
+   *
+   * @return 취소 요청을 받았으면 true
+   */
+  public boolean isCancelRequested() {
+    return cancelRequested;
+  }
+
+  /**
+   * 취소 요청을 받았으면 {@link CollectJobCancelledException}을 던집니다.
+   *
+   * @throws CollectJobCancelledException 취소 요청을 받은 경우
+   */
+  public void throwIfCancelled() {
+    if (cancelRequested) {
+      throw new CollectJobCancelledException("Collect job cancelled. id=" + id);
+    }
+  }
+
+  /**
+   * 작업을 실행하지 않고 건너뛰었음을 기록합니다. 작업이 정상 종료되면 {@link Status#SKIPPED}가 됩니다.
+   *
+   * @param reason 건너뛴 이유
+   */
+  public void markSkipped(String reason) {
+    this.message = reason;
+    this.status = Status.SKIPPED;
+  }
+
+  /**
+   * 단위 작업(검색어, 파일) 하나를 시작합니다.
+   *
+   * @param name 단위 작업 이름
+   * @return 단위 작업의 진행 상황
+   */
+  public Unit startUnit(String name) {
+    Unit unit = new Unit(name);
+    startedUnits.incrementAndGet();
+    activeUnits.put(unit, Boolean.TRUE);
+    return unit;
+  }
+
+  /**
+   * 하위 작업을 가상 스레드로 실행할 실행 범위를 엽니다. 동시에 실행하는 하위 작업은 {@code parallelism}개로 제한합니다.
+   *
+   * <p>열린 범위는 작업에 취소가 요청되면 함께 취소됩니다. 이미 취소가 요청된 작업이면 취소된 범위를 반환합니다.</p>
+   *
+   * @param name        가상 스레드 이름 접두사
+   * @param parallelism 동시에 실행할 하위 작업 수
+   * @return 실행 범위(try-with-resources로 닫아야 함)
+   */
+  public CollectJobScope openScope(String name, int parallelism) {
+    CollectJobScope scope = new CollectJobScope(this, name, parallelism);
+    openScopes.add(scope);
+    if (cancelRequested) {
+      // 범위를 등록하는 사이에 취소 요청이 들어온 경우에도 함께 취소합니다.
+      scope.cancel();
+    }
+    return scope;
+  }
+
+  /**
+   * 단위 작업을 끝내지 않는 오류(아이템 발행 실패 등)를 기록합니다.
+   *
+   * @param unit  오류가 난 단위 작업 이름
+   * @param error 오류
+   */
+  public void recordError(String unit, Throwable error) {
+    errors.increment();
+    String entry = unit + ": " + error;
+    synchronized (recentErrors) {
+      if (recentErrors.size() == MAX_RECENT_ERRORS) {
+        recentErrors.pollFirst();
+      }
+      recentErrors.addLast(entry);
+    }
+  }
+
+  /**
+   * 현재 진행 상황을 반환합니다.
+   *
+   * @return 진행 상황 스냅샷
+   */
+  public Snapshot snapshot() {
+    Instant start = startedAt;
+    Instant end = finishedAt != null ? finishedAt : Instant.now();
+    long elapsedMs = start == null ? 0 : Duration.between(start, end).toMillis();
+    long itemCount = items.sum();
+    double itemsPerSecond = elapsedMs == 0 ? 0 : itemCount * 1000.0 / elapsedMs;
+    List<UnitSnapshot> units = activeUnits.keySet().stream()
+        .sorted(Comparator.comparing(unit -> unit.startedAt))
+        .map(unit -> unit.snapshot(end))
+        .toList();
+    List<String> errorMessages;
+    synchronized (recentErrors) {
+      errorMessages = new ArrayList<>(recentErrors);
+    }
+    return new Snapshot(id, type, status, createdAt, start, finishedAt, elapsedMs,
+        cancelRequested, itemCount, Math.round(itemsPerSecond * 10) / 10.0, errors.sum(),
+        startedUnits.get(), completedUnits.get(), failedUnits.get(), units, errorMessages,
+        message);
+  }
+
+  void markRunning() {
+    startedAt = Instant.now();
+    status = Status.RUNNING;
+  }
+
+  void requestCancel() {
+    cancelRequested = true;
+    openScopes.forEach(CollectJobScope::cancel);
+  }
+
+  void closeScope(CollectJobScope scope) {
+    openScopes.remove(scope);
+  }
+
+  /**
+   * 작업을 끝난 상태로 기록합니다. 건너뛴 작업은 정상 종료 시 {@link Status#SKIPPED}를 유지합니다.
+   *
+   * @param result 종료 상태
+   * @param error  실패/취소 원인(없으면 null)
+   */
+  void markFinished(Status result, Throwable error) {
+    if (error != null) {
+      message = String.valueOf(error);
+    }
+    if (!(result == Status.SUCCEEDED && status == Status.SKIPPED)) {
+      status = result;
+    }
+    finishedAt = Instant.now();
+  }
+
+  boolean isFinished() {
+    return finishedAt != null;
+  }
+
+  /**
+   * 단위 작업(검색어, 파일) 하나의 진행 상황입니다.
+   */
+  public final class Unit {
+
+    private final String name;
+    private final Instant startedAt = Instant.now();
+    private final LongAdder unitItems = new LongAdder();
+
+    private Unit(String name) {
+      this.name = name;
+    }
+
+    public String name() {
+      return name;
+    }
+
+    /**
+     * 발행한(ack를 받은) 아이템 수를 더합니다.
+     *
+     * @param count 아이템 수
+     */
+    public void addItems(long count) {
+      unitItems.add(count);
+      items.add(count);
+    }
+
+    /**
+     * 단위 작업의 발행 실패를 작업 오류로 기록합니다.
+     *
+     * @param error 오류
+     */
+    public void recordError(Throwable error) {
+      CollectJob.this.recordError(name, error);
+    }
+
+    /**
+     * 단위 작업을 끝까지 마쳤음을 기록합니다.
+     */
+    public void complete() {
+      if (activeUnits.remove(this) != null) {
+        completedUnits.incrementAndGet();
+      }
+    }
+
+    /**
+     * 단위 작업이 실패했음을 기록합니다.
+     *
+     * @param error 실패 원인
+     */
+    public void fail(Throwable error) {
+      if (activeUnits.remove(this) != null) {
+        failedUnits.incrementAndGet();
+        CollectJob.this.recordError(name, error);
+      }
+    }
+
+    /**
+     * 취소 등으로 끝내지 못한 단위 작업을 완료/실패로 세지 않고 진행 목록에서 뺍니다.
+     */
+    public void abandon() {
+      activeUnits.remove(this);
+    }
+
+    private UnitSnapshot snapshot(Instant end) {
+      return new UnitSnapshot(name, unitItems.sum(), Duration.between(startedAt, end).toMillis());
+    }
+  }
+
+  /**
+   * 작업 진행 상황 스냅샷입니다({@code GET /internal/jobs/{id}} 응답).
+   *
+   * @param id              작업 ID
+   * @param type            작업 종류
+   * @param status          작업 상태
+   * @param createdAt       등록 시각
+   * @param startedAt       실행 시작 시각(대기 중이면 null)
+   * @param finishedAt      종료 시각(진행 중이면 null)
+   * @param elapsedMs       실행 시간(ms)
+   * @param cancelRequested 취소 요청 여부
+   * @param items           발행한(ack를 받은) 아이템 수
+   * @param itemsPerSecond  실행 시간 기준 초당 아이템 수
+   * @param errors          오류 수(실패한 단위 작업과 발행 실패)
+   * @param startedUnits    시작한 단위 작업 수
+   * @param completedUnits  끝까지 마친 단위 작업 수
+   * @param failedUnits     실패한 단위 작업 수
+   * @param activeUnits     진행 중인 단위 작업(시작 순)
+   * @param recentErrors    최근 오류 메시지
+   * @param message         작업 결과 메시지(건너뛴 이유, 실패 원인 등)
+   */
+  public record Snapshot(
+      String id,
+      String type,
+      Status status,
+      Instant createdAt,
+      Instant startedAt,
+      Instant finishedAt,
+      long elapsedMs,
+      boolean cancelRequested,
+      long items,
+      double itemsPerSecond,
+      long errors,
+      int startedUnits,
+      int completedUnits,
+      int failedUnits,
+      List<UnitSnapshot> activeUnits,
+      List<String> recentErrors,
+      String message
+  ) {
+  }
+
+  /**
+   * 진행 중인 단위 작업 스냅샷입니다.
+   *
+   * @param name      단위 작업 이름(검색어, 파일 이름)
+   * @param items     발행한 아이템 수
+   * @param elapsedMs 시작 후 경과 시간(ms, 작업이 끝났으면 종료 시각까지)
+   */
+  public record UnitSnapshot(String name, long items, long elapsedMs) {
+  }
+}
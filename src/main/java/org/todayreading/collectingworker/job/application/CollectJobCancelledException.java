@@ -0,0 +1,17 @@
+package org.todayreading.collectingworker.job.application;
+
+/**
+ * 수집 작업이 취소 요청으로 중단되었음을 나타냅니다.
+ *
+ * <p>{@link CollectJob#throwIfCancelled()}가 조회/읽기 루프에서 던지며,
+ * {@link CollectJobRegistry}는 이 예외로 끝난 작업을 실패가 아닌 {@link CollectJob.Status#CANCELLED}로 기록합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public class CollectJobCancelledException extends RuntimeException {
+
+  public CollectJobCancelledException(String message) {
+    super(message);
+  }
+}
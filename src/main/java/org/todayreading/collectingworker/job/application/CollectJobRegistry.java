@@ -0,0 +1,198 @@
+package org.todayreading.collectingworker.job.application;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.job.application.CollectJob.Snapshot;
+import org.todayreading.collectingworker.job.application.CollectJob.Status;
+import org.todayreading.collectingworker.job.infrastructure.config.CollectJobProperties;
+
+/**
+ * 수집 작업(네이버 풀스캔/증분 수집, CSV 전송)에 ID를 붙여 실행 상태를 추적하는 레지스트리입니다.
+ *
+ * <p>작업을 트리거하는 곳(컨트롤러, 스케줄러, 시작 러너)은 {@link #register(String)}로 작업을 등록한 뒤
+ * {@link #run(CollectJob, Consumer)}로 실행합니다. 레지스트리는 실행 시작/종료 시각과 종료 상태
+ * (성공, 건너뜀, 실패, 취소)를 기록하고, 끝난 작업은 {@code job.history-size}개까지 실행 이력으로 남깁니다.</p>
+ *
+ * <p>{@link #cancel(String)}은 작업에 취소 요청을 표시하고 작업이 연 {@link CollectJobScope}의 가상 스레드를 인터럽트하며,
+ * 실제 중단은 수집 서비스가 루프에서 확인해 처리합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class CollectJobRegistry {
+
+  /** 실행 이력으로 남기는 끝난 작업 수입니다. */
+  private final int historySize;
+
+  /** 대기/실행 중인 작업입니다. */
+  private final Map<String, CollectJob> activeJobs = new ConcurrentHashMap<>();
+
+  /** 끝난 작업 이력입니다(최근 것이 앞). */
+  private final Deque<CollectJob> history = new ArrayDeque<>();
+
+  /**
+   * 설정 값으로 레지스트리를 생성합니다.
+   *
+   * @param collectJobProperties 작업 레지스트리 설정(history-size)
+   */
+  public CollectJobRegistry(CollectJobProperties collectJobProperties) {
+    this.historySize = Math.max(1, collectJobProperties.historySize());
+  }
+
+  /**
+   * 새 작업을 대기 상태로 등록합니다.
+   *
+   * @param type 작업 종류(예: {@code naver-full-scan})
+   * @return 등록한 작업
+   */
+  public CollectJob register(String type) {
+    CollectJob job = new CollectJob(UUID.randomUUID().toString(), type);
+    activeJobs.put(job.id(), job);
+    return job;
+  }
+
+  /**
+   * 작업을 현재 스레드에서 실행하고 종료 상태를 기록합니다.
+   *
+   * <p>작업 본문의 예외는 로그를 남기고 삼킵니다(비동기 실행 스레드로 전파하지 않음).
+   * 취소 요청을 받은 작업은 정상 종료해도 {@link Status#CANCELLED}로 기록하며,
+   * 실행을 기다리는 동안 취소된 작업은 본문을 실행하지 않습니다.</p>
+   *
+   * @param job  등록한 작업
+   * @param body 작업 본문
+   */
+  public void run(CollectJob job, Consumer<CollectJob> body) {
+    execute(job, body);
+  }
+
+  /**
+   * 작업을 현재 스레드에서 실행하고 종료 상태를 기록한 뒤, 실패했으면 그 예외를 호출자에게 다시 던집니다.
+   *
+   * <p>시작 러너처럼 작업 실패가 호출자의 실패여야 하는 곳에서 사용합니다. 취소된 작업은 실패로 보지 않습니다.</p>
+   *
+   * @param job  등록한 작업
+   * @param body 작업 본문
+   * @throws RuntimeException 작업 본문이 던진 예외(취소 제외)
+   */
+  public void runOrThrow(CollectJob job, Consumer<CollectJob> body) {
+    RuntimeException failure = execute(job, body);
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * 작업을 실행하고 종료 상태를 기록합니다.
+   *
+   * @return 작업을 실패로 끝낸 예외(성공, 건너뜀, 취소이면 null)
+   */
+  private RuntimeException execute(CollectJob job, Consumer<CollectJob> body) {
+    if (job.isCancelRequested()) {
+      finish(job, Status.CANCELLED, null);
+      return null;
+    }
+    job.markRunning();
+    log.info("Collect job started. id={}, type={}", job.id(), job.type());
+    Status result;
+    RuntimeException error = null;
+    try {
+      body.accept(job);
+      result = job.isCancelRequested() ? Status.CANCELLED : Status.SUCCEEDED;
+    } catch (CollectJobCancelledException e) {
+      result = Status.CANCELLED;
+    } catch (RuntimeException e) {
+      result = job.isCancelRequested() ? Status.CANCELLED : Status.FAILED;
+      error = e;
+      log.error("Collect job failed. id={}, type={}", job.id(), job.type(), e);
+    }
+    finish(job, result, error);
+    return result == Status.FAILED ? error : null;
+  }
+
+  /**
+   * 실행기에 제출하지 못한 작업을 실패로 기록합니다.
+   *
+   * @param job   등록한 작업
+   * @param error 제출 실패 원인
+   */
+  public void reject(CollectJob job, Throwable error) {
+    finish(job, Status.FAILED, error);
+  }
+
+  /**
+   * 작업을 조회합니다(진행 중인 작업과 실행 이력).
+   *
+   * @param id 작업 ID
+   * @return 작업(없으면 빈 값)
+   */
+  public Optional<CollectJob> find(String id) {
+    CollectJob active = activeJobs.get(id);
+    if (active != null) {
+      return Optional.of(active);
+    }
+    synchronized (history) {
+      return history.stream().filter(job -> job.id().equals(id)).findFirst();
+    }
+  }
+
+  /**
+   * 진행 중인 작업과 실행 이력의 스냅샷을 반환합니다(진행 중인 작업이 앞).
+   *
+   * @return 작업 스냅샷 목록
+   */
+  public List<Snapshot> list() {
+    List<Snapshot> snapshots = new ArrayList<>();
+    activeJobs.values().stream()
+        .map(CollectJob::snapshot)
+        .sorted((a, b) -> b.createdAt().compareTo(a.createdAt()))
+        .forEach(snapshots::add);
+    synchronized (history) {
+      history.forEach(job -> snapshots.add(job.snapshot()));
+    }
+    return snapshots;
+  }
+
+  /**
+   * 작업에 취소를 요청합니다. 이미 끝난 작업은 그대로 둡니다.
+   *
+   * @param id 작업 ID
+   * @return 작업(없으면 빈 값)
+   */
+  public Optional<CollectJob> cancel(String id) {
+    Optional<CollectJob> job = find(id);
+    job.filter(found -> !found.isFinished()).ifPresent(found -> {
+      found.requestCancel();
+      log.info("Collect job cancel requested. id={}, type={}", found.id(), found.type());
+    });
+    return job;
+  }
+
+  private void finish(CollectJob job, Status result, Throwable error) {
+    job.markFinished(result, error);
+    synchronized (history) {
+      history.addFirst(job);
+      while (history.size() > historySize) {
+        history.pollLast();
+      }
+    }
+    activeJobs.remove(job.id());
+
+    Snapshot snapshot = job.snapshot();
+    log.info("Collect job finished. id={}, type={}, status={}, elapsedMs={}, items={}, "
+            + "itemsPerSecond={}, errors={}, completedUnits={}, failedUnits={}",
+        snapshot.id(), snapshot.type(), snapshot.status(), snapshot.elapsedMs(), snapshot.items(),
+        snapshot.itemsPerSecond(), snapshot.errors(), snapshot.completedUnits(),
+        snapshot.failedUnits());
+  }
+}
@@ -0,0 +1,102 @@
+package org.todayreading.collectingworker.job.application;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 수집 작업 하나의 하위 작업(검색어 워커 등)을 가상 스레드로 실행하는 실행 범위(scope)입니다.
+ *
+ * <p>제출한 작업마다 가상 스레드를 하나씩 만들고, 동시에 실행하는 작업 수는 스레드 풀 크기가 아니라
+ * {@code parallelism}개의 허용량을 가진 {@link Semaphore}로 제한합니다. 허용량을 기다리거나 응답을 기다리는
+ * 작업은 가상 스레드만 멈추므로, 대기 중인 작업이 수백 개여도 플랫폼 스레드를 점유하지 않습니다.</p>
+ *
+ * <p>범위는 {@link CollectJob#openScope(String, int)}로 열며, 작업에 취소가 요청되면
+ * 범위 안에서 실행 중인 모든 가상 스레드를 인터럽트해 응답/허용량 대기를 함께 끝냅니다.
+ * 취소 뒤에 제출한 작업도 인터럽트된 상태로 실행되므로, 하위 작업은 취소 요청을 확인하고 바로 끝나면 됩니다
+ * (제출을 거절하지 않으므로 완료 수를 세는 호출자가 기다리다 멈추지 않음).</p>
+ *
+ * <p>{@link #close()}는 제출한 작업이 모두 끝날 때까지 기다린 뒤 범위를 닫습니다.
+ * try-with-resources로 사용하면 작업 본문이 끝나기 전에 하위 작업이 남지 않습니다.</p>
+ *
+ * <p>Java 21의 {@code StructuredTaskScope}는 프리뷰 API이므로, 같은 역할(작업 단위 수명, 함께 취소)을
+ * 가상 스레드 Executor로 구성했습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public final class CollectJobScope implements Executor, AutoCloseable {
+
+  private final CollectJob job;
+  private final ExecutorService executor;
+  private final Semaphore permits;
+
+  /** 실행 중인 하위 작업의 가상 스레드입니다(취소 시 인터럽트). */
+  private final Set<Thread> running = ConcurrentHashMap.newKeySet();
+
+  private volatile boolean cancelled;
+
+  CollectJobScope(CollectJob job, String name, int parallelism) {
+    this.job = job;
+    this.executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name(name, 0).factory());
+    this.permits = new Semaphore(Math.max(1, parallelism), true);
+  }
+
+  /**
+   * 하위 작업을 새 가상 스레드에서 실행합니다. 허용량을 얻을 때까지 그 가상 스레드에서 기다립니다.
+   *
+   * <p>허용량을 기다리는 중에 취소되면 허용량 없이 작업을 실행하며(인터럽트 상태 유지),
+   * 작업은 취소 요청을 확인하고 바로 끝나야 합니다.</p>
+   *
+   * @param task 하위 작업
+   */
+  @Override
+  public void execute(Runnable task) {
+    executor.execute(() -> {
+      Thread current = Thread.currentThread();
+      running.add(current);
+      if (cancelled) {
+        current.interrupt();
+      }
+      boolean acquired = false;
+      try {
+        permits.acquire();
+        acquired = true;
+      } catch (InterruptedException e) {
+        current.interrupt();
+      }
+      try {
+        task.run();
+      } finally {
+        if (acquired) {
+          permits.release();
+        }
+        running.remove(current);
+      }
+    });
+  }
+
+  /**
+   * 실행 중인 하위 작업을 모두 인터럽트하고, 이후에 제출하는 작업도 인터럽트된 상태로 실행합니다.
+   */
+  void cancel() {
+    cancelled = true;
+    running.forEach(Thread::interrupt);
+  }
+
+  /**
+   * 제출한 하위 작업이 모두 끝날 때까지 기다린 뒤 범위를 닫습니다.
+   */
+  @Override
+  public void close() {
+    try {
+      executor.close();
+    } finally {
+      job.closeScope(this);
+    }
+  }
+}
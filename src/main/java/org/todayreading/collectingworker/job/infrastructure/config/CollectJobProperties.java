@@ -0,0 +1,25 @@
+package org.todayreading.collectingworker.job.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 수집 작업 레지스트리 설정({@code job.*})을 바인딩하는 프로퍼티 레코드입니다.
+ *
+ * <pre>
+ * job:
+ *   history-size: 50
+ *   naver-max-running: 4
+ * </pre>
+ *
+ * @param historySize     끝난 작업을 조회용으로 남겨 두는 최대 개수(오래된 것부터 버림)
+ * @param naverMaxRunning 동시에 실행하는 네이버 수집 작업(full/incremental) 수(나머지는 대기)
+ * @author 박성준
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "job")
+public record CollectJobProperties(
+    @DefaultValue("50") int historySize,
+    @DefaultValue("4") int naverMaxRunning
+) {
+}
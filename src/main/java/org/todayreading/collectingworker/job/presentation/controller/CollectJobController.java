@@ -0,0 +1,79 @@
+package org.todayreading.collectingworker.job.presentation.controller;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.todayreading.collectingworker.job.application.CollectJob;
+import org.todayreading.collectingworker.job.application.CollectJob.Snapshot;
+import org.todayreading.collectingworker.job.application.CollectJobRegistry;
+
+/**
+ * 수집 작업의 진행 상황 조회와 취소를 위한 내부 컨트롤러입니다.
+ *
+ * <p>작업 ID는 트리거 응답(예: {@code POST /internal/naver/collect/full-scan})의 본문과
+ * {@code Location} 헤더로 받을 수 있습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/internal/jobs")
+@RequiredArgsConstructor
+public class CollectJobController {
+
+  private final CollectJobRegistry collectJobRegistry;
+
+  /**
+   * 진행 중인 작업과 최근 실행 이력을 조회합니다.
+   *
+   * @return 작업 스냅샷 목록(진행 중인 작업이 앞)
+   * @author 박성준
+   * @since 1.0.0
+   */
+  @GetMapping
+  public List<Snapshot> listJobs() {
+    return collectJobRegistry.list();
+  }
+
+  /**
+   * 작업 하나의 진행 상황을 조회합니다.
+   *
+   * @param id 작업 ID
+   * @return 작업 스냅샷, 없으면 HTTP 404
+   * @author 박성준
+   * @since 1.0.0
+   */
+  @GetMapping("/{id}")
+  public ResponseEntity<Snapshot> getJob(@PathVariable String id) {
+    return collectJobRegistry.find(id)
+        .map(CollectJob::snapshot)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  /**
+   * 작업에 취소를 요청합니다.
+   *
+   * <p>수집 서비스가 다음 검색어/페이지/라인을 처리하기 전에 취소 요청을 확인해 멈추므로,
+   * 응답 시점에는 아직 실행 중일 수 있습니다({@code 202 Accepted}). 이미 끝난 작업은 그대로 {@code 200}으로 반환합니다.</p>
+   *
+   * @param id 작업 ID
+   * @return 작업 스냅샷, 없으면 HTTP 404
+   * @author 박성준
+   * @since 1.0.0
+   */
+  @DeleteMapping("/{id}")
+  public ResponseEntity<Snapshot> cancelJob(@PathVariable String id) {
+    return collectJobRegistry.cancel(id)
+        .map(CollectJob::snapshot)
+        .map(snapshot -> snapshot.finishedAt() == null
+            ? ResponseEntity.accepted().body(snapshot)
+            : ResponseEntity.ok(snapshot))
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+}
@@ -0,0 +1,131 @@
+package org.todayreading.collectingworker.naver.application.dedup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.todayreading.collectingworker.naver.application.dto.NaverSearchItem;
+import org.todayreading.collectingworker.naver.application.port.out.NaverBookPublishPort;
+import org.todayreading.collectingworker.naver.application.port.out.NaverItemFingerprintPort;
+
+/**
+ * 마지막 발행 이후 내용이 바뀌지 않은 도서를 걸러내고, 새 도서와 바뀐 도서만 위임 포트로 발행하는 데코레이터입니다.
+ *
+ * <p>도서의 지문({@link NaverItemFingerprints})을 {@link NaverItemFingerprintPort}에 저장된 값과 비교합니다.
+ * 지문은 위임 포트의 발행이 수신 확인(ack)된 뒤에만 저장하므로, 전송에 실패한 도서는 다음 실행에서 다시 발행됩니다.
+ * ISBN이 없는 도서는 비교할 수 없어 그대로 발행합니다.</p>
+ *
+ * <p>스캔마다 새로 생성하며, 스캔이 끝나면 {@link #awaitAcks(long, TimeUnit)}로 남은 ack를 기다린 뒤
+ * 저장소를 {@link NaverItemFingerprintPort#flush() flush}합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public class ChangeDetectingBookPublisher implements NaverBookPublishPort {
+
+  /** 실제 발행을 담당하는 포트입니다. */
+  private final NaverBookPublishPort delegate;
+
+  /** ISBN별 마지막 발행 지문 저장소입니다. */
+  private final NaverItemFingerprintPort fingerprintPort;
+
+  /** 내용이 바뀌지 않아 발행하지 않은 도서 수입니다. */
+  private final AtomicLong unchangedItems = new AtomicLong();
+
+  /** ack를 기다리는 발행 묶음 수입니다. */
+  private final AtomicLong pendingAcks = new AtomicLong();
+
+  /** 발행에 실패해 지문을 저장하지 않은 묶음 수입니다. */
+  private final AtomicLong failedPublishes = new AtomicLong();
+
+  public ChangeDetectingBookPublisher(NaverBookPublishPort delegate,
+      NaverItemFingerprintPort fingerprintPort) {
+    this.delegate = delegate;
+    this.fingerprintPort = fingerprintPort;
+  }
+
+  /**
+   * 새 도서와 내용이 바뀐 도서만 발행하고, ack가 오면 그 지문을 저장합니다.
+   *
+   * @param items 발행할 도서 아이템 목록
+   * @return 위임 포트의 발행 결과(발행할 도서가 없으면 완료된 Future)
+   */
+  @Override
+  public CompletableFuture<Void> publish(List<NaverSearchItem> items) {
+    if (items == null || items.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    List<NaverSearchItem> changed = new ArrayList<>(items.size());
+    long[] isbns = new long[items.size()];
+    long[] fingerprints = new long[items.size()];
+    for (NaverSearchItem item : items) {
+      long isbn = IsbnNormalizer.toIsbn13(item.isbn());
+      long fingerprint = NaverItemFingerprints.of(item);
+      if (isbn != IsbnNormalizer.NO_ISBN && fingerprintPort.isUnchanged(isbn, fingerprint)) {
+        unchangedItems.incrementAndGet();
+        continue;
+      }
+      isbns[changed.size()] = isbn;
+      fingerprints[changed.size()] = fingerprint;
+      changed.add(item);
+    }
+
+    if (changed.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    int count = changed.size();
+    pendingAcks.incrementAndGet();
+    return delegate.publish(changed).whenComplete((ignored, ex) -> {
+      try {
+        if (ex != null) {
+          failedPublishes.incrementAndGet();
+          return;
+        }
+        for (int i = 0; i < count; i++) {
+          if (isbns[i] != IsbnNormalizer.NO_ISBN) {
+            fingerprintPort.record(isbns[i], fingerprints[i]);
+          }
+        }
+      } finally {
+        if (pendingAcks.decrementAndGet() == 0) {
+          synchronized (pendingAcks) {
+            pendingAcks.notifyAll();
+          }
+        }
+      }
+    });
+  }
+
+  /**
+   * 발행한 묶음의 ack(또는 실패)를 모두 받을 때까지 기다립니다.
+   *
+   * @param timeout 최대 대기 시간
+   * @param unit    대기 시간 단위
+   * @return 모두 받았으면 {@code true}, 시간 안에 받지 못했으면 {@code false}
+   * @throws InterruptedException 대기 중 인터럽트가 발생한 경우
+   */
+  public boolean awaitAcks(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    synchronized (pendingAcks) {
+      while (pendingAcks.get() > 0) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+          return false;
+        }
+        pendingAcks.wait(remainingMillis);
+      }
+    }
+    return true;
+  }
+
+  public long unchangedItems() {
+    return unchangedItems.get();
+  }
+
+  public long failedPublishes() {
+    return failedPublishes.get();
+  }
+}
@@ -0,0 +1,90 @@
+package org.todayreading.collectingworker.naver.application.dedup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.todayreading.collectingworker.naver.application.dto.NaverSearchItem;
+import org.todayreading.collectingworker.naver.application.port.out.NaverBookPublishPort;
+
+/**
+ * 한 번의 스캔 동안 이미 발행한 ISBN의 도서를 걸러내고 나머지만 위임 포트로 발행하는 데코레이터입니다.
+ *
+ * <p>같은 도서가 여러 검색어 결과에 반복해서 나타나므로, ISBN-13({@link IsbnNormalizer}) 기준으로
+ * 처음 본 도서만 발행합니다. 중복 판정 상태는 인스턴스에만 있으므로 스캔마다 새로 생성해 사용합니다.
+ * ISBN이 없는 도서는 중복을 판정할 수 없어 그대로 발행합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public class DeduplicatingBookPublisher implements NaverBookPublishPort {
+
+  /** 스캔 한 번에서 처음 예상하는 고유 도서 수입니다(넘으면 집합이 자동으로 커짐). */
+  private static final int EXPECTED_BOOKS = 1 << 16;
+
+  /** 실제 발행을 담당하는 포트입니다. */
+  private final NaverBookPublishPort delegate;
+
+  /** 이미 발행한 ISBN-13 집합입니다. */
+  private final IsbnLongSet publishedIsbns = new IsbnLongSet(EXPECTED_BOOKS);
+
+  /** 중복이 아니어서 위임 포트로 넘긴 도서 수입니다. */
+  private final AtomicLong uniqueItems = new AtomicLong();
+
+  /** 이미 발행한 ISBN이라 발행하지 않은 도서 수입니다. */
+  private final AtomicLong suppressedDuplicates = new AtomicLong();
+
+  /** ISBN이 없어 중복 판정 없이 발행한 도서 수입니다. */
+  private final AtomicLong itemsWithoutIsbn = new AtomicLong();
+
+  public DeduplicatingBookPublisher(NaverBookPublishPort delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * 처음 보는 ISBN의 도서만 위임 포트로 발행합니다.
+   *
+   * @param items 발행할 도서 아이템 목록
+   * @return 위임 포트의 발행 결과(발행할 도서가 없으면 완료된 Future)
+   */
+  @Override
+  public CompletableFuture<Void> publish(List<NaverSearchItem> items) {
+    if (items == null || items.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    List<NaverSearchItem> unique = new ArrayList<>(items.size());
+    for (NaverSearchItem item : items) {
+      if (item == null) {
+        continue;
+      }
+      long isbn = IsbnNormalizer.toIsbn13(item.isbn());
+      if (isbn == IsbnNormalizer.NO_ISBN) {
+        itemsWithoutIsbn.incrementAndGet();
+        unique.add(item);
+      } else if (publishedIsbns.add(isbn)) {
+        unique.add(item);
+      } else {
+        suppressedDuplicates.incrementAndGet();
+      }
+    }
+
+    if (unique.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    uniqueItems.addAndGet(unique.size());
+    return delegate.publish(unique);
+  }
+
+  public long uniqueItems() {
+    return uniqueItems.get();
+  }
+
+  public long suppressedDuplicates() {
+    return suppressedDuplicates.get();
+  }
+
+  public long itemsWithoutIsbn() {
+    return itemsWithoutIsbn.get();
+  }
+}
@@ -0,0 +1,34 @@
+package org.todayreading.collectingworker.naver.application.dedup;
+
+/**
+ * ISBN-13 숫자를 해시 테이블 슬롯에 흩뿌리기 위한 유틸리티 클래스입니다.
+ *
+ * <p>메모리 집합({@link IsbnLongSet})과 디스크 지문 저장소가 같은 섞기 함수를 쓰도록 한곳에 둡니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public final class IsbnHashing {
+
+  private IsbnHashing() {
+    // 인스턴스화 방지
+  }
+
+  /**
+   * 연속된 ISBN이 인접 슬롯에 몰리지 않도록 비트를 섞습니다(MurmurHash3 finalizer).
+   *
+   * <p>하위 비트만 마스킹해서 써도 고르게 퍼지므로, 호출하는 쪽은 필요한 만큼 잘라 써도 됩니다.</p>
+   *
+   * @param value 섞을 값
+   * @return 섞은 64비트 값
+   */
+  public static long mix(long value) {
+    long h = value;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,86 @@
+package org.todayreading.collectingworker.naver.application.dedup;
+
+/**
+ * ISBN-13 숫자를 보관하는 개방 주소법(open addressing) 기반 {@code long} 집합입니다.
+ *
+ * <p>{@code HashSet<String>}과 달리 원소마다 문자열/노드 객체를 만들지 않고
+ * {@code long[]} 배열 하나에 값을 직접 저장합니다. 수백만 건 규모에서도 원소당 약 8~16바이트만 사용합니다.
+ * 빈 슬롯은 0으로 표시하므로 0과 음수는 저장할 수 없습니다(ISBN-13은 항상 양수).</p>
+ *
+ * <p>여러 수집 워커에서 동시에 사용하므로 {@link #add(long)}는 동기화되어 있습니다.
+ * API 호출 속도로 제한된 발행량에서는 잠금 경합이 거의 없습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public final class IsbnLongSet {
+
+  /** 저장 비율이 이 값을 넘으면 배열을 두 배로 늘립니다. */
+  private static final double MAX_LOAD_FACTOR = 0.5;
+
+  private long[] slots;
+
+  private int size;
+
+  /**
+   * 예상 원소 수로 집합을 생성합니다.
+   *
+   * @param expectedSize 예상 원소 수
+   */
+  public IsbnLongSet(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / MAX_LOAD_FACTOR)) - 1) << 1;
+    this.slots = new long[capacity];
+  }
+
+  /**
+   * 값을 추가합니다.
+   *
+   * @param value 추가할 값(양수)
+   * @return 새로 추가되었으면 {@code true}, 이미 있으면 {@code false}
+   * @throws IllegalArgumentException 값이 0 이하인 경우
+   */
+  public synchronized boolean add(long value) {
+    if (value <= 0) {
+      throw new IllegalArgumentException("value must be positive: " + value);
+    }
+
+    int mask = slots.length - 1;
+    int index = (int) IsbnHashing.mix(value) & mask;
+    while (slots[index] != 0) {
+      if (slots[index] == value) {
+        return false;
+      }
+      index = (index + 1) & mask;
+    }
+    slots[index] = value;
+    if (++size > slots.length * MAX_LOAD_FACTOR) {
+      grow();
+    }
+    return true;
+  }
+
+  /**
+   * 저장된 원소 수를 반환합니다.
+   *
+   * @return 원소 수
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  private void grow() {
+    long[] old = slots;
+    slots = new long[old.length << 1];
+    int mask = slots.length - 1;
+    for (long value : old) {
+      if (value == 0) {
+        continue;
+      }
+      int index = (int) IsbnHashing.mix(value) & mask;
+      while (slots[index] != 0) {
+        index = (index + 1) & mask;
+      }
+      slots[index] = value;
+    }
+  }
+}
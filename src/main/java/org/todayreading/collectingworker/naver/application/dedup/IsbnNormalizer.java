@@ -0,0 +1,92 @@
+package org.todayreading.collectingworker.naver.application.dedup;
+
+/**
+ * 네이버 검색 결과의 ISBN 문자열을 ISBN-13 숫자({@code long})로 정규화하는 유틸리티 클래스입니다.
+ *
+ * <p>네이버 API의 {@code isbn} 필드는 {@code "8912345678 9788912345678"}처럼
+ * ISBN-10과 ISBN-13이 공백으로 함께 오거나, 둘 중 하나만 오는 경우가 있습니다.
+ * ISBN-13이 있으면 그대로 사용하고, ISBN-10만 있으면 978 접두어를 붙여 ISBN-13으로 변환합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public final class IsbnNormalizer {
+
+  /** ISBN이 없거나 형식이 올바르지 않을 때 반환하는 값입니다. */
+  public static final long NO_ISBN = -1L;
+
+  private IsbnNormalizer() {
+    // 인스턴스화 방지
+  }
+
+  /**
+   * ISBN 문자열을 ISBN-13 숫자로 변환합니다.
+   *
+   * <p>하이픈은 무시하며, 체크 디지트는 검증하지 않습니다(ISBN-10 변환 시에는 새로 계산합니다).
+   * 반환값은 항상 양수이거나 {@link #NO_ISBN}이므로 {@link IsbnLongSet}에 그대로 넣을 수 있습니다.</p>
+   *
+   * @param raw 네이버 API의 isbn 필드 값
+   * @return ISBN-13 숫자(양수), 없거나 형식이 올바르지 않으면 {@link #NO_ISBN}
+   */
+  public static long toIsbn13(String raw) {
+    if (raw == null || raw.isBlank()) {
+      return NO_ISBN;
+    }
+
+    long isbn10 = NO_ISBN;
+    for (String token : raw.trim().split("\\s+")) {
+      String digits = token.replace("-", "");
+      if (digits.length() == 13) {
+        long isbn13 = parseDigits(digits, 13);
+        // "0000000000000"처럼 0 이하가 되는 값은 ISBN으로 보지 않습니다(0은 ISBN 집합의 빈 슬롯 표시).
+        if (isbn13 > 0) {
+          return isbn13;
+        }
+      } else if (digits.length() == 10 && isbn10 == NO_ISBN) {
+        isbn10 = fromIsbn10(digits);
+      }
+    }
+    return isbn10;
+  }
+
+  /**
+   * ISBN-10의 앞 9자리에 978을 붙이고 체크 디지트를 다시 계산해 ISBN-13으로 변환합니다.
+   */
+  private static long fromIsbn10(String digits) {
+    char check = digits.charAt(9);
+    if (!isDigit(check) && check != 'X' && check != 'x') {
+      return NO_ISBN;
+    }
+    long body = parseDigits(digits, 9);
+    if (body == NO_ISBN) {
+      return NO_ISBN;
+    }
+
+    long prefixed = 978_000_000_000L + body;
+    int sum = 0;
+    long rest = prefixed;
+    // 오른쪽(12번째 자리)부터 가중치 3, 1을 번갈아 적용합니다.
+    for (int i = 0; i < 12; i++) {
+      int digit = (int) (rest % 10);
+      sum += (i % 2 == 0) ? digit * 3 : digit;
+      rest /= 10;
+    }
+    return prefixed * 10 + (10 - sum % 10) % 10;
+  }
+
+  private static long parseDigits(String digits, int length) {
+    long value = 0;
+    for (int i = 0; i < length; i++) {
+      char c = digits.charAt(i);
+      if (!isDigit(c)) {
+        return NO_ISBN;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
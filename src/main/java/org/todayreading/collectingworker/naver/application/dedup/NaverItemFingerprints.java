@@ -0,0 +1,68 @@
+package org.todayreading.collectingworker.naver.application.dedup;
+
+import org.todayreading.collectingworker.naver.application.dto.NaverSearchItem;
+
+/**
+ * {@link NaverSearchItem}의 내용으로 64비트 지문(fingerprint)을 계산하는 유틸리티 클래스입니다.
+ *
+ * <p>모든 필드를 순서대로 FNV-1a(64비트)로 해시합니다. 필드 사이에 구분자를 넣고 null은 빈 문자열과 구분하므로,
+ * 필드 경계가 바뀌거나 값이 사라진 경우도 다른 지문이 됩니다.
+ * 원본 전달 모드의 아이템은 필드 대신 원본 JSON 바이트 전체를 해시합니다.
+ * 충돌 확률은 도서 수천만 건 기준으로도 무시할 수 있는 수준이며, 충돌 시 변경분 하나를 놓칠 수 있습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public final class NaverItemFingerprints {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private NaverItemFingerprints() {
+    // 인스턴스화 방지
+  }
+
+  /**
+   * 도서 아이템의 지문을 계산합니다.
+   *
+   * @param item 도서 아이템
+   * @return 64비트 지문
+   */
+  public static long of(NaverSearchItem item) {
+    long hash = FNV_OFFSET_BASIS;
+    if (item.rawJson() != null) {
+      for (byte b : item.rawJson()) {
+        hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+      }
+      return hash;
+    }
+    hash = mix(hash, item.title());
+    hash = mix(hash, item.link());
+    hash = mix(hash, item.image());
+    hash = mix(hash, item.author());
+    hash = mix(hash, item.price() == null ? null : item.price().toString());
+    hash = mix(hash, item.discount() == null ? null : item.discount().toString());
+    hash = mix(hash, item.publisher());
+    hash = mix(hash, item.pubdate());
+    hash = mix(hash, item.isbn());
+    hash = mix(hash, item.description());
+    return hash;
+  }
+
+  private static long mix(long hash, String value) {
+    if (value == null) {
+      // null 표시(0xFFFF)는 문자열 안의 문자와 겹치지 않습니다.
+      return step(step(hash, 0xFFFF), 0);
+    }
+    for (int i = 0; i < value.length(); i++) {
+      hash = step(hash, value.charAt(i));
+    }
+    return step(hash, 0);
+  }
+
+  private static long step(long hash, int ch) {
+    hash = (hash ^ (ch & 0xFF)) * FNV_PRIME;
+    return (hash ^ (ch >>> 8)) * FNV_PRIME;
+  }
+}
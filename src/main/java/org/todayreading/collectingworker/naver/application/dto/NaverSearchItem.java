@@ -1,6 +1,11 @@
 package org.todayreading.collectingworker.naver.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Naver 책 검색 API에서 반환하는 개별 도서 정보를 표현하는 DTO이다.
@@ -11,6 +16,10 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
  * <p>Naver API 응답 JSON을 그대로 매핑하는 용도로 사용하며,
  * 별도의 비즈니스 로직은 포함하지 않는다.</p>
  *
+ * <p>원본 전달(passthrough) 모드({@code naver.kafka.passthrough=true})에서는 응답의 {@code items[]} 원소를
+ * 바인딩하지 않고 원본 JSON 바이트({@code rawJson})만 잘라 담으며, 키/중복 제거에 필요한
+ * {@code isbn}, {@code pubdate}만 채운다. 이 경우 나머지 필드는 null이다.</p>
+ *
  * author 박성준
  * @since 1.0.0
  */
@@ -25,6 +34,38 @@ public record NaverSearchItem(
     String publisher,
     String pubdate,
     String isbn,
-    String description
+    String description,
+    @JsonIgnore byte[] rawJson
 ) {
+
+  /**
+   * 원본 JSON 없이 필드 값만으로 도서 정보를 생성한다.
+   */
+  public NaverSearchItem(String title, String link, String image, String author, Integer price,
+      Integer discount, String publisher, String pubdate, String isbn, String description) {
+    this(title, link, image, author, price, discount, publisher, pubdate, isbn, description, null);
+  }
+
+  /**
+   * 원본 전달 모드에서 잘라 낸 원본 JSON 바이트로 도서 정보를 생성한다.
+   *
+   * @param pubdate 출간일(응답 원문 값)
+   * @param isbn    ISBN(응답 원문 값)
+   * @param rawJson {@code items[]} 원소 하나의 원본 JSON UTF-8 바이트
+   * @return 원본 JSON을 담은 도서 정보
+   */
+  public static NaverSearchItem ofRaw(String pubdate, String isbn, byte[] rawJson) {
+    return new NaverSearchItem(null, null, null, null, null, null, null, pubdate, isbn, null,
+        rawJson);
+  }
+
+  /**
+   * 원본 JSON이 있으면 응답 조회용 JSON에 그대로 포함한다(inspect API 확인용).
+   */
+  @JsonProperty("raw")
+  @JsonRawValue
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public String raw() {
+    return (rawJson == null) ? null : new String(rawJson, StandardCharsets.UTF_8);
+  }
 }
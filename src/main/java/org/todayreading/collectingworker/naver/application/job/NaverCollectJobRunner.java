@@ -1,48 +1,129 @@
 package org.todayreading.collectingworker.naver.application.job;
 
-import java.time.Duration;
-import java.time.Instant;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.todayreading.collectingworker.job.application.CollectJob;
+import org.todayreading.collectingworker.job.application.CollectJobRegistry;
+import org.todayreading.collectingworker.job.infrastructure.config.CollectJobProperties;
+import org.todayreading.collectingworker.naver.application.query.policy.NaverApiQuotaManager.Priority;
 import org.todayreading.collectingworker.naver.application.service.NaverCollectService;
 
 /**
- * 네이버 도서 수집 배치(full)를 비동기로 실행하기 위한 잡 실행기입니다.
+ * 네이버 도서 수집 배치(full, incremental)를 비동기로 실행하기 위한 잡 실행기입니다.
  *
  * <p>이 클래스는 HTTP 컨트롤러나 스케줄러에서 호출되며,
  * 실제 배치 유스케이스 로직은 {@link NaverCollectService}에 위임합니다.
- * 내부 메서드는 {@link Async} 애노테이션을 사용해 별도의 스레드 풀에서 실행됩니다.
+ * 실행할 때마다 {@link CollectJobRegistry}에 작업을 등록하고 {@code naverBatchExecutor}에서 실행하며,
+ * 호출자에게는 진행 상황 조회/취소에 쓸 {@link CollectJob}을 바로 돌려줍니다.</p>
+ *
+ * <p>{@code naverBatchExecutor}는 작업마다 가상 스레드를 만들므로, 동시에 실행하는 작업 수는
+ * {@code job.naver-max-running}개 허용량의 세마포어로 제한합니다. 허용량을 기다리는 작업은 가상 스레드에서
+ * 대기 상태({@link CollectJob.Status#QUEUED})로 남으며, 그동안 취소되면 실행하지 않고 취소로 기록됩니다.</p>
  *
  * @author 박성준
  * @since 1.0.0
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NaverCollectJobRunner {
 
+  /** 전체 풀스캔 작업 종류입니다. */
+  public static final String FULL_SCAN_JOB = "naver-full-scan";
+
+  /** 증분 수집 작업 종류입니다. */
+  public static final String INCREMENTAL_SCAN_JOB = "naver-incremental-scan";
+
+  /** 실행 중인 작업 수를 제한하는 세마포어입니다(먼저 등록한 작업부터 실행). */
+  private final Semaphore runningJobs;
+
   private final NaverCollectService naverCollectService;
+  private final CollectJobRegistry collectJobRegistry;
+  private final Executor naverBatchExecutor;
+
+  public NaverCollectJobRunner(NaverCollectService naverCollectService,
+      CollectJobRegistry collectJobRegistry,
+      @Qualifier("naverBatchExecutor") Executor naverBatchExecutor,
+      CollectJobProperties collectJobProperties) {
+    this.naverCollectService = naverCollectService;
+    this.collectJobRegistry = collectJobRegistry;
+    this.naverBatchExecutor = naverBatchExecutor;
+    this.runningJobs = new Semaphore(Math.max(1, collectJobProperties.naverMaxRunning()), true);
+  }
 
   /**
-   * 네이버 도서 전체 풀스캔 배치를 비동기로 실행합니다.
+   * 네이버 도서 전체 풀스캔 배치를 비동기로 실행합니다(수동 실행, {@link Priority#LOW}).
    *
-   * <p>실제 수집/발행 로직은 {@link NaverCollectService#fullScanAndPublish()}에 위임합니다.</p>
+   * <p>실제 수집/발행 로직은 {@link NaverCollectService#fullScanAndPublish(Priority, CollectJob)}에 위임합니다.</p>
    *
+   * @return 등록한 작업
    * @author 박성준
    * @since 1.0.0
    */
-  @Async("naverBatchExecutor")
-  public void runFullScanAsync() {
-    Instant startAt = Instant.now();
-    log.info("Naver collect job started. type=full");
+  public CollectJob runFullScanAsync() {
+    return runFullScanAsync(Priority.LOW);
+  }
+
+  /**
+   * 지정한 쿼터 우선순위로 네이버 도서 전체 풀스캔 배치를 비동기로 실행합니다.
+   *
+   * @param priority 쿼터 우선순위(정기 풀스캔은 {@link Priority#HIGH})
+   * @return 등록한 작업
+   * @author 박성준
+   * @since 1.0.0
+   */
+  public CollectJob runFullScanAsync(Priority priority) {
+    return submit(FULL_SCAN_JOB,
+        job -> naverCollectService.fullScanAndPublish(priority, job));
+  }
+
+  /**
+   * 네이버 도서 워터마크 기반 증분 수집 배치를 비동기로 실행합니다.
+   *
+   * <p>실제 수집/발행 로직은 {@link NaverCollectService#incrementalScanAndPublish(CollectJob)}에 위임합니다.</p>
+   *
+   * @return 등록한 작업
+   * @author 박성준
+   * @since 1.0.0
+   */
+  public CollectJob runIncrementalScanAsync() {
+    return submit(INCREMENTAL_SCAN_JOB, naverCollectService::incrementalScanAndPublish);
+  }
+
+  /**
+   * 작업을 등록하고 배치 실행기에 제출합니다. 실행기가 종료되어 제출하지 못하면 작업을 실패로 기록합니다.
+   */
+  private CollectJob submit(String type, Consumer<CollectJob> body) {
+    CollectJob job = collectJobRegistry.register(type);
+    try {
+      naverBatchExecutor.execute(() -> runWithPermit(job, body));
+    } catch (RejectedExecutionException e) {
+      log.error("Failed to submit Naver collect job. id={}, type={}", job.id(), type, e);
+      collectJobRegistry.reject(job, e);
+      throw e;
+    }
+    return job;
+  }
+
+  /**
+   * 실행 허용량을 얻을 때까지 기다린 뒤 작업을 실행합니다.
+   */
+  private void runWithPermit(CollectJob job, Consumer<CollectJob> body) {
+    try {
+      runningJobs.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      collectJobRegistry.reject(job, e);
+      return;
+    }
     try {
-      naverCollectService.fullScanAndPublish();
-      Duration elapsed = Duration.between(startAt, Instant.now());
-      log.info("Naver collect job completed. type=full elapsedMs={}", elapsed.toMillis() + "ms");
-    } catch (Exception ex) {
-      log.error("Async job failed: Naver full scan.", ex);
+      collectJobRegistry.run(job, body);
+    } finally {
+      runningJobs.release();
     }
   }
 }
@@ -3,15 +3,20 @@ package org.todayreading.collectingworker.naver.application.job;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.naver.application.query.policy.NaverApiQuotaManager.Priority;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
 
 /**
  * 네이버 도서 풀스캔 배치를 스케줄링하기 위한 컴포넌트입니다.
  *
  * <p>매일 새벽 1시에 {@link NaverCollectJobRunner}를 통해
- * 풀스캔 배치를 비동기로 실행합니다.</p>
+ * 풀스캔 배치를 비동기로 실행합니다. 정기 풀스캔은 쿼터를 {@link Priority#HIGH} 우선순위로 사용하므로,
+ * 수동 실행이나 증분 수집이 남겨 둔 몫({@code naver.quota.reserved-for-scheduled})까지 쓸 수 있습니다.</p>
  *
- * <p>수동 실행은 컨트롤러를 통해 계속 지원되며,
- * 스케줄러는 매일 자동 풀스캔만 수행합니다.</p>
+ * <p>증분 수집({@code naver.incremental.enabled=true})을 켜면
+ * {@code naver.incremental.cron} 주기(기본 매시 30분)로 증분 수집 배치도 실행합니다.</p>
+ *
+ * <p>수동 실행은 컨트롤러를 통해 계속 지원됩니다.</p>
  *
  * @author 박성준
  * @since 1.0.0
@@ -22,6 +27,8 @@ public class NaverCollectScheduler {
 
   private final NaverCollectJobRunner jobRunner;
 
+  private final NaverApiProperties naverApiProperties;
+
   /**
    * 매일 새벽 1시에 풀스캔 배치를 비동기로 실행합니다.
    *
@@ -35,6 +42,22 @@ public class NaverCollectScheduler {
 //  @Scheduled(cron = "0 * * * * *") // 매 분 0초마다 (테스트용)
   @Scheduled(cron = "0 0 1 * * *")
   public void runFullScanAt2AM() {
-    jobRunner.runFullScanAsync();
+    jobRunner.runFullScanAsync(Priority.HIGH);
+  }
+
+  /**
+   * 설정한 주기로 증분 수집 배치를 비동기로 실행합니다.
+   *
+   * <p>{@code naver.incremental.enabled}가 false이면 아무 것도 하지 않습니다.</p>
+   *
+   * @author 박성준
+   * @since 1.0.0
+   */
+  @Scheduled(cron = "${naver.incremental.cron:0 30 * * * *}")
+  public void runIncrementalScan() {
+    if (!naverApiProperties.incremental().enabled()) {
+      return;
+    }
+    jobRunner.runIncrementalScanAsync();
   }
 }
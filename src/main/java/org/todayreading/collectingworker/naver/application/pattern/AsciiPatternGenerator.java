@@ -48,4 +48,30 @@ final class AsciiPatternGenerator {
     return queries;
   }
 
+  /**
+   * 검색어 뒤에 숫자/알파벳 한 글자를 붙인 세분화 패턴을 생성합니다.
+   *
+   * <p>결과가 너무 많아 끝까지 페이징할 수 없는 검색어를 더 좁은 검색어로 나눌 때 사용합니다.</p>
+   *
+   * @param query 세분화할 검색어
+   * @return {@code query + '0'} ~ {@code query + 'z'} (36개)
+   * @author 박성준
+   * @since 1.0.0
+   */
+  static List<String> refinementPatterns(String query) {
+    return fullScanPatterns().stream()
+        .map(suffix -> query + suffix)
+        .toList();
+  }
+
+  /**
+   * 문자가 이 생성기가 다루는 숫자/알파벳인지 여부를 반환합니다.
+   *
+   * @param c 검사할 문자
+   * @return '0'~'9', 'a'~'z', 'A'~'Z'이면 {@code true}
+   */
+  static boolean isAscii(char c) {
+    return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
 }
@@ -45,4 +45,20 @@ final class HangulChoseongPatternGenerator {
     return queries;
   }
 
+  /**
+   * 검색어 뒤에 초성별 첫 음절(가, 까, 나, ...)을 붙인 세분화 패턴을 생성합니다.
+   *
+   * <p>결과가 너무 많아 끝까지 페이징할 수 없는 검색어를 더 좁은 검색어(음절+음절)로 나눌 때 사용합니다.</p>
+   *
+   * @param query 세분화할 검색어
+   * @return {@code query + '가'} ~ {@code query + '하'} (19개)
+   * @author 박성준
+   * @since 1.0.0
+   */
+  static List<String> refinementPatterns(String query) {
+    return fullScanPatterns().stream()
+        .map(suffix -> query + suffix)
+        .toList();
+  }
+
 }
@@ -32,4 +32,20 @@ public final class QueryPatternGenerator {
     return List.copyOf(queries);
   }
 
+  /**
+   * 검색어를 한 글자 더 긴 검색어들로 세분화합니다.
+   *
+   * <p>마지막 글자가 숫자/알파벳이면 숫자/알파벳 한 글자를(글자+글자),
+   * 그 외(한글 등)이면 한글 초성별 첫 음절을(음절+음절) 덧붙입니다.</p>
+   *
+   * @param query 세분화할 검색어(공백이 아니어야 함)
+   * @return 세분화된 검색어 목록
+   */
+  public static List<String> refine(String query) {
+    char last = query.charAt(query.length() - 1);
+    return AsciiPatternGenerator.isAscii(last)
+        ? AsciiPatternGenerator.refinementPatterns(query)
+        : HangulChoseongPatternGenerator.refinementPatterns(query);
+  }
+
 }
@@ -0,0 +1,35 @@
+package org.todayreading.collectingworker.naver.application.port.out;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 네이버 API 일자별 호출 사용량(쿼터 장부)을 영속화하기 위한 출력 포트입니다.
+ *
+ * <p>재시작해도 그날 이미 사용한 호출 수를 이어서 집계할 수 있도록, 가장 최근 일자의 클라이언트 ID별 사용량만 저장합니다.
+ * 저장 매체(로컬 파일 등)는 인프라스트럭처 어댑터에서 구현합니다.</p>
+ *
+ * <p>구현체는 {@link #save(LocalDate, Map)}가 중간에 실패하더라도 이전에 저장된 내용이 깨지지 않도록
+ * 원자적으로 교체해야 합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public interface NaverApiQuotaPort {
+
+  /**
+   * 지정한 일자의 저장된 사용량을 조회합니다.
+   *
+   * @param day 조회할 일자
+   * @return 클라이언트 ID → 사용한 호출 수 맵(저장된 내용이 없거나 다른 일자의 내용이면 빈 맵)
+   */
+  Map<String, Long> load(LocalDate day);
+
+  /**
+   * 일자별 사용량을 저장합니다(기존 내용 교체).
+   *
+   * @param day       일자
+   * @param usedCalls 클라이언트 ID → 사용한 호출 수 맵
+   */
+  void save(LocalDate day, Map<String, Long> usedCalls);
+}
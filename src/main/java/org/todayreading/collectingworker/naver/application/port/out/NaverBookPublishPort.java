@@ -1,6 +1,7 @@
 package org.todayreading.collectingworker.naver.application.port.out;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.todayreading.collectingworker.naver.application.dto.NaverSearchItem;
 
 /**
@@ -14,6 +15,10 @@ import org.todayreading.collectingworker.naver.application.dto.NaverSearchItem;
  * <p>초기에는 {@link NaverSearchItem}을 그대로 전송 대상으로 사용하지만,
  * 추후 도메인 모델이 정리되면 별도의 도메인 객체로 교체할 수 있습니다.
  *
+ * <p>발행은 비동기로 처리될 수 있으므로, 외부 시스템의 수신 확인(ack) 시점에 완료되는
+ * {@link CompletableFuture}를 반환합니다. 발행 결과에 따라 후속 처리(변경 감지 기록 등)가 필요한 경우에만
+ * 이 결과를 사용합니다.</p>
+ *
  * @author 박성준
  * @since 1.0.0
  */
@@ -23,6 +28,7 @@ public interface NaverBookPublishPort {
    * 수집된 네이버 도서 아이템 목록을 외부 시스템으로 발행합니다.
    *
    * @param items 발행할 도서 아이템 목록 (비어있을 수 있음)
+   * @return 모든 아이템의 수신 확인 시 정상 완료, 하나라도 전송 실패 시 예외로 완료되는 Future
    */
-  void publish(List<NaverSearchItem> items);
+  CompletableFuture<Void> publish(List<NaverSearchItem> items);
 }
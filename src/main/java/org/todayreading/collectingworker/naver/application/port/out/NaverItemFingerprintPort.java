@@ -0,0 +1,47 @@
+package org.todayreading.collectingworker.naver.application.port.out;
+
+/**
+ * 도서별 마지막 발행 내용의 지문(fingerprint)을 실행 간에 보관하기 위한 출력 포트입니다.
+ *
+ * <p>매일 풀스캔은 전날과 같은 도서를 대부분 다시 수집하므로, ISBN-13별로 마지막으로 발행한 내용의
+ * 64비트 지문을 저장해 두고 내용이 같은 도서는 다시 발행하지 않습니다.
+ * 저장 매체(메모리 매핑 파일 등)는 인프라스트럭처 어댑터에서 구현합니다.</p>
+ *
+ * <p>여러 수집 워커와 Kafka 콜백 스레드에서 동시에 호출되므로, 구현체는 스레드 안전해야 합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public interface NaverItemFingerprintPort {
+
+  /**
+   * 변경 감지 사용 여부를 반환합니다. 사용하지 않으면 다른 메서드를 호출하지 않습니다.
+   *
+   * @return 사용하면 {@code true}
+   */
+  boolean isEnabled();
+
+  /**
+   * 저장된 지문과 같은지(마지막 발행 이후 내용이 바뀌지 않았는지) 확인합니다.
+   *
+   * @param isbn13      ISBN-13 숫자(양수)
+   * @param fingerprint 현재 내용의 지문
+   * @return 저장된 지문과 같으면 {@code true}, 저장된 지문이 없거나 다르면 {@code false}
+   */
+  boolean isUnchanged(long isbn13, long fingerprint);
+
+  /**
+   * 발행이 확인된 내용의 지문을 저장합니다.
+   *
+   * <p>저장 공간이 가득 차 새 ISBN을 저장할 수 없으면 저장하지 않으며, 그 도서는 다음 실행에서도 발행됩니다.</p>
+   *
+   * @param isbn13      ISBN-13 숫자(양수)
+   * @param fingerprint 발행한 내용의 지문
+   */
+  void record(long isbn13, long fingerprint);
+
+  /**
+   * 저장한 지문을 영속 매체에 반영합니다. 스캔이 끝날 때 호출합니다.
+   */
+  void flush();
+}
@@ -0,0 +1,74 @@
+package org.todayreading.collectingworker.naver.application.port.out;
+
+import java.util.List;
+
+/**
+ * 네이버 풀스캔 진행 상황(체크포인트)을 영속화하기 위한 출력 포트입니다.
+ *
+ * <p>풀스캔이 중간에 끊기더라도 이미 ack를 받은 검색어/페이지를 다시 조회하지 않도록,
+ * 실행(run ID)마다 검색어별로 "처음부터 연속으로 ack를 받은 다음 start 값"과 완료 여부를 저장합니다.
+ * 저장 매체(로컬 파일 등)는 인프라스트럭처 어댑터에서 구현합니다.</p>
+ *
+ * <p>구현체는 {@link #save(ScanCheckpoint)}가 중간에 실패하더라도 이전에 저장된 내용이 깨지지 않도록
+ * 원자적으로 교체해야 합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public interface NaverScanCheckpointPort {
+
+  /**
+   * 체크포인트 사용 여부를 반환합니다. 사용하지 않으면 다른 메서드를 호출하지 않습니다.
+   *
+   * @return 사용하면 {@code true}
+   */
+  boolean isEnabled();
+
+  /**
+   * 저장된 체크포인트를 조회합니다.
+   *
+   * @return 마지막으로 저장한 체크포인트(저장된 내용이 없으면 null)
+   */
+  ScanCheckpoint load();
+
+  /**
+   * 체크포인트 전체를 저장합니다(기존 내용 교체).
+   *
+   * @param checkpoint 풀스캔 체크포인트
+   */
+  void save(ScanCheckpoint checkpoint);
+
+  /**
+   * 풀스캔 실행 하나의 체크포인트입니다.
+   *
+   * @param runId      실행 ID
+   * @param startedAt  실행 시작 시각(ISO-8601)
+   * @param finishedAt 실행을 끝까지 마친 시각(ISO-8601, 끝나지 않았으면 null). 값이 있으면 이어서 수집하지 않습니다.
+   * @param queries    검색어별 진행 상황(끝난 실행이면 빈 목록)
+   */
+  record ScanCheckpoint(
+      String runId,
+      String startedAt,
+      String finishedAt,
+      List<QueryCheckpoint> queries
+  ) {
+  }
+
+  /**
+   * 검색어 하나의 진행 상황입니다.
+   *
+   * @param query     검색어
+   * @param depth     최초 검색어 대비 덧붙인 글자 수(세분화 검색어는 1 이상)
+   * @param nextStart 처음부터 연속으로 ack를 받은 페이지 다음의 start 값(조회한 페이지가 없으면 1)
+   * @param total     첫 페이지 응답의 전체 검색 결과 수(모르면 0)
+   * @param completed 모든 페이지의 ack를 받고 세분화 검색어 제출까지 마쳤으면 true
+   */
+  record QueryCheckpoint(
+      String query,
+      int depth,
+      int nextStart,
+      int total,
+      boolean completed
+  ) {
+  }
+}
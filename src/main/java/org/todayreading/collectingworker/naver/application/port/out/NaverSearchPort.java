@@ -1,6 +1,7 @@
 package org.todayreading.collectingworker.naver.application.port.out;
 
 
+import java.util.concurrent.CompletableFuture;
 import org.todayreading.collectingworker.naver.application.dto.NaverSearchResponse;
 
 public interface NaverSearchPort {
@@ -9,4 +10,40 @@ public interface NaverSearchPort {
       Integer display,
       Integer start,
       String sort);
+
+  /**
+   * {@link #search(String, Integer, Integer, String)}를 비동기로 호출합니다.
+   *
+   * <p>호출 스레드를 막지 않으므로, 여러 요청을 스레드 수와 관계없이 동시에 진행할 수 있습니다.
+   * HTTP 에러 응답은 {@link org.springframework.web.client.RestClientResponseException}으로,
+   * 연결/타임아웃 오류는 {@link org.springframework.web.client.ResourceAccessException}으로 완료합니다.</p>
+   *
+   * @param query   검색어
+   * @param display 페이지당 개수 (null이면 설정값 사용)
+   * @param start   시작 인덱스 (null이면 1부터)
+   * @param sort    정렬 기준 (null이면 설정값 사용)
+   * @return 네이버 검색 응답으로 완료되는 Future
+   */
+  default CompletableFuture<NaverSearchResponse> searchAsync(String query,
+      Integer display,
+      Integer start,
+      String sort) {
+    return searchAsync(null, query, display, start, sort);
+  }
+
+  /**
+   * 지정한 클라이언트 ID의 인증 정보로 {@link #searchAsync(String, Integer, Integer, String)}를 호출합니다.
+   *
+   * @param clientId 호출에 사용할 클라이언트 ID (null이면 첫 번째 인증 정보 사용)
+   * @param query    검색어
+   * @param display  페이지당 개수 (null이면 설정값 사용)
+   * @param start    시작 인덱스 (null이면 1부터)
+   * @param sort     정렬 기준 (null이면 설정값 사용)
+   * @return 네이버 검색 응답으로 완료되는 Future
+   */
+  CompletableFuture<NaverSearchResponse> searchAsync(String clientId,
+      String query,
+      Integer display,
+      Integer start,
+      String sort);
 }
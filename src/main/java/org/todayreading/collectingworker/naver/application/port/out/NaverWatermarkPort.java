@@ -0,0 +1,33 @@
+package org.todayreading.collectingworker.naver.application.port.out;
+
+import java.util.Map;
+
+/**
+ * 증분 수집의 검색어별 워터마크를 영속화하기 위한 출력 포트입니다.
+ *
+ * <p>워터마크는 검색어별로 지금까지 수집한 가장 최근 출간일({@code yyyyMMdd})이며,
+ * 다음 증분 수집은 이보다 오래된 도서를 만나면 페이징을 멈춥니다.
+ * 저장 매체(로컬 파일 등)는 인프라스트럭처 어댑터에서 구현합니다.</p>
+ *
+ * <p>구현체는 {@link #save(Map)}가 중간에 실패하더라도 이전에 저장된 내용이 깨지지 않도록
+ * 원자적으로 교체해야 합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public interface NaverWatermarkPort {
+
+  /**
+   * 저장된 워터마크를 조회합니다.
+   *
+   * @return 검색어 → 출간일({@code yyyyMMdd}) 맵(저장된 내용이 없으면 빈 맵)
+   */
+  Map<String, String> load();
+
+  /**
+   * 워터마크 전체를 저장합니다(기존 내용 교체).
+   *
+   * @param watermarks 검색어 → 출간일({@code yyyyMMdd}) 맵
+   */
+  void save(Map<String, String> watermarks);
+}
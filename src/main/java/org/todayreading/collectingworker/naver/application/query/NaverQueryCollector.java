@@ -3,6 +3,13 @@ package org.todayreading.collectingworker.naver.application.query;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.todayreading.collectingworker.naver.application.dto.NaverSearchItem;
@@ -15,9 +22,24 @@ import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiPro
  *
  * <p>이 컴포넌트는 {@link NaverPageFetcher}를 통해 네이버 API를 호출하고,
  * {@link NaverApiProperties}의 설정 값(maxStart 등)을 사용해 수집 범위를 제어합니다.
- * 페이징 로직(시작 지점, 종료 조건 판단)과 HTTP 호출/429 처리 로직을 분리하여,
+ * 페이징 로직(시작 지점, 종료 조건 판단)과 HTTP 호출/재시도 처리 로직을 분리하여,
  * 수집 흐름을 보다 명확하게 유지하는 것을 목표로 합니다.</p>
  *
+ * <p>{@link #collectByQuery(String, Integer, Consumer)}는 페이지를 모아 두지 않고 조회되는 대로
+ * 페이지 핸들러(발행 등)에 넘깁니다. 현재 페이지를 핸들러가 처리하는 동안 다음 페이지는
+ * {@link NaverPageFetcher#fetchPageAsync(String, int)}로 미리 조회하므로, 조회와 발행이 겹쳐 진행됩니다.</p>
+ *
+ * <p>fan-out 모드({@code naver.search.fan-out-pages=true})에서는 첫 페이지 응답의 total로 남은 페이지의
+ * start 값을 모두 계산해 한꺼번에 조회를 시작하고, 결과는 start 순서대로 핸들러에 전달합니다.
+ * 모든 조회는 공유 레이트 리미터를 거치므로 전체 호출 속도는 그대로이며, 검색어 하나의 수집 시간은
+ * 페이지 수만큼 줄어듭니다. 비동기 조회이므로 동시에 진행 중인 페이지 수만큼 스레드가 필요하지는 않습니다.</p>
+ *
+ * <p>{@link #collectUntil(String, Integer, Predicate, Consumer)}는 증분 수집용으로,
+ * 이전 실행에서 본 지점(워터마크)에 도달한 아이템을 만나면 그 앞까지만 전달하고 페이징을 멈춥니다.</p>
+ *
+ * <p>{@link #collectFrom(String, Integer, int, PageHandler)}는 중단된 풀스캔을 이어서 수집할 때 사용하며,
+ * 지정한 start부터 조회하고 페이지마다 start 값을 함께 전달합니다(체크포인트 기록용).</p>
+ *
  * @author 박성준
  * @since 1.0.0
  */
@@ -27,7 +49,7 @@ public class NaverQueryCollector {
 
   /**
    * 네이버 책 검색 API 단일 페이지 호출 및
-   * 429(Too Many Requests) 재시도 정책을 담당하는 페처입니다.
+   * 일시적인 실패(429, 5xx 등)에 대한 재시도 정책을 담당하는 페처입니다.
    */
   private final NaverPageFetcher naverPageFetcher;
 
@@ -39,10 +61,8 @@ public class NaverQueryCollector {
   /**
    * 하나의 검색어에 대해 여러 페이지를 호출해 모든 {@link NaverSearchItem}을 수집합니다.
    *
-   * <p>검색어가 유효하지 않으면 빈 리스트를 반환하며, 이후에는
-   * 설정된 최대 start 값까지 반복적으로 페이지를 조회하면서 아이템을 누적합니다.
-   * 네트워크/레이트리밋 이슈는 {@link NaverPageFetcher}에서 처리하며,
-   * 응답이 비어 있거나 더 이상 페이징할 수 없는 경우 반복을 종료합니다.</p>
+   * <p>{@link #collectByQuery(String, Integer, Consumer)}로 조회한 페이지를 리스트에 누적해 반환합니다.
+   * 결과를 한 번에 확인해야 하는 점검용 호출에 사용하며, 배치 발행은 페이지 단위 API를 사용합니다.</p>
    *
    * @param query    네이버 API 검색어 (null 또는 공백이면 빈 리스트 반환)
    * @param maxStart 최대 start 값 (null이면 설정값의 maxStart 사용)
@@ -54,29 +74,281 @@ public class NaverQueryCollector {
       return Collections.emptyList();
     }
 
-    int limitStart = resolveLimitStart(maxStart);
     List<NaverSearchItem> allItems = new ArrayList<>();
+    collectByQuery(query, maxStart, allItems::addAll);
+    return allItems;
+  }
+
+  /**
+   * 하나의 검색어에 대해 여러 페이지를 호출하며, 페이지를 조회되는 대로 핸들러에 전달합니다.
+   *
+   * <p>검색어가 유효하지 않으면 아무 페이지도 전달하지 않으며, 이후에는
+   * 설정된 최대 start 값까지 반복적으로 페이지를 조회합니다.
+   * 네트워크/레이트리밋 이슈는 {@link NaverPageFetcher}에서 처리하며,
+   * 응답이 비어 있거나 더 이상 페이징할 수 없는 경우 반복을 종료합니다.</p>
+   *
+   * <p>다음 페이지가 있으면 현재 페이지를 핸들러에 넘기기 전에 다음 페이지 조회를 시작합니다
+   * (fan-out 모드에서는 첫 페이지 이후 남은 페이지 전체).
+   * 핸들러는 호출 스레드에서 페이지 순서대로 호출되며, 핸들러가 예외를 던지면 미리 시작한 조회를 취소하고
+   * 수집을 중단합니다.</p>
+   *
+   * @param query       네이버 API 검색어 (null 또는 공백이면 아무 것도 하지 않음)
+   * @param maxStart    최대 start 값 (null이면 설정값의 maxStart 사용)
+   * @param pageHandler 페이지의 아이템 목록을 받는 핸들러(발행 등)
+   * @return 검색 결과 total, 핸들러에 전달한 아이템 수, 조회한 페이지 수
+   * @since 1.0.0
+   */
+  public CollectResult collectByQuery(String query, Integer maxStart,
+      Consumer<List<NaverSearchItem>> pageHandler) {
+    return collectByQuery(query, maxStart, pageHandler, new AtomicInteger());
+  }
 
-    for (int start = 1; start <= limitStart; ) {
-      NaverSearchResponse response = naverPageFetcher.fetchPage(query, start);
+  /**
+   * {@link #collectByQuery(String, Integer, Consumer)}와 같이 수집하면서, 조회를 시작한 페이지 수를
+   * {@code startedPages}에 더합니다.
+   *
+   * <p>수집이 예외로 중단되면 결과의 {@link CollectResult#pageCount()}를 받을 수 없으므로,
+   * 그때까지 사용한 API 호출 수를 집계해야 하는 호출자가 사용합니다.</p>
+   *
+   * @param query        네이버 API 검색어 (null 또는 공백이면 아무 것도 하지 않음)
+   * @param maxStart     최대 start 값 (null이면 설정값의 maxStart 사용)
+   * @param pageHandler  페이지의 아이템 목록을 받는 핸들러(발행 등)
+   * @param startedPages 조회를 시작할 때마다 1씩 더할 카운터
+   * @return 검색 결과 total, 핸들러에 전달한 아이템 수, 조회한 페이지 수
+   * @since 1.0.0
+   */
+  public CollectResult collectByQuery(String query, Integer maxStart,
+      Consumer<List<NaverSearchItem>> pageHandler, AtomicInteger startedPages) {
+    return collect(query, maxStart, 1, null, (start, items) -> pageHandler.accept(items),
+        startedPages);
+  }
 
-      // Response가 비어있거나, Items이 없을 경우 수집 종료
-      if (isEmptyResponse(response)) {
-        break;
-      }
+  /**
+   * 하나의 검색어를 {@link #collectByQuery(String, Integer, Consumer)}와 같이 수집하되,
+   * {@code fromStart}부터 조회하고 페이지마다 그 페이지의 start 값을 함께 전달합니다.
+   *
+   * <p>체크포인트에서 이어서 수집할 때 사용합니다. {@code fromStart}가 최대 start 값을 넘으면 조회하지 않으며,
+   * 반환하는 total은 {@code fromStart} 페이지 응답의 값입니다.</p>
+   *
+   * @param query       네이버 API 검색어 (null 또는 공백이면 아무 것도 하지 않음)
+   * @param maxStart    최대 start 값 (null이면 설정값의 maxStart 사용)
+   * @param fromStart   처음 조회할 start 값(1 이상)
+   * @param pageHandler 페이지의 start 값과 아이템 목록을 받는 핸들러(발행 등)
+   * @return 검색 결과 total, 핸들러에 전달한 아이템 수, 조회한 페이지 수
+   * @since 1.0.0
+   */
+  public CollectResult collectFrom(String query, Integer maxStart, int fromStart,
+      PageHandler pageHandler) {
+    return collectFrom(query, maxStart, fromStart, pageHandler, new AtomicInteger());
+  }
+
+  /**
+   * {@link #collectFrom(String, Integer, int, PageHandler)}와 같이 수집하면서, 조회를 시작한 페이지 수를
+   * {@code startedPages}에 더합니다.
+   *
+   * @param query        네이버 API 검색어 (null 또는 공백이면 아무 것도 하지 않음)
+   * @param maxStart     최대 start 값 (null이면 설정값의 maxStart 사용)
+   * @param fromStart    처음 조회할 start 값(1 이상)
+   * @param pageHandler  페이지의 start 값과 아이템 목록을 받는 핸들러(발행 등)
+   * @param startedPages 조회를 시작할 때마다 1씩 더할 카운터
+   * @return 검색 결과 total, 핸들러에 전달한 아이템 수, 조회한 페이지 수
+   * @since 1.0.0
+   */
+  public CollectResult collectFrom(String query, Integer maxStart, int fromStart,
+      PageHandler pageHandler, AtomicInteger startedPages) {
+    return collect(query, maxStart, Math.max(1, fromStart), null, pageHandler, startedPages);
+  }
+
+  /**
+   * 하나의 검색어를 {@link #collectByQuery(String, Integer, Consumer)}와 같이 수집하되,
+   * {@code reachedMark}를 만족하는 아이템을 만나면 그 앞의 아이템까지만 전달하고 페이징을 멈춥니다(증분 수집).
+   *
+   * <p>정렬 순서(sort=date)상 워터마크에 도달한 뒤의 아이템은 이미 수집한 것으로 보고 조회하지 않습니다.
+   * 페이지를 핸들러에 넘기기 전에 워터마크 도달 여부를 확인하므로, 워터마크가 있는 페이지 다음 페이지는 조회하지 않으며
+   * fan-out 설정과 관계없이 페이지를 순서대로 조회합니다.</p>
+   *
+   * @param query       네이버 API 검색어 (null 또는 공백이면 아무 것도 하지 않음)
+   * @param maxStart    최대 start 값 (null이면 설정값의 maxStart 사용)
+   * @param reachedMark 이미 수집한 지점에 도달한 아이템인지 판단하는 조건
+   * @param pageHandler 페이지의 아이템 목록을 받는 핸들러(발행 등)
+   * @return 검색 결과 total, 핸들러에 전달한 아이템 수, 조회한 페이지 수, 워터마크 도달 여부
+   * @throws IllegalStateException 정렬 설정이 sort=date가 아닌 경우
+   * @since 1.0.0
+   */
+  public CollectResult collectUntil(String query, Integer maxStart,
+      Predicate<NaverSearchItem> reachedMark, Consumer<List<NaverSearchItem>> pageHandler) {
+    if (!"date".equals(naverApiProperties.search().sort())) {
+      throw new IllegalStateException("Incremental collection requires naver.search.sort=date.");
+    }
+    return collect(query, maxStart, 1, reachedMark, (start, items) -> pageHandler.accept(items),
+        new AtomicInteger());
+  }
+
+  /**
+   * 페이징 수집 공통 로직입니다. {@code fromStart}부터 조회하며,
+   * {@code reachedMark}가 null이면 끝까지(또는 maxStart까지) 수집합니다.
+   * 페이지 조회를 시작할 때마다 {@code startedPages}에 1을 더합니다.
+   */
+  private CollectResult collect(String query, Integer maxStart, int fromStart,
+      Predicate<NaverSearchItem> reachedMark, PageHandler pageHandler,
+      AtomicInteger startedPages) {
+    if (isInvalidQuery(query)) {
+      return CollectResult.EMPTY;
+    }
+
+    int limitStart = resolveLimitStart(maxStart);
+    int start = fromStart;
+    if (start > limitStart) {
+      return CollectResult.EMPTY;
+    }
 
-      collectPage(response, allItems);
+    startedPages.incrementAndGet();
+    NaverSearchResponse response = naverPageFetcher.fetchPage(query, start);
+    if (isEmptyResponse(response)) {
+      return new CollectResult(response == null ? 0 : response.total(), 0, 1, false);
+    }
+    if (reachedMark == null && naverApiProperties.search().fanOutPages()) {
+      return collectRemainingPagesAtOnce(query, limitStart, start, response, pageHandler,
+          startedPages);
+    }
+
+    int total = response.total();
+    int collected = 0;
+    int pageCount = 1;
+    // Response가 비어있거나, Items이 없을 경우 수집 종료
+    while (!isEmptyResponse(response)) {
+      int markIndex = indexOfMark(response.items(), reachedMark);
+      if (markIndex >= 0) {
+        // 워터마크 앞의 아이템만 전달하고, 다음 페이지는 조회하지 않고 종료
+        if (markIndex > 0) {
+          pageHandler.accept(start, response.items().subList(0, markIndex));
+          collected += markIndex;
+        }
+        return new CollectResult(total, collected, pageCount, true);
+      }
 
       int nextStart = calculateNextStart(start, response);
-      // 다음 페이지로 넘어갈 수 있는지 판단
-      if (shouldTerminatePagination(nextStart, limitStart, response)) {
+      // 다음 페이지로 넘어갈 수 있으면 현재 페이지를 처리하는 동안 미리 조회
+      CompletableFuture<NaverSearchResponse> nextPage =
+          shouldTerminatePagination(nextStart, limitStart, response)
+              ? null
+              : prefetchPage(query, nextStart, startedPages);
+
+      boolean handled = false;
+      try {
+        pageHandler.accept(start, response.items());
+        handled = true;
+      } finally {
+        if (!handled && nextPage != null) {
+          // 핸들러가 실패하면 미리 시작한 다음 페이지 조회는 아직 실행되지 않았다면 API를 호출하지 않고 취소됩니다.
+          nextPage.cancel(false);
+        }
+      }
+      collected += response.items().size();
+
+      if (nextPage == null) {
         break;
       }
 
       // 다음 페이지의 start로 진행
       start = nextStart;
+      pageCount++;
+      response = awaitPage(nextPage);
+    }
+    return new CollectResult(total, collected, pageCount, false);
+  }
+
+  /**
+   * 페이지에서 워터마크에 도달한 첫 아이템의 위치를 반환합니다.
+   *
+   * @return 위치, 조건이 없거나 도달한 아이템이 없으면 -1
+   */
+  private int indexOfMark(List<NaverSearchItem> items, Predicate<NaverSearchItem> reachedMark) {
+    if (reachedMark == null) {
+      return -1;
+    }
+    for (int i = 0; i < items.size(); i++) {
+      if (reachedMark.test(items.get(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * 첫 페이지 응답의 total을 기준으로 남은 페이지 조회를 한꺼번에 시작하고,
+   * start 순서대로 기다리며 핸들러에 전달합니다(fan-out 모드).
+   *
+   * <p>중간 페이지가 비어 있거나 조회에 실패하면(실패는 예외로 전파) 그 뒤 페이지는 전달하지 않으며,
+   * 아직 시작하지 않은 조회는 취소합니다.</p>
+   *
+   * @param query       검색어
+   * @param limitStart  최대 start 값
+   * @param firstStart  첫 페이지의 start 값
+   * @param firstPage   첫 페이지 응답(아이템이 있는 응답)
+   * @param pageHandler 페이지의 start 값과 아이템 목록을 받는 핸들러
+   * @param startedPages 조회를 시작할 때마다 1씩 더할 카운터
+   * @return 검색 결과 total, 핸들러에 전달한 아이템 수, 조회를 시작한 페이지 수
+   */
+  private CollectResult collectRemainingPagesAtOnce(String query, int limitStart, int firstStart,
+      NaverSearchResponse firstPage, PageHandler pageHandler, AtomicInteger startedPages) {
+    List<CompletableFuture<NaverSearchResponse>> pages = new ArrayList<>();
+    for (int start = calculateNextStart(firstStart, firstPage);
+        !shouldTerminatePagination(start, limitStart, firstPage);
+        start += firstPage.display()) {
+      pages.add(prefetchPage(query, start, startedPages));
+    }
+
+    int collected = 0;
+    try {
+      pageHandler.accept(firstStart, firstPage.items());
+      collected += firstPage.items().size();
+
+      int start = firstStart;
+      for (CompletableFuture<NaverSearchResponse> page : pages) {
+        NaverSearchResponse response = awaitPage(page);
+        if (isEmptyResponse(response)) {
+          break;
+        }
+        start += firstPage.display();
+        pageHandler.accept(start, response.items());
+        collected += response.items().size();
+      }
+    } finally {
+      // 중단된 경우 아직 실행되지 않은 조회는 API를 호출하지 않고 취소됩니다.
+      pages.forEach(page -> page.cancel(false));
+    }
+    return new CollectResult(firstPage.total(), collected, 1 + pages.size(), false);
+  }
+
+  /**
+   * 다음 페이지 조회를 비동기로 시작하고 시작한 페이지 수에 더합니다.
+   */
+  private CompletableFuture<NaverSearchResponse> prefetchPage(String query, int start,
+      AtomicInteger startedPages) {
+    startedPages.incrementAndGet();
+    return naverPageFetcher.fetchPageAsync(query, start);
+  }
+
+  /**
+   * 미리 조회한 페이지를 기다립니다.
+   *
+   * <p>조회 중 발생한 예외는 동기 조회와 같은 예외로 전파되도록 감싼 예외를 벗겨 던집니다.
+   * 기다리는 중에 인터럽트되면(수집 작업 취소) 조회를 취소하고 {@link CancellationException}을 던집니다.</p>
+   */
+  private NaverSearchResponse awaitPage(CompletableFuture<NaverSearchResponse> page) {
+    try {
+      return page.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      page.cancel(false);
+      throw new CancellationException("Interrupted while waiting for Naver page.");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new CompletionException(e.getCause());
     }
-    return allItems;
   }
 
   /**
@@ -104,9 +376,9 @@ public class NaverQueryCollector {
   /**
    * 응답이 비어 있거나 수집할 아이템이 없는 응답인지 여부를 반환합니다.
    *
-   * <p>네트워크/레이트리밋 오류로 {@code null} 이 반환된 경우와,
-   * 응답 자체는 존재하지만 아이템 리스트가 비어 있는 경우를 모두
-   * "더 이상 수집할 데이터가 없음"으로 간주합니다.</p>
+   * <p>응답이 {@code null} 인 경우와, 응답 자체는 존재하지만 아이템 리스트가 비어 있는 경우를 모두
+   * "더 이상 수집할 데이터가 없음"으로 간주합니다. 호출 실패는 {@link NaverPageFetcher}가 예외로 전달하므로
+   * 여기서 결과 끝으로 취급되지 않습니다.</p>
    *
    * @param response 네이버 검색 응답
    * @return 응답이 null 이거나 아이템이 없으면 {@code true}, 아니면 {@code false}
@@ -125,16 +397,6 @@ public class NaverQueryCollector {
     return response.items() == null || response.items().isEmpty();
   }
 
-  /**
-   * 현재 페이지의 아이템을 전체 수집 결과 리스트에 추가합니다.
-   *
-   * @param response 현재 페이지 응답
-   * @param allItems 지금까지 수집된 전체 아이템 리스트
-   */
-  private void collectPage(NaverSearchResponse response, List<NaverSearchItem> allItems) {
-    allItems.addAll(response.items());
-  }
-
   /**
    * 현재 페이지 정보를 바탕으로 다음 start 값을 계산합니다.
    *
@@ -176,4 +438,33 @@ public class NaverQueryCollector {
     }
     return nextStart > response.total();
   }
+
+  /**
+   * 조회한 페이지를 start 값과 함께 받는 핸들러입니다.
+   */
+  @FunctionalInterface
+  public interface PageHandler {
+
+    /**
+     * 페이지 하나를 처리합니다.
+     *
+     * @param start 페이지의 start 값
+     * @param items 페이지의 아이템 목록
+     */
+    void accept(int start, List<NaverSearchItem> items);
+  }
+
+  /**
+   * 검색어 하나의 수집 결과입니다.
+   *
+   * @param total       첫 페이지 응답의 전체 검색 결과 수(조회 가능 범위를 넘을 수 있음)
+   * @param itemCount   핸들러에 전달한 아이템 수
+   * @param pageCount   조회한(또는 조회를 시작한) 페이지 수, 429 재시도 제외
+   * @param reachedMark 증분 수집에서 워터마크에 도달해 멈췄는지 여부
+   */
+  public record CollectResult(int total, int itemCount, int pageCount, boolean reachedMark) {
+
+    /** 조회하지 않은 경우의 결과입니다. */
+    public static final CollectResult EMPTY = new CollectResult(0, 0, 0, false);
+  }
 }
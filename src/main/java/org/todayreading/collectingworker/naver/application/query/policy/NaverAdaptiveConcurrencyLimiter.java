@@ -0,0 +1,202 @@
+package org.todayreading.collectingworker.naver.application.query.policy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
+
+/**
+ * 네이버 책 검색 API의 동시 호출 수를 AIMD(additive increase, multiplicative decrease)로 조절하는 컴포넌트입니다.
+ *
+ * <p>호출마다 {@link #acquire()}로 자리를 얻고, 끝나면 결과에 맞는 release 메서드로 반납합니다.
+ * 정상 응답이면 상한을 {@code 1 / 상한}씩 올려 상한만큼의 응답이 돌아올 때마다 1씩 늘리고,
+ * 429/타임아웃이나 평균 응답 시간의 {@code latency-tolerance}배를 넘는 응답이면 상한에
+ * {@code decrease-factor}를 곱해 줄입니다. 이미 보낸 호출들이 같은 혼잡에 대해 연달아 줄이지 않도록,
+ * 감소는 평균 응답 시간 한 번에 한 번만 적용합니다.</p>
+ *
+ * <p>모든 수집 워커가 이 인스턴스 하나를 공유하므로, 한 실행의 처리량은 서버가 실제로 허용하는 수준 바로 아래에서
+ * 안정됩니다. 자리를 기다리는 동안 스레드를 재우지 않고 Future로 돌려주며,
+ * 설정({@code naver.search.adaptive.enabled})을 끄면 제한하지 않습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class NaverAdaptiveConcurrencyLimiter {
+
+  private static final CompletableFuture<Void> GRANTED = CompletableFuture.completedFuture(null);
+
+  /** 평균 응답 시간(EWMA)에 새 응답 시간을 반영하는 비율입니다. */
+  private static final double LATENCY_SMOOTHING = 0.05;
+
+  /** 연속 감소 사이의 최소 간격(ns)입니다. 평균 응답 시간이 이보다 짧아도 이 간격은 지킵니다. */
+  private static final long MIN_DECREASE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final boolean enabled;
+  private final double minLimit;
+  private final double maxLimit;
+  private final double decreaseFactor;
+  private final double latencyTolerance;
+
+  /** 상태(상한, 진행 중 호출 수, 대기열)를 보호하는 잠금입니다. */
+  private final Object lock = new Object();
+
+  /** 현재 동시 호출 상한입니다. 정수 부분만큼 동시에 호출합니다. */
+  private double limit;
+
+  /** 자리를 얻고 아직 반납하지 않은 호출 수입니다. */
+  private int inFlight;
+
+  /** 마지막으로 상한을 줄인 시각(ns)입니다. */
+  private long lastDecreaseNanos;
+
+  /** 정상 응답 시간의 지수 이동 평균(ns), 아직 표본이 없으면 0입니다. */
+  private double averageLatencyNanos;
+
+  /** 자리를 기다리는 호출 대기열입니다. */
+  private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+  /**
+   * 설정 값으로 동시 호출 수 조절기를 생성합니다.
+   *
+   * @param naverApiProperties 네이버 API 설정(search.adaptive)
+   */
+  public NaverAdaptiveConcurrencyLimiter(NaverApiProperties naverApiProperties) {
+    NaverApiProperties.AdaptiveConcurrencyProperties adaptive =
+        naverApiProperties.search().adaptive();
+    this.enabled = adaptive.enabled();
+    this.minLimit = Math.max(1, adaptive.minLimit());
+    this.maxLimit = Math.max(minLimit, adaptive.maxLimit());
+    this.decreaseFactor = Math.min(0.9, Math.max(0.1, adaptive.decreaseFactor()));
+    this.latencyTolerance = Math.max(1.0, adaptive.latencyTolerance());
+    this.limit = Math.min(maxLimit, Math.max(minLimit, adaptive.initialLimit()));
+    if (enabled) {
+      log.info("Naver API adaptive concurrency enabled. initialLimit={}, minLimit={}, maxLimit={}",
+          (int) limit, (int) minLimit, (int) maxLimit);
+    }
+  }
+
+  /**
+   * 호출 자리 하나를 요청합니다.
+   *
+   * <p>반환한 Future가 완료되면 자리를 얻은 것이며, 호출자는 반드시 release 메서드 중 하나로 반납해야 합니다.</p>
+   *
+   * @return 자리를 얻으면 완료되는 Future
+   */
+  public CompletableFuture<Void> acquire() {
+    if (!enabled) {
+      return GRANTED;
+    }
+    synchronized (lock) {
+      if (inFlight < (int) limit) {
+        inFlight++;
+        return GRANTED;
+      }
+      CompletableFuture<Void> waiter = new CompletableFuture<>();
+      waiters.add(waiter);
+      return waiter;
+    }
+  }
+
+  /**
+   * 정상 응답을 받은 호출의 자리를 반납합니다. 응답 시간이 평소보다 크게 늦으면 과부하로 봅니다.
+   *
+   * @param latencyNanos 호출 시작부터 응답까지 걸린 시간(ns)
+   */
+  public void releaseOnSuccess(long latencyNanos) {
+    if (!enabled) {
+      return;
+    }
+    List<CompletableFuture<Void>> granted;
+    synchronized (lock) {
+      boolean spike = averageLatencyNanos > 0
+          && latencyNanos > averageLatencyNanos * latencyTolerance;
+      averageLatencyNanos = (averageLatencyNanos == 0)
+          ? latencyNanos
+          : averageLatencyNanos + (latencyNanos - averageLatencyNanos) * LATENCY_SMOOTHING;
+      if (spike) {
+        decrease();
+      } else {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+      }
+      granted = releaseLocked();
+    }
+    granted.forEach(waiter -> waiter.complete(null));
+  }
+
+  /**
+   * 과부하 신호(429, 타임아웃)를 받은 호출의 자리를 반납하고 상한을 줄입니다.
+   */
+  public void releaseOnOverload() {
+    if (!enabled) {
+      return;
+    }
+    List<CompletableFuture<Void>> granted;
+    synchronized (lock) {
+      decrease();
+      granted = releaseLocked();
+    }
+    granted.forEach(waiter -> waiter.complete(null));
+  }
+
+  /**
+   * 부하와 관계없는 결과(4xx, 취소 등)로 끝난 호출의 자리를 상한을 바꾸지 않고 반납합니다.
+   */
+  public void release() {
+    if (!enabled) {
+      return;
+    }
+    List<CompletableFuture<Void>> granted;
+    synchronized (lock) {
+      granted = releaseLocked();
+    }
+    granted.forEach(waiter -> waiter.complete(null));
+  }
+
+  /**
+   * 현재 동시 호출 상한을 반환합니다.
+   *
+   * @return 동시 호출 상한(사용하지 않으면 0)
+   */
+  public int currentLimit() {
+    if (!enabled) {
+      return 0;
+    }
+    synchronized (lock) {
+      return (int) limit;
+    }
+  }
+
+  private void decrease() {
+    long now = System.nanoTime();
+    long interval = Math.max(MIN_DECREASE_INTERVAL_NANOS, (long) averageLatencyNanos);
+    if (lastDecreaseNanos != 0 && now - lastDecreaseNanos < interval) {
+      return;
+    }
+    lastDecreaseNanos = now;
+    double previous = limit;
+    limit = Math.max(minLimit, limit * decreaseFactor);
+    log.debug("Naver API concurrency limit decreased. {} -> {}", (int) previous, (int) limit);
+  }
+
+  /**
+   * 자리 하나를 반납하고, 상한 안에서 대기 중인 호출에 자리를 넘깁니다. 잠금을 쥔 상태에서 호출합니다.
+   *
+   * @return 자리를 얻은 대기 호출(잠금 밖에서 완료해야 함)
+   */
+  private List<CompletableFuture<Void>> releaseLocked() {
+    inFlight--;
+    List<CompletableFuture<Void>> granted = new ArrayList<>();
+    while (inFlight < (int) limit && !waiters.isEmpty()) {
+      inFlight++;
+      granted.add(waiters.poll());
+    }
+    return granted;
+  }
+}
@@ -0,0 +1,215 @@
+package org.todayreading.collectingworker.naver.application.query.policy;
+
+import jakarta.annotation.PreDestroy;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.naver.application.port.out.NaverApiQuotaPort;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
+
+/**
+ * 네이버 API 일일 호출 한도(쿼터)를 집계하고 배분하는 컴포넌트입니다.
+ *
+ * <p>모든 검색 API 호출은 호출 직전에 {@link #tryCharge(String)}로 호출할 클라이언트 ID에서 한 건씩 차감하며,
+ * 클라이언트 ID마다 하루 한도({@code naver.quota.daily-limit})에 도달하면 그 클라이언트 ID로는 더 이상 호출하지 않습니다.
+ * 사용량은 한국 시간 자정에 초기화되고, {@link NaverApiQuotaPort}에 저장해 재시작해도 그날 사용량을 이어서 집계합니다.</p>
+ *
+ * <p>배치는 시작 전과 검색어마다 {@link #remaining(Priority)}로 전체 인증 정보의 남은 호출 수 합계를 확인합니다.
+ * {@link Priority#LOW} 작업(수동 풀스캔, 증분 수집)은 정기 풀스캔 몫({@code reserved-for-scheduled})을
+ * 뺀 나머지만 사용할 수 있어, 한도가 부족해지면 낮은 우선순위 작업부터 남은 검색어를 미루거나 건너뜁니다.
+ * 검색어 단위로 확인하므로 이미 시작한 검색어의 남은 페이지만큼은 몫을 넘을 수 있습니다.</p>
+ *
+ * <p>장부는 호출마다 쓰지 않고 {@value #SAVE_INTERVAL}건 단위로 앞당겨 저장합니다(저장 값 ≥ 실제 사용량).
+ * 비정상 종료 시 최대 그만큼을 더 쓴 것으로 집계하지만, 한도를 넘겨 호출하는 일은 없습니다.
+ * 설정({@code naver.quota.enabled})을 끄면 집계하지 않고 항상 허용합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class NaverApiQuotaManager {
+
+  /**
+   * 쿼터를 사용하는 작업의 우선순위입니다.
+   */
+  public enum Priority {
+    /** 정기 풀스캔: 하루 한도 전체를 사용할 수 있습니다. */
+    HIGH,
+    /** 수동 풀스캔, 증분 수집: 정기 풀스캔 몫을 남겨 두고 사용합니다. */
+    LOW
+  }
+
+  /** 네이버 API 쿼터가 초기화되는 기준 시간대입니다. */
+  private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+
+  /** 장부를 앞당겨 저장하는 호출 수 단위입니다. */
+  private static final long SAVE_INTERVAL = 50;
+
+  private final NaverApiQuotaPort quotaPort;
+  private final boolean enabled;
+  private final long dailyLimit;
+  private final long reservedForScheduled;
+
+  /** 집계 대상 클라이언트 ID 목록(설정 순서)입니다. */
+  private final List<String> clientIds;
+
+  /** 현재 집계 중인 일자입니다(처음 사용할 때 장부에서 불러옴). */
+  private LocalDate day;
+
+  /** 클라이언트 ID별로 {@link #day}에 사용한 호출 수입니다. */
+  private final Map<String, Long> usedCalls = new LinkedHashMap<>();
+
+  /** 클라이언트 ID별로 장부에 저장한 사용량입니다. 사용량이 이 값에 도달하면 앞당겨 다시 저장합니다. */
+  private final Map<String, Long> savedCalls = new HashMap<>();
+
+  /**
+   * 설정 값과 장부 저장소로 쿼터 관리자를 생성합니다.
+   *
+   * @param naverApiProperties 네이버 API 설정(quota, book.credentials)
+   * @param quotaPort          일자별 사용량 저장소
+   */
+  public NaverApiQuotaManager(NaverApiProperties naverApiProperties,
+      NaverApiQuotaPort quotaPort) {
+    NaverApiProperties.QuotaProperties quota = naverApiProperties.quota();
+    this.quotaPort = quotaPort;
+    this.enabled = quota.enabled();
+    this.clientIds = naverApiProperties.book().resolvedCredentials().stream()
+        .map(NaverApiProperties.CredentialProperties::clientId)
+        .distinct()
+        .toList();
+    this.dailyLimit = Math.max(0, quota.dailyLimit());
+    this.reservedForScheduled = Math.min(dailyLimit * clientIds.size(),
+        Math.max(0, quota.reservedForScheduled()));
+    if (enabled) {
+      log.info("Naver API quota enabled. dailyLimit={}, credentials={}, reservedForScheduled={}",
+          dailyLimit, clientIds.size(), reservedForScheduled);
+    }
+  }
+
+  /**
+   * 클라이언트 ID의 API 호출 한 건을 차감합니다. 호출 직전에 호출하며, false이면 호출하지 않아야 합니다.
+   *
+   * @param clientId 호출할 클라이언트 ID
+   * @return 차감했으면 true, 그 클라이언트 ID의 오늘 한도를 모두 사용했으면 false
+   */
+  public synchronized boolean tryCharge(String clientId) {
+    if (!enabled) {
+      return true;
+    }
+    rollOver();
+    long used = usedCalls.getOrDefault(clientId, 0L);
+    if (used >= dailyLimit) {
+      return false;
+    }
+    if (used >= savedCalls.getOrDefault(clientId, 0L)) {
+      save(clientId, Math.min(dailyLimit, used + SAVE_INTERVAL));
+    }
+    usedCalls.put(clientId, used + 1);
+    return true;
+  }
+
+  /**
+   * 우선순위별로 오늘 더 사용할 수 있는 호출 수(전체 인증 정보 합계)를 반환합니다.
+   *
+   * @param priority 작업 우선순위
+   * @return 남은 호출 수(쿼터 관리를 사용하지 않으면 {@link Long#MAX_VALUE})
+   */
+  public synchronized long remaining(Priority priority) {
+    if (!enabled) {
+      return Long.MAX_VALUE;
+    }
+    rollOver();
+    long remaining = 0;
+    for (String clientId : clientIds) {
+      remaining += Math.max(0, dailyLimit - usedCalls.getOrDefault(clientId, 0L));
+    }
+    return (priority == Priority.HIGH) ? remaining : Math.max(0, remaining - reservedForScheduled);
+  }
+
+  /**
+   * 클라이언트 ID 하나로 오늘 더 호출할 수 있는 수를 반환합니다(인증 정보 선택용).
+   *
+   * @param clientId 클라이언트 ID
+   * @return 남은 호출 수(쿼터 관리를 사용하지 않으면 {@link Long#MAX_VALUE})
+   */
+  public synchronized long remaining(String clientId) {
+    if (!enabled) {
+      return Long.MAX_VALUE;
+    }
+    rollOver();
+    return Math.max(0, dailyLimit - usedCalls.getOrDefault(clientId, 0L));
+  }
+
+  /**
+   * 오늘 사용한 호출 수(전체 인증 정보 합계)를 반환합니다.
+   *
+   * @return 사용한 호출 수(쿼터 관리를 사용하지 않으면 0)
+   */
+  public synchronized long usedCalls() {
+    if (!enabled) {
+      return 0;
+    }
+    rollOver();
+    return usedCalls.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  /**
+   * 현재 사용량을 그대로 장부에 저장합니다. 배치가 끝날 때와 종료 시 호출합니다.
+   */
+  @PreDestroy
+  public synchronized void flush() {
+    if (enabled && day != null && !savedCalls.equals(usedCalls)) {
+      save(null, 0);
+    }
+  }
+
+  /**
+   * 일자가 바뀌었으면(또는 처음 사용하면) 그 일자의 사용량을 장부에서 불러옵니다.
+   */
+  private void rollOver() {
+    LocalDate today = LocalDate.now(QUOTA_ZONE);
+    if (today.equals(day)) {
+      return;
+    }
+    if (day != null) {
+      log.info("Naver API quota reset. date={}, usedCalls={}", day, usedCalls);
+    }
+    day = today;
+    usedCalls.clear();
+    try {
+      usedCalls.putAll(quotaPort.load(today));
+    } catch (UncheckedIOException e) {
+      // 장부를 읽지 못하면 0부터 집계합니다. 다음 저장 때 장부 파일을 새 내용으로 교체합니다.
+      log.error("Failed to load Naver API quota ledger. Counting from zero for date={}.", today, e);
+    }
+    savedCalls.clear();
+    savedCalls.putAll(usedCalls);
+  }
+
+  /**
+   * 사용량을 장부에 저장합니다. {@code clientId}가 있으면 그 클라이언트 ID만 {@code calls}로 앞당겨 저장하고,
+   * 나머지는 이미 저장한 값을 유지합니다. null이면 현재 사용량을 그대로 저장합니다.
+   */
+  private void save(String clientId, long calls) {
+    Map<String, Long> ledger = new LinkedHashMap<>(usedCalls);
+    if (clientId != null) {
+      ledger.putAll(savedCalls);
+      ledger.put(clientId, calls);
+    }
+    try {
+      quotaPort.save(day, ledger);
+      savedCalls.clear();
+      savedCalls.putAll(ledger);
+    } catch (UncheckedIOException e) {
+      // 저장에 실패해도 메모리의 집계로 계속 제한하며, 다음 저장 시점에 다시 시도합니다.
+      log.warn("Failed to save Naver API quota ledger. usedCalls={}", usedCalls, e);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package org.todayreading.collectingworker.naver.application.query.policy;
+
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
+
+/**
+ * 네이버 책 검색 API 호출에 대한 서킷 브레이커입니다.
+ *
+ * <p>5xx 응답이나 연결 실패/타임아웃이 {@code naver.search.circuit-breaker.failure-threshold}번 연속으로
+ * 발생하면 회로를 열고(OPEN), {@code open-ms} 동안은 API를 호출하지 않도록 {@link #tryAcquire()}가
+ * 남은 시간을 반환합니다. 시간이 지나면 시험 호출 하나만 허용하며(HALF_OPEN), 성공하면 회로를 닫고
+ * 실패하면 다시 엽니다.</p>
+ *
+ * <p>모든 수집 워커가 이 인스턴스 하나를 공유합니다. 429는 서버가 살아 있다는 신호이므로
+ * 실패로 세지 않으며(동시 호출 수 조절은 {@link NaverAdaptiveConcurrencyLimiter}가 담당),
+ * 설정을 끄면 항상 호출을 허용합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class NaverCircuitBreaker {
+
+  private enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  /** 시험 호출이 진행 중일 때 다시 확인할 때까지의 대기 시간(ns)입니다. */
+  private static final long PROBE_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final boolean enabled;
+  private final int failureThreshold;
+  private final long openNanos;
+
+  private State state = State.CLOSED;
+
+  /** 연속 실패 횟수입니다. */
+  private int consecutiveFailures;
+
+  /** 회로를 연 시각(ns)입니다. */
+  private long openedAtNanos;
+
+  /** HALF_OPEN 상태에서 시험 호출이 진행 중인지 여부입니다. */
+  private boolean probeInFlight;
+
+  /**
+   * 설정 값으로 서킷 브레이커를 생성합니다.
+   *
+   * @param naverApiProperties 네이버 API 설정(search.circuit-breaker)
+   */
+  public NaverCircuitBreaker(NaverApiProperties naverApiProperties) {
+    NaverApiProperties.CircuitBreakerProperties circuitBreaker =
+        naverApiProperties.search().circuitBreaker();
+    this.enabled = circuitBreaker.enabled();
+    this.failureThreshold = Math.max(1, circuitBreaker.failureThreshold());
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, circuitBreaker.openMs()));
+  }
+
+  /**
+   * API를 호출해도 되는지 확인합니다. 0을 받은 호출자는 결과에 맞게
+   * {@link #onSuccess()}, {@link #onFailure()}, {@link #onIgnored()} 중 하나를 반드시 호출해야 합니다.
+   *
+   * @return 호출할 수 있으면 0, 회로가 열려 있으면 다시 확인할 때까지 기다릴 시간(ns)
+   */
+  public synchronized long tryAcquire() {
+    if (!enabled) {
+      return 0;
+    }
+    switch (state) {
+      case CLOSED:
+        return 0;
+      case OPEN:
+        long remaining = openedAtNanos + openNanos - System.nanoTime();
+        if (remaining > 0) {
+          return remaining;
+        }
+        state = State.HALF_OPEN;
+        probeInFlight = true;
+        log.info("Naver API circuit half-open. Sending a probe request.");
+        return 0;
+      default:
+        if (probeInFlight) {
+          return PROBE_WAIT_NANOS;
+        }
+        probeInFlight = true;
+        return 0;
+    }
+  }
+
+  /**
+   * 호출이 성공했음을 기록합니다. 시험 호출이었다면 회로를 닫습니다.
+   */
+  public synchronized void onSuccess() {
+    if (!enabled) {
+      return;
+    }
+    consecutiveFailures = 0;
+    if (state == State.HALF_OPEN) {
+      state = State.CLOSED;
+      probeInFlight = false;
+      log.info("Naver API circuit closed.");
+    }
+  }
+
+  /**
+   * 5xx 응답이나 연결 실패/타임아웃을 기록합니다. 연속 실패가 임계값에 도달하거나 시험 호출이 실패하면 회로를 엽니다.
+   */
+  public synchronized void onFailure() {
+    if (!enabled) {
+      return;
+    }
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || (state == State.CLOSED
+        && consecutiveFailures >= failureThreshold)) {
+      state = State.OPEN;
+      probeInFlight = false;
+      openedAtNanos = System.nanoTime();
+      log.warn("Naver API circuit opened. consecutiveFailures={}, openMs={}",
+          consecutiveFailures, TimeUnit.NANOSECONDS.toMillis(openNanos));
+    }
+  }
+
+  /**
+   * 서버 상태와 관계없는 결과(429, 4xx, 취소 등)로 끝난 호출을 기록합니다. 시험 호출이었다면 다음 시험 호출을 허용합니다.
+   */
+  public synchronized void onIgnored() {
+    if (enabled && state == State.HALF_OPEN) {
+      probeInFlight = false;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package org.todayreading.collectingworker.naver.application.query.policy;
+
+/**
+ * 서킷 브레이커가 열려 있어 재시도 횟수 안에 네이버 API를 호출하지 못했음을 나타냅니다.
+ *
+ * <p>{@link NaverPageFetcher}가 조회 Future를 이 예외로 완료하며, 수집 서비스는 다른 호출 실패와 같이
+ * 해당 검색어를 실패로 집계합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public class NaverCircuitOpenException extends RuntimeException {
+
+  public NaverCircuitOpenException(String message) {
+    super(message);
+  }
+}
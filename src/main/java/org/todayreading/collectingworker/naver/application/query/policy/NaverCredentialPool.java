@@ -0,0 +1,241 @@
+package org.todayreading.collectingworker.naver.application.query.policy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
+
+/**
+ * 네이버 API 인증 정보(클라이언트 ID) 여러 개를 묶어 호출마다 보낼 인증 정보를 고르는 컴포넌트입니다.
+ *
+ * <p>{@link #select()}는 쉬고 있지 않고 오늘 쿼터가 남은 인증 정보 중, {@link NaverRequestRateLimiter}의
+ * 대기 시간이 가장 짧은(호출 속도 여유가 가장 많은) 인증 정보를 고르고 그 버킷에서 토큰을 예약합니다.
+ * 대기 시간이 같으면 쿼터가 더 많이 남은 인증 정보를 고릅니다.</p>
+ *
+ * <p>429를 받은 인증 정보는 {@code naver.book.park-ms}, 인증 오류(401/403)를 받은 인증 정보는
+ * {@code naver.book.auth-park-ms} 동안 쉬게 하고(park) 그동안 다른 인증 정보로 보냅니다.
+ * 인증 정보가 하나뿐이면 429로는 쉬게 하지 않습니다(재시도 백오프와 동시 호출 수 조절로 충분).</p>
+ *
+ * <p>인증 정보마다 호출 결과 카운터({@value #REQUESTS_METRIC}, 태그 {@code credential}/{@code outcome}),
+ * 쉬는 중 여부와 남은 쿼터 게이지를 등록합니다. 태그에는 설정한 이름만 쓰고 client secret은 남기지 않습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class NaverCredentialPool {
+
+  private static final String REQUESTS_METRIC = "naver.api.requests";
+  private static final String PARKED_METRIC = "naver.api.credential.parked";
+  private static final String QUOTA_REMAINING_METRIC = "naver.api.credential.quota.remaining";
+
+  private final NaverRequestRateLimiter naverRequestRateLimiter;
+  private final NaverApiQuotaManager naverApiQuotaManager;
+  private final MeterRegistry meterRegistry;
+  private final long parkNanos;
+  private final long authParkNanos;
+
+  /** 설정 순서대로 나열한 인증 정보 상태 목록입니다. */
+  private final List<Slot> slots;
+
+  /** 인증 정보/결과별 호출 카운터 캐시입니다. */
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  /**
+   * 인증 정보 하나와 그 상태입니다.
+   */
+  private static final class Slot {
+
+    private final String name;
+    private final String clientId;
+
+    /** 이 시각(ns)까지 쉬게 합니다. 0이면 쉬고 있지 않습니다. */
+    private volatile long parkedUntilNanos;
+
+    private Slot(String name, String clientId) {
+      this.name = name;
+      this.clientId = clientId;
+    }
+
+    private long parkedNanos(long now) {
+      long until = parkedUntilNanos;
+      return (until == 0) ? 0 : Math.max(0, until - now);
+    }
+  }
+
+  /**
+   * 인증 정보 선택 결과입니다.
+   *
+   * <p>{@code clientId}가 있으면 그 인증 정보로 {@code waitNanos} 뒤에 호출합니다(토큰 예약 완료).
+   * 없으면 호출할 수 있는 인증 정보가 없는 것으로, {@code waitNanos}가 0보다 크면 가장 먼저 쉬기가 끝나는
+   * 인증 정보까지의 대기 시간이고, 0이면 모든 인증 정보의 오늘 쿼터를 다 사용한 것입니다.</p>
+   *
+   * @param name      인증 정보 이름
+   * @param clientId  클라이언트 ID(고르지 못했으면 null)
+   * @param waitNanos 대기 시간(ns)
+   */
+  public record Selection(String name, String clientId, long waitNanos) {
+
+    public boolean available() {
+      return clientId != null;
+    }
+
+    public boolean quotaExhausted() {
+      return clientId == null && waitNanos == 0;
+    }
+  }
+
+  /**
+   * 설정 값으로 인증 정보 풀을 생성하고 인증 정보별 게이지를 등록합니다.
+   *
+   * @param naverApiProperties      네이버 API 설정(book.credentials, park-ms, auth-park-ms)
+   * @param naverRequestRateLimiter 클라이언트 ID별 레이트 리미터
+   * @param naverApiQuotaManager    클라이언트 ID별 쿼터 관리자
+   * @param meterRegistry           메트릭 레지스트리
+   */
+  public NaverCredentialPool(NaverApiProperties naverApiProperties,
+      NaverRequestRateLimiter naverRequestRateLimiter,
+      NaverApiQuotaManager naverApiQuotaManager,
+      MeterRegistry meterRegistry) {
+    NaverApiProperties.BookProperties book = naverApiProperties.book();
+    this.naverRequestRateLimiter = naverRequestRateLimiter;
+    this.naverApiQuotaManager = naverApiQuotaManager;
+    this.meterRegistry = meterRegistry;
+    this.parkNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, book.parkMs()));
+    this.authParkNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, book.authParkMs()));
+    this.slots = book.resolvedCredentials().stream()
+        .map(credential -> new Slot(credential.name(), credential.clientId()))
+        .toList();
+
+    for (Slot slot : slots) {
+      Gauge.builder(PARKED_METRIC, slot, s -> s.parkedNanos(System.nanoTime()) > 0 ? 1 : 0)
+          .tag("credential", slot.name)
+          .register(meterRegistry);
+      Gauge.builder(QUOTA_REMAINING_METRIC, slot,
+              s -> Math.min(Integer.MAX_VALUE, naverApiQuotaManager.remaining(s.clientId)))
+          .tag("credential", slot.name)
+          .register(meterRegistry);
+    }
+    log.info("Naver API credential pool initialized. credentials={}",
+        slots.stream().map(slot -> slot.name).toList());
+  }
+
+  /**
+   * 호출할 인증 정보를 고르고 그 인증 정보의 토큰을 예약합니다.
+   *
+   * @return 선택 결과
+   */
+  public Selection select() {
+    long now = System.nanoTime();
+    Slot best = null;
+    long bestWait = 0;
+    long bestRemaining = 0;
+    long earliestUnpark = Long.MAX_VALUE;
+    for (Slot slot : slots) {
+      long parked = slot.parkedNanos(now);
+      if (parked > 0) {
+        earliestUnpark = Math.min(earliestUnpark, parked);
+        continue;
+      }
+      long remaining = naverApiQuotaManager.remaining(slot.clientId);
+      if (remaining == 0) {
+        continue;
+      }
+      long wait = naverRequestRateLimiter.peek(slot.clientId);
+      if (best == null || wait < bestWait || (wait == bestWait && remaining > bestRemaining)) {
+        best = slot;
+        bestWait = wait;
+        bestRemaining = remaining;
+      }
+    }
+
+    if (best == null) {
+      return new Selection(null, null, (earliestUnpark == Long.MAX_VALUE) ? 0 : earliestUnpark);
+    }
+    return new Selection(best.name, best.clientId, naverRequestRateLimiter.reserve(best.clientId));
+  }
+
+  /**
+   * 인증 정보를 고르지 않고 첫 번째 인증 정보를 반환합니다(단건 조회용).
+   *
+   * @return 첫 번째 인증 정보(토큰을 예약하지 않음)
+   */
+  public Selection defaultCredential() {
+    Slot slot = slots.get(0);
+    return new Selection(slot.name, slot.clientId, 0);
+  }
+
+  /**
+   * 정상 응답을 기록합니다.
+   *
+   * @param selection 호출에 사용한 인증 정보
+   */
+  public void onSuccess(Selection selection) {
+    count(selection, "success");
+  }
+
+  /**
+   * 429 응답을 기록하고, 인증 정보가 여러 개면 그 인증 정보를 쉬게 합니다.
+   *
+   * @param selection 호출에 사용한 인증 정보
+   */
+  public void onThrottled(Selection selection) {
+    count(selection, "throttled");
+    if (slots.size() > 1) {
+      park(selection, parkNanos);
+      log.warn("Naver API credential parked after 429. credential={}, parkMs={}",
+          selection.name(), TimeUnit.NANOSECONDS.toMillis(parkNanos));
+    }
+  }
+
+  /**
+   * 인증 오류(401/403) 응답을 기록하고 그 인증 정보를 쉬게 합니다.
+   *
+   * @param selection 호출에 사용한 인증 정보
+   * @param status    HTTP 상태 코드
+   */
+  public void onAuthFailure(Selection selection, int status) {
+    count(selection, "auth_failure");
+    park(selection, authParkNanos);
+    log.error("Naver API credential rejected. Parking it. credential={}, status={}, parkMs={}",
+        selection.name(), status, TimeUnit.NANOSECONDS.toMillis(authParkNanos));
+  }
+
+  /**
+   * 그 밖의 실패(5xx, 연결 실패/타임아웃 등)를 기록합니다.
+   *
+   * @param selection 호출에 사용한 인증 정보
+   */
+  public void onError(Selection selection) {
+    count(selection, "error");
+  }
+
+  private void park(Selection selection, long nanos) {
+    if (nanos == 0) {
+      return;
+    }
+    long until = System.nanoTime() + nanos;
+    for (Slot slot : slots) {
+      if (slot.clientId.equals(selection.clientId())) {
+        long current = slot.parkedUntilNanos;
+        slot.parkedUntilNanos = (current == 0 || until - current > 0) ? until : current;
+      }
+    }
+  }
+
+  private void count(Selection selection, String outcome) {
+    counters.computeIfAbsent(selection.name() + '|' + outcome,
+            key -> Counter.builder(REQUESTS_METRIC)
+                .tag("credential", selection.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry))
+        .increment();
+  }
+}
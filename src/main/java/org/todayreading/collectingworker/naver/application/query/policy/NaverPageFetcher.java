@@ -1,27 +1,46 @@
 package org.todayreading.collectingworker.naver.application.query.policy;
 
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientResponseException;
 import org.todayreading.collectingworker.naver.application.dto.NaverSearchResponse;
 import org.todayreading.collectingworker.naver.application.port.out.NaverSearchPort;
 
 /**
- * 네이버 책 검색 API 단일 페이지 호출과 429(Too Many Requests)에 대한
- * 간단한 재시도/백오프 정책을 담당하는 컴포넌트입니다.
+ * 네이버 책 검색 API 단일 페이지 호출과 일시적인 실패(429, 5xx, 연결 실패/타임아웃)에 대한
+ * 재시도/백오프 정책을 담당하는 컴포넌트입니다.
  *
  * <p>이 클래스는 {@link NaverSearchPort}를 사용해 주어진 검색어와 start 값으로
- * 한 페이지를 조회하며, HTTP 429 응답이 발생할 경우 최대 재시도 횟수까지
- * 선형 백오프(1초, 2초, 3초) 대기 시간을 적용한 뒤 다시 호출을 시도합니다.
- * 재시도 후에도 429가 지속되면 null을 반환하여 상위 호출자가 수집을 종료할 수 있도록 합니다.</p>
+ * 한 페이지를 조회하며, 일시적인 실패가 발생하면 최대 시도 횟수까지
+ * 지수 백오프(1초, 2초, ... 에 지터 적용) 후 다시 호출을 시도합니다.
+ * 마지막 시도까지 실패하면 그 예외로 완료하므로, 상위 호출자는 수집 실패를 결과 끝과 구분할 수 있습니다.</p>
+ *
+ * <p>재시도를 포함한 모든 호출은 {@link NaverAdaptiveConcurrencyLimiter}에서 자리를 얻고,
+ * {@link NaverCredentialPool}이 고른 인증 정보의 토큰({@link NaverRequestRateLimiter})을 예약하고
+ * {@link NaverApiQuotaManager}에 한 건을 차감한 뒤 그 인증 정보로 수행하며,
+ * 응답 결과를 동시 호출 수 조절기, {@link NaverCircuitBreaker}, 인증 정보 풀에 알립니다. 이 컴포넌트들은 모두
+ * 수집 워커 전체가 공유하므로 동시 호출 수는 실행 전체 기준으로, 호출 속도와 일일 호출 수는
+ * 인증 정보별로 제한됩니다. 429나 인증 오류(401/403)를 받은 인증 정보는 풀이 쉬게 하고, 재시도는 다른 인증 정보로 보냅니다.</p>
+ *
+ * <p>호출은 {@link NaverSearchPort#searchAsync}로 비동기로 수행합니다. 자리/토큰 대기와 백오프도
+ * 스레드를 재우지 않고 {@code naverFetchExecutor}의 지연 실행으로 처리하므로,
+ * 여러 페이지 조회를 스레드 수와 관계없이 동시에 진행할 수 있습니다.</p>
  *
  * @author 박성준
  * @since 1.0.0
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class NaverPageFetcher {
 
   /**
@@ -30,15 +49,40 @@ public class NaverPageFetcher {
   private final NaverSearchPort naverSearchPort;
 
   /**
-   * HTTP 429 응답에 대해 시도할 최대 재시도 횟수입니다.
+   * 호출마다 인증 정보를 고르고 토큰을 예약하는 인증 정보 풀입니다.
+   */
+  private final NaverCredentialPool naverCredentialPool;
+
+  /**
+   * 모든 수집 워커가 공유하는 동시 호출 수 조절기입니다.
+   */
+  private final NaverAdaptiveConcurrencyLimiter naverAdaptiveConcurrencyLimiter;
+
+  /**
+   * 모든 수집 워커가 공유하는 서킷 브레이커입니다.
+   */
+  private final NaverCircuitBreaker naverCircuitBreaker;
+
+  /**
+   * 모든 호출을 차감하는 일일 호출 한도(쿼터) 관리자입니다.
+   */
+  private final NaverApiQuotaManager naverApiQuotaManager;
+
+  /**
+   * 토큰 대기/백오프 후 호출을 시작하는 데 사용하는 Executor입니다.
+   */
+  private final Executor naverFetchExecutor;
+
+  /**
+   * 일시적인 실패에 대해 시도할 최대 횟수(첫 호출 포함)입니다.
    */
   private static final int MAX_RETRY_COUNT = 3;
 
   /**
    * 재시도 시 기본 대기 시간(ms)입니다.
    *
-   * <p>실제 대기 시간은 {@code BASE_BACKOFF_MS * attempt}로 계산되어
-   * 1초, 2초, 3초와 같이 선형으로 증가합니다.</p>
+   * <p>실제 대기 시간은 {@code BASE_BACKOFF_MS * 2^(attempt - 1)}의 50~100% 사이에서 무작위로 정해,
+   * 여러 조회가 같은 시각에 다시 몰리지 않도록 합니다.</p>
    */
   private static final long BASE_BACKOFF_MS = 1_000L;
 
@@ -48,77 +92,277 @@ public class NaverPageFetcher {
   private static final int HTTP_TOO_MANY_REQUESTS = 429;
 
   /**
-   * 지정된 검색어와 시작 위치(start)로 네이버 책 검색 API를 호출합니다.
-   *
-   * <p>HTTP 429(Too Many Requests)가 발생하는 경우에는 최대
-   * {@link #MAX_RETRY_COUNT}회까지 재시도를 수행하며,
-   * 재시도 사이에는 {@link #BASE_BACKOFF_MS}를 기준으로 한 대기 시간
-   * (1초, 2초, 3초)을 적용합니다. 재시도 후에도 429가 지속되면
-   * {@code null}을 반환하여 상위 호출자에서 수집 중단 신호로 사용할 수 있습니다.</p>
+   * HTTP 401(Unauthorized), 403(Forbidden) 상태 코드 상수입니다.
+   */
+  private static final int HTTP_UNAUTHORIZED = 401;
+  private static final int HTTP_FORBIDDEN = 403;
+
+  /**
+   * 모든 인증 정보가 쉬고 있을 때 기다릴 최대 시간(ns)입니다. 이보다 오래 쉬어야 하면 바로 실패로 처리합니다.
+   */
+  private static final long MAX_CREDENTIAL_WAIT_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  public NaverPageFetcher(
+      NaverSearchPort naverSearchPort,
+      NaverCredentialPool naverCredentialPool,
+      NaverAdaptiveConcurrencyLimiter naverAdaptiveConcurrencyLimiter,
+      NaverCircuitBreaker naverCircuitBreaker,
+      NaverApiQuotaManager naverApiQuotaManager,
+      @Qualifier("naverFetchExecutor") Executor naverFetchExecutor) {
+    this.naverSearchPort = naverSearchPort;
+    this.naverCredentialPool = naverCredentialPool;
+    this.naverAdaptiveConcurrencyLimiter = naverAdaptiveConcurrencyLimiter;
+    this.naverCircuitBreaker = naverCircuitBreaker;
+    this.naverApiQuotaManager = naverApiQuotaManager;
+    this.naverFetchExecutor = naverFetchExecutor;
+  }
+
+  /**
+   * 지정된 검색어와 시작 위치(start)로 네이버 책 검색 API를 호출하고 응답을 기다립니다.
    *
-   * <p>429 이외의 HTTP 에러 상태 코드에 대해서는 예외를 그대로 전파합니다.</p>
+   * <p>{@link #fetchPageAsync(String, int)}의 결과를 기다리며, 재시도 정책도 같습니다.
+   * 기다리는 중에 인터럽트되면(수집 작업 취소) 호출을 취소하고 {@link CancellationException}을 던집니다.</p>
    *
    * @param query 검색에 사용할 쿼리 문자열
    * @param start 네이버 API의 start 파라미터 값
-   * @return 정상 응답일 경우 {@link NaverSearchResponse}, 재시도 후에도 429가 지속되면 null
-   * @throws RestClientResponseException 429 이외의 HTTP 에러 응답이 발생한 경우
+   * @return 네이버 검색 응답
+   * @throws RestClientResponseException 재시도할 수 없거나 재시도 후에도 실패한 HTTP 에러 응답인 경우
+   * @throws NaverCircuitOpenException   서킷 브레이커가 열려 있어 호출하지 못한 경우
+   * @throws NaverQuotaExceededException 오늘의 호출 한도를 모두 사용한 경우
+   * @throws NaverCredentialUnavailableException 모든 인증 정보가 쉬고 있어 호출하지 못한 경우
    * @author 박성준
    * @since 1.0.0
    */
   public NaverSearchResponse fetchPage(String query, int start) {
-    int attempt = 1;
-    while (attempt <= MAX_RETRY_COUNT) {
-      try {
-        return naverSearchPort.search(query, null, start, null);
-      } catch (RestClientResponseException e) {
-        if (e.getRawStatusCode() != HTTP_TOO_MANY_REQUESTS) {
-          throw e;
-        }
-
-        // 필요 시 상세 로그 활성화
-//        log.warn(
-//            "Naver API 429 Too Many Requests 발생 - query={}, start={}, attempt={}/{}, status={}, body={}",
-//            query,
-//            start,
-//            attempt,
-//            MAX_RETRY_COUNT,
-//            e.getRawStatusCode(),
-//            e.getResponseBodyAsString()
-//        );
-
-        if (attempt == MAX_RETRY_COUNT) {
-          log.warn(
-              "Naver API 429가 {}회 연속 발생하여 수집을 중단합니다. query={}, start={}",
-              MAX_RETRY_COUNT,
-              query,
-              start
-          );
-          return null;
-        }
-
-        sleepQuietly(BASE_BACKOFF_MS * attempt);
-        attempt++;
+    CompletableFuture<NaverSearchResponse> page = fetchPageAsync(query, start);
+    try {
+      return page.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      page.cancel(false);
+      throw new CancellationException("Interrupted while waiting for Naver page.");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
       }
+      throw new CompletionException(e.getCause());
     }
-    return null;
   }
 
   /**
-   * 지정된 시간 동안 현재 스레드를 대기시킵니다.
+   * 지정된 검색어와 시작 위치(start)로 네이버 책 검색 API를 비동기로 호출합니다.
+   *
+   * <p>429, 5xx, 연결 실패/타임아웃이 발생하면 최대 {@link #MAX_RETRY_COUNT}회까지 시도하며,
+   * 시도 사이에는 {@link #BASE_BACKOFF_MS}를 기준으로 한 지수 백오프를 적용합니다.
+   * 서킷 브레이커가 열려 있으면 호출하지 않고 회로가 다시 열릴 시각까지 기다리며, 이것도 한 번의 시도로 셉니다.
+   * 마지막 시도까지 실패하면 마지막 예외로 완료합니다.</p>
    *
-   * <p>대기 중 인터럽트가 발생하면 {@link IllegalStateException}을 발생시켜
-   * 호출자에게 알립니다.</p>
+   * <p>호출(재시도 포함)마다 고른 인증 정보의 쿼터에서 한 건씩 차감하며, 모든 인증 정보가 오늘 한도를 다 사용했으면
+   * 재시도 없이 {@link NaverQuotaExceededException}으로 완료합니다. 인증 오류(401/403)는 그 인증 정보를 쉬게 하고
+   * 다른 인증 정보로 재시도하며, 모든 인증 정보가 쉬고 있으면 가장 먼저 쉬기가 끝날 때까지 기다립니다
+   * ({@link #MAX_CREDENTIAL_WAIT_NANOS} 초과 시 {@link NaverCredentialUnavailableException}으로 완료).
+   * 그 밖의 HTTP 에러 상태 코드에 대해서는 바로 그 예외로 완료합니다.
+   * 대기 중에 반환한 Future가 취소되면 API를 호출하지 않습니다.</p>
    *
-   * @param millis 대기시킬 시간(ms)
-   * @throws IllegalStateException 대기 중 인터럽트가 발생한 경우
+   * @param query 검색에 사용할 쿼리 문자열
+   * @param start 네이버 API의 start 파라미터 값
+   * @return 정상 응답으로 완료되거나, 실패 시 예외로 완료되는 Future
    * @author 박성준
    * @since 1.0.0
    */
-  private void sleepQuietly(long millis) {
+  public CompletableFuture<NaverSearchResponse> fetchPageAsync(String query, int start) {
+    CompletableFuture<NaverSearchResponse> result = new CompletableFuture<>();
+    attempt(query, start, 1, result);
+    return result;
+  }
+
+  /**
+   * 동시 호출 자리를 얻고 인증 정보를 고른 뒤, 토큰 예약 시각까지 기다려 한 번 호출합니다.
+   */
+  private void attempt(String query, int start, int attempt,
+      CompletableFuture<NaverSearchResponse> result) {
+    naverAdaptiveConcurrencyLimiter.acquire()
+        .thenRun(() -> {
+          // 자리를 반납하기 전에 예외가 나면 자리를 반납하고 결과를 예외로 완료합니다(조회가 끝나지 않고 남지 않도록).
+          boolean slotHeld = true;
+          try {
+            NaverCredentialPool.Selection credential = naverCredentialPool.select();
+            if (!credential.available()) {
+              slotHeld = false;
+              naverAdaptiveConcurrencyLimiter.release();
+              if (credential.quotaExhausted()) {
+                result.completeExceptionally(new NaverQuotaExceededException(
+                    "Naver API daily quota exhausted. query=" + query + ", start=" + start));
+                return;
+              }
+              NaverCredentialUnavailableException unavailable =
+                  new NaverCredentialUnavailableException(
+                      "All Naver API credentials are parked. query=" + query + ", start=" + start);
+              if (credential.waitNanos() > MAX_CREDENTIAL_WAIT_NANOS) {
+                result.completeExceptionally(unavailable);
+                return;
+              }
+              retryOrFail(query, start, attempt, result, credential.waitNanos(), unavailable);
+              return;
+            }
+
+            slotHeld = false;
+            schedule(credential.waitNanos(), () -> call(query, start, attempt, credential, result),
+                rejected -> {
+                  naverAdaptiveConcurrencyLimiter.release();
+                  result.completeExceptionally(rejected);
+                });
+          } catch (RuntimeException e) {
+            if (slotHeld) {
+              naverAdaptiveConcurrencyLimiter.release();
+            }
+            result.completeExceptionally(e);
+          }
+        });
+  }
+
+  /**
+   * 서킷 브레이커와 쿼터를 확인하고 API를 호출한 뒤, 결과를 조절기들에 알리고 필요하면 다음 시도를 예약합니다.
+   */
+  private void call(String query, int start, int attempt,
+      NaverCredentialPool.Selection credential, CompletableFuture<NaverSearchResponse> result) {
+    boolean slotHeld = true;
     try {
-      Thread.sleep(millis);
-    } catch (InterruptedException e) {
-      throw new IllegalStateException("Thread interrupted during backoff sleep", e);
+      if (result.isDone()) {
+        // 대기 중 취소된 조회는 호출하지 않습니다.
+        slotHeld = false;
+        naverAdaptiveConcurrencyLimiter.release();
+        return;
+      }
+      long openNanos = naverCircuitBreaker.tryAcquire();
+      if (openNanos > 0) {
+        slotHeld = false;
+        naverAdaptiveConcurrencyLimiter.release();
+        retryOrFail(query, start, attempt, result, openNanos, new NaverCircuitOpenException(
+            "Naver API circuit is open. query=" + query + ", start=" + start));
+        return;
+      }
+      if (!naverApiQuotaManager.tryCharge(credential.clientId())) {
+        // 고른 뒤 다른 호출이 한도를 다 쓴 경우: 다시 고르면 한도가 남은 인증 정보로 가거나 쿼터 소진으로 끝납니다.
+        naverCircuitBreaker.onIgnored();
+        slotHeld = false;
+        naverAdaptiveConcurrencyLimiter.release();
+        attempt(query, start, attempt, result);
+        return;
+      }
+      slotHeld = false;
+      send(query, start, attempt, credential, result);
+    } catch (RuntimeException e) {
+      if (slotHeld) {
+        naverAdaptiveConcurrencyLimiter.release();
+      }
+      result.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * API를 호출하고, 응답에 따라 조절기들에 결과를 알린 뒤 결과를 완료하거나 다음 시도를 예약합니다.
+   *
+   * <p>호출이 동기 예외를 던져도 같은 실패 처리(자리 반납, 예외로 완료)를 거치도록 실패한 Future로 바꿉니다.</p>
+   */
+  private void send(String query, int start, int attempt,
+      NaverCredentialPool.Selection credential, CompletableFuture<NaverSearchResponse> result) {
+    long startedAt = System.nanoTime();
+    CompletableFuture<NaverSearchResponse> pending;
+    try {
+      pending = naverSearchPort.searchAsync(credential.clientId(), query, null, start, null);
+    } catch (RuntimeException e) {
+      pending = CompletableFuture.failedFuture(e);
+    }
+    pending
+        .whenComplete((response, ex) -> {
+          if (ex == null) {
+            naverCredentialPool.onSuccess(credential);
+            naverCircuitBreaker.onSuccess();
+            naverAdaptiveConcurrencyLimiter.releaseOnSuccess(System.nanoTime() - startedAt);
+            result.complete(response);
+            return;
+          }
+
+          Throwable cause = (ex instanceof CompletionException) ? ex.getCause() : ex;
+          if (cause instanceof RestClientResponseException e
+              && e.getStatusCode().value() == HTTP_TOO_MANY_REQUESTS) {
+            // 필요 시 상세 로그 활성화
+//            log.warn(
+//                "Naver API 429 Too Many Requests 발생 - query={}, start={}, attempt={}/{}, body={}",
+//                query, start, attempt, MAX_RETRY_COUNT, e.getResponseBodyAsString());
+            naverCredentialPool.onThrottled(credential);
+            naverCircuitBreaker.onIgnored();
+            naverAdaptiveConcurrencyLimiter.releaseOnOverload();
+          } else if (cause instanceof RestClientResponseException e
+              && (e.getStatusCode().value() == HTTP_UNAUTHORIZED
+              || e.getStatusCode().value() == HTTP_FORBIDDEN)) {
+            // 인증 정보 문제이므로 그 인증 정보만 쉬게 하고 다른 인증 정보로 재시도합니다.
+            naverCredentialPool.onAuthFailure(credential, e.getStatusCode().value());
+            naverCircuitBreaker.onIgnored();
+            naverAdaptiveConcurrencyLimiter.release();
+          } else if (cause instanceof RestClientResponseException e
+              && e.getStatusCode().is5xxServerError()) {
+            naverCredentialPool.onError(credential);
+            naverCircuitBreaker.onFailure();
+            naverAdaptiveConcurrencyLimiter.release();
+          } else if (cause instanceof ResourceAccessException) {
+            // 연결 실패/타임아웃
+            naverCredentialPool.onError(credential);
+            naverCircuitBreaker.onFailure();
+            naverAdaptiveConcurrencyLimiter.releaseOnOverload();
+          } else {
+            naverCredentialPool.onError(credential);
+            naverCircuitBreaker.onIgnored();
+            naverAdaptiveConcurrencyLimiter.release();
+            result.completeExceptionally(cause);
+            return;
+          }
+          retryOrFail(query, start, attempt, result, 0, cause);
+        });
+  }
+
+  /**
+   * 남은 시도가 있으면 백오프(또는 회로가 다시 열릴 때까지) 후 다음 시도를 예약하고, 없으면 예외로 완료합니다.
+   */
+  private void retryOrFail(String query, int start, int attempt,
+      CompletableFuture<NaverSearchResponse> result, long minWaitNanos, Throwable cause) {
+    if (attempt == MAX_RETRY_COUNT) {
+      log.warn(
+          "Naver API 호출이 {}회 연속 실패하여 수집을 중단합니다. query={}, start={}, cause={}",
+          MAX_RETRY_COUNT,
+          query,
+          start,
+          cause.toString()
+      );
+      result.completeExceptionally(cause);
+      return;
+    }
+
+    long backoffNanos = TimeUnit.MILLISECONDS.toNanos(BASE_BACKOFF_MS << (attempt - 1));
+    backoffNanos -= ThreadLocalRandom.current().nextLong(backoffNanos / 2 + 1);
+    schedule(Math.max(backoffNanos, minWaitNanos), () -> attempt(query, start, attempt + 1, result),
+        result::completeExceptionally);
+  }
+
+  /**
+   * 작업을 지연 후(0 이하이면 바로) {@code naverFetchExecutor}에서 실행합니다.
+   *
+   * <p>Executor가 작업을 거절하면(애플리케이션 종료 중 등) 작업 대신 {@code onRejected}를 호출하므로,
+   * 지연 실행 스레드에서 거절되어도 호출자가 기다리는 조회가 완료되지 않은 채 남지 않습니다.</p>
+   */
+  private void schedule(long delayNanos, Runnable task, Consumer<RuntimeException> onRejected) {
+    Executor target = command -> {
+      try {
+        naverFetchExecutor.execute(command);
+      } catch (RuntimeException e) {
+        onRejected.accept(e);
+      }
+    };
+    if (delayNanos > 0) {
+      CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, target).execute(task);
+    } else {
+      target.execute(task);
     }
   }
 }
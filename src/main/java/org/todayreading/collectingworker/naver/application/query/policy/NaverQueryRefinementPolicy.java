@@ -0,0 +1,175 @@
+package org.todayreading.collectingworker.naver.application.query.policy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.naver.application.pattern.QueryPatternGenerator;
+import org.todayreading.collectingworker.naver.application.query.NaverQueryCollector.CollectResult;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
+
+/**
+ * start 상한 때문에 끝까지 페이징하지 못한 검색어를 세분화할지 결정하는 정책 컴포넌트입니다.
+ *
+ * <p>검색어의 total이 조회 가능 범위(max-start 이하의 마지막 start + display - 1)보다 크면
+ * {@link QueryPatternGenerator#refine(String)}로 한 글자 더 긴 검색어들을 만들어 반환합니다.
+ * 세분화 깊이는 {@code naver.search.refinement.max-depth}로,
+ * 한 번의 스캔에서 사용할 API 호출 수는 {@code naver.search.refinement.max-calls}로 제한합니다.</p>
+ *
+ * <p>호출 수는 스캔마다 {@link #newBudget()}로 만든 {@link Budget}에 집계합니다.
+ * 세분화한 검색어는 최소 1회 호출하므로 그 수만큼 미리 예약한 뒤 허용하며,
+ * 이미 진행 중인 검색어의 남은 페이지까지는 막지 않으므로 상한을 약간 넘을 수 있습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Component
+public class NaverQueryRefinementPolicy {
+
+  /** 세분화 사용 여부입니다. */
+  private final boolean enabled;
+
+  /** 한 검색어로 조회할 수 있는 최대 결과 수입니다. */
+  private final int reachableWindow;
+
+  /** 최초 검색어 대비 덧붙일 수 있는 최대 글자 수입니다. */
+  private final int maxDepth;
+
+  /** 한 번의 스캔에서 사용할 최대 API 호출 수입니다. */
+  private final int maxCalls;
+
+  /**
+   * 설정 값으로 세분화 정책을 생성합니다.
+   *
+   * @param naverApiProperties 네이버 API 설정(display, max-start, refinement)
+   */
+  public NaverQueryRefinementPolicy(NaverApiProperties naverApiProperties) {
+    NaverApiProperties.SearchProperties search = naverApiProperties.search();
+    NaverApiProperties.RefinementProperties refinement = search.refinement();
+    this.enabled = refinement.enabled();
+    int display = Math.max(1, search.display());
+    // 페이징은 1, 1 + display, ... 중 max-start 이하인 start까지만 진행합니다.
+    int lastStart = Math.max(0, search.maxStart() - 1) / display * display + 1;
+    this.reachableWindow = lastStart + display - 1;
+    this.maxDepth = Math.max(0, refinement.maxDepth());
+    this.maxCalls = Math.max(0, refinement.maxCalls());
+  }
+
+  /**
+   * 스캔 한 번에 사용할 호출 수 집계를 생성합니다.
+   *
+   * @return 새 호출 수 집계
+   */
+  public Budget newBudget() {
+    return new Budget();
+  }
+
+  /**
+   * 스캔 한 번의 API 호출 수와 세분화 결과를 집계합니다. 여러 수집 워커에서 동시에 사용합니다.
+   */
+  public final class Budget {
+
+    /** 수집을 마친 검색어가 사용한 호출 수입니다. */
+    private final AtomicInteger usedCalls = new AtomicInteger();
+
+    /** 세분화로 허용했지만 아직 수집을 마치지 않은 검색어 수(검색어당 1회 예약)입니다. */
+    private final AtomicInteger reservedCalls = new AtomicInteger();
+
+    /** 세분화한 검색어 수입니다. */
+    private final AtomicInteger refinedQueries = new AtomicInteger();
+
+    /** 세분화가 필요했지만 깊이/호출 수 상한 때문에 세분화하지 못한 검색어 수입니다. */
+    private final AtomicInteger truncatedQueries = new AtomicInteger();
+
+    private Budget() {
+    }
+
+    /**
+     * 수집을 마친 검색어의 결과를 보고 세분화한 검색어 목록을 반환합니다.
+     *
+     * @param query  수집을 마친 검색어
+     * @param depth  최초 검색어 대비 덧붙인 글자 수
+     * @param result 검색어의 수집 결과
+     * @return 이어서 수집할 세분화 검색어 목록(세분화하지 않으면 빈 목록)
+     */
+    public List<String> refine(String query, int depth, CollectResult result) {
+      usedCalls.addAndGet(result.pageCount());
+      if (depth > 0) {
+        reservedCalls.decrementAndGet();
+      }
+
+      if (!enabled || result.total() <= reachableWindow) {
+        return List.of();
+      }
+      if (depth >= maxDepth) {
+        truncatedQueries.incrementAndGet();
+        return List.of();
+      }
+
+      List<String> children = QueryPatternGenerator.refine(query);
+      if (!reserve(children.size())) {
+        truncatedQueries.incrementAndGet();
+        return List.of();
+      }
+      refinedQueries.incrementAndGet();
+      return children;
+    }
+
+    /**
+     * 수집을 마치지 못한(실패한) 세분화 검색어의 예약을 해제합니다.
+     *
+     * @param depth 최초 검색어 대비 덧붙인 글자 수
+     */
+    public void release(int depth) {
+      if (depth > 0) {
+        reservedCalls.decrementAndGet();
+      }
+    }
+
+    /**
+     * 수집 도중 중단된(실패/취소) 검색어가 그때까지 사용한 호출 수를 집계하고 예약을 해제합니다.
+     *
+     * <p>중단된 검색어는 {@link #refine}을 거치지 않으므로, 이미 조회한 페이지 수를 여기서 더하지 않으면
+     * 그 호출이 상한 계산에서 빠져 세분화를 실제 호출량보다 더 허용하게 됩니다.</p>
+     *
+     * @param depth     최초 검색어 대비 덧붙인 글자 수
+     * @param pageCount 중단 전까지 조회를 시작한 페이지 수
+     */
+    public void abort(int depth, int pageCount) {
+      usedCalls.addAndGet(pageCount);
+      release(depth);
+    }
+
+    /**
+     * 이전 실행에서 세분화해 이어서 수집하는 검색어를 상한과 관계없이 예약합니다(체크포인트 재개).
+     *
+     * @param count 이어서 수집하는 세분화 검색어 수
+     */
+    public void carryOver(int count) {
+      reservedCalls.addAndGet(count);
+    }
+
+    private boolean reserve(int count) {
+      while (true) {
+        int reserved = reservedCalls.get();
+        if (usedCalls.get() + reserved + count > maxCalls) {
+          return false;
+        }
+        if (reservedCalls.compareAndSet(reserved, reserved + count)) {
+          return true;
+        }
+      }
+    }
+
+    public int usedCalls() {
+      return usedCalls.get();
+    }
+
+    public int refinedQueries() {
+      return refinedQueries.get();
+    }
+
+    public int truncatedQueries() {
+      return truncatedQueries.get();
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package org.todayreading.collectingworker.naver.application.query.policy;
+
+/**
+ * 오늘의 네이버 API 호출 한도(쿼터)를 모두 사용해 호출하지 못했음을 나타냅니다.
+ *
+ * <p>모든 인증 정보의 쿼터가 {@link NaverApiQuotaManager}에서 바닥나면 {@link NaverPageFetcher}가 재시도 없이 조회 Future를
+ * 이 예외로 완료하며, 수집 서비스는 다른 호출 실패와 같이 해당 검색어를 실패로 집계합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+public class NaverQuotaExceededException extends RuntimeException {
+
+  public NaverQuotaExceededException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,95 @@
+package org.todayreading.collectingworker.naver.application.query.policy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
+
+/**
+ * 네이버 책 검색 API 호출 속도를 제한하는 토큰 버킷(token bucket) 레이트 리미터입니다.
+ *
+ * <p>토큰은 {@code naver.search.request-interval-ms}마다 하나씩 채워지고,
+ * 버킷에는 최대 {@code naver.search.burst}개까지 쌓입니다. 모든 수집 워커가 이 인스턴스 하나를 공유하므로,
+ * 동시 수집 워커 수와 관계없이 호출 속도가 설정한 QPS({@code 1000 / request-interval-ms})를 넘지 않습니다.</p>
+ *
+ * <p>네이버 API의 호출 속도 제한은 클라이언트 ID마다 적용되므로 버킷도 키(클라이언트 ID)마다 따로 둡니다.
+ * 인증 정보를 여러 개 쓰면 전체 호출 속도는 인증 정보 수만큼 늘어납니다.</p>
+ *
+ * <p>구현은 "다음 토큰이 채워지는 시각" 하나만 CAS로 갱신하는 방식(GCRA)으로,
+ * 잠금 없이 호출 순서대로 시각을 예약하고 예약 시각까지 남은 시간을 호출자에게 돌려줍니다.
+ * 간격이 0 이하이면 제한하지 않습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class NaverRequestRateLimiter {
+
+  /** 토큰 하나가 채워지는 간격(ns)입니다. */
+  private final long intervalNanos;
+
+  /** 버킷이 가득 찼을 때 대기 없이 허용하는 호출 수에 해당하는 시간(ns)입니다. */
+  private final long burstNanos;
+
+  /** 키별로 다음 호출이 버킷을 비우지 않고 허용되는 이론상 도착 시각(ns)입니다. */
+  private final Map<String, AtomicLong> theoreticalArrivals = new ConcurrentHashMap<>();
+
+  /**
+   * 설정 값으로 레이트 리미터를 생성합니다.
+   *
+   * @param naverApiProperties 네이버 API 설정(request-interval-ms, burst)
+   */
+  public NaverRequestRateLimiter(NaverApiProperties naverApiProperties) {
+    NaverApiProperties.SearchProperties search = naverApiProperties.search();
+    this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, search.requestIntervalMs()));
+    this.burstNanos = intervalNanos * (Math.max(1, search.burst()) - 1);
+    log.info("Naver API rate limiter initialized. requestIntervalMs={}, burst={}",
+        search.requestIntervalMs(), Math.max(1, search.burst()));
+  }
+
+  /**
+   * 키의 버킷에서 토큰 하나를 예약하고, 예약한 토큰을 쓸 수 있을 때까지 남은 대기 시간을 반환합니다.
+   *
+   * <p>호출자는 반환한 시간이 지난 뒤 API를 호출해야 합니다. 스레드를 재우지 않으므로
+   * 지연 실행(delayed executor)과 함께 비동기로 사용할 수 있습니다.</p>
+   *
+   * @param key 버킷 키(클라이언트 ID)
+   * @return 대기 시간(ns), 바로 호출할 수 있으면 0 이하
+   */
+  public long reserve(String key) {
+    if (intervalNanos == 0) {
+      return 0;
+    }
+    AtomicLong theoreticalArrival = arrivalOf(key);
+    long now = System.nanoTime();
+    while (true) {
+      long arrival = theoreticalArrival.get();
+      long slot = Math.max(arrival, now);
+      if (theoreticalArrival.compareAndSet(arrival, slot + intervalNanos)) {
+        return slot - burstNanos - now;
+      }
+    }
+  }
+
+  /**
+   * 키의 버킷에서 지금 토큰을 예약하면 기다려야 할 시간을 예약하지 않고 반환합니다(인증 정보 선택용).
+   *
+   * @param key 버킷 키(클라이언트 ID)
+   * @return 대기 시간(ns), 바로 호출할 수 있으면 0 이하
+   */
+  public long peek(String key) {
+    if (intervalNanos == 0) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    return Math.max(arrivalOf(key).get(), now) - burstNanos - now;
+  }
+
+  private AtomicLong arrivalOf(String key) {
+    return theoreticalArrivals.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+  }
+}
@@ -1,13 +1,42 @@
 package org.todayreading.collectingworker.naver.application.service;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.todayreading.collectingworker.job.application.CollectJob;
+import org.todayreading.collectingworker.job.application.CollectJobCancelledException;
+import org.todayreading.collectingworker.job.application.CollectJobScope;
+import org.todayreading.collectingworker.naver.application.dedup.ChangeDetectingBookPublisher;
+import org.todayreading.collectingworker.naver.application.dedup.DeduplicatingBookPublisher;
 import org.todayreading.collectingworker.naver.application.dto.NaverSearchItem;
 import org.todayreading.collectingworker.naver.application.pattern.QueryPatternGenerator;
 import org.todayreading.collectingworker.naver.application.port.out.NaverBookPublishPort;
+import org.todayreading.collectingworker.naver.application.port.out.NaverItemFingerprintPort;
+import org.todayreading.collectingworker.naver.application.port.out.NaverScanCheckpointPort;
+import org.todayreading.collectingworker.naver.application.port.out.NaverScanCheckpointPort.QueryCheckpoint;
+import org.todayreading.collectingworker.naver.application.port.out.NaverWatermarkPort;
 import org.todayreading.collectingworker.naver.application.query.NaverQueryCollector;
+import org.todayreading.collectingworker.naver.application.query.NaverQueryCollector.CollectResult;
+import org.todayreading.collectingworker.naver.application.query.policy.NaverApiQuotaManager;
+import org.todayreading.collectingworker.naver.application.query.policy.NaverApiQuotaManager.Priority;
+import org.todayreading.collectingworker.naver.application.query.policy.NaverQueryRefinementPolicy;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
 
 /**
  * 네이버 도서 전체 수집 후 원시 데이터를 발행하는 배치 전용 애플리케이션 서비스입니다.
@@ -19,20 +48,116 @@ import org.todayreading.collectingworker.naver.application.query.NaverQueryColle
  * 단일 검색어에 대한 페이징 수집은 {@link NaverQueryCollector},
  * 수집된 결과 발행은 {@link NaverBookPublishPort}에 각각 위임합니다.</p>
  *
+ * <p>검색어는 실행마다 작업이 여는 {@link CollectJobScope}의 가상 스레드에서 동시에 수집하며,
+ * 동시에 수집하는 검색어 수는 스레드 풀 크기가 아니라 세마포어({@code naver.search.concurrency}개 허용량)가 제한합니다.
+ * API 호출 속도는 모든 워커가 공유하는
+ * {@link org.todayreading.collectingworker.naver.application.query.policy.NaverRequestRateLimiter}가
+ * 제한하므로, 워커를 늘려도 429 없이 허용 호출량까지만 사용합니다. 동시 호출 수 조절(AIMD)과
+ * 서킷 브레이커도 같은 방식으로 모든 워커가 공유합니다.</p>
+ *
+ * <p>start 상한 때문에 끝까지 페이징하지 못한 검색어는 {@link NaverQueryRefinementPolicy}가 허용하면
+ * 한 글자 더 긴 검색어들로 세분화해 같은 실행 범위에 이어서 제출합니다.</p>
+ *
+ * <p>같은 도서가 여러 검색어 결과에 반복해서 나타나므로, 스캔마다 {@link DeduplicatingBookPublisher}를
+ * 발행 포트 앞에 두어 이미 발행한 ISBN의 도서는 다시 발행하지 않습니다.
+ * 변경 감지({@code naver.change-detection.enabled})를 켜면 {@link ChangeDetectingBookPublisher}도 함께 두어,
+ * 이전 실행에서 발행한 내용과 같은 도서는 발행하지 않습니다.</p>
+ *
+ * <p>{@link #incrementalScanAndPublish()}는 검색어별 워터마크(마지막으로 본 가장 최근 출간일)보다
+ * 오래된 도서가 나오면 페이징을 멈추는 증분 수집으로, 풀스캔 사이에 자주 실행하기 위한 유스케이스입니다.</p>
+ *
+ * <p>쿼터 관리({@code naver.quota.enabled})를 켜면 배치 시작 전과 검색어마다 {@link NaverApiQuotaManager}에
+ * 남은 호출 수를 확인합니다. 작업 우선순위에 남은 호출 수가 없으면 배치를 시작하지 않거나 남은 검색어를 건너뛰며
+ * (증분 수집은 워터마크를 옮기지 않으므로 다음 실행으로 미뤄짐), 건너뛴 검색어 수를 완료 로그에 남깁니다.</p>
+ *
+ * <p>체크포인트({@code naver.checkpoint.enabled})를 켜면 풀스캔은 {@link NaverScanCheckpointTracker}로
+ * 검색어별 ack 진행 상황을 저장합니다. 끝나지 않은 실행(재시작, 쿼터 소진으로 미루거나 실패한 검색어)이 있으면 다음 풀스캔이
+ * 같은 run ID로 이어받아, 끝난 검색어는 건너뛰고 진행 중이던 검색어는 마지막으로 ack를 받은 페이지 다음부터 수집합니다.
+ * 체크포인트 파일을 함께 쓰므로 이때 풀스캔은 한 번에 하나만 실행합니다.</p>
+ *
+ * <p>실행마다 {@link CollectJob}에 검색어 단위 진행 상황(ack를 받은 아이템 수, 실패)을 기록합니다.
+ * 작업에 취소가 요청되면 아직 시작하지 않은 검색어는 건너뛰고, 진행 중인 검색어는 다음 페이지를 발행하기 전에 멈춥니다.
+ * 실행 범위의 가상 스레드도 함께 인터럽트되므로 페이지 응답을 기다리던 검색어도 바로 멈춥니다.
+ * 취소된 풀스캔은 끝난 실행으로 기록하지 않으므로, 체크포인트를 사용하면 다음 실행이 이어서 수집합니다.</p>
+ *
  * @author 박성준
  * @since 1.0.0
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NaverCollectService {
 
+  /** 스캔이 끝난 뒤 변경 감지 지문 저장을 위해 남은 ack를 기다리는 최대 시간(분)입니다. */
+  private static final long ACK_WAIT_MINUTES = 5;
+
+  /** 검색어 수집 가상 스레드 이름 접두사입니다. */
+  private static final String COLLECT_THREAD_PREFIX = "naver-collect-";
+
+  /** sort=date가 아닐 때 증분 수집을 건너뛰는 사유입니다. */
+  private static final String INCREMENTAL_SORT_REQUIRED =
+      "Incremental collection requires naver.search.sort=date.";
+
+  /** 네이버 API pubdate 형식입니다. */
+  private static final DateTimeFormatter PUBDATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
   /** 단일 검색어 기준으로 네이버 API 페이징 수집을 담당하는 컴포넌트입니다. */
   private final NaverQueryCollector naverQueryCollector;
 
   /** 수집된 원시 도서 데이터를 외부 시스템(Kafka 등)으로 발행하는 포트입니다. */
   private final NaverBookPublishPort bookRawPublishPort;
 
+  /** 동시에 수집하는 검색어 수입니다(실행 범위의 세마포어 허용량). */
+  private final int collectConcurrency;
+
+  /** 끝까지 페이징하지 못한 검색어의 세분화 여부를 결정하는 정책입니다. */
+  private final NaverQueryRefinementPolicy naverQueryRefinementPolicy;
+
+  /** ISBN별 마지막 발행 지문 저장소(변경 감지)입니다. */
+  private final NaverItemFingerprintPort itemFingerprintPort;
+
+  /** 증분 수집의 검색어별 워터마크 저장소입니다. */
+  private final NaverWatermarkPort watermarkPort;
+
+  /** 일일 API 호출 한도(쿼터) 관리자입니다. */
+  private final NaverApiQuotaManager naverApiQuotaManager;
+
+  /** 풀스캔 체크포인트 저장소입니다. */
+  private final NaverScanCheckpointPort scanCheckpointPort;
+
+  /** 풀스캔 체크포인트 저장 주기입니다. */
+  private final Duration checkpointFlushInterval;
+
+  /** 검색 정렬 기준이 출간일순(sort=date)인지 여부입니다(증분 수집은 date에서만 동작). */
+  private final boolean sortedByDate;
+
+  /** 체크포인트를 쓰는 풀스캔이 실행 중인지 여부입니다(체크포인트를 동시에 갱신하지 않도록 한 번에 하나만 실행). */
+  private final AtomicBoolean fullScanRunning = new AtomicBoolean();
+
+  /** 증분 수집이 실행 중인지 여부입니다(워터마크를 동시에 갱신하지 않도록 한 번에 하나만 실행). */
+  private final AtomicBoolean incrementalRunning = new AtomicBoolean();
+
+  public NaverCollectService(
+      NaverQueryCollector naverQueryCollector,
+      NaverBookPublishPort bookRawPublishPort,
+      NaverQueryRefinementPolicy naverQueryRefinementPolicy,
+      NaverItemFingerprintPort itemFingerprintPort,
+      NaverWatermarkPort watermarkPort,
+      NaverApiQuotaManager naverApiQuotaManager,
+      NaverScanCheckpointPort scanCheckpointPort,
+      NaverApiProperties naverApiProperties) {
+    this.naverQueryCollector = naverQueryCollector;
+    this.bookRawPublishPort = bookRawPublishPort;
+    this.naverQueryRefinementPolicy = naverQueryRefinementPolicy;
+    this.itemFingerprintPort = itemFingerprintPort;
+    this.watermarkPort = watermarkPort;
+    this.naverApiQuotaManager = naverApiQuotaManager;
+    this.scanCheckpointPort = scanCheckpointPort;
+    this.checkpointFlushInterval =
+        Duration.ofMillis(naverApiProperties.checkpoint().flushIntervalMs());
+    this.collectConcurrency = Math.max(1, naverApiProperties.search().concurrency());
+    this.sortedByDate = "date".equals(naverApiProperties.search().sort());
+  }
+
   /**
    * 초기 또는 가끔 실행하는 전체 풀스캔 배치 유스케이스입니다.
    *
@@ -41,64 +166,573 @@ public class NaverCollectService {
    * 수집된 결과를 Kafka(book.raw 토픽 등)로 발행합니다.</p>
    *
    * <p>{@code maxStart}는 명시하지 않으며,
-   * 내부적으로 {@link #scanAndPublish(List, Integer)} 호출 시
+   * 내부적으로 {@link #scanAndPublish(List, Integer, Priority, boolean, CollectJob)} 호출 시
    * {@code maxStart == null}로 전달하여 설정값의 max-start를 사용하게 합니다.</p>
    *
+   * <p>수동 실행용으로, 정기 풀스캔 몫의 쿼터를 남겨 두는 {@link Priority#LOW} 우선순위로 실행합니다.</p>
+   *
    * @author 박성준
    * @since 1.0.0
    */
   public void fullScanAndPublish() {
+    fullScanAndPublish(Priority.LOW);
+  }
+
+  /**
+   * 지정한 쿼터 우선순위로 전체 풀스캔 배치를 실행합니다(작업 레지스트리에 등록하지 않음).
+   *
+   * @param priority 쿼터 우선순위(정기 풀스캔은 {@link Priority#HIGH})
+   * @author 박성준
+   * @since 1.0.0
+   */
+  public void fullScanAndPublish(Priority priority) {
+    fullScanAndPublish(priority, CollectJob.untracked("naver-full-scan"));
+  }
+
+  /**
+   * 지정한 쿼터 우선순위로 전체 풀스캔 배치를 실행합니다.
+   *
+   * <p>체크포인트를 사용하면 끝나지 않은 이전 실행을 이어서 수집하며, 이미 실행 중이면 건너뜁니다.</p>
+   *
+   * @param priority 쿼터 우선순위(정기 풀스캔은 {@link Priority#HIGH})
+   * @param job      진행 상황을 기록하고 취소 요청을 확인할 작업
+   * @author 박성준
+   * @since 1.0.0
+   */
+  public void fullScanAndPublish(Priority priority, CollectJob job) {
     List<String> queries = QueryPatternGenerator.generateFullScanQueries();
-    scanAndPublish(queries, null);
+    if (!scanCheckpointPort.isEnabled()) {
+      scanAndPublish(queries, null, priority, false, job);
+      return;
+    }
+    if (!fullScanRunning.compareAndSet(false, true)) {
+      log.warn("Skip Naver full scan. Another checkpointed full scan is running.");
+      job.markSkipped("Another checkpointed full scan is running.");
+      return;
+    }
+    try {
+      scanAndPublish(queries, null, priority, true, job);
+    } finally {
+      fullScanRunning.set(false);
+    }
   }
 
   /**
    * 공통 스캔/발행 로직을 담당하는 내부 유스케이스입니다.
    *
-   * <p>전달된 쿼리 목록을 순회하면서, 각 쿼리에 대해
-   * {@link #collectAndPublishByQuery(String, Integer)}를 호출합니다.</p>
+   * <p>전달된 쿼리마다
+   * {@link #collectAndPublishByQuery(String, Integer, NaverBookPublishPort, CollectJob, CollectJob.Unit)}를
+   * 작업의 실행 범위에 제출하고, 세분화된 쿼리까지 모두 끝날 때까지 기다립니다.
+   * 한 쿼리의 실패는 로그만 남기고 다른 쿼리는 계속 진행합니다.</p>
+   *
+   * <p>체크포인트를 사용하면 이전 실행에서 끝난 쿼리는 건너뛰고, 끝나지 않은 세분화 쿼리도 함께 제출합니다.
+   * 미루거나 실패한 쿼리 없이 끝나면 실행을 끝난 것으로 기록하고, 그런 쿼리가 있으면 다음 실행이 이어받도록 진행 상황만 저장합니다.</p>
    *
-   * @param queries  스캔에 사용할 쿼리 목록
-   * @param maxStart 최대 start 값 (null이면 설정값의 max-start 사용)
+   * @param queries      스캔에 사용할 쿼리 목록
+   * @param maxStart     최대 start 값 (null이면 설정값의 max-start 사용)
+   * @param priority     쿼터 우선순위
+   * @param checkpointed 체크포인트 사용 여부
+   * @param job          진행 상황을 기록하고 취소 요청을 확인할 작업
    * @author 박성준
    * @since 1.0.0
    */
-  private void scanAndPublish(List<String> queries, Integer maxStart) {
-    log.info("Start Naver full scan. queryCount={}, maxStart={}", queries.size(), maxStart);
+  private void scanAndPublish(List<String> queries, Integer maxStart, Priority priority,
+      boolean checkpointed, CollectJob job) {
+    long quota = naverApiQuotaManager.remaining(priority);
+    if (quota == 0) {
+      log.warn("Skip Naver full scan. Daily API quota is exhausted. priority={}, usedCalls={}",
+          priority, naverApiQuotaManager.usedCalls());
+      job.markSkipped("Daily API quota is exhausted.");
+      return;
+    }
+    log.info("Start Naver full scan. queryCount={}, maxStart={}, priority={}, remainingQuota={}",
+        queries.size(), maxStart, priority, quota == Long.MAX_VALUE ? "unlimited" : quota);
 
-    for (String query : queries) {
-      try {
-        collectAndPublishByQuery(query, maxStart);
-      } catch (Exception ex) {
-        log.warn("Failed to collect/publish for query={} during full scan.", query, ex);
+    NaverScanCheckpointTracker checkpoint = checkpointed
+        ? NaverScanCheckpointTracker.start(scanCheckpointPort, checkpointFlushInterval)
+        : null;
+    ChangeDetectingBookPublisher changeDetector = newChangeDetector();
+    NaverBookPublishPort downstream = changeDetector != null ? changeDetector : bookRawPublishPort;
+    CollectJobScope scope = job.openScope(COLLECT_THREAD_PREFIX, collectConcurrency);
+    ScanRun run = new ScanRun(maxStart, priority, naverQueryRefinementPolicy.newBudget(),
+        new DeduplicatingBookPublisher(downstream), checkpoint, job, scope);
+    boolean finished = false;
+    try {
+      // 세분화 쿼리는 이번 실행에서 제출하는 쿼리도 체크포인트에 기록되므로, 제출 전에 이전 실행의 목록을 받아 둡니다.
+      List<QueryCheckpoint> carriedOver =
+          checkpoint != null ? checkpoint.pendingRefinedQueries() : List.of();
+      run.budget().carryOver(carriedOver.size());
+      // 최초 쿼리를 모두 제출하기 전에 완료 처리되지 않도록 제출 자체를 진행 중 작업 하나로 셉니다.
+      run.pending().incrementAndGet();
+      queries.forEach(query -> submit(run, query, 0));
+      carriedOver.forEach(query -> submit(run, query.query(), query.depth()));
+      run.finishOne();
+      run.done().join();
+      if (checkpoint != null) {
+        awaitQueryAcks(run);
+      }
+      if (changeDetector != null) {
+        finishChangeDetection(changeDetector);
+      }
+      // 미루거나 실패한(ack 실패 포함) 쿼리가 있거나 취소되었으면 다음 실행이 남은 쿼리만 이어서 수집하도록
+      // 끝난 것으로 기록하지 않습니다.
+      finished = !job.isCancelRequested()
+          && run.deferredQueries().get() == 0 && run.failedQueries().get() == 0
+          && run.queryAcks().stream()
+              .allMatch(ack -> ack.isDone() && !ack.isCompletedExceptionally());
+    } finally {
+      scope.close();
+      if (checkpoint != null) {
+        if (finished) {
+          checkpoint.finish();
+        } else {
+          checkpoint.close();
+        }
       }
     }
+    naverApiQuotaManager.flush();
+
+    NaverQueryRefinementPolicy.Budget budget = run.budget();
+    DeduplicatingBookPublisher publisher = run.publisher();
+    log.info("Finished Naver full scan. queryCount={}, refinedQueries={}, truncatedQueries={}, "
+            + "submittedQueries={}, failedQueries={}, deferredQueries={}, apiCalls={}, "
+            + "uniqueItems={}, suppressedDuplicates={}, itemsWithoutIsbn={}, unchangedItems={}, "
+            + "cancelled={}",
+        queries.size(), budget.refinedQueries(), budget.truncatedQueries(),
+        run.submittedQueries().get(), run.failedQueries().get(), run.deferredQueries().get(),
+        budget.usedCalls(), publisher.uniqueItems(), publisher.suppressedDuplicates(),
+        publisher.itemsWithoutIsbn(), changeDetector != null ? changeDetector.unchangedItems() : 0,
+        job.isCancelRequested());
+    if (checkpoint != null) {
+      log.info("Naver full scan checkpoint. runId={}, resumed={}, skippedQueries={}, finished={}",
+          checkpoint.runId(), checkpoint.resumed(), run.skippedQueries().get(), finished);
+    }
+  }
 
-    log.info("Finished Naver full scan.");
+  /**
+   * 쿼리별 발행 ack를 기다려 체크포인트에 끝난 쿼리를 모두 기록합니다.
+   *
+   * <p>시간 안에 ack를 받지 못한 쿼리는 끝난 것으로 기록되지 않아, 실행이 끝나지 않으면 다음 실행에서 다시 수집합니다.</p>
+   *
+   * @param run 스캔 실행 상태
+   */
+  private void awaitQueryAcks(ScanRun run) {
+    CompletableFuture<?>[] acks = run.queryAcks().stream()
+        .map(ack -> ack.exceptionally(ex -> null))
+        .toArray(CompletableFuture[]::new);
+    try {
+      CompletableFuture.allOf(acks).get(ACK_WAIT_MINUTES, TimeUnit.MINUTES);
+    } catch (TimeoutException e) {
+      log.warn("Timed out waiting for book.raw acks; unacknowledged queries stay incomplete.");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while waiting for book.raw acks.", e);
+    } catch (ExecutionException e) {
+      // 각 ack의 실패는 위에서 무시하므로 발생하지 않습니다.
+      log.warn("Unexpected failure while waiting for book.raw acks.", e);
+    }
   }
 
   /**
-   * 하나의 검색어에 대해 전체 페이징 수집을 수행한 뒤,
-   * 수집된 결과를 외부 시스템(Kafka 등)으로 발행하는 내부 유스케이스입니다.
+   * 남은 발행 ack를 기다려 지문을 모두 기록한 뒤 변경 감지 저장소를 디스크에 반영합니다.
    *
-   * <p>검색어가 비어 있거나, 수집 결과가 빈 경우에는 아무 작업도 수행하지 않습니다.</p>
+   * <p>시간 안에 ack를 받지 못한 도서는 지문이 저장되지 않아 다음 실행에서 다시 발행됩니다.</p>
+   *
+   * @param changeDetector 이번 스캔의 변경 감지 발행기
+   */
+  private void finishChangeDetection(ChangeDetectingBookPublisher changeDetector) {
+    try {
+      if (!changeDetector.awaitAcks(ACK_WAIT_MINUTES, TimeUnit.MINUTES)) {
+        log.warn("Timed out waiting for book.raw acks; unacknowledged items will be republished.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while waiting for book.raw acks.", e);
+    } finally {
+      itemFingerprintPort.flush();
+    }
+    if (changeDetector.failedPublishes() > 0) {
+      log.warn("Some book.raw publishes failed and will be retried next run. failedPublishes={}",
+          changeDetector.failedPublishes());
+    }
+  }
+
+  /**
+   * 검색어별 워터마크 이후에 출간된 도서만 수집해 발행하는 증분 수집 유스케이스입니다.
+   *
+   * <p>풀스캔과 같은 검색어 목록을 sort=date 결과로 조회하되, 이전 실행의 워터마크보다 오래된 출간일의 도서를 만나면
+   * 그 검색어의 페이징을 멈춥니다. 워터마크가 없는 검색어는 max-start까지 수집합니다.
+   * 검색어의 모든 발행이 ack된 뒤에만 그 검색어의 워터마크를 앞으로 옮기므로, 실패한 검색어는 다음 실행에서 다시 수집합니다.</p>
+   *
+   * <p>워터마크는 출간일 단위이므로 워터마크와 같은 날 출간된 도서는 매번 다시 수집합니다(중복은 변경 감지가 걸러냄).
+   * 출간 예정 도서의 미래 출간일이 워터마크가 되면 그 사이에 출간되는 도서를 놓치므로, 워터마크는 오늘 날짜를 넘지 않습니다.
+   * 이미 실행 중이면 건너뜁니다. 쿼터는 {@link Priority#LOW} 우선순위로 사용합니다.</p>
    *
-   * @param query    검색어
-   * @param maxStart 최대 start 값 (null이면 설정값의 max-start 사용)
    * @author 박성준
    * @since 1.0.0
    */
-  private void collectAndPublishByQuery(String query, Integer maxStart) {
-    if (isBlankQuery(query)) {
+  public void incrementalScanAndPublish() {
+    incrementalScanAndPublish(CollectJob.untracked("naver-incremental-scan"));
+  }
+
+  /**
+   * 증분 수집을 실행하며 검색어별 진행 상황을 작업에 기록합니다.
+   *
+   * <p>취소 요청을 받으면 남은 검색어는 워터마크를 옮기지 않고 건너뛰어 다음 실행에서 수집합니다.</p>
+   *
+   * @param job 진행 상황을 기록하고 취소 요청을 확인할 작업
+   * @author 박성준
+   * @since 1.0.0
+   */
+  public void incrementalScanAndPublish(CollectJob job) {
+    if (!incrementalRunning.compareAndSet(false, true)) {
+      log.warn("Skip Naver incremental scan. Another incremental scan is running.");
+      job.markSkipped("Another incremental scan is running.");
       return;
     }
+    try {
+      runIncrementalScan(QueryPatternGenerator.generateFullScanQueries(), job);
+    } finally {
+      incrementalRunning.set(false);
+    }
+  }
 
-    List<NaverSearchItem> items = naverQueryCollector.collectAllByQuery(query, maxStart);
-    if (items.isEmpty()) {
+  /**
+   * 증분 수집 본체입니다. 검색어마다 작업의 실행 범위에서 워터마크까지 수집하고, 끝나면 갱신한 워터마크를 저장합니다.
+   *
+   * <p>정렬 설정이 sort=date가 아니면 워터마크로 멈출 수 없으므로, 검색어마다 실패시키지 않고
+   * 시작할 때 한 번 확인해 작업을 건너뜀(SKIPPED)으로 끝냅니다.</p>
+   *
+   * @param queries 수집할 검색어 목록
+   * @param job     진행 상황을 기록하고 취소 요청을 확인할 작업
+   */
+  private void runIncrementalScan(List<String> queries, CollectJob job) {
+    if (!sortedByDate) {
+      log.warn("Skip Naver incremental scan. {}", INCREMENTAL_SORT_REQUIRED);
+      job.markSkipped(INCREMENTAL_SORT_REQUIRED);
       return;
     }
+    if (naverApiQuotaManager.remaining(Priority.LOW) == 0) {
+      log.warn("Skip Naver incremental scan. Daily API quota is exhausted. usedCalls={}",
+          naverApiQuotaManager.usedCalls());
+      job.markSkipped("Daily API quota is exhausted.");
+      return;
+    }
+    Map<String, String> previous = watermarkPort.load();
+    String today = LocalDate.now().format(PUBDATE_FORMAT);
+    log.info("Start Naver incremental scan. queryCount={}, watermarkCount={}",
+        queries.size(), previous.size());
+
+    ChangeDetectingBookPublisher changeDetector = newChangeDetector();
+    DeduplicatingBookPublisher publisher = new DeduplicatingBookPublisher(
+        changeDetector != null ? changeDetector : bookRawPublishPort);
+    Map<String, String> next = new ConcurrentHashMap<>(previous);
+    AtomicInteger failedQueries = new AtomicInteger();
+    AtomicInteger unreachedMarks = new AtomicInteger();
+    AtomicInteger deferredQueries = new AtomicInteger();
+    AtomicLong apiCalls = new AtomicLong();
+
+    try (CollectJobScope scope = job.openScope(COLLECT_THREAD_PREFIX, collectConcurrency)) {
+      CompletableFuture<?>[] tasks = queries.stream()
+          .map(query -> CompletableFuture.runAsync(() -> {
+            if (job.isCancelRequested()) {
+              // 취소된 검색어는 워터마크를 옮기지 않으므로 다음 실행에서 수집합니다.
+              return;
+            }
+            if (naverApiQuotaManager.remaining(Priority.LOW) == 0) {
+              // 워터마크를 옮기지 않으므로 다음 실행에서 이어서 수집합니다.
+              deferredQueries.incrementAndGet();
+              return;
+            }
+            CollectJob.Unit unit = job.startUnit(query);
+            try {
+              String mark = previous.get(query);
+              IncrementalResult result = collectSinceWatermark(query, mark, today, publisher, job,
+                  unit);
+              apiCalls.addAndGet(result.collect().pageCount());
+              if (mark != null && !result.collect().reachedMark()) {
+                // max-start 안에서 워터마크까지 도달하지 못하면 그 사이 도서는 다음 풀스캔에서 수집됩니다.
+                unreachedMarks.incrementAndGet();
+                log.warn("Naver incremental scan did not reach watermark. query={}, watermark={}, "
+                    + "itemCount={}", query, mark, result.collect().itemCount());
+              }
+              if (result.newestPubdate() != null
+                  && (mark == null || result.newestPubdate().compareTo(mark) > 0)) {
+                next.put(query, result.newestPubdate());
+              }
+              unit.complete();
+            } catch (Exception ex) {
+              if (ex instanceof CollectJobCancelledException || job.isCancelRequested()) {
+                unit.abandon();
+                return;
+              }
+              failedQueries.incrementAndGet();
+              unit.fail(ex);
+              log.warn("Failed to collect/publish for query={} during incremental scan.", query,
+                  ex);
+            }
+          }, scope))
+          .toArray(CompletableFuture[]::new);
+      CompletableFuture.allOf(tasks).join();
+    }
+    if (changeDetector != null) {
+      finishChangeDetection(changeDetector);
+    }
+    watermarkPort.save(next);
+    naverApiQuotaManager.flush();
+
+    log.info("Finished Naver incremental scan. queryCount={}, failedQueries={}, unreachedMarks={}, "
+            + "deferredQueries={}, apiCalls={}, uniqueItems={}, suppressedDuplicates={}, "
+            + "unchangedItems={}, cancelled={}",
+        queries.size(), failedQueries.get(), unreachedMarks.get(), deferredQueries.get(),
+        apiCalls.get(),
+        publisher.uniqueItems(), publisher.suppressedDuplicates(),
+        changeDetector != null ? changeDetector.unchangedItems() : 0, job.isCancelRequested());
+  }
+
+  /**
+   * 하나의 검색어를 워터마크까지 수집/발행하고, 모든 발행의 ack를 기다립니다.
+   *
+   * @param query       검색어
+   * @param mark        이전 워터마크(없으면 null)
+   * @param today       오늘 날짜({@code yyyyMMdd}, 워터마크 상한)
+   * @param publishPort 발행 포트
+   * @param job         취소 요청을 확인할 작업
+   * @param unit        검색어의 진행 상황
+   * @return 수집 결과와 새 워터마크 후보(수집한 도서가 없으면 null)
+   */
+  private IncrementalResult collectSinceWatermark(String query, String mark, String today,
+      NaverBookPublishPort publishPort, CollectJob job, CollectJob.Unit unit) {
+    List<CompletableFuture<Void>> acks = new ArrayList<>();
+    String[] newest = new String[1];
+    CollectResult result = naverQueryCollector.collectUntil(query, null,
+        item -> isOlderThan(item, mark),
+        page -> {
+          for (NaverSearchItem item : page) {
+            String pubdate = validPubdate(item);
+            if (pubdate != null && (newest[0] == null || pubdate.compareTo(newest[0]) > 0)) {
+              newest[0] = pubdate;
+            }
+          }
+          acks.add(publishTracked(publishPort, page, job, unit));
+        });
+    CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new)).join();
 
-    bookRawPublishPort.publish(items);
+    String newestPubdate = newest[0];
+    if (newestPubdate != null && newestPubdate.compareTo(today) > 0) {
+      newestPubdate = today;
+    }
+    return new IncrementalResult(result, newestPubdate);
+  }
+
+  /**
+   * 도서의 출간일이 워터마크보다 오래되었는지 여부를 반환합니다.
+   * 워터마크가 없거나 출간일 형식이 올바르지 않으면 {@code false}입니다.
+   */
+  private static boolean isOlderThan(NaverSearchItem item, String mark) {
+    if (mark == null) {
+      return false;
+    }
+    String pubdate = validPubdate(item);
+    return pubdate != null && pubdate.compareTo(mark) < 0;
+  }
+
+  /**
+   * {@code yyyyMMdd} 형식의 출간일을 반환합니다. 형식이 다르면 null입니다.
+   */
+  private static String validPubdate(NaverSearchItem item) {
+    String pubdate = item.pubdate();
+    if (pubdate == null || pubdate.length() != 8) {
+      return null;
+    }
+    for (int i = 0; i < pubdate.length(); i++) {
+      if (!Character.isDigit(pubdate.charAt(i))) {
+        return null;
+      }
+    }
+    return pubdate;
+  }
+
+  /**
+   * 변경 감지를 사용하면 이번 스캔의 변경 감지 발행기를 만들고, 사용하지 않으면 null을 반환합니다.
+   */
+  private ChangeDetectingBookPublisher newChangeDetector() {
+    return itemFingerprintPort.isEnabled()
+        ? new ChangeDetectingBookPublisher(bookRawPublishPort, itemFingerprintPort)
+        : null;
+  }
+
+  /**
+   * 쿼리 하나를 작업의 실행 범위에 제출합니다. 수집이 끝나면 세분화된 쿼리를 이어서 제출한 뒤 완료 처리하므로,
+   * 진행 중인 쿼리 수가 0이 되는 시점이 스캔 전체의 종료 시점입니다.
+   *
+   * <p>체크포인트를 사용하면 이번 실행에서 이미 제출했거나 이전 실행에서 끝난 쿼리는 제출하지 않고,
+   * 쿼리의 모든 페이지 ack를 받은 뒤(세분화 쿼리 제출 이후) 체크포인트에 끝난 쿼리로 기록합니다.</p>
+   *
+   * @param run   스캔 실행 상태
+   * @param query 검색어
+   * @param depth 최초 검색어 대비 덧붙인 글자 수
+   */
+  private void submit(ScanRun run, String query, int depth) {
+    NaverScanCheckpointTracker checkpoint = run.checkpoint();
+    QueryCheckpoint resume = null;
+    if (checkpoint != null) {
+      if (!run.submitted().add(query) || checkpoint.isCompleted(query)) {
+        run.budget().release(depth);
+        run.skippedQueries().incrementAndGet();
+        return;
+      }
+      resume = checkpoint.submit(query, depth);
+    }
+    QueryCheckpoint from = resume;
+    run.pending().incrementAndGet();
+    run.submittedQueries().incrementAndGet();
+    CompletableFuture.runAsync(() -> {
+      CollectJob.Unit unit = null;
+      // 수집이 예외로 중단돼도 이미 사용한 호출 수를 집계할 수 있도록 조회를 시작한 페이지 수를 셉니다.
+      AtomicInteger startedPages = new AtomicInteger();
+      boolean accounted = false;
+      try {
+        if (run.job().isCancelRequested()) {
+          run.budget().release(depth);
+          return;
+        }
+        if (naverApiQuotaManager.remaining(run.priority()) == 0) {
+          run.budget().release(depth);
+          run.deferredQueries().incrementAndGet();
+          return;
+        }
+        unit = run.job().startUnit(query);
+        if (from == null) {
+          CollectResult result = collectAndPublishByQuery(query, run.maxStart(), run.publisher(),
+              run.job(), unit, startedPages);
+          List<String> refinedQueries = run.budget().refine(query, depth, result);
+          accounted = true;
+          for (String refined : refinedQueries) {
+            submit(run, refined, depth + 1);
+          }
+          unit.complete();
+          return;
+        }
+        CheckpointedResult checkpointed =
+            collectAndPublishFromCheckpoint(run, from, unit, startedPages);
+        List<String> refinedQueries = run.budget().refine(query, depth, checkpointed.result());
+        accounted = true;
+        for (String refined : refinedQueries) {
+          submit(run, refined, depth + 1);
+        }
+        run.queryAcks().add(checkpointed.acks().thenRun(() -> checkpoint.completeQuery(query)));
+        unit.complete();
+      } catch (Exception ex) {
+        if (!accounted) {
+          // 중단 전까지 조회한 페이지도 실제로 사용한 호출이므로 세분화 상한 계산에 포함합니다.
+          run.budget().abort(depth, startedPages.get());
+        }
+        if (ex instanceof CollectJobCancelledException || run.job().isCancelRequested()) {
+          // 취소로 멈춘(인터럽트된 조회 포함) 쿼리는 실패로 세지 않습니다.
+          if (unit != null) {
+            unit.abandon();
+          }
+          return;
+        }
+        run.failedQueries().incrementAndGet();
+        if (unit != null) {
+          unit.fail(ex);
+        }
+        log.warn("Failed to collect/publish for query={} during full scan.", query, ex);
+      } finally {
+        run.finishOne();
+      }
+    }, run.scope());
+  }
+
+  /**
+   * 하나의 검색어에 대해 전체 페이징 수집을 수행하면서,
+   * 페이지를 조회되는 대로 외부 시스템(Kafka 등)으로 발행하는 내부 유스케이스입니다.
+   *
+   * <p>검색어 전체 결과를 메모리에 모으지 않으므로 첫 레코드가 바로 발행되며,
+   * 다음 페이지 조회는 현재 페이지 발행과 겹쳐 진행됩니다.
+   * 검색어가 비어 있거나, 수집 결과가 빈 경우에는 아무 작업도 수행하지 않습니다.</p>
+   *
+   * @param query       검색어
+   * @param maxStart    최대 start 값 (null이면 설정값의 max-start 사용)
+   * @param publishPort 페이지를 발행할 포트(스캔 단위 중복 제거 포함)
+   * @param job         취소 요청을 확인할 작업
+   * @param unit        검색어의 진행 상황
+   * @param startedPages 조회를 시작한 페이지 수를 더할 카운터
+   * @return 검색어의 수집 결과
+   * @author 박성준
+   * @since 1.0.0
+   */
+  private CollectResult collectAndPublishByQuery(String query, Integer maxStart,
+      NaverBookPublishPort publishPort, CollectJob job, CollectJob.Unit unit,
+      AtomicInteger startedPages) {
+    if (isBlankQuery(query)) {
+      return CollectResult.EMPTY;
+    }
+
+    CollectResult result = naverQueryCollector.collectByQuery(query, maxStart,
+        page -> publishTracked(publishPort, page, job, unit), startedPages);
+    if (log.isDebugEnabled()) {
+      log.debug("Collected and published Naver query. query={}, total={}, itemCount={}, pageCount={}",
+          query, result.total(), result.itemCount(), result.pageCount());
+    }
+    return result;
+  }
+
+  /**
+   * 체크포인트의 진행 상황부터 검색어를 수집/발행하고, 페이지마다 ack 진행을 체크포인트에 기록합니다.
+   *
+   * <p>이전 실행에서 마지막 페이지까지 ack를 받아 더 조회할 페이지가 없으면, 세분화 판단에 쓸 수 있도록
+   * 체크포인트에 기록해 둔 total로 결과를 만듭니다.</p>
+   *
+   * @param run    스캔 실행 상태
+   * @param resume 검색어의 진행 상황
+   * @param unit   검색어의 작업 진행 상황
+   * @param startedPages 조회를 시작한 페이지 수를 더할 카운터
+   * @return 수집 결과와, 모든 페이지의 ack를 받으면 완료되는(발행 실패 시 예외로 완료되는) Future
+   */
+  private CheckpointedResult collectAndPublishFromCheckpoint(ScanRun run, QueryCheckpoint resume,
+      CollectJob.Unit unit, AtomicInteger startedPages) {
+    NaverScanCheckpointTracker checkpoint = run.checkpoint();
+    String query = resume.query();
+    List<CompletableFuture<Void>> acks = new ArrayList<>();
+    CollectResult result = naverQueryCollector.collectFrom(query, run.maxStart(),
+        resume.nextStart(), (start, items) -> {
+          run.job().throwIfCancelled();
+          checkpoint.beginPage(query, start, items.size());
+          acks.add(publishTracked(run.publisher(), items, run.job(), unit)
+              .whenComplete((ignored, ex) -> checkpoint.completePage(query, start, ex == null)));
+        }, startedPages);
+    if (result.pageCount() > 0) {
+      checkpoint.recordTotal(query, result.total());
+    } else if (resume.nextStart() > 1) {
+      result = new CollectResult(resume.total(), 0, 0, false);
+    }
+    return new CheckpointedResult(result,
+        CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new)));
+  }
+
+  /**
+   * 취소 요청을 확인한 뒤 페이지를 발행하고, ack 결과를 검색어의 작업 진행 상황에 기록합니다.
+   *
+   * @param publishPort 발행 포트
+   * @param page        발행할 페이지의 아이템 목록
+   * @param job         취소 요청을 확인할 작업
+   * @param unit        검색어의 작업 진행 상황
+   * @return 발행 결과 Future
+   * @throws CollectJobCancelledException 작업에 취소가 요청된 경우(다음 페이지 조회도 멈춤)
+   */
+  private CompletableFuture<Void> publishTracked(NaverBookPublishPort publishPort,
+      List<NaverSearchItem> page, CollectJob job, CollectJob.Unit unit) {
+    job.throwIfCancelled();
+    return publishPort.publish(page).whenComplete((ignored, ex) -> {
+      if (ex == null) {
+        unit.addItems(page.size());
+      } else {
+        unit.recordError(ex);
+      }
+    });
   }
 
   /**
@@ -112,4 +746,76 @@ public class NaverCollectService {
   private boolean isBlankQuery(String query) {
     return query == null || query.isBlank();
   }
+
+  /**
+   * 스캔 한 번의 진행 상태입니다.
+   *
+   * @param maxStart         최대 start 값 (null이면 설정값의 max-start 사용)
+   * @param priority         쿼터 우선순위
+   * @param budget           호출 수/세분화 집계
+   * @param publisher        스캔 단위로 ISBN 중복을 걸러 발행하는 포트
+   * @param pending          제출했지만 끝나지 않은 쿼리 수
+   * @param submittedQueries 제출한 쿼리 수(세분화 쿼리 포함)
+   * @param failedQueries    실패한 쿼리 수
+   * @param deferredQueries  쿼터가 부족해 수집하지 않은 쿼리 수
+   * @param done             모든 쿼리가 끝나면 완료되는 Future
+   * @param checkpoint       체크포인트 추적기(사용하지 않으면 null)
+   * @param submitted        이번 실행에서 제출한 쿼리(체크포인트 사용 시 중복 제출 방지)
+   * @param skippedQueries   이전 실행에서 끝났거나 이미 제출해 건너뛴 쿼리 수
+   * @param queryAcks        쿼리별로 모든 ack를 받아 체크포인트에 기록하면 완료되는 Future 목록
+   * @param job              진행 상황을 기록하고 취소 요청을 확인할 작업
+   * @param scope            쿼리를 실행하는 작업의 실행 범위
+   */
+  private record ScanRun(
+      Integer maxStart,
+      Priority priority,
+      NaverQueryRefinementPolicy.Budget budget,
+      DeduplicatingBookPublisher publisher,
+      AtomicInteger pending,
+      AtomicInteger submittedQueries,
+      AtomicInteger failedQueries,
+      AtomicInteger deferredQueries,
+      CompletableFuture<Void> done,
+      NaverScanCheckpointTracker checkpoint,
+      Set<String> submitted,
+      AtomicInteger skippedQueries,
+      Queue<CompletableFuture<Void>> queryAcks,
+      CollectJob job,
+      CollectJobScope scope
+  ) {
+
+    ScanRun(Integer maxStart, Priority priority, NaverQueryRefinementPolicy.Budget budget,
+        DeduplicatingBookPublisher publisher, NaverScanCheckpointTracker checkpoint,
+        CollectJob job, CollectJobScope scope) {
+      this(maxStart, priority, budget, publisher, new AtomicInteger(), new AtomicInteger(),
+          new AtomicInteger(), new AtomicInteger(), new CompletableFuture<>(), checkpoint,
+          ConcurrentHashMap.newKeySet(), new AtomicInteger(), new ConcurrentLinkedQueue<>(), job,
+          scope);
+    }
+
+    /** 진행 중인 작업 하나를 끝내고, 남은 작업이 없으면 스캔을 완료 처리합니다. */
+    void finishOne() {
+      if (pending.decrementAndGet() == 0) {
+        done.complete(null);
+      }
+    }
+  }
+
+  /**
+   * 증분 수집에서 검색어 하나의 결과입니다.
+   *
+   * @param collect       수집 결과
+   * @param newestPubdate 새 워터마크 후보(수집한 도서가 없으면 null)
+   */
+  private record IncrementalResult(CollectResult collect, String newestPubdate) {
+  }
+
+  /**
+   * 체크포인트부터 수집한 검색어 하나의 결과입니다.
+   *
+   * @param result 수집 결과
+   * @param acks   모든 페이지의 ack를 받으면 완료되는 Future
+   */
+  private record CheckpointedResult(CollectResult result, CompletableFuture<Void> acks) {
+  }
 }
@@ -0,0 +1,335 @@
+package org.todayreading.collectingworker.naver.application.service;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.todayreading.collectingworker.naver.application.port.out.NaverScanCheckpointPort;
+import org.todayreading.collectingworker.naver.application.port.out.NaverScanCheckpointPort.QueryCheckpoint;
+import org.todayreading.collectingworker.naver.application.port.out.NaverScanCheckpointPort.ScanCheckpoint;
+
+/**
+ * 풀스캔 실행 하나의 검색어별 진행 상황을 추적하고 주기적으로 체크포인트로 저장하는 객체입니다.
+ *
+ * <p>시작할 때 저장된 체크포인트가 끝나지 않은 실행이면 그 run ID와 진행 상황을 이어받고,
+ * 없거나 끝난 실행이면 새 run ID로 시작합니다. 끝까지 마친 실행은 {@link #finish()}가
+ * 종료 시각을 기록하므로 다시 이어 쓰지 않습니다.</p>
+ *
+ * <p>검색어의 페이지는 순서대로 발행되지만 ack는 순서와 무관하게 도착합니다. 그래서 발행한 페이지를 start 순으로 기록해 두고,
+ * 앞에서부터 연속으로 ack된 페이지까지만 다음 start 값을 전진시킵니다. 발행에 실패한 페이지가 있으면 그 페이지에서 멈추므로,
+ * 이어서 수집할 때 실패한 페이지부터 다시 조회합니다(at-least-once).</p>
+ *
+ * <p>체크포인트 저장은 전용 스케줄러 스레드에서 {@code flushInterval}마다 수행하여,
+ * Kafka 프로듀서 콜백 스레드에서 파일 I/O가 일어나지 않도록 합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+final class NaverScanCheckpointTracker implements AutoCloseable {
+
+  /** 체크포인트 저장 스레드 이름 접두사입니다. */
+  private static final String FLUSH_THREAD_PREFIX = "naver-checkpoint-";
+
+  /** 체크포인트를 영속화하는 출력 포트입니다. */
+  private final NaverScanCheckpointPort checkpointPort;
+
+  /** 체크포인트 저장 주기입니다. */
+  private final Duration flushInterval;
+
+  /** 실행 ID입니다. */
+  private final String runId;
+
+  /** 실행 시작 시각(ISO-8601)입니다. */
+  private final String startedAt;
+
+  /** 이전 실행을 이어받았는지 여부입니다. */
+  private final boolean resumed;
+
+  /** 검색어별 진행 상황입니다. */
+  private final Map<String, QueryProgress> queries = new ConcurrentHashMap<>();
+
+  private ScheduledExecutorService scheduler;
+
+  private NaverScanCheckpointTracker(NaverScanCheckpointPort checkpointPort,
+      Duration flushInterval, String runId, String startedAt, boolean resumed) {
+    this.checkpointPort = checkpointPort;
+    this.flushInterval = flushInterval;
+    this.runId = runId;
+    this.startedAt = startedAt;
+    this.resumed = resumed;
+  }
+
+  /**
+   * 저장된 체크포인트를 불러와 추적기를 생성하고 주기적 저장을 시작합니다.
+   *
+   * @param checkpointPort 체크포인트 출력 포트
+   * @param flushInterval  저장 주기
+   * @return 추적기
+   */
+  static NaverScanCheckpointTracker start(NaverScanCheckpointPort checkpointPort,
+      Duration flushInterval) {
+    ScanCheckpoint previous;
+    try {
+      previous = checkpointPort.load();
+    } catch (UncheckedIOException e) {
+      // 체크포인트를 읽지 못하면 새 실행으로 시작합니다. 첫 저장 때 파일을 새 내용으로 교체합니다.
+      log.error("Failed to load Naver scan checkpoint. Starting a new run.", e);
+      previous = null;
+    }
+    NaverScanCheckpointTracker tracker;
+    if (previous != null && previous.finishedAt() == null && previous.runId() != null) {
+      tracker = new NaverScanCheckpointTracker(checkpointPort, flushInterval, previous.runId(),
+          previous.startedAt(), true);
+      if (previous.queries() != null) {
+        for (QueryCheckpoint query : previous.queries()) {
+          tracker.queries.put(query.query(), QueryProgress.of(query));
+        }
+      }
+      log.info("Resume Naver full scan from checkpoint. runId={}, startedAt={}, queryCount={}, "
+              + "completedQueries={}", tracker.runId, tracker.startedAt, tracker.queries.size(),
+          tracker.completedQueries());
+    } else {
+      tracker = new NaverScanCheckpointTracker(checkpointPort, flushInterval,
+          UUID.randomUUID().toString(), Instant.now().toString(), false);
+      log.info("Start new Naver full scan run. runId={}", tracker.runId);
+    }
+    tracker.flushQuietly();
+
+    tracker.scheduler = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory(FLUSH_THREAD_PREFIX));
+    long intervalMillis = Math.max(1, flushInterval.toMillis());
+    tracker.scheduler.scheduleWithFixedDelay(
+        tracker::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    return tracker;
+  }
+
+  String runId() {
+    return runId;
+  }
+
+  boolean resumed() {
+    return resumed;
+  }
+
+  /**
+   * 이전 실행에서 끝까지 수집한 검색어인지 확인합니다.
+   *
+   * @param query 검색어
+   * @return 끝났으면 true
+   */
+  boolean isCompleted(String query) {
+    QueryProgress progress = queries.get(query);
+    return progress != null && progress.snapshot(query).completed();
+  }
+
+  /**
+   * 이어서 수집할 세분화 검색어 목록을 반환합니다(이전 실행에서 제출했지만 끝나지 않은 검색어).
+   *
+   * @return 끝나지 않은 세분화 검색어의 진행 상황
+   */
+  List<QueryCheckpoint> pendingRefinedQueries() {
+    List<QueryCheckpoint> pending = new ArrayList<>();
+    queries.forEach((query, progress) -> {
+      QueryCheckpoint checkpoint = progress.snapshot(query);
+      if (checkpoint.depth() > 0 && !checkpoint.completed()) {
+        pending.add(checkpoint);
+      }
+    });
+    return pending;
+  }
+
+  /**
+   * 검색어를 제출했음을 기록하고, 이어서 수집할 진행 상황을 반환합니다.
+   *
+   * @param query 검색어
+   * @param depth 최초 검색어 대비 덧붙인 글자 수
+   * @return 검색어의 진행 상황(처음이면 start=1부터)
+   */
+  QueryCheckpoint submit(String query, int depth) {
+    return queries.computeIfAbsent(query, key -> new QueryProgress(depth, 1, 0, false))
+        .snapshot(query);
+  }
+
+  /**
+   * 검색어의 첫 페이지 응답으로 total을 기록합니다(이어서 수집할 때 세분화 판단에 사용).
+   *
+   * @param query 검색어
+   * @param total 전체 검색 결과 수
+   */
+  void recordTotal(String query, int total) {
+    QueryProgress progress = queries.get(query);
+    if (progress != null) {
+      progress.recordTotal(total);
+    }
+  }
+
+  /**
+   * 발행할 페이지를 기록합니다. 페이지는 start 순서대로 기록해야 합니다.
+   *
+   * @param query 검색어
+   * @param start 페이지의 start 값
+   * @param size  페이지의 아이템 수
+   */
+  void beginPage(String query, int start, int size) {
+    QueryProgress progress = queries.get(query);
+    if (progress != null) {
+      progress.beginPage(start, size);
+    }
+  }
+
+  /**
+   * 페이지 발행 결과를 기록합니다.
+   *
+   * @param query 검색어
+   * @param start 페이지의 start 값
+   * @param acked ack를 받았으면 true, 실패면 false
+   */
+  void completePage(String query, int start, boolean acked) {
+    QueryProgress progress = queries.get(query);
+    if (progress != null) {
+      progress.completePage(start, acked);
+    }
+  }
+
+  /**
+   * 검색어의 모든 페이지 ack와 세분화 검색어 제출을 마쳤음을 기록합니다.
+   *
+   * @param query 검색어
+   */
+  void completeQuery(String query) {
+    QueryProgress progress = queries.get(query);
+    if (progress != null) {
+      progress.complete();
+    }
+  }
+
+  /**
+   * 현재 진행 상황을 체크포인트로 저장합니다.
+   */
+  synchronized void flush() {
+    List<QueryCheckpoint> snapshot = new ArrayList<>(queries.size());
+    new TreeMap<>(queries).forEach((query, progress) -> snapshot.add(progress.snapshot(query)));
+    checkpointPort.save(new ScanCheckpoint(runId, startedAt, null, snapshot));
+  }
+
+  /**
+   * 주기적 저장을 멈추고 실행을 끝까지 마친 것으로 기록합니다. 이 실행은 다시 이어 쓰지 않습니다.
+   */
+  void finish() {
+    stopScheduler();
+    synchronized (this) {
+      checkpointPort.save(
+          new ScanCheckpoint(runId, startedAt, Instant.now().toString(), List.of()));
+    }
+  }
+
+  /**
+   * 주기적 저장을 멈추고 마지막 진행 상황을 저장합니다(다음 실행이 이어서 수집).
+   */
+  @Override
+  public void close() {
+    stopScheduler();
+    flush();
+  }
+
+  private long completedQueries() {
+    return queries.entrySet().stream()
+        .filter(entry -> entry.getValue().snapshot(entry.getKey()).completed())
+        .count();
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      // 주기 저장 실패가 수집을 중단시키지 않도록 로그만 남기고 다음 주기에 다시 시도합니다.
+      log.warn("Failed to save Naver scan checkpoint.", e);
+    }
+  }
+
+  private void stopScheduler() {
+    // 진행 중인 저장이 인터럽트로 중단되지 않도록 shutdown()으로 다음 주기만 취소합니다.
+    scheduler.shutdown();
+    try {
+      scheduler.awaitTermination(flushInterval.toMillis() + 1000, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * 검색어 하나의 진행 상황입니다.
+   */
+  private static final class QueryProgress {
+
+    private final int depth;
+    private int nextStart;
+    private int total;
+    private boolean completed;
+
+    /** 발행했지만 앞 페이지 ack를 기다리는 페이지입니다(start → [아이템 수, ack 여부]). */
+    private final TreeMap<Integer, int[]> pages = new TreeMap<>();
+
+    /** 발행에 실패한 페이지가 있어 다음 start 값을 더 전진시키지 않는지 여부입니다. */
+    private boolean blocked;
+
+    private QueryProgress(int depth, int nextStart, int total, boolean completed) {
+      this.depth = depth;
+      this.nextStart = nextStart;
+      this.total = total;
+      this.completed = completed;
+    }
+
+    static QueryProgress of(QueryCheckpoint checkpoint) {
+      return new QueryProgress(checkpoint.depth(), Math.max(1, checkpoint.nextStart()),
+          checkpoint.total(), checkpoint.completed());
+    }
+
+    synchronized void recordTotal(int total) {
+      this.total = total;
+    }
+
+    synchronized void beginPage(int start, int size) {
+      if (!blocked) {
+        pages.put(start, new int[]{size, 0});
+      }
+    }
+
+    synchronized void completePage(int start, boolean acked) {
+      int[] page = pages.get(start);
+      if (page == null) {
+        return;
+      }
+      if (!acked) {
+        blocked = true;
+        pages.tailMap(start, true).clear();
+        return;
+      }
+      page[1] = 1;
+      while (!pages.isEmpty() && pages.firstKey() == nextStart
+          && pages.firstEntry().getValue()[1] == 1) {
+        nextStart += pages.pollFirstEntry().getValue()[0];
+      }
+    }
+
+    synchronized void complete() {
+      completed = true;
+      pages.clear();
+    }
+
+    synchronized QueryCheckpoint snapshot(String query) {
+      return new QueryCheckpoint(query, depth, nextStart, total, completed);
+    }
+  }
+}
@@ -8,6 +8,9 @@ import org.todayreading.collectingworker.naver.application.dto.NaverSearchItem;
 import org.todayreading.collectingworker.naver.application.dto.NaverSearchResponse;
 import org.todayreading.collectingworker.naver.application.port.out.NaverSearchPort;
 import org.todayreading.collectingworker.naver.application.query.NaverQueryCollector;
+import org.todayreading.collectingworker.naver.application.query.policy.NaverApiQuotaManager;
+import org.todayreading.collectingworker.naver.application.query.policy.NaverCredentialPool;
+import org.todayreading.collectingworker.naver.application.query.policy.NaverQuotaExceededException;
 
 /**
  * 네이버 책 검색 API를 단건 조회하거나,
@@ -32,18 +35,22 @@ public class NaverSearchInspectService {
 
   private final NaverSearchPort naverSearchPort;
   private final NaverQueryCollector naverQueryCollector;
+  private final NaverApiQuotaManager naverApiQuotaManager;
+  private final NaverCredentialPool naverCredentialPool;
 
   /**
    * 네이버 책 API에서 한 페이지만 조회하는 보조 유스케이스입니다.
    *
    * <p>검색어가 {@code null} 이거나 공백이면 외부 API를 호출하지 않고
-   * 빈 {@link NaverSearchResponse}를 반환합니다.
+   * 빈 {@link NaverSearchResponse}를 반환합니다. 호출은 첫 번째 인증 정보로 보내며, 그 인증 정보의
+   * 일일 호출 한도에서 차감합니다.
    *
    * @param query   검색어 (null 또는 공백일 경우 빈 결과 반환)
    * @param display 페이지당 개수 (null이면 infra에서 기본값 처리)
    * @param start   시작 인덱스 (null이면 infra에서 기본값 처리)
    * @param sort    정렬 기준 (null이면 infra에서 기본값 처리)
    * @return 네이버 API 한 페이지 조회 결과
+   * @throws NaverQuotaExceededException 첫 번째 인증 정보의 오늘 호출 한도를 모두 사용한 경우
    * @author 박성준
    * @since 1.0.0
    */
@@ -56,6 +63,10 @@ public class NaverSearchInspectService {
     if (isBlankQuery(query)) {
       return emptyResponse();
     }
+    String clientId = naverCredentialPool.defaultCredential().clientId();
+    if (!naverApiQuotaManager.tryCharge(clientId)) {
+      throw new NaverQuotaExceededException("Naver API daily quota exhausted. query=" + query);
+    }
 
     return naverSearchPort.search(query, display, start, sort);
   }
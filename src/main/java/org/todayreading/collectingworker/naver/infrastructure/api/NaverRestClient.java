@@ -1,10 +1,34 @@
 package org.todayreading.collectingworker.naver.infrastructure.api;
 
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.GZIPInputStream;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClient;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.todayreading.collectingworker.naver.application.dto.NaverSearchItem;
 import org.todayreading.collectingworker.naver.application.dto.NaverSearchResponse;
 import org.todayreading.collectingworker.naver.application.port.out.NaverSearchPort;
 import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
@@ -12,28 +36,49 @@ import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiPro
 /**
  * 네이버 도서 검색 API를 호출하는 인프라 어댑터입니다.
  *
- * <p>{@link RestClient}로 `/v1/search/book.json` 엔드포인트를 호출하며,
- * 기본 파라미터 값은 {@link NaverApiProperties} 설정을 사용합니다.</p>
+ * <p>공유 {@link HttpClient}(연결 재사용)로 `/v1/search/book.json` 엔드포인트를 비동기 호출하며,
+ * 기본 파라미터 값은 {@link NaverApiProperties} 설정을 사용합니다.
+ * 응답은 gzip으로 받아({@code naver.book.gzip}) 직접 풀고, 요청마다 읽기 타임아웃을 적용합니다.</p>
  *
  * <p>포트 {@link NaverSearchPort}의 구현체로 애플리케이션 계층에서
- * 외부 API 호출을 위임받습니다.</p>
+ * 외부 API 호출을 위임받습니다. 에러 응답은 기존 RestClient와 같은
+ * {@link RestClientResponseException}으로 전달하므로, 429 재시도 등 호출자의 처리는 그대로입니다.</p>
+ *
+ * <p>인증 헤더는 요청마다 붙이며, 호출자가 고른 클라이언트 ID({@code naver.book.credentials})의
+ * client secret을 함께 보냅니다.</p>
+ *
+ * <p>원본 전달 모드({@code naver.kafka.passthrough=true})에서는 응답을 DTO로 바인딩하지 않고
+ * {@link JsonParser}로 한 번 훑으며 {@code items[]} 원소별 원본 바이트 구간만 잘라 냅니다.
+ * 아이템에서는 키/중복 제거에 쓰는 {@code isbn}, {@code pubdate}만 읽습니다.</p>
  * <p>
  * @author 박성준
  *
  * @since 1.0.0
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class NaverRestClient implements NaverSearchPort {
 
-  private final RestClient naverBookRestClient;
+  private final HttpClient naverHttpClient;
   private final NaverApiProperties naverApiProperties;
+  private final ObjectMapper objectMapper;
   private static final String PATH = "/v1/search/book.json";
 
+  /** 클라이언트 ID → client secret 맵입니다(설정 순서, 첫 번째가 기본 인증 정보). */
+  private final Map<String, String> clientSecrets = new LinkedHashMap<>();
+
+  public NaverRestClient(HttpClient naverHttpClient, NaverApiProperties naverApiProperties,
+      ObjectMapper objectMapper) {
+    this.naverHttpClient = naverHttpClient;
+    this.naverApiProperties = naverApiProperties;
+    this.objectMapper = objectMapper;
+    naverApiProperties.book().resolvedCredentials()
+        .forEach(credential -> clientSecrets.putIfAbsent(credential.clientId(),
+            credential.clientSecret()));
+  }
 
   /**
-   * 네이버 도서 검색 API를 호출합니다.
+   * 네이버 도서 검색 API를 호출하고 응답을 기다립니다.
    *
    * <p>display/start/sort가 null이면 설정값을 사용하며,
    * 응답이 null이면 {@link IllegalStateException}을 던집니다.</p>
@@ -49,34 +94,206 @@ public class NaverRestClient implements NaverSearchPort {
       Integer display,
       Integer start,
       String sort) {
+    try {
+      return searchAsync(query, display, start, sort).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 지정한 인증 정보로 네이버 도서 검색 API를 비동기로 호출합니다.
+   *
+   * @param clientId 호출에 사용할 클라이언트 ID (null이면 첫 번째 인증 정보 사용)
+   * @param query    검색어
+   * @param display  페이지당 개수 (null이면 설정값 사용)
+   * @param start    시작 인덱스 (null이면 1부터)
+   * @param sort     정렬 기준 (null이면 설정값 사용)
+   * @return 네이버 검색 응답 DTO로 완료되는 Future
+   *     (설정에 없는 클라이언트 ID이거나 요청을 만들 수 없으면 그 예외로 완료하며, 예외를 직접 던지지 않음)
+   */
+  @Override
+  public CompletableFuture<NaverSearchResponse> searchAsync(String clientId,
+      String query,
+      Integer display,
+      Integer start,
+      String sort) {
+    String actualClientId = (clientId != null) ? clientId : clientSecrets.keySet().iterator().next();
+    String clientSecret = clientSecrets.get(actualClientId);
+    if (clientSecret == null) {
+      return CompletableFuture.failedFuture(
+          new IllegalArgumentException("Unknown Naver API client id: " + actualClientId));
+    }
     int actualDisplay =
         (display != null) ? display : naverApiProperties.search().display();
     int actualStart = (start != null) ? start : 1;
     String actualSort =
         (sort != null) ? sort : naverApiProperties.search().sort();
 
-    NaverSearchResponse response = naverBookRestClient.get()
-        .uri(uriBuilder -> uriBuilder
-            .path(PATH)
-            .queryParam("query", query)
-            .queryParam("display", actualDisplay)
-            .queryParam("start", actualStart)
-            .queryParam("sort", actualSort)
-            .build())
-        .retrieve()
-        .body(NaverSearchResponse.class);
-
-    if (response == null) {
+    URI uri;
+    CompletableFuture<HttpResponse<byte[]>> sent;
+    try {
+      uri = UriComponentsBuilder.fromUriString(naverApiProperties.book().baseUrl())
+          .path(PATH)
+          .queryParam("query", query)
+          .queryParam("display", actualDisplay)
+          .queryParam("start", actualStart)
+          .queryParam("sort", actualSort)
+          .encode(StandardCharsets.UTF_8)
+          .build()
+          .toUri();
+      sent = naverHttpClient.sendAsync(newRequest(uri, actualClientId, clientSecret),
+          HttpResponse.BodyHandlers.ofByteArray());
+    } catch (RuntimeException e) {
+      // 잘못된 설정(read-timeout-ms: 0 등)으로 요청을 만들지 못해도 호출자가 기다리는 Future는 완료합니다.
+      return CompletableFuture.failedFuture(e);
+    }
+
+    return sent
+        .handle((response, ex) -> {
+          if (ex != null) {
+            Throwable cause = (ex instanceof CompletionException) ? ex.getCause() : ex;
+            throw new ResourceAccessException(
+                "I/O error on GET request for \"" + uri + "\": " + cause.getMessage(),
+                cause instanceof IOException io ? io : new IOException(cause));
+          }
+          return toSearchResponse(response);
+        })
+        .thenApply(response -> {
+          int itemCount = (response.items() == null) ? 0 : response.items().size();
+          // 단일 호출 기준 응답 아이템 수와 요청 파라미터 로그
+          // (sort는 기본값 사용 여부와 무관하게 생략)
+          log.info(
+              "Naver API call. query='{}' start={} display={} itemCount={}",
+              query, actualStart, actualDisplay, itemCount);
+          return response;
+        });
+  }
+
+  /**
+   * 인증 헤더와 읽기 타임아웃을 붙인 GET 요청을 만듭니다.
+   *
+   * @throws IllegalArgumentException 읽기 타임아웃이 0 이하인 경우
+   */
+  private HttpRequest newRequest(URI uri, String clientId, String clientSecret) {
+    NaverApiProperties.BookProperties bookProps = naverApiProperties.book();
+    HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+        .GET()
+        .timeout(Duration.ofMillis(bookProps.readTimeoutMs()))
+        .header("X-Naver-Client-Id", clientId)
+        .header("X-Naver-Client-Secret", clientSecret)
+        .header(HttpHeaders.ACCEPT, "application/json");
+    if (bookProps.gzip()) {
+      request.header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+    }
+    return request.build();
+  }
+
+  /**
+   * HTTP 응답을 검사하고 본문(gzip이면 풀어서)을 응답 DTO로 변환합니다.
+   *
+   * @throws RestClientResponseException 2xx가 아닌 응답인 경우
+   * @throws IllegalStateException       응답 본문이 비어 있는 경우
+   */
+  private NaverSearchResponse toSearchResponse(HttpResponse<byte[]> response) {
+    byte[] body = decode(response);
+    int status = response.statusCode();
+    if (status < 200 || status >= 300) {
+      HttpHeaders headers = new HttpHeaders();
+      response.headers().map().forEach(headers::addAll);
+      throw new RestClientResponseException("Naver API error response: " + status, status,
+          "", headers, body, StandardCharsets.UTF_8);
+    }
+    if (body.length == 0) {
       // 추후에 공통 에러 처리
       throw new IllegalStateException("Naver API response is null.");
     }
 
-    int itemCount = (response.items() == null) ? 0 : response.items().size();
-    // 단일 호출 기준 응답 아이템 수와 요청 파라미터 로그
-    // (sort는 기본값 사용 여부와 무관하게 생략)
-    log.info(
-        "Naver API call. query='{}' start={} display={} itemCount={}",
-        query, actualStart, actualDisplay, itemCount);
-    return response;
+    try {
+      if (naverApiProperties.kafka().passthrough()) {
+        return parsePassthrough(body);
+      }
+      return objectMapper.readValue(body, NaverSearchResponse.class);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to parse Naver API response.", e);
+    }
+  }
+
+  /**
+   * 응답 본문을 스트리밍으로 읽어 아이템마다 원본 JSON 바이트를 잘라 담은 응답 DTO를 만듭니다.
+   *
+   * <p>아이템 객체의 시작/끝 토큰 위치(바이트 오프셋)로 구간을 정하므로 문자열 디코딩이나
+   * 재직렬화가 없습니다. {@code isbn}, {@code pubdate} 외의 필드 값은 읽지 않고 건너뜁니다.</p>
+   */
+  private NaverSearchResponse parsePassthrough(byte[] body) throws IOException {
+    String lastBuildDate = null;
+    int total = 0;
+    int start = 0;
+    int display = 0;
+    List<NaverSearchItem> items = new ArrayList<>();
+
+    try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Naver API response is not a JSON object.");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken value = parser.nextToken();
+        switch (field) {
+          case "lastBuildDate" -> lastBuildDate = parser.getValueAsString();
+          case "total" -> total = parser.getValueAsInt();
+          case "start" -> start = parser.getValueAsInt();
+          case "display" -> display = parser.getValueAsInt();
+          case "items" -> {
+            if (value == JsonToken.START_ARRAY) {
+              while (parser.nextToken() == JsonToken.START_OBJECT) {
+                items.add(sliceItem(parser, body));
+              }
+            } else {
+              parser.skipChildren();
+            }
+          }
+          default -> parser.skipChildren();
+        }
+      }
+    }
+    return new NaverSearchResponse(lastBuildDate, total, start, display, items);
+  }
+
+  /**
+   * 현재 위치(START_OBJECT)의 아이템 객체를 끝까지 읽고, 객체 전체의 원본 바이트를 담은 아이템을 반환합니다.
+   */
+  private NaverSearchItem sliceItem(JsonParser parser, byte[] body) throws IOException {
+    int from = (int) parser.currentTokenLocation().getByteOffset();
+    String isbn = null;
+    String pubdate = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "isbn" -> isbn = parser.getValueAsString();
+        case "pubdate" -> pubdate = parser.getValueAsString();
+        default -> parser.skipChildren();
+      }
+    }
+    int to = (int) parser.currentTokenLocation().getByteOffset() + 1;
+    return NaverSearchItem.ofRaw(pubdate, isbn, Arrays.copyOfRange(body, from, to));
+  }
+
+  private byte[] decode(HttpResponse<byte[]> response) {
+    boolean gzipped = response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)
+        .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+        .orElse(false);
+    if (!gzipped) {
+      return response.body();
+    }
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+      return in.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to decompress Naver API response.", e);
+    }
   }
 }
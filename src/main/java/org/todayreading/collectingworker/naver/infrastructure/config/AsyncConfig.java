@@ -3,21 +3,27 @@ package org.todayreading.collectingworker.naver.infrastructure.config;
 import java.util.concurrent.Executor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * 네이버 수집 배치 작업을 비동기 및 스케줄링 방식으로 실행하기 위한 설정입니다.
  *
  * <p>다음 컴포넌트에서 이 설정을 사용합니다:
  * <ul>
- *   <li>{@code @Async("naverBatchExecutor")}를 사용하는
+ *   <li>{@code naverBatchExecutor}에서 수집 작업을 실행하는
  *   {@link org.todayreading.collectingworker.naver.application.job.NaverCollectJobRunner}</li>
  *   <li>{@code @Scheduled}를 사용하는
  *   {@link org.todayreading.collectingworker.naver.application.job.NaverCollectScheduler}</li>
+ *   <li>네이버 API를 비동기로 호출하는
+ *   {@link org.todayreading.collectingworker.naver.application.query.policy.NaverPageFetcher}와
+ *   {@link org.todayreading.collectingworker.naver.infrastructure.config.NaverRestClientConfig}</li>
  * </ul>
  *
+ * <p>두 Executor 모두 가상 스레드를 사용합니다. 검색어 수집 워커는 공유 풀 대신
+ * {@link org.todayreading.collectingworker.job.application.CollectJobScope}로 작업마다 가상 스레드를 만듭니다.</p>
+ *
  * @author 박성준
  * @since 1.0.0
  */
@@ -27,10 +33,12 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 public class AsyncConfig {
 
   /**
-   * 네이버 배치 작업용 전용 스레드 풀입니다.
+   * 네이버 배치 작업용 가상 스레드 Executor입니다.
    *
-   * <p>{@code @Async("naverBatchExecutor")}로 지정된 비동기 작업들이
-   * 이 Executor에서 실행됩니다.</p>
+   * <p>{@link org.todayreading.collectingworker.naver.application.job.NaverCollectJobRunner}가
+   * 등록한 수집 작업(풀스캔, 증분 수집)이 작업마다 새 가상 스레드에서 실행됩니다.
+   * 동시에 실행하는 작업 수는 스레드 풀 크기가 아니라 잡 실행기의 세마포어가 제한하며,
+   * 허용량을 기다리는 작업은 대기 상태로 남습니다.</p>
    *
    * @return 네이버 배치 작업 실행에 사용할 Executor
    * @author 박성준
@@ -38,12 +46,27 @@ public class AsyncConfig {
    */
   @Bean(name = "naverBatchExecutor")
   public Executor naverBatchExecutor() {
-    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-    executor.setCorePoolSize(2);
-    executor.setMaxPoolSize(4);
-    executor.setQueueCapacity(10);
-    executor.setThreadNamePrefix("naver-batch-");
-    executor.initialize();
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("naver-batch-");
+    executor.setVirtualThreads(true);
+    return executor;
+  }
+
+  /**
+   * 네이버 API 비동기 호출용 가상 스레드 Executor입니다.
+   *
+   * <p>레이트 리미터 토큰 대기와 429 백오프가 끝난 뒤 호출을 시작하고,
+   * {@link java.net.http.HttpClient}의 응답 처리(압축 해제, JSON 변환)를 수행합니다.
+   * 동시에 진행하는 호출 수는 스레드 수가 아니라 레이트 리미터와 동시 호출 수 조절(AIMD)이 제한하므로,
+   * 스레드 풀 크기를 {@code naver.search.concurrency}에 맞출 필요 없이 처리마다 가상 스레드를 사용합니다.</p>
+   *
+   * @return 네이버 API 비동기 호출에 사용할 Executor
+   * @author 박성준
+   * @since 1.0.0
+   */
+  @Bean(name = "naverFetchExecutor")
+  public Executor naverFetchExecutor() {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("naver-fetch-");
+    executor.setVirtualThreads(true);
     return executor;
   }
 }
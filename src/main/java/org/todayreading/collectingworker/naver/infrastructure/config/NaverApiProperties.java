@@ -1,6 +1,9 @@
 package org.todayreading.collectingworker.naver.infrastructure.config;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 /**
  * Naver API(책 검색 등) 호출에 필요한 설정 정보를 보관하는 프로퍼티 레코드입니다.
@@ -11,6 +14,11 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * <ul>
  *   <li>{@link #book} : Naver Book API 호출에 필요한 기본 URL 및 인증 정보</li>
  *   <li>{@link #search} : 검색 파라미터 및 호출 간격 등의 제어 설정</li>
+ *   <li>{@link #changeDetection} : 바뀌지 않은 도서를 다시 발행하지 않기 위한 변경 감지 저장소 설정</li>
+ *   <li>{@link #incremental} : 워터마크 기반 증분 수집 설정</li>
+ *   <li>{@link #quota} : 일일 API 호출 한도(쿼터) 관리 설정</li>
+ *   <li>{@link #checkpoint} : 풀스캔 체크포인트(중단된 실행 이어서 수집) 설정</li>
+ *   <li>{@link #kafka} : 수집한 도서를 발행할 Kafka 토픽과 발행 방식 설정</li>
  * </ul>
  *
  * @author 박성준
@@ -19,19 +27,69 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "naver")
 public record NaverApiProperties(
     BookProperties book,
-    SearchProperties search
+    SearchProperties search,
+    @DefaultValue ChangeDetectionProperties changeDetection,
+    @DefaultValue IncrementalProperties incremental,
+    @DefaultValue QuotaProperties quota,
+    @DefaultValue CheckpointProperties checkpoint,
+    @DefaultValue KafkaProperties kafka
 ) {
 
   /**
    * Naver Book API 기본 설정 (base URL, 인증 정보 등)을 보관하는 레코드입니다.
    *
-   * <p>RestClient/WebClient 생성 시 기본 URL 및 인증 헤더
-   * ({@code X-Naver-Client-Id}, {@code X-Naver-Client-Secret})를 구성하는 데 사용됩니다.</p>
+   * <p>HTTP 클라이언트 생성과 요청 시 기본 URL 및 인증 헤더
+   * ({@code X-Naver-Client-Id}, {@code X-Naver-Client-Secret}), 타임아웃, 응답 압축을 구성하는 데 사용됩니다.</p>
+   *
+   * <p>{@code credentials}에 인증 정보를 여러 개 등록하면 호출마다 여유가 가장 많은 인증 정보로 나누어 보내며,
+   * 비어 있으면 {@code clientId}/{@code clientSecret} 하나만 사용합니다. 429를 받은 인증 정보는
+   * {@code parkMs}, 인증 오류(401/403)를 받은 인증 정보는 {@code authParkMs} 동안 쉬게 합니다.</p>
    */
   public record BookProperties(
       String baseUrl,    // naver.book.base-url
       String clientId,   // naver.book.client-id
-      String clientSecret // naver.book.client-secret
+      String clientSecret, // naver.book.client-secret
+      @DefaultValue("3000") long connectTimeoutMs, // naver.book.connect-timeout-ms (연결 타임아웃)
+      @DefaultValue("10000") long readTimeoutMs,   // naver.book.read-timeout-ms (응답 대기 타임아웃)
+      @DefaultValue("true") boolean gzip,          // naver.book.gzip (gzip 응답 요청)
+      @DefaultValue List<CredentialProperties> credentials, // naver.book.credentials[*]
+      @DefaultValue("60000") long parkMs,          // naver.book.park-ms (429 시 쉬는 시간)
+      @DefaultValue("3600000") long authParkMs     // naver.book.auth-park-ms (인증 오류 시 쉬는 시간)
+  ) {
+
+    /**
+     * 사용할 인증 정보 목록을 반환합니다. {@code credentials}가 비어 있으면 단일 인증 정보로 구성합니다.
+     * 이름이 없는 인증 정보는 {@code credential-<순번>}으로 부릅니다.
+     *
+     * @return 인증 정보 목록(설정 순서)
+     */
+    public List<CredentialProperties> resolvedCredentials() {
+      if (credentials == null || credentials.isEmpty()) {
+        return List.of(new CredentialProperties("default", clientId, clientSecret));
+      }
+      List<CredentialProperties> resolved = new ArrayList<>();
+      for (int i = 0; i < credentials.size(); i++) {
+        CredentialProperties credential = credentials.get(i);
+        String name = (credential.name() == null || credential.name().isBlank())
+            ? "credential-" + i
+            : credential.name();
+        resolved.add(new CredentialProperties(name, credential.clientId(),
+            credential.clientSecret()));
+      }
+      return List.copyOf(resolved);
+    }
+  }
+
+  /**
+   * Naver API 인증 정보(애플리케이션 하나)를 보관하는 레코드입니다.
+   *
+   * <p>호출 속도 제한과 일일 호출 한도는 인증 정보마다 따로 적용됩니다.
+   * {@code name}은 로그와 메트릭에서 인증 정보를 구분하는 데 사용합니다(client secret은 남기지 않음).</p>
+   */
+  public record CredentialProperties(
+      String name,        // naver.book.credentials[*].name
+      String clientId,    // naver.book.credentials[*].client-id
+      String clientSecret // naver.book.credentials[*].client-secret
   ) {
   }
 
@@ -43,14 +101,182 @@ public record NaverApiProperties(
    *   <li>{@code display} : 한 번의 요청에서 가져올 결과 개수 (1~100)</li>
    *   <li>{@code maxStart} : 풀스캔(full scan) 시 사용할 start 파라미터의 상한 값</li>
    *   <li>{@code sort} : 정렬 기준 (예: {@code sim}, {@code date})</li>
-   *   <li>{@code requestIntervalMs} : 연속 호출 간 대기 시간(간격), 밀리초 단위</li>
+   *   <li>{@code requestIntervalMs} : 연속 호출 간 대기 시간(간격), 밀리초 단위.
+   *       모든 수집 워커가 공유하는 토큰 버킷의 토큰 충전 간격으로 사용(인증 정보마다 별도 버킷)</li>
+   *   <li>{@code burst} : 토큰 버킷에 쌓을 수 있는 최대 토큰 수(대기 없이 연속 호출할 수 있는 수)</li>
+   *   <li>{@code concurrency} : 풀스캔 시 동시에 수집할 검색어 수(수집 워커 수)</li>
+   *   <li>{@code fanOutPages} : true면 첫 페이지의 total로 남은 페이지를 한꺼번에 조회(검색어 단위 지연 단축)</li>
+   *   <li>{@code refinement} : start 상한 때문에 끝까지 페이징할 수 없는 검색어를 세분화하는 설정</li>
+   *   <li>{@code adaptive} : 응답 상태에 따라 동시 호출 수를 조절하는(AIMD) 설정</li>
+   *   <li>{@code circuitBreaker} : 5xx/타임아웃이 이어지면 호출을 잠시 멈추는 서킷 브레이커 설정</li>
    * </ul>
    */
   public record SearchProperties(
       int display,          // naver.search.display
       int maxStart,         // naver.search.max-start
       String sort,          // naver.search.sort
-      long requestIntervalMs // naver.search.request-interval-ms (연속 호출 간 간격, ms 단위)
+      long requestIntervalMs, // naver.search.request-interval-ms (연속 호출 간 간격, ms 단위)
+      @DefaultValue("1") int burst,      // naver.search.burst (토큰 버킷 최대 토큰 수)
+      @DefaultValue("4") int concurrency, // naver.search.concurrency (풀스캔 동시 수집 워커 수)
+      @DefaultValue("false") boolean fanOutPages, // naver.search.fan-out-pages (남은 페이지 동시 조회)
+      @DefaultValue RefinementProperties refinement, // naver.search.refinement.*
+      @DefaultValue AdaptiveConcurrencyProperties adaptive, // naver.search.adaptive.*
+      @DefaultValue CircuitBreakerProperties circuitBreaker // naver.search.circuit-breaker.*
+  ) {
+  }
+
+  /**
+   * 검색어 세분화(query refinement) 설정을 보관하는 레코드입니다.
+   *
+   * <p>네이버 API는 start 1000까지만 조회할 수 있어, total이 조회 가능 범위(max-start 이하의 마지막 start + display - 1)보다
+   * 큰 검색어는 결과의 일부만 수집됩니다. 세분화를 켜면 이런 검색어를 한 글자 더 긴 검색어들로 나누어
+   * 다시 수집하며, 모든 검색어가 끝까지 페이징 가능해지거나 상한에 도달할 때까지 반복합니다.</p>
+   * <ul>
+   *   <li>{@code enabled} : 세분화 사용 여부</li>
+   *   <li>{@code maxDepth} : 최초 검색어 대비 덧붙일 수 있는 최대 글자 수</li>
+   *   <li>{@code maxCalls} : 한 번의 풀스캔에서 사용할 최대 API 호출 수(도달하면 더 이상 세분화하지 않음)</li>
+   * </ul>
+   */
+  public record RefinementProperties(
+      @DefaultValue("false") boolean enabled, // naver.search.refinement.enabled
+      @DefaultValue("2") int maxDepth,        // naver.search.refinement.max-depth
+      @DefaultValue("10000") int maxCalls     // naver.search.refinement.max-calls
+  ) {
+  }
+
+  /**
+   * 적응형 동시 호출 수(AIMD) 설정을 보관하는 레코드입니다.
+   *
+   * <p>동시에 진행 중인 API 호출 수의 상한을 응답마다 조절합니다. 정상 응답이면 상한을 조금씩(상한당 1씩) 올리고,
+   * 429/타임아웃이나 평소보다 크게 늦은 응답이면 배수로 줄입니다. 상한은 한 실행의 모든 검색어가 공유하므로
+   * 전체 처리량이 서버가 실제로 허용하는 수준 바로 아래에 머뭅니다.</p>
+   * <ul>
+   *   <li>{@code enabled} : 사용 여부(끄면 동시 호출 수를 제한하지 않음)</li>
+   *   <li>{@code initialLimit} / {@code minLimit} / {@code maxLimit} : 시작/최소/최대 동시 호출 수</li>
+   *   <li>{@code decreaseFactor} : 과부하 신호 시 상한에 곱할 비율</li>
+   *   <li>{@code latencyTolerance} : 평균 응답 시간의 몇 배를 넘으면 과부하로 볼지</li>
+   * </ul>
+   */
+  public record AdaptiveConcurrencyProperties(
+      @DefaultValue("false") boolean enabled,      // naver.search.adaptive.enabled
+      @DefaultValue("4") int initialLimit,         // naver.search.adaptive.initial-limit
+      @DefaultValue("1") int minLimit,             // naver.search.adaptive.min-limit
+      @DefaultValue("32") int maxLimit,            // naver.search.adaptive.max-limit
+      @DefaultValue("0.5") double decreaseFactor,  // naver.search.adaptive.decrease-factor
+      @DefaultValue("3.0") double latencyTolerance // naver.search.adaptive.latency-tolerance
+  ) {
+  }
+
+  /**
+   * 서킷 브레이커 설정을 보관하는 레코드입니다.
+   *
+   * <p>5xx 응답이나 연결 실패/타임아웃이 연속으로 {@code failureThreshold}번 발생하면 회로를 열고,
+   * {@code openMs} 동안 API를 호출하지 않고 바로 실패시킵니다. 이후 한 번의 시험 호출이 성공하면 회로를 닫습니다.</p>
+   * <ul>
+   *   <li>{@code enabled} : 사용 여부</li>
+   *   <li>{@code failureThreshold} : 회로를 여는 연속 실패 횟수</li>
+   *   <li>{@code openMs} : 회로를 열어 두는 시간(ms)</li>
+   * </ul>
+   */
+  public record CircuitBreakerProperties(
+      @DefaultValue("false") boolean enabled,    // naver.search.circuit-breaker.enabled
+      @DefaultValue("5") int failureThreshold,   // naver.search.circuit-breaker.failure-threshold
+      @DefaultValue("30000") long openMs         // naver.search.circuit-breaker.open-ms
+  ) {
+  }
+
+  /**
+   * 변경 감지 저장소 설정을 보관하는 레코드입니다.
+   *
+   * <p>ISBN-13별로 마지막 발행 내용의 지문을 메모리 매핑 파일에 저장해, 실행 간에 바뀌지 않은 도서는 다시 발행하지 않습니다.
+   * 파일은 슬롯당 16바이트의 고정 크기 해시 테이블이며, 처음 만들 때 {@code capacity * 16}바이트를 차지합니다
+   * (sparse 파일을 지원하는 파일 시스템에서는 실제로 쓴 부분만 디스크를 사용합니다).</p>
+   * <ul>
+   *   <li>{@code enabled} : 변경 감지 사용 여부</li>
+   *   <li>{@code path} : 지문 저장 파일 경로</li>
+   *   <li>{@code capacity} : 슬롯 수(2의 거듭제곱으로 올림). 저장 가능한 도서 수는 슬롯 수의 약 70%</li>
+   * </ul>
+   */
+  public record ChangeDetectionProperties(
+      @DefaultValue("false") boolean enabled,                       // naver.change-detection.enabled
+      @DefaultValue("./data/naver-item-fingerprints.bin") String path, // naver.change-detection.path
+      @DefaultValue("33554432") long capacity                       // naver.change-detection.capacity
+  ) {
+  }
+
+  /**
+   * 워터마크 기반 증분 수집 설정을 보관하는 레코드입니다.
+   *
+   * <p>검색어별로 마지막으로 본 가장 최근 출간일(pubdate)을 워터마크로 저장하고, sort=date 결과를 워터마크보다
+   * 오래된 도서가 나올 때까지만 페이징합니다. 풀스캔보다 호출 수가 훨씬 적어 매시간 실행할 수 있습니다.</p>
+   * <ul>
+   *   <li>{@code enabled} : 스케줄러의 주기적 증분 수집 사용 여부(수동 실행은 항상 가능)</li>
+   *   <li>{@code cron} : 증분 수집 주기</li>
+   *   <li>{@code watermarkPath} : 검색어별 워터마크 저장 파일 경로</li>
+   * </ul>
+   */
+  public record IncrementalProperties(
+      @DefaultValue("false") boolean enabled,                          // naver.incremental.enabled
+      @DefaultValue("0 30 * * * *") String cron,                        // naver.incremental.cron
+      @DefaultValue("./data/naver-watermarks.json") String watermarkPath // naver.incremental.watermark-path
+  ) {
+  }
+
+  /**
+   * 일일 API 호출 한도(쿼터) 관리 설정을 보관하는 레코드입니다.
+   *
+   * <p>네이버 API는 클라이언트 ID별로 하루 호출 수가 정해져 있습니다(한국 시간 자정 초기화).
+   * 쿼터 관리를 켜면 모든 검색 API 호출을 클라이언트 ID별로 일자별 장부 파일에 집계하고,
+   * 한도에 도달한 클라이언트 ID로는 더 이상 호출하지 않습니다.
+   * 수동 실행과 증분 수집은 {@code reservedForScheduled}만큼을 남겨 두고 사용하므로,
+   * 정기 풀스캔(매일 01:00)이 쓸 호출 수가 보장됩니다.</p>
+   * <ul>
+   *   <li>{@code enabled} : 쿼터 관리 사용 여부</li>
+   *   <li>{@code dailyLimit} : 클라이언트 ID 하나의 하루 최대 호출 수</li>
+   *   <li>{@code reservedForScheduled} : 정기 풀스캔 몫으로 남겨 둘 호출 수(전체 인증 정보 합계 기준)</li>
+   *   <li>{@code path} : 일자별 사용량 장부 파일 경로</li>
+   * </ul>
+   */
+  public record QuotaProperties(
+      @DefaultValue("false") boolean enabled,                  // naver.quota.enabled
+      @DefaultValue("25000") long dailyLimit,                  // naver.quota.daily-limit
+      @DefaultValue("5000") long reservedForScheduled,         // naver.quota.reserved-for-scheduled
+      @DefaultValue("./data/naver-api-quota.json") String path // naver.quota.path
+  ) {
+  }
+
+  /**
+   * 풀스캔 체크포인트 설정을 보관하는 레코드입니다.
+   *
+   * <p>체크포인트를 켜면 풀스캔 실행(run ID)마다 끝난 검색어와, 검색어별로 처음부터 연속으로 ack를 받은
+   * 다음 start 값을 로컬 파일에 주기적으로 저장합니다. 실행이 중간에 끊기면(재시작, 쿼터 소진) 다음 풀스캔이
+   * 같은 run ID로 그 지점부터 이어서 수집하며, 끝까지 마친 실행의 체크포인트는 다시 이어 쓰지 않습니다.</p>
+   * <ul>
+   *   <li>{@code enabled} : 체크포인트 사용 여부</li>
+   *   <li>{@code path} : 체크포인트 파일 경로</li>
+   *   <li>{@code flushIntervalMs} : 체크포인트 저장 주기(ms)</li>
+   * </ul>
+   */
+  public record CheckpointProperties(
+      @DefaultValue("false") boolean enabled,                             // naver.checkpoint.enabled
+      @DefaultValue("./data/naver-scan-checkpoint.json") String path,     // naver.checkpoint.path
+      @DefaultValue("5000") long flushIntervalMs                          // naver.checkpoint.flush-interval-ms
+  ) {
+  }
+
+  /**
+   * 수집한 도서를 Kafka로 발행하는 설정을 보관하는 레코드입니다.
+   *
+   * <p>원본 전달 모드를 켜면 응답을 DTO로 바인딩/재직렬화하지 않고, 응답에서 잘라 낸 아이템 JSON 바이트를
+   * 그대로 발행합니다. 레코드 키는 두 방식 모두 정규화한 ISBN-13입니다.</p>
+   * <ul>
+   *   <li>{@code topic} : 네이버 원본 도서 데이터 토픽명</li>
+   *   <li>{@code passthrough} : 원본 전달 모드 사용 여부</li>
+   * </ul>
+   */
+  public record KafkaProperties(
+      @DefaultValue("book.raw") String topic,   // naver.kafka.topic
+      @DefaultValue("false") boolean passthrough // naver.kafka.passthrough
   ) {
   }
 }
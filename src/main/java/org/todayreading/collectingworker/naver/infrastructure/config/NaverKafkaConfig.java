@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.boot.ssl.SslBundles;
@@ -20,6 +21,10 @@ import org.todayreading.collectingworker.naver.application.dto.NaverSearchItem;
  *
  * <p>공통 spring.kafka.* 프로퍼티를 활용해 JsonSerializer 기반 ProducerFactory와
  * KafkaTemplate을 구성합니다.</p>
+ *
+ * <p>{@code naverBookRawKafkaTemplate} 빈은 value 직렬화에 {@link ByteArraySerializer}를 사용하며,
+ * 원본 전달 모드({@code naver.kafka.passthrough=true})에서 응답에서 잘라 낸 아이템 JSON 바이트를
+ * 재직렬화 없이 그대로 전송하는 용도로 사용됩니다.</p>
  */
 @Configuration
 @RequiredArgsConstructor
@@ -41,4 +46,18 @@ public class NaverKafkaConfig {
       ProducerFactory<String, NaverSearchItem> naverBookProducerFactory) {
     return new KafkaTemplate<>(naverBookProducerFactory);
   }
+
+  @Bean
+  public ProducerFactory<String, byte[]> naverBookRawProducerFactory() {
+    Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties(sslBundles));
+    props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+    return new DefaultKafkaProducerFactory<>(props);
+  }
+
+  @Bean
+  public KafkaTemplate<String, byte[]> naverBookRawKafkaTemplate(
+      ProducerFactory<String, byte[]> naverBookRawProducerFactory) {
+    return new KafkaTemplate<>(naverBookRawProducerFactory);
+  }
 }
@@ -1,16 +1,22 @@
 package org.todayreading.collectingworker.naver.infrastructure.config;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestClient;
 
 /**
- * Naver API 호출에 사용할 {@link RestClient} 설정 클래스.
+ * Naver API 호출에 사용할 HTTP 클라이언트 설정 클래스.
  *
- * <p>기본 URL과 인증 헤더(Naver Client Id/Secret)가 미리 설정된 전용 RestClient를 생성한다.</p>
+ * <p>JDK {@link HttpClient} 하나를 애플리케이션 전체에서 공유한다. HttpClient는 호스트별 연결을
+ * keep-alive로 재사용(연결 풀)하며, HTTP/2를 지원하는 서버와는 연결 하나로 여러 요청을 동시에 보낸다.
+ * 비동기 호출의 응답 처리는 {@code naverFetchExecutor}에서 수행한다.</p>
  *
- * <p>책 검색 API뿐 아니라 추후 다른 Naver API 확장에도 재사용할 수 있다.</p>
+ * <p>기본 URL과 인증 헤더는 요청마다 {@link org.todayreading.collectingworker.naver.infrastructure.api.NaverRestClient}에서
+ * 설정하며, 책 검색 API뿐 아니라 추후 다른 Naver API 확장에도 재사용할 수 있다.</p>
  *
  * author 박성준
  * @since 1.0.0
@@ -20,23 +26,24 @@ import org.springframework.web.client.RestClient;
 public class NaverRestClientConfig {
 
   /**
-   * Naver API 전용 RestClient Bean.
+   * Naver API 전용 HttpClient Bean.
    *
-   * @param properties Naver API 설정 값
-   * @param builder    Spring에서 주입해 주는 RestClient 빌더
-   * @return Naver API 호출에 사용되는 RestClient
+   * @param properties         Naver API 설정 값(연결 타임아웃)
+   * @param naverFetchExecutor 비동기 응답 처리에 사용할 Executor
+   * @return Naver API 호출에 사용되는 HttpClient
    */
   @Bean
-  public RestClient naverBookRestClient(
+  public HttpClient naverHttpClient(
       NaverApiProperties properties,
-      RestClient.Builder builder
+      @Qualifier("naverFetchExecutor") Executor naverFetchExecutor
   ) {
 
     NaverApiProperties.BookProperties bookProps = properties.book();
-    return builder
-        .baseUrl(bookProps.baseUrl())
-        .defaultHeader("X-Naver-Client-Id", bookProps.clientId())
-        .defaultHeader("X-Naver-Client-Secret", bookProps.clientSecret())
+    return HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .connectTimeout(Duration.ofMillis(bookProps.connectTimeoutMs()))
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .executor(naverFetchExecutor)
         .build();
   }
 }
@@ -0,0 +1,82 @@
+package org.todayreading.collectingworker.naver.infrastructure.fs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.common.fs.AtomicFileWriter;
+import org.todayreading.collectingworker.naver.application.port.out.NaverApiQuotaPort;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
+
+/**
+ * 네이버 API 일자별 사용량을 로컬 디스크의 JSON 파일로 저장하는 어댑터입니다.
+ *
+ * <p>{@link NaverApiQuotaPort}의 구현체로서 {@code naver.quota.path}에
+ * {@code {"date":"yyyy-MM-dd","usedCalls":{"<client-id>":n}}} 형식으로 저장합니다.
+ * {@link AtomicFileWriter}로 디스크에 동기화한 뒤 원자적으로 교체하므로, 저장 도중 프로세스가 종료되거나
+ * 전원이 꺼져도 장부는 이전 내용 또는 새 내용 중 하나로 남습니다(사용량이 0부터 다시 세어지지 않음).</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class NaverApiQuotaFileStore implements NaverApiQuotaPort {
+
+  /** 사용량 장부 파일 경로입니다. */
+  private final Path path;
+
+  /** 장부 JSON 직렬화에 사용할 ObjectMapper입니다. */
+  private final ObjectMapper objectMapper;
+
+  public NaverApiQuotaFileStore(NaverApiProperties naverApiProperties, ObjectMapper objectMapper) {
+    this.path = Path.of(naverApiProperties.quota().path()).toAbsolutePath();
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public Map<String, Long> load(LocalDate day) {
+    if (Files.notExists(path)) {
+      return Map.of();
+    }
+
+    try {
+      QuotaLedger ledger = objectMapper.readValue(path.toFile(), QuotaLedger.class);
+      return day.toString().equals(ledger.date()) && ledger.usedCalls() != null
+          ? ledger.usedCalls()
+          : Map.of();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read Naver API quota ledger: " + path, e);
+    }
+  }
+
+  @Override
+  public void save(LocalDate day, Map<String, Long> usedCalls) {
+    try {
+      AtomicFileWriter.write(path, objectMapper.writeValueAsBytes(new QuotaLedger(day.toString(),
+          new TreeMap<>(usedCalls))));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to save Naver API quota ledger: " + path, e);
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("Saved Naver API quota ledger. path={}, date={}, usedCalls={}",
+          path, day, usedCalls);
+    }
+  }
+
+  /**
+   * 장부 파일의 내용입니다.
+   *
+   * @param date      일자({@code yyyy-MM-dd})
+   * @param usedCalls 클라이언트 ID → 사용한 호출 수 맵
+   */
+  record QuotaLedger(String date, Map<String, Long> usedCalls) {
+  }
+}
@@ -0,0 +1,230 @@
+package org.todayreading.collectingworker.naver.infrastructure.fs;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.naver.application.dedup.IsbnHashing;
+import org.todayreading.collectingworker.naver.application.port.out.NaverItemFingerprintPort;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
+
+/**
+ * ISBN-13별 발행 지문을 로컬 디스크의 메모리 매핑 파일에 저장하는 어댑터입니다.
+ *
+ * <p>{@link NaverItemFingerprintPort}의 구현체로서 {@code naver.change-detection.path}에
+ * 고정 크기 개방 주소법 해시 테이블을 둡니다. 슬롯 하나는 {@code [isbn13(8바이트), 지문(8바이트)]}이고,
+ * ISBN이 0인 슬롯은 비어 있는 슬롯입니다. 테이블은 힙이 아닌 페이지 캐시에 있으므로
+ * 수천만 건을 저장해도 힙 사용량은 거의 늘지 않습니다.</p>
+ *
+ * <p>새 슬롯은 지문을 먼저 쓰고 ISBN을 나중에 써서, 프로세스가 중간에 종료되어도 ISBN만 있고 지문이 없는 슬롯이
+ * 생기지 않습니다. 디스크 반영은 {@link #flush()}(스캔 종료 시)와 종료 시점에 합니다.
+ * 파일 크기가 설정한 용량과 다르면(용량 변경 등) 파일을 비우고 새로 시작하며, 이 경우 다음 스캔은 모든 도서를 발행합니다.</p>
+ *
+ * <p>API 호출 속도로 제한된 발행량에서는 잠금 경합이 거의 없으므로, 모든 접근은 인스턴스 단위로 동기화합니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class NaverItemFingerprintFileStore implements NaverItemFingerprintPort {
+
+  /** 슬롯 하나의 크기(바이트)입니다. */
+  private static final int SLOT_BYTES = 16;
+
+  /** 매핑 하나에 담는 슬롯 수(2^23개, 128MiB)입니다. {@link MappedByteBuffer}는 2GiB를 넘을 수 없습니다. */
+  private static final int CHUNK_SLOTS_BITS = 23;
+
+  private static final long CHUNK_SLOTS_MASK = (1L << CHUNK_SLOTS_BITS) - 1;
+
+  /** 저장 비율이 이 값에 도달하면 새 ISBN은 저장하지 않습니다. */
+  private static final double MAX_LOAD_FACTOR = 0.7;
+
+  /** 변경 감지 설정입니다. */
+  private final NaverApiProperties.ChangeDetectionProperties properties;
+
+  /** 전체 슬롯 수(2의 거듭제곱)입니다. */
+  private final long slotCount;
+
+  /** 저장할 수 있는 최대 ISBN 수입니다. */
+  private final long maxEntries;
+
+  private FileChannel channel;
+
+  private MappedByteBuffer[] chunks;
+
+  /** 저장된 ISBN 수입니다. */
+  private long size;
+
+  /** 테이블이 가득 찼다는 경고를 이미 남겼는지 여부입니다. */
+  private boolean fullWarned;
+
+  public NaverItemFingerprintFileStore(NaverApiProperties naverApiProperties) {
+    this.properties = naverApiProperties.changeDetection();
+    long capacity = Math.max(1024, properties.capacity());
+    this.slotCount = Long.highestOneBit(capacity - 1) << 1;
+    this.maxEntries = (long) (slotCount * MAX_LOAD_FACTOR);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return properties.enabled();
+  }
+
+  @Override
+  public synchronized boolean isUnchanged(long isbn13, long fingerprint) {
+    ensureOpen();
+    long slot = findSlot(isbn13);
+    return key(slot) == isbn13 && value(slot) == fingerprint;
+  }
+
+  @Override
+  public synchronized void record(long isbn13, long fingerprint) {
+    ensureOpen();
+    long slot = findSlot(isbn13);
+    if (key(slot) == isbn13) {
+      putValue(slot, fingerprint);
+      return;
+    }
+
+    if (size >= maxEntries) {
+      if (!fullWarned) {
+        fullWarned = true;
+        log.warn("Naver fingerprint store is full; new ISBNs will always be published. "
+            + "path={}, entries={}, slotCount={}", properties.path(), size, slotCount);
+      }
+      return;
+    }
+    putValue(slot, fingerprint);
+    putKey(slot, isbn13);
+    size++;
+  }
+
+  @Override
+  public synchronized void flush() {
+    if (chunks == null) {
+      return;
+    }
+    for (MappedByteBuffer chunk : chunks) {
+      chunk.force();
+    }
+    if (log.isDebugEnabled()) {
+      log.debug("Flushed Naver fingerprint store. path={}, entries={}", properties.path(), size);
+    }
+  }
+
+  /**
+   * 종료 시 파일에 반영하고 채널을 닫습니다.
+   */
+  @PreDestroy
+  public synchronized void close() {
+    if (channel == null) {
+      return;
+    }
+    flush();
+    try {
+      channel.close();
+    } catch (IOException e) {
+      log.warn("Failed to close Naver fingerprint store. path={}", properties.path(), e);
+    }
+    channel = null;
+    chunks = null;
+  }
+
+  /**
+   * ISBN이 저장된 슬롯, 또는 저장될 빈 슬롯의 위치를 찾습니다(선형 탐사).
+   */
+  private long findSlot(long isbn13) {
+    long mask = slotCount - 1;
+    long slot = IsbnHashing.mix(isbn13) & mask;
+    while (true) {
+      long key = key(slot);
+      if (key == isbn13 || key == 0) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  private long key(long slot) {
+    return chunk(slot).getLong(offset(slot));
+  }
+
+  private long value(long slot) {
+    return chunk(slot).getLong(offset(slot) + Long.BYTES);
+  }
+
+  private void putKey(long slot, long isbn13) {
+    chunk(slot).putLong(offset(slot), isbn13);
+  }
+
+  private void putValue(long slot, long fingerprint) {
+    chunk(slot).putLong(offset(slot) + Long.BYTES, fingerprint);
+  }
+
+  private MappedByteBuffer chunk(long slot) {
+    return chunks[(int) (slot >>> CHUNK_SLOTS_BITS)];
+  }
+
+  private static int offset(long slot) {
+    return (int) (slot & CHUNK_SLOTS_MASK) * SLOT_BYTES;
+  }
+
+  /**
+   * 처음 사용할 때 파일을 열어 매핑하고 저장된 ISBN 수를 셉니다.
+   */
+  private void ensureOpen() {
+    if (chunks != null) {
+      return;
+    }
+
+    Path path = Path.of(properties.path()).toAbsolutePath();
+    long fileBytes = slotCount * SLOT_BYTES;
+    try {
+      Files.createDirectories(path.getParent());
+      channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE);
+      long existingBytes = channel.size();
+      if (existingBytes != fileBytes) {
+        if (existingBytes > 0) {
+          log.warn("Naver fingerprint store size does not match capacity; starting empty. "
+              + "path={}, fileBytes={}, expectedBytes={}", path, existingBytes, fileBytes);
+          channel.truncate(0);
+        }
+        // 마지막 바이트만 써서 파일 크기를 잡습니다(sparse 파일 지원 시 디스크를 미리 쓰지 않음).
+        channel.write(ByteBuffer.wrap(new byte[1]), fileBytes - 1);
+      }
+
+      int chunkCount = (int) Math.max(1, slotCount >>> CHUNK_SLOTS_BITS);
+      long chunkBytes = Math.min(fileBytes, (1L << CHUNK_SLOTS_BITS) * SLOT_BYTES);
+      MappedByteBuffer[] mapped = new MappedByteBuffer[chunkCount];
+      for (int i = 0; i < chunkCount; i++) {
+        mapped[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * chunkBytes, chunkBytes);
+      }
+      chunks = mapped;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to open Naver fingerprint store: " + path, e);
+    }
+
+    size = countEntries();
+    log.info("Naver fingerprint store opened. path={}, entries={}, slotCount={}",
+        path, size, slotCount);
+  }
+
+  private long countEntries() {
+    long count = 0;
+    for (long slot = 0; slot < slotCount; slot++) {
+      if (key(slot) != 0) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,77 @@
+package org.todayreading.collectingworker.naver.infrastructure.fs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.common.fs.AtomicFileWriter;
+import org.todayreading.collectingworker.naver.application.port.out.NaverScanCheckpointPort;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
+
+/**
+ * 풀스캔 체크포인트를 로컬 디스크의 JSON 파일로 저장하는 어댑터입니다.
+ *
+ * <p>{@link NaverScanCheckpointPort}의 구현체로서 {@code naver.checkpoint.path}에
+ * 실행 ID와 검색어별 진행 상황을 저장합니다. {@link AtomicFileWriter}로 임시 파일에 쓰고 디스크에
+ * 동기화한 뒤 원자적으로 교체하므로, 저장 도중 프로세스가 종료되거나 전원이 꺼져도
+ * 파일은 이전 내용 또는 새 내용 중 하나로 온전히 남습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class NaverScanCheckpointFileStore implements NaverScanCheckpointPort {
+
+  /** 체크포인트 사용 여부입니다. */
+  private final boolean enabled;
+
+  /** 체크포인트 파일 경로입니다. */
+  private final Path path;
+
+  /** 체크포인트 JSON 직렬화에 사용할 ObjectMapper입니다. */
+  private final ObjectMapper objectMapper;
+
+  public NaverScanCheckpointFileStore(NaverApiProperties naverApiProperties,
+      ObjectMapper objectMapper) {
+    NaverApiProperties.CheckpointProperties checkpoint = naverApiProperties.checkpoint();
+    this.enabled = checkpoint.enabled();
+    this.path = Path.of(checkpoint.path()).toAbsolutePath();
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public ScanCheckpoint load() {
+    if (Files.notExists(path)) {
+      return null;
+    }
+
+    try {
+      return objectMapper.readValue(path.toFile(), ScanCheckpoint.class);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read Naver scan checkpoint: " + path, e);
+    }
+  }
+
+  @Override
+  public void save(ScanCheckpoint checkpoint) {
+    try {
+      AtomicFileWriter.write(path, objectMapper.writeValueAsBytes(checkpoint));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to save Naver scan checkpoint: " + path, e);
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("Saved Naver scan checkpoint. path={}, runId={}, queryCount={}",
+          path, checkpoint.runId(), checkpoint.queries().size());
+    }
+  }
+}
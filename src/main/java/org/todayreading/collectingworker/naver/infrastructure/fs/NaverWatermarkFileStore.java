@@ -0,0 +1,72 @@
+package org.todayreading.collectingworker.naver.infrastructure.fs;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.common.fs.AtomicFileWriter;
+import org.todayreading.collectingworker.naver.application.port.out.NaverWatermarkPort;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
+
+/**
+ * 증분 수집 워터마크를 로컬 디스크의 JSON 파일로 저장하는 어댑터입니다.
+ *
+ * <p>{@link NaverWatermarkPort}의 구현체로서 {@code naver.incremental.watermark-path}에
+ * 검색어 → 출간일 맵을 저장합니다. {@link AtomicFileWriter}로 디스크에 동기화한 뒤 원자적으로 교체하므로,
+ * 저장 도중 프로세스가 종료되거나 전원이 꺼져도 파일은 이전 내용 또는 새 내용 중 하나로 온전히 남습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class NaverWatermarkFileStore implements NaverWatermarkPort {
+
+  private static final TypeReference<Map<String, String>> WATERMARKS_TYPE = new TypeReference<>() {
+  };
+
+  /** 워터마크 파일 경로입니다. */
+  private final Path path;
+
+  /** 워터마크 JSON 직렬화에 사용할 ObjectMapper입니다. */
+  private final ObjectMapper objectMapper;
+
+  public NaverWatermarkFileStore(NaverApiProperties naverApiProperties, ObjectMapper objectMapper) {
+    this.path = Path.of(naverApiProperties.incremental().watermarkPath()).toAbsolutePath();
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public Map<String, String> load() {
+    if (Files.notExists(path)) {
+      return Map.of();
+    }
+
+    try {
+      return objectMapper.readValue(path.toFile(), WATERMARKS_TYPE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read Naver watermarks: " + path, e);
+    }
+  }
+
+  @Override
+  public void save(Map<String, String> watermarks) {
+    try {
+      // 검색어 순으로 정렬해 저장하면 파일을 비교/확인하기 쉽습니다.
+      AtomicFileWriter.write(path, objectMapper.writerWithDefaultPrettyPrinter()
+          .writeValueAsBytes(new TreeMap<>(watermarks)));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to save Naver watermarks: " + path, e);
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("Saved Naver watermarks. path={}, queryCount={}", path, watermarks.size());
+    }
+  }
+}
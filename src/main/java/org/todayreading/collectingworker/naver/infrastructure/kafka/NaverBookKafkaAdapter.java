@@ -1,14 +1,19 @@
 package org.todayreading.collectingworker.naver.infrastructure.kafka;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
 import org.springframework.stereotype.Component;
+import org.todayreading.collectingworker.naver.application.dedup.IsbnNormalizer;
 import org.todayreading.collectingworker.naver.application.dto.NaverSearchItem;
 import org.todayreading.collectingworker.naver.application.port.out.NaverBookPublishPort;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
 
 /**
  * {@link NaverBookPublishPort}의 Kafka 기반 구현체입니다.
@@ -16,6 +21,13 @@ import org.todayreading.collectingworker.naver.application.port.out.NaverBookPub
  * <p>수집된 네이버 도서 원시 데이터를 Kafka의 {@link #topicName} 토픽으로 발행하는
  * 인프라스트럭처 어댑터 역할을 담당합니다.
  *
+ * <p>원본 JSON 바이트를 담은 아이템(원본 전달 모드)은 {@code naverBookRawKafkaTemplate}으로
+ * 바이트 그대로 전송하며, 기존 JsonSerializer 메시지와 같은 타입 헤더({@code __TypeId__})를 붙여
+ * 컨슈머가 같은 방식으로 역직렬화할 수 있게 합니다.</p>
+ *
+ * <p>레코드 키는 두 방식 모두 정규화한 ISBN-13(없으면 null)입니다. 모드를 바꿔도 같은 도서가
+ * 같은 파티션으로 가므로, 컨슈머가 보는 도서별 순서가 유지됩니다.</p>
+ *
  * @author 박성준
  * @since 1.0.0
  */
@@ -23,16 +35,25 @@ import org.todayreading.collectingworker.naver.application.port.out.NaverBookPub
 @Component
 public class NaverBookKafkaAdapter implements NaverBookPublishPort {
 
-  @Value("${naver.kafka.topic}")
-  private String topicName;
+  private static final byte[] TYPE_ID = NaverSearchItem.class.getName()
+      .getBytes(StandardCharsets.UTF_8);
+
+  private final String topicName;
 
   private final KafkaTemplate<String, NaverSearchItem> kafkaTemplate;
 
+  private final KafkaTemplate<String, byte[]> rawKafkaTemplate;
+
   @Autowired
   public NaverBookKafkaAdapter(
       @Qualifier("naverBookKafkaTemplate")
-      KafkaTemplate<String, NaverSearchItem> kafkaTemplate) {
+      KafkaTemplate<String, NaverSearchItem> kafkaTemplate,
+      @Qualifier("naverBookRawKafkaTemplate")
+      KafkaTemplate<String, byte[]> rawKafkaTemplate,
+      NaverApiProperties naverApiProperties) {
+    this.topicName = naverApiProperties.kafka().topic();
     this.kafkaTemplate = kafkaTemplate;
+    this.rawKafkaTemplate = rawKafkaTemplate;
   }
 
   /**
@@ -41,16 +62,37 @@ public class NaverBookKafkaAdapter implements NaverBookPublishPort {
    * <p>목록이 null 이거나 비어 있는 경우에는 아무 작업도 수행하지 않습니다.
    *
    * @param items 발행할 도서 아이템 목록
+   * @return 모든 레코드의 ack 시 정상 완료, 하나라도 전송 실패 시 예외로 완료되는 Future
    */
   @Override
-  public void publish(List<NaverSearchItem> items) {
+  public CompletableFuture<Void> publish(List<NaverSearchItem> items) {
     if (items == null || items.isEmpty()) {
       log.debug("Skip publishing book.raw. items is null or empty.");
-      return;
+      return CompletableFuture.completedFuture(null);
     }
 
-    for (NaverSearchItem item : items) {
-      kafkaTemplate.send(topicName, item);
+    CompletableFuture<?>[] sends = new CompletableFuture<?>[items.size()];
+    for (int i = 0; i < sends.length; i++) {
+      NaverSearchItem item = items.get(i);
+      sends[i] = (item.rawJson() != null)
+          ? rawKafkaTemplate.send(toRawRecord(item))
+          : kafkaTemplate.send(topicName, recordKey(item), item);
     }
+    return CompletableFuture.allOf(sends);
+  }
+
+  private ProducerRecord<String, byte[]> toRawRecord(NaverSearchItem item) {
+    ProducerRecord<String, byte[]> record =
+        new ProducerRecord<>(topicName, recordKey(item), item.rawJson());
+    record.headers().add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, TYPE_ID);
+    return record;
+  }
+
+  /**
+   * 아이템의 레코드 키(정규화한 ISBN-13)를 반환합니다. ISBN이 없거나 잘못되었으면 null입니다.
+   */
+  private static String recordKey(NaverSearchItem item) {
+    long isbn = IsbnNormalizer.toIsbn13(item.isbn());
+    return (isbn == IsbnNormalizer.NO_ISBN) ? null : Long.toString(isbn);
   }
 }
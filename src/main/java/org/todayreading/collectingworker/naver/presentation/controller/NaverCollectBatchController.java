@@ -1,10 +1,13 @@
 package org.todayreading.collectingworker.naver.presentation.controller;
 
+import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.todayreading.collectingworker.job.application.CollectJob;
+import org.todayreading.collectingworker.job.application.CollectJob.Snapshot;
 import org.todayreading.collectingworker.naver.application.job.NaverCollectJobRunner;
 
 /**
@@ -15,7 +18,9 @@ import org.todayreading.collectingworker.naver.application.job.NaverCollectJobRu
  *
  * <p>실제 수집/발행 유스케이스 로직은
  * {@link org.todayreading.collectingworker.naver.application.service.NaverCollectService}에 있으며,
- * 이 컨트롤러는 {@link NaverCollectJobRunner}를 통해 비동기 실행만 트리거합니다.</p>
+ * 이 컨트롤러는 {@link NaverCollectJobRunner}를 통해 비동기 실행만 트리거합니다.
+ * 응답 본문과 {@code Location} 헤더로 작업 ID를 돌려주며, 진행 상황 조회와 취소는
+ * {@code /internal/jobs/{id}}에서 합니다.</p>
  *
  * @author 박성준
  * @since 1.0.0
@@ -33,14 +38,34 @@ public class NaverCollectBatchController {
    * <p>요청이 들어오면 즉시 비동기 작업을 트리거하고,
    * 배치 완료 여부와 관계없이 {@code 202 Accepted}를 반환합니다.</p>
    *
-   * @return 수집 작업이 비동기로 접수되었음을 나타내는 HTTP 202 응답
+   * @return 수집 작업이 비동기로 접수되었음을 나타내는 HTTP 202 응답(본문은 작업 스냅샷)
    * @author 박성준
    * @since 1.0.0
    */
   @PostMapping("/full-scan")
-  public ResponseEntity<Void> triggerFullScan() {
-    jobRunner.runFullScanAsync();
-    return ResponseEntity.accepted().build();
+  public ResponseEntity<Snapshot> triggerFullScan() {
+    return accepted(jobRunner.runFullScanAsync());
+  }
+
+  /**
+   * 네이버 도서 증분 수집 배치를 비동기로 실행합니다.
+   *
+   * <p>{@code naver.incremental.enabled}와 관계없이 실행하며,
+   * 배치 완료 여부와 관계없이 {@code 202 Accepted}를 반환합니다.</p>
+   *
+   * @return 수집 작업이 비동기로 접수되었음을 나타내는 HTTP 202 응답(본문은 작업 스냅샷)
+   * @author 박성준
+   * @since 1.0.0
+   */
+  @PostMapping("/incremental-scan")
+  public ResponseEntity<Snapshot> triggerIncrementalScan() {
+    return accepted(jobRunner.runIncrementalScanAsync());
+  }
+
+  private ResponseEntity<Snapshot> accepted(CollectJob job) {
+    return ResponseEntity.accepted()
+        .location(URI.create("/internal/jobs/" + job.id()))
+        .body(job.snapshot());
   }
 
 }
@@ -0,0 +1,166 @@
+package org.todayreading.collectingworker.csv.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.todayreading.collectingworker.csv.application.service.CsvCheckpointTracker.RangeProgress;
+import org.todayreading.collectingworker.csv.application.service.CsvCheckpointTracker.Watermark;
+
+class CsvCheckpointTrackerRangeProgressTest {
+
+  /** 구간 [100, 10000), 구간 앞 레코드의 라인 번호는 9입니다. */
+  private final RangeProgress range = new RangeProgress(100, 10_000, 9);
+
+  @Test
+  void inOrderAcksAdvanceWatermark() {
+    long first = range.begin(110, 10);
+    long second = range.begin(120, 11);
+
+    range.complete(first, true);
+    assertMark(110, 10, false);
+    range.complete(second, true);
+    assertMark(120, 11, false);
+  }
+
+  @Test
+  void outOfOrderAcksWaitForEarliestRecord() {
+    long first = range.begin(110, 10);
+    long second = range.begin(120, 11);
+    long third = range.begin(130, 12);
+
+    range.complete(third, true);
+    range.complete(second, true);
+    assertMark(100, 9, false);
+
+    range.complete(first, true);
+    assertMark(130, 12, false);
+  }
+
+  @Test
+  void failureStopsWatermarkBeforeFailedRecord() {
+    long first = range.begin(110, 10);
+    long second = range.begin(120, 11);
+    long third = range.begin(130, 12);
+
+    range.complete(second, false);
+    range.complete(third, true);
+    range.complete(first, true);
+    assertMark(110, 10, false);
+
+    // 막힌 뒤에는 새 레코드를 추적하지 않고, 끝까지 읽어도 완료로 보지 않습니다.
+    assertEquals(RangeProgress.UNTRACKED, range.begin(140, 13));
+    range.complete(RangeProgress.UNTRACKED, true);
+    range.skip(150, 14);
+    range.finishRead();
+    assertMark(110, 10, false);
+  }
+
+  @Test
+  void earlierFailureWinsOverLaterFailure() {
+    long first = range.begin(110, 10);
+    long second = range.begin(120, 11);
+
+    range.complete(second, false);
+    range.complete(first, false);
+    assertMark(100, 9, false);
+  }
+
+  @Test
+  void skipAdvancesImmediatelyOnlyWhenNothingIsPending() {
+    range.skip(110, 10);
+    assertMark(110, 10, false);
+
+    long pending = range.begin(120, 11);
+    range.skip(130, 12);
+    assertMark(110, 10, false);
+
+    range.complete(pending, true);
+    assertMark(130, 12, false);
+  }
+
+  @Test
+  void finishedRangeCompletesAtRangeEndOnceAllAcked() {
+    long first = range.begin(110, 10);
+    range.finishRead();
+    assertMark(100, 9, false);
+
+    range.complete(first, true);
+    assertMark(10_000, 10, true);
+  }
+
+  @Test
+  void duplicateAckIsIgnored() {
+    long first = range.begin(110, 10);
+    range.complete(first, true);
+    long second = range.begin(120, 11);
+
+    range.complete(first, true);
+    assertMark(110, 10, false);
+    range.complete(second, true);
+    assertMark(120, 11, false);
+  }
+
+  @Test
+  void ringBufferWrapsAroundWithoutLosingOrder() {
+    // 64칸 링 버퍼에서 앞 40개를 처리한 뒤 60개를 더 발행하면 tail이 배열 앞쪽으로 돌아갑니다.
+    long[] sequences = new long[100];
+    for (int i = 0; i < 50; i++) {
+      sequences[i] = range.begin(recordEnd(i), 10 + i);
+    }
+    for (int i = 0; i < 40; i++) {
+      range.complete(sequences[i], true);
+    }
+    for (int i = 50; i < 100; i++) {
+      sequences[i] = range.begin(recordEnd(i), 10 + i);
+    }
+    assertMark(recordEnd(39), 49, false);
+
+    for (int i = 99; i >= 41; i--) {
+      range.complete(sequences[i], true);
+    }
+    assertMark(recordEnd(39), 49, false);
+
+    range.complete(sequences[40], true);
+    assertMark(recordEnd(99), 109, false);
+  }
+
+  @Test
+  void ringBufferGrowsWhileWrapped() {
+    long[] sequences = new long[200];
+    for (int i = 0; i < 50; i++) {
+      sequences[i] = range.begin(recordEnd(i), 10 + i);
+    }
+    for (int i = 0; i < 40; i++) {
+      range.complete(sequences[i], true);
+    }
+    // 감싼 상태(head=40)에서 대기 레코드가 64개를 넘어 버퍼가 커집니다.
+    for (int i = 50; i < 200; i++) {
+      sequences[i] = range.begin(recordEnd(i), 10 + i);
+    }
+    for (int i = 199; i >= 41; i--) {
+      range.complete(sequences[i], true);
+    }
+    range.finishRead();
+    assertMark(recordEnd(39), 49, false);
+
+    range.complete(sequences[40], true);
+    assertMark(10_000, 209, true);
+  }
+
+  private static long recordEnd(int index) {
+    return 110 + index * 10L;
+  }
+
+  private void assertMark(long offset, int lineNumber, boolean complete) {
+    Watermark mark = range.mark();
+    assertEquals(offset, mark.offset(), "offset");
+    assertEquals(lineNumber, mark.lineNumber(), "lineNumber");
+    if (complete) {
+      assertTrue(mark.complete());
+    } else {
+      assertFalse(mark.complete());
+    }
+  }
+}
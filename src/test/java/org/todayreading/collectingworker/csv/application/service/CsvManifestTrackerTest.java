@@ -0,0 +1,116 @@
+package org.todayreading.collectingworker.csv.application.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.todayreading.collectingworker.csv.application.port.out.CsvFileReadPort.ResumePoint;
+import org.todayreading.collectingworker.csv.application.port.out.CsvManifestPort;
+
+class CsvManifestTrackerTest {
+
+  @TempDir
+  Path dir;
+
+  private final InMemoryManifestPort port = new InMemoryManifestPort();
+
+  @Test
+  void appendAfterReadIsNotRecordedAsSent() throws IOException {
+    Path file = write("books.csv", "isbn\n1\n2\n");
+
+    CsvManifestTracker tracker = CsvManifestTracker.load(port);
+    assertEquals(ResumePoint.START, tracker.resumePoint(file));
+    tracker.rangeStarted(file, 9);
+    tracker.fileCompleted(file, 3);
+
+    // 읽기를 마친 뒤, 매니페스트를 저장하기 전에 레코드가 추가된 경우입니다.
+    append(file, "3\n");
+    tracker.save();
+
+    assertEquals(9, port.saved.get(0).fileSize());
+    ResumePoint next = CsvManifestTracker.load(port).resumePoint(file);
+    assertFalse(next.completed());
+    assertEquals(9, next.offset());
+    assertEquals(4, next.lineNumber());
+  }
+
+  @Test
+  void resumedFileWithoutManifestLookupUsesReadEnd() throws IOException {
+    Path file = write("books.csv", "isbn\n1\n");
+
+    // 체크포인트로 이어 읽은 파일은 resumePoint를 거치지 않습니다.
+    // 리더가 읽기 끝 위치(7)를 정한 뒤 구간을 읽기 전에 레코드가 추가된 경우입니다.
+    CsvManifestTracker tracker = CsvManifestTracker.load(port);
+    append(file, "2\n");
+    tracker.rangeStarted(file, 5);
+    tracker.rangeStarted(file, 7);
+    tracker.fileCompleted(file, 2);
+    tracker.save();
+
+    assertEquals(7, port.saved.get(0).fileSize());
+    ResumePoint next = CsvManifestTracker.load(port).resumePoint(file);
+    assertEquals(7, next.offset());
+    assertEquals(3, next.lineNumber());
+  }
+
+  @Test
+  void unchangedFileIsSkippedNextRun() throws IOException {
+    Path file = write("books.csv", "isbn\n1\n");
+
+    CsvManifestTracker tracker = CsvManifestTracker.load(port);
+    tracker.resumePoint(file);
+    tracker.rangeStarted(file, 7);
+    tracker.fileCompleted(file, 2);
+    tracker.save();
+
+    assertEquals(ResumePoint.completedAt(7), CsvManifestTracker.load(port).resumePoint(file));
+  }
+
+  private Path write(String name, String content) throws IOException {
+    return Files.writeString(dir.resolve(name), content, UTF_8);
+  }
+
+  private static void append(Path file, String content) throws IOException {
+    Files.writeString(file, content, UTF_8, StandardOpenOption.APPEND);
+  }
+
+  /** 저장한 항목을 메모리에 두고, 앞부분 전체의 CRC32C로 지문을 계산하는 테스트용 포트입니다. */
+  private static final class InMemoryManifestPort implements CsvManifestPort {
+
+    private List<CsvManifestEntry> saved = List.of();
+
+    @Override
+    public List<CsvManifestEntry> load() {
+      return saved;
+    }
+
+    @Override
+    public void save(List<CsvManifestEntry> entries) {
+      saved = new ArrayList<>(entries);
+    }
+
+    @Override
+    public CsvFileFingerprint fingerprint(Path file, long length) {
+      try {
+        byte[] head = Arrays.copyOf(Files.readAllBytes(file), (int) length);
+        CRC32C crc = new CRC32C();
+        crc.update(head);
+        boolean endsWithNewline = length > 0 && head[(int) length - 1] == '\n';
+        return new CsvFileFingerprint(length, crc.getValue(), 0, endsWithNewline);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
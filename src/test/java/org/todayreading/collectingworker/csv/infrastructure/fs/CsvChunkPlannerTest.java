@@ -0,0 +1,116 @@
+package org.todayreading.collectingworker.csv.infrastructure.fs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.todayreading.collectingworker.csv.infrastructure.fs.CsvChunkPlanner.CsvChunk;
+
+class CsvChunkPlannerTest {
+
+  private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void chunksReadBackSameRecordsAsWholeFileWithBom() throws IOException {
+    // BOM 바로 뒤의 따옴표 필드 안에 개행이 있으면, BOM을 건너뛰지 않는 스캔은 경계가 어긋납니다.
+    Path file = write(true, "\"is\nbn\",title\r\n" + rows(40));
+
+    assertChunksMatchWholeFile(file, 0, 1, 16);
+  }
+
+  @Test
+  void chunksReadBackSameRecordsAsWholeFileWithoutBom() throws IOException {
+    Path file = write(false, "isbn,title\n" + rows(40));
+
+    assertChunksMatchWholeFile(file, 0, 1, 7);
+  }
+
+  @Test
+  void planFromCheckpointContinuesLineNumbers() throws IOException {
+    Path file = write(true, "h\n" + rows(20));
+    List<Record> whole = readRange(file, 0, Files.size(file), 1);
+    Record resumeAfter = whole.get(4);
+
+    assertChunksMatchWholeFile(file, resumeAfter.endOffset(), resumeAfter.number() + 1, 11);
+  }
+
+  @Test
+  void bomOnlyFileHasOneChunkWithoutRecords() throws IOException {
+    Path file = write(true, "");
+
+    assertEquals(List.of(new CsvChunk(0, 3, 1)), CsvChunkPlanner.plan(file, 1));
+    assertEquals(List.of(), readRange(file, 0, 3, 1));
+  }
+
+  private void assertChunksMatchWholeFile(Path file, long startOffset, int firstLineNumber,
+      long chunkSize) throws IOException {
+    long fileSize = Files.size(file);
+    List<Record> expected = readRange(file, startOffset, fileSize, firstLineNumber);
+
+    List<CsvChunk> chunks = CsvChunkPlanner.plan(file, startOffset, firstLineNumber, chunkSize);
+    assertTrue(chunks.size() > 1, "여러 청크로 나뉘어야 합니다: " + chunks);
+
+    List<Record> actual = new ArrayList<>();
+    long expectedStart = startOffset;
+    for (CsvChunk chunk : chunks) {
+      assertEquals(expectedStart, chunk.startOffset(), "청크는 빈틈없이 이어져야 합니다");
+      expectedStart = chunk.endOffset();
+      List<Record> records = readRange(file, chunk.startOffset(), chunk.endOffset(),
+          chunk.firstLineNumber());
+      assertEquals(chunk.endOffset(), records.get(records.size() - 1).endOffset());
+      actual.addAll(records);
+    }
+    assertEquals(fileSize, expectedStart);
+    assertEquals(expected, actual);
+  }
+
+  private static List<Record> readRange(Path file, long startOffset, long endOffset,
+      int firstLineNumber) throws IOException {
+    List<Record> records = new ArrayList<>();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      new CsvRecordReader(channel, startOffset, endOffset, firstLineNumber, 8)
+          .readAll((n, buf, off, len, end) ->
+              records.add(new Record(n, new String(buf, off, len, UTF_8), end)));
+    }
+    return records;
+  }
+
+  private static String rows(int count) {
+    StringBuilder rows = new StringBuilder();
+    for (int i = 1; i <= count; i++) {
+      rows.append(i).append(',');
+      if (i % 3 == 0) {
+        rows.append("\"제목\n").append(i).append(" \"\"인용\"\"\"");
+      } else {
+        rows.append("제목").append(i);
+      }
+      rows.append(i % 2 == 0 ? "\r\n" : "\n");
+    }
+    return rows.toString();
+  }
+
+  private Path write(boolean bom, String content) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    if (bom) {
+      bytes.write(BOM);
+    }
+    bytes.write(content.getBytes(UTF_8));
+    return Files.write(tempDir.resolve("chunked.csv"), bytes.toByteArray());
+  }
+
+  private record Record(int number, String value, long endOffset) {
+  }
+}
@@ -0,0 +1,142 @@
+package org.todayreading.collectingworker.csv.infrastructure.fs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@code BufferedReader.readLine()}과 {@link CsvRecordReader}의 단일 스레드 처리량을 비교하는 수동 벤치마크입니다.
+ *
+ * <p>실제 18개 파일 데이터셋과 비슷한 모양(한글 제목/설명, CRLF, 가끔 개행과 {@code ""}가 들어간 따옴표 필드)의
+ * 합성 파일을 만들어 측정합니다. 일반 빌드에서는 실행하지 않으며, {@code @Disabled}를 잠시 지우고
+ * {@code ./gradlew test --tests '*CsvRecordReaderBenchmark'}로 실행합니다.
+ * 파일 수와 파일당 크기는 {@code -Dcsv.bench.files}, {@code -Dcsv.bench.file-mb}로 바꿀 수 있습니다.</p>
+ *
+ * @author 박성준
+ * @since 1.0.0
+ */
+@Disabled("수동 실행용 벤치마크")
+class CsvRecordReaderBenchmark {
+
+  private static final int WARM_ROUNDS = 3;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void compareThroughput() throws IOException {
+    int fileCount = Integer.getInteger("csv.bench.files", 18);
+    long fileBytes = Long.getLong("csv.bench.file-mb", 60L) * 1024 * 1024;
+    List<Path> files = new ArrayList<>();
+    long totalBytes = 0;
+    for (int i = 0; i < fileCount; i++) {
+      Path file = tempDir.resolve("book-" + i + ".csv");
+      writeSyntheticFile(file, fileBytes, new Random(i));
+      files.add(file);
+      totalBytes += Files.size(file);
+    }
+
+    for (int round = 1; round <= WARM_ROUNDS + 1; round++) {
+      String label = round <= WARM_ROUNDS ? "warm-up " + round : "measured";
+      report(label, "BufferedReader.readLine + isBlank", totalBytes, () -> readLines(files));
+      report(label, "CsvRecordReader + String + isBlank", totalBytes,
+          () -> readRecords(files, true));
+      report(label, "CsvRecordReader boundary scan only", totalBytes,
+          () -> readRecords(files, false));
+    }
+  }
+
+  private static long readLines(List<Path> files) throws IOException {
+    long count = 0;
+    for (Path file : files) {
+      try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (!line.isBlank()) {
+            count++;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  private static long readRecords(List<Path> files, boolean decode) throws IOException {
+    long[] count = new long[1];
+    for (Path file : files) {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        new CsvRecordReader(channel, 0, channel.size(), 1, CsvRecordReader.DEFAULT_BUFFER_BYTES)
+            .readAll((n, buf, off, len, end) -> {
+              if (!decode || !new String(buf, off, len, UTF_8).isBlank()) {
+                count[0]++;
+              }
+            });
+      }
+    }
+    return count[0];
+  }
+
+  private static void report(String round, String name, long totalBytes, Measured measured)
+      throws IOException {
+    long started = System.nanoTime();
+    long records = measured.run();
+    double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+    System.out.printf("[%s] %-36s %8.1f MB/s (%d records)%n",
+        round, name, totalBytes / 1024.0 / 1024.0 / seconds, records);
+  }
+
+  private static void writeSyntheticFile(Path file, long targetBytes, Random random)
+      throws IOException {
+    String[] words = {"도서", "이야기", "세계", "역사", "과학", "소설", "여행", "마음", "시간", "사람"};
+    try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+      writer.write("isbn,title,author,description\r\n");
+      long written = 0;
+      long isbn = 9_788_900_000_000L;
+      while (written < targetBytes) {
+        StringBuilder row = new StringBuilder(256);
+        row.append(isbn++).append(',');
+        row.append('"').append(sentence(words, random, 3)).append("\",");
+        row.append(sentence(words, random, 1)).append(',');
+        row.append('"').append(sentence(words, random, 20));
+        if (random.nextInt(25) == 0) {
+          row.append("\n").append(sentence(words, random, 5));
+        }
+        if (random.nextInt(10) == 0) {
+          row.append(" \"\"").append(sentence(words, random, 1)).append("\"\"");
+        }
+        row.append("\"\r\n");
+        writer.write(row.toString());
+        written += row.length() * 2L;
+      }
+    }
+  }
+
+  private static String sentence(String[] words, Random random, int wordCount) {
+    StringBuilder sentence = new StringBuilder();
+    for (int i = 0; i < wordCount; i++) {
+      if (i > 0) {
+        sentence.append(' ');
+      }
+      sentence.append(words[random.nextInt(words.length)]);
+    }
+    return sentence.toString();
+  }
+
+  @FunctionalInterface
+  private interface Measured {
+
+    long run() throws IOException;
+  }
+}
@@ -0,0 +1,168 @@
+package org.todayreading.collectingworker.csv.infrastructure.fs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CsvRecordReaderTest {
+
+  private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+  /** 버퍼 재배치/확장 경로를 함께 타도록 아주 작은 버퍼로 읽습니다. */
+  private static final int SMALL_BUFFER = 4;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void quotedNewlineStaysInsideRecord() throws IOException {
+    Path file = write("isbn,title\n1,\"first\nsecond\"\n2,plain\n");
+
+    assertEquals(List.of("isbn,title", "1,\"first\nsecond\"", "2,plain"), readAll(file));
+  }
+
+  @Test
+  void escapedQuotesArePassedThroughVerbatim() throws IOException {
+    Path file = write("1,\"say \"\"hi\"\"\"\n2,\"\"\"\"\n");
+
+    assertEquals(List.of("1,\"say \"\"hi\"\"\"", "2,\"\"\"\""), readAll(file));
+  }
+
+  @Test
+  void crlfIsTrimmedButCrInsideQuotesIsKept() throws IOException {
+    Path file = write("a,b\r\n\"x\r\ny\",z\r\n");
+
+    assertEquals(List.of("a,b", "\"x\r\ny\",z"), readAll(file));
+  }
+
+  @Test
+  void bomAtFileStartIsSkipped() throws IOException {
+    Path file = write(concat(BOM, "\"isbn\",title\n1,a\n".getBytes(UTF_8)));
+
+    assertEquals(List.of("\"isbn\",title", "1,a"), readAll(file));
+  }
+
+  @Test
+  void bomIsOnlySkippedAtOffsetZero() throws IOException {
+    byte[] bytes = concat("h\n".getBytes(UTF_8), BOM, "x\n".getBytes(UTF_8));
+    Path file = write(bytes);
+
+    List<String> records = new ArrayList<>();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      new CsvRecordReader(channel, 2, bytes.length, 2, SMALL_BUFFER)
+          .readAll((n, buf, off, len, end) -> records.add(new String(buf, off, len, UTF_8)));
+    }
+    assertEquals(List.of("\uFEFFx"), records);
+  }
+
+  @Test
+  void lastRecordWithoutTrailingNewlineIsDelivered() throws IOException {
+    Path file = write("a\nb,\"c\"");
+
+    List<Long> endOffsets = new ArrayList<>();
+    List<String> records = read(file, endOffsets);
+
+    assertEquals(List.of("a", "b,\"c\""), records);
+    assertEquals(List.of(2L, 7L), endOffsets);
+  }
+
+  @Test
+  void recordNumbersAndEndOffsetsFollowFileLayout() throws IOException {
+    Path file = write(concat(BOM, "h\r\n\"1\n2\"\n\n".getBytes(UTF_8)));
+
+    List<Integer> numbers = new ArrayList<>();
+    List<Long> endOffsets = new ArrayList<>();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      new CsvRecordReader(channel, 0, channel.size(), 1, SMALL_BUFFER)
+          .readAll((n, buf, off, len, end) -> {
+            numbers.add(n);
+            endOffsets.add(end);
+          });
+    }
+    assertEquals(List.of(1, 2, 3), numbers);
+    assertEquals(List.of(6L, 12L, 13L), endOffsets);
+  }
+
+  @Test
+  void readStopsAfterMaxRecords() throws IOException {
+    Path file = write("h\n1\n2\n");
+
+    List<String> records = new ArrayList<>();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      int count = new CsvRecordReader(channel, 0, channel.size(), 1, SMALL_BUFFER)
+          .read((n, buf, off, len, end) -> records.add(new String(buf, off, len, UTF_8)), 1);
+      assertEquals(1, count);
+    }
+    assertEquals(List.of("h"), records);
+  }
+
+  @Test
+  void recordOverMaxRecordBytesFails() throws IOException {
+    Path file = tempDir.resolve("unclosed.csv");
+    byte[] block = new byte[1024 * 1024];
+    Arrays.fill(block, (byte) 'a');
+    try (OutputStream out = Files.newOutputStream(file)) {
+      out.write('"');
+      for (int i = 0; i <= CsvRecordReader.MAX_RECORD_BYTES / block.length; i++) {
+        out.write(block);
+      }
+    }
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      CsvRecordReader reader = new CsvRecordReader(channel, 0, channel.size(), 1,
+          CsvRecordReader.DEFAULT_BUFFER_BYTES);
+      assertThrows(IllegalStateException.class,
+          () -> reader.readAll((n, buf, off, len, end) -> { }));
+    }
+  }
+
+  private List<String> readAll(Path file) throws IOException {
+    return read(file, new ArrayList<>());
+  }
+
+  private List<String> read(Path file, List<Long> endOffsets) throws IOException {
+    List<String> records = new ArrayList<>();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      new CsvRecordReader(channel, 0, channel.size(), 1, SMALL_BUFFER)
+          .readAll((n, buf, off, len, end) -> {
+            records.add(new String(buf, off, len, UTF_8));
+            endOffsets.add(end);
+          });
+    }
+    return records;
+  }
+
+  private Path write(String content) throws IOException {
+    return write(content.getBytes(UTF_8));
+  }
+
+  private Path write(byte[] content) throws IOException {
+    return Files.write(tempDir.resolve("records.csv"), content);
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    int length = 0;
+    for (byte[] part : parts) {
+      length += part.length;
+    }
+    byte[] joined = new byte[length];
+    int offset = 0;
+    for (byte[] part : parts) {
+      System.arraycopy(part, 0, joined, offset, part.length);
+      offset += part.length;
+    }
+    return joined;
+  }
+}
@@ -0,0 +1,76 @@
+package org.todayreading.collectingworker.csv.infrastructure.fs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvRecordScannerTest {
+
+  @Test
+  void unquotedNewlineEndsRecord() {
+    assertEquals(List.of(3, 7), recordEnds("a,b\nc,d\n"));
+  }
+
+  @Test
+  void newlineInsideQuotedFieldDoesNotEndRecord() {
+    assertEquals(List.of(11), recordEnds("a,\"x\ny\",b,c\n"));
+  }
+
+  @Test
+  void escapedQuoteKeepsFieldOpen() {
+    // "a""\n" 는 따옴표 필드 안의 이스케이프 뒤에 개행이 오는 경우입니다.
+    assertEquals(List.of(8), recordEnds("\"a\"\"\n\",b\n"));
+  }
+
+  @Test
+  void emptyQuotedFieldClosesBeforeNewline() {
+    assertEquals(List.of(5, 7), recordEnds("\"\",\"\"\nx\n"));
+  }
+
+  @Test
+  void quoteInsideUnquotedFieldIsOrdinaryCharacter() {
+    assertEquals(List.of(4, 6), recordEnds("a\"b,\nc\n"));
+  }
+
+  @Test
+  void crlfEndsRecordAtLineFeed() {
+    assertEquals(List.of(4, 9), recordEnds("a,b\r\n\"c\"\r\n"));
+  }
+
+  @Test
+  void stateCarriesOverAcrossCalls() {
+    byte[] bytes = "\"a\nb\",c\nd\n".getBytes(UTF_8);
+    CsvRecordScanner scanner = new CsvRecordScanner();
+
+    assertEquals(-1, scanner.findRecordEnd(bytes, 0, 3));
+    assertEquals(-1, scanner.findRecordEnd(bytes, 3, 5));
+    assertEquals(7, scanner.findRecordEnd(bytes, 5, bytes.length));
+    assertEquals(9, scanner.findRecordEnd(bytes, 8, bytes.length));
+  }
+
+  @Test
+  void resetForgetsOpenQuote() {
+    byte[] bytes = "\"open\nx\n".getBytes(UTF_8);
+    CsvRecordScanner scanner = new CsvRecordScanner();
+
+    assertEquals(-1, scanner.findRecordEnd(bytes, 0, 3));
+    scanner.reset();
+    assertEquals(7, scanner.findRecordEnd(bytes, 6, bytes.length));
+  }
+
+  private static List<Integer> recordEnds(String csv) {
+    byte[] bytes = csv.getBytes(UTF_8);
+    CsvRecordScanner scanner = new CsvRecordScanner();
+    List<Integer> ends = new ArrayList<>();
+    int from = 0;
+    int end;
+    while ((end = scanner.findRecordEnd(bytes, from, bytes.length)) >= 0) {
+      ends.add(end);
+      from = end + 1;
+    }
+    return ends;
+  }
+}
@@ -0,0 +1,107 @@
+package org.todayreading.collectingworker.csv.infrastructure.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProperties;
+import org.todayreading.collectingworker.csv.infrastructure.config.CsvBookProperties.JsonProperties;
+
+class CsvJsonRecordConverterTest {
+
+  private static final Path FILE = Path.of("books.csv");
+
+  @Test
+  void writesAllColumnsAsStringsWithoutProjection() {
+    CsvJsonRecordConverter converter = converter(List.of());
+    register(converter, "ISBN,TITLE");
+
+    assertEquals("{\"ISBN\":\"979\",\"TITLE\":\"책\"}", convert(converter, "979,책"));
+  }
+
+  @Test
+  void writesEmptyValuesAsNull() {
+    CsvJsonRecordConverter converter = converter(List.of("ISBN", "TITLE", "PRICE:long"));
+    register(converter, "ISBN,TITLE,PRICE");
+
+    assertEquals("{\"ISBN\":null,\"TITLE\":null,\"PRICE\":null}", convert(converter, ",\"\","));
+  }
+
+  @Test
+  void unquotesFieldsAndKeepsDelimitersInside() {
+    CsvJsonRecordConverter converter = converter(List.of());
+    register(converter, "\"ISBN\",TITLE");
+
+    assertEquals("{\"ISBN\":\"1\",\"TITLE\":\"a, \\\"b\\\"\\nc\"}",
+        convert(converter, "1,\"a, \"\"b\"\"\nc\""));
+  }
+
+  @Test
+  void convertsProjectedTypesAndSkipsOtherColumns() {
+    CsvJsonRecordConverter converter =
+        converter(List.of("price:long", "RATE:double", "SOLD:boolean", "MISSING"));
+    register(converter, "ISBN,PRICE,RATE,SOLD");
+
+    assertEquals("{\"price\":15000,\"RATE\":4.5,\"SOLD\":true}",
+        convert(converter, "979, 15000 ,4.5,TRUE"));
+    assertEquals("{\"price\":null,\"RATE\":null,\"SOLD\":null}",
+        convert(converter, "979,abc,NaN,yes"));
+  }
+
+  @Test
+  void ignoresExtraFieldsAndOmitsMissingColumns() {
+    CsvJsonRecordConverter converter = converter(List.of());
+    register(converter, "A,B");
+
+    assertEquals("{\"A\":\"1\",\"B\":\"2\"}", convert(converter, "1,2,3"));
+    assertEquals("{\"A\":\"1\"}", convert(converter, "1"));
+  }
+
+  @Test
+  void convertsFromBufferRange() {
+    CsvJsonRecordConverter converter = converter(List.of());
+    register(converter, "A");
+
+    byte[] buffer = "xx\"q\"yy".getBytes(UTF_8);
+    assertEquals("{\"A\":\"q\"}",
+        new String(converter.convert(FILE, buffer, 2, 3), UTF_8));
+  }
+
+  @Test
+  void rejectsUnterminatedQuoteAndRecoversOnNextLine() {
+    CsvJsonRecordConverter converter = converter(List.of());
+    register(converter, "A,B");
+
+    assertThrows(UncheckedIOException.class, () -> convert(converter, "1,\"2"));
+    assertThrows(UncheckedIOException.class, () -> convert(converter, "\"1\"x,2"));
+    assertEquals("{\"A\":\"1\",\"B\":\"2\"}", convert(converter, "1,2"));
+  }
+
+  @Test
+  void rejectsUnregisteredFile() {
+    CsvJsonRecordConverter converter = converter(List.of());
+
+    assertThrows(IllegalStateException.class, () -> convert(converter, "1"));
+  }
+
+  private static CsvJsonRecordConverter converter(List<String> columns) {
+    CsvBookProperties properties = new CsvBookProperties(null, null, null, null, null,
+        new JsonProperties(true, "csv-book.json", columns));
+    return new CsvJsonRecordConverter(properties, new ObjectMapper());
+  }
+
+  private static void register(CsvJsonRecordConverter converter, String header) {
+    byte[] bytes = header.getBytes(UTF_8);
+    converter.registerHeader(FILE, bytes, 0, bytes.length);
+  }
+
+  private static String convert(CsvJsonRecordConverter converter, String line) {
+    byte[] bytes = line.getBytes(UTF_8);
+    return new String(converter.convert(FILE, bytes, 0, bytes.length), UTF_8);
+  }
+}
@@ -0,0 +1,59 @@
+package org.todayreading.collectingworker.naver.application.dedup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class IsbnNormalizerTest {
+
+  @Test
+  void isbn13IsReturnedAsIs() {
+    assertEquals(9788912345678L, IsbnNormalizer.toIsbn13("9788912345678"));
+  }
+
+  @Test
+  void isbn10IsConvertedWithRecomputedCheckDigit() {
+    assertEquals(9780306406157L, IsbnNormalizer.toIsbn13("0306406152"));
+  }
+
+  @Test
+  void isbn10WithXCheckDigitIsConverted() {
+    assertEquals(9780804429573L, IsbnNormalizer.toIsbn13("080442957X"));
+    assertEquals(9780804429573L, IsbnNormalizer.toIsbn13("080442957x"));
+  }
+
+  @Test
+  void hyphensAreIgnored() {
+    assertEquals(9780306406157L, IsbnNormalizer.toIsbn13("978-0-306-40615-7"));
+    assertEquals(9780306406157L, IsbnNormalizer.toIsbn13("0-306-40615-2"));
+    assertEquals(9780804429573L, IsbnNormalizer.toIsbn13("0-8044-2957-X"));
+  }
+
+  @Test
+  void isbn13IsPreferredInMixedTokens() {
+    assertEquals(9788912345678L, IsbnNormalizer.toIsbn13("8912345678 9788912345678"));
+    assertEquals(9788912345678L, IsbnNormalizer.toIsbn13("9788912345678 8912345678"));
+    assertEquals(9788912345678L, IsbnNormalizer.toIsbn13("  0306406152\t978-89-1234-567-8 "));
+  }
+
+  @Test
+  void invalidIsbn13FallsBackToIsbn10() {
+    assertEquals(9780306406157L, IsbnNormalizer.toIsbn13("97803064061X7 0306406152"));
+  }
+
+  @Test
+  void zeroIsbn13IsRejected() {
+    assertEquals(IsbnNormalizer.NO_ISBN, IsbnNormalizer.toIsbn13("0000000000000"));
+    assertEquals(IsbnNormalizer.NO_ISBN, IsbnNormalizer.toIsbn13("000-0-000-00000-0"));
+    assertEquals(9780306406157L, IsbnNormalizer.toIsbn13("0000000000000 0306406152"));
+  }
+
+  @Test
+  void missingOrMalformedValuesHaveNoIsbn() {
+    assertEquals(IsbnNormalizer.NO_ISBN, IsbnNormalizer.toIsbn13(null));
+    assertEquals(IsbnNormalizer.NO_ISBN, IsbnNormalizer.toIsbn13("   "));
+    assertEquals(IsbnNormalizer.NO_ISBN, IsbnNormalizer.toIsbn13("12345"));
+    assertEquals(IsbnNormalizer.NO_ISBN, IsbnNormalizer.toIsbn13("030640615Y"));
+    assertEquals(IsbnNormalizer.NO_ISBN, IsbnNormalizer.toIsbn13("X306406152"));
+  }
+}
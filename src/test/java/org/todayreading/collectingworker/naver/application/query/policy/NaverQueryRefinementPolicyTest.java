@@ -0,0 +1,138 @@
+package org.todayreading.collectingworker.naver.application.query.policy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.todayreading.collectingworker.naver.application.pattern.QueryPatternGenerator;
+import org.todayreading.collectingworker.naver.application.query.NaverQueryCollector.CollectResult;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties.RefinementProperties;
+import org.todayreading.collectingworker.naver.infrastructure.config.NaverApiProperties.SearchProperties;
+
+class NaverQueryRefinementPolicyTest {
+
+  /** display=100, max-start=1000이면 검색어 하나로 1000건까지 조회할 수 있습니다. */
+  private static final int REACHABLE = 1000;
+
+  private static final String QUERY = "a";
+
+  private static final int CHILDREN = QueryPatternGenerator.refine(QUERY).size();
+
+  @Test
+  void reachableQueryIsNotRefinedButItsCallsAreCounted() {
+    NaverQueryRefinementPolicy.Budget budget = budget(true, 2, 10_000);
+
+    assertEquals(List.of(), budget.refine(QUERY, 0, result(REACHABLE, 10)));
+    assertEquals(10, budget.usedCalls());
+    assertEquals(0, budget.refinedQueries());
+    assertEquals(0, budget.truncatedQueries());
+  }
+
+  @Test
+  void truncatedQueryIsRefinedWithinBudget() {
+    NaverQueryRefinementPolicy.Budget budget = budget(true, 2, 10 + CHILDREN);
+
+    List<String> children = budget.refine(QUERY, 0, result(REACHABLE + 1, 10));
+
+    assertEquals(QueryPatternGenerator.refine(QUERY), children);
+    assertEquals(1, budget.refinedQueries());
+  }
+
+  @Test
+  void refinementIsRefusedWhenReservationsWouldExceedMaxCalls() {
+    NaverQueryRefinementPolicy.Budget budget = budget(true, 2, 10 + CHILDREN * 2 - 1);
+
+    assertEquals(CHILDREN, budget.refine(QUERY, 0, result(REACHABLE + 1, 10)).size());
+    // 첫 세분화가 예약한 호출 때문에 두 번째 세분화는 상한을 1 넘습니다.
+    assertEquals(List.of(), budget.refine("b", 0, result(REACHABLE + 1, 0)));
+    assertEquals(1, budget.refinedQueries());
+    assertEquals(1, budget.truncatedQueries());
+  }
+
+  @Test
+  void finishedChildReplacesReservationWithActualCalls() {
+    NaverQueryRefinementPolicy.Budget budget = budget(true, 2, 10 + CHILDREN * 2);
+    budget.refine(QUERY, 0, result(REACHABLE + 1, 10));
+
+    // 자식 검색어 하나가 예약(1회)보다 많은 3회를 사용하면 남은 여유가 그만큼 줄어듭니다.
+    budget.refine("a0", 1, result(REACHABLE, 3));
+    assertEquals(13, budget.usedCalls());
+    assertEquals(List.of(), budget.refine("b", 0, result(REACHABLE + 1, 0)));
+  }
+
+  @Test
+  void abortedChildCountsFetchedPagesAndReleasesReservation() {
+    NaverQueryRefinementPolicy.Budget budget = budget(true, 2, 10 + CHILDREN * 2);
+    budget.refine(QUERY, 0, result(REACHABLE + 1, 10));
+
+    budget.abort(1, 5);
+
+    assertEquals(15, budget.usedCalls());
+    // used 15 + reserved (CHILDREN - 1) + CHILDREN > 10 + 2 * CHILDREN
+    assertEquals(List.of(), budget.refine("b", 0, result(REACHABLE + 1, 0)));
+  }
+
+  @Test
+  void abortedChildWithoutPagesOnlyReleasesReservation() {
+    NaverQueryRefinementPolicy.Budget budget = budget(true, 2, 10 + CHILDREN * 2);
+    budget.refine(QUERY, 0, result(REACHABLE + 1, 10));
+
+    budget.abort(1, 0);
+    budget.release(1);
+
+    assertEquals(10, budget.usedCalls());
+    assertEquals(CHILDREN, budget.refine("b", 0, result(REACHABLE + 1, 0)).size());
+  }
+
+  @Test
+  void abortedRootQueryCountsFetchedPages() {
+    NaverQueryRefinementPolicy.Budget budget = budget(true, 2, 10_000);
+
+    budget.abort(0, 7);
+
+    assertEquals(7, budget.usedCalls());
+  }
+
+  @Test
+  void maxDepthStopsRefinement() {
+    NaverQueryRefinementPolicy.Budget budget = budget(true, 1, 10_000);
+    budget.carryOver(1);
+
+    assertEquals(List.of(), budget.refine("a0", 1, result(REACHABLE + 1, 10)));
+    assertEquals(1, budget.truncatedQueries());
+  }
+
+  @Test
+  void carriedOverQueriesAreReservedRegardlessOfMaxCalls() {
+    NaverQueryRefinementPolicy.Budget budget = budget(true, 2, CHILDREN);
+    budget.carryOver(CHILDREN + 1);
+
+    assertEquals(List.of(), budget.refine(QUERY, 0, result(REACHABLE + 1, 0)));
+    for (int i = 0; i <= CHILDREN; i++) {
+      budget.refine("c" + i, 1, result(REACHABLE, 0));
+    }
+    assertEquals(CHILDREN, budget.refine(QUERY, 0, result(REACHABLE + 1, 0)).size());
+  }
+
+  @Test
+  void disabledPolicyNeverRefines() {
+    NaverQueryRefinementPolicy.Budget budget = budget(false, 2, 10_000);
+
+    assertEquals(List.of(), budget.refine(QUERY, 0, result(REACHABLE + 1, 10)));
+    assertEquals(10, budget.usedCalls());
+    assertEquals(0, budget.truncatedQueries());
+  }
+
+  private static NaverQueryRefinementPolicy.Budget budget(boolean enabled, int maxDepth,
+      int maxCalls) {
+    SearchProperties search = new SearchProperties(100, 1000, "sim", 0, 1, 4, false,
+        new RefinementProperties(enabled, maxDepth, maxCalls), null, null);
+    NaverApiProperties properties = new NaverApiProperties(null, search, null, null, null, null, null);
+    return new NaverQueryRefinementPolicy(properties).newBudget();
+  }
+
+  private static CollectResult result(int total, int pageCount) {
+    return new CollectResult(total, 0, pageCount, false);
+  }
+}